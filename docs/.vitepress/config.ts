@@ -92,7 +92,9 @@ export default defineConfig({
                     {text: '数据缓存', link: '/zh/core/data-cache'},
                     {text: 'SQL 审计', link: '/zh/core/audit'},
                     {text: 'SQL 打印', link: '/zh/core/sql-print'},
+                    {text: '执行指标', link: '/zh/core/metrics'},
                     {text: '多数据源', link: '/zh/core/multi-datasource'},
+                    {text: '执行上下文', link: '/zh/core/context'},
                     {text: '读写分离 💥', link: '/zh/core/read-write-splitting'},
                     {text: '数据源加密', link: '/zh/core/datasource-encryption'},
                     {text: '动态表名', link: '/zh/core/dynamic-table'},
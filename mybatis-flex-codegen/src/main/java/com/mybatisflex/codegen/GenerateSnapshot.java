@@ -0,0 +1,374 @@
+/*
+ *  Copyright (c) 2022-2025, Mybatis-Flex (fuhai999@gmail.com).
+ *  <p>
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *  <p>
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *  <p>
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package com.mybatisflex.codegen;
+
+import com.mybatisflex.codegen.config.GlobalConfig;
+import com.mybatisflex.codegen.entity.Column;
+import com.mybatisflex.codegen.entity.Table;
+import com.mybatisflex.core.util.StringUtil;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.lang.reflect.Array;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.Set;
+import java.util.StringJoiner;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 增量生成的快照。
+ *
+ * <p>为每张表保存一个由表结构和生成配置计算出的摘要，以及这张表生成的文件，再次生成时摘要没有变化、
+ * 并且生成的文件都还存在的表会被跳过。只有全部文件都生成成功的表才会被记录，生成失败的表下次会重新生成。
+ * 模板文件的内容不参与计算，修改模板后需要删除快照文件重新生成。
+ *
+ * <p>lambda（以及匿名类）无法比较内容，配置中含有修改过的 lambda（默认值除外）时无法判断配置是否发生了变化，
+ * 这种情况下所有的表都会重新生成。
+ *
+ * @author michael
+ * @since 2026-10-19
+ */
+public class GenerateSnapshot {
+
+    /**
+     * 默认的快照文件名称。
+     */
+    public static final String DEFAULT_FILE_NAME = ".mybatis-flex-codegen.snapshot";
+
+    /**
+     * 快照中记录表生成文件的 key 后缀。
+     */
+    private static final String FILES_SUFFIX = "#files";
+
+    /**
+     * 当前线程正在生成的表，模板通过 {@link #recordFile(File)} 和 {@link #recordFailure()} 上报生成结果。
+     */
+    private static final ThreadLocal<TableRecord> CURRENT_RECORD = new ThreadLocal<>();
+
+    private final File file;
+    /**
+     * 生成配置的指纹，配置中含有 lambda 时为 {@code null}。
+     */
+    private final String configFingerprint;
+    private final Properties snapshot = new Properties();
+    private final Map<String, String> digests = new ConcurrentHashMap<>();
+    private final Map<String, String> pending = new ConcurrentHashMap<>();
+
+    public GenerateSnapshot(GlobalConfig globalConfig) {
+        String snapshotPath = globalConfig.getSnapshotPath();
+        this.file = StringUtil.hasText(snapshotPath) ? new File(snapshotPath) : new File(System.getProperty("user.dir"), DEFAULT_FILE_NAME);
+        this.configFingerprint = fingerprint(globalConfig);
+        if (configFingerprint == null) {
+            System.out.println("代码生成配置中含有 lambda，无法判断配置是否变化，将重新生成全部的表。");
+        }
+        load();
+    }
+
+    /**
+     * 表结构或者生成配置是否发生了变化，没有快照记录或者生成的文件已被删除的表视为已变化，
+     * 生成配置中含有 lambda 时总是视为已变化。
+     *
+     * @param table 表
+     * @return {@code true} 需要重新生成
+     */
+    public boolean isChanged(Table table) {
+        String key = key(table);
+        String digest = digest(table);
+        if (configFingerprint != null && digest.equals(snapshot.getProperty(key)) && isFilesExist(snapshot.getProperty(key + FILES_SUFFIX))) {
+            return false;
+        }
+        digests.put(key, digest);
+        return true;
+    }
+
+    /**
+     * 开始在当前线程生成表的代码。
+     */
+    public void begin() {
+        CURRENT_RECORD.set(new TableRecord());
+    }
+
+    /**
+     * 结束当前线程中表的代码生成，只有生成成功并且没有文件生成失败时才记录这张表。
+     *
+     * @param table   表
+     * @param success 生成过程是否正常结束
+     */
+    public void end(Table table, boolean success) {
+        TableRecord record = CURRENT_RECORD.get();
+        CURRENT_RECORD.remove();
+        String key = key(table);
+        String digest = digests.remove(key);
+        if (!success || digest == null || record == null || record.failed) {
+            return;
+        }
+        StringJoiner files = new StringJoiner(File.pathSeparator);
+        for (File generateFile : record.files) {
+            files.add(generateFile.getAbsolutePath());
+        }
+        synchronized (pending) {
+            pending.put(key, digest);
+            pending.put(key + FILES_SUFFIX, files.toString());
+        }
+    }
+
+    /**
+     * 记录当前线程生成的表成功写入（或者内容没有变化）的文件。
+     *
+     * @param generateFile 生成的文件
+     */
+    public static void recordFile(File generateFile) {
+        TableRecord record = CURRENT_RECORD.get();
+        if (record != null) {
+            record.files.add(generateFile);
+        }
+    }
+
+    /**
+     * 记录当前线程生成的表有文件生成失败，这张表不会被记录到快照中。
+     */
+    public static void recordFailure() {
+        TableRecord record = CURRENT_RECORD.get();
+        if (record != null) {
+            record.failed = true;
+        }
+    }
+
+    /**
+     * 保存本次生成成功的表的摘要。
+     */
+    public synchronized void save() {
+        if (pending.isEmpty()) {
+            return;
+        }
+        synchronized (pending) {
+            snapshot.putAll(pending);
+            pending.clear();
+        }
+        File parent = file.getAbsoluteFile().getParentFile();
+        if (!parent.exists() && !parent.mkdirs()) {
+            throw new IllegalStateException("Can not mkdirs by dir: " + parent);
+        }
+        try (OutputStream outputStream = Files.newOutputStream(file.toPath())) {
+            snapshot.store(outputStream, "mybatis-flex codegen snapshot");
+        } catch (IOException e) {
+            System.err.println("无法保存代码生成快照：" + e.getMessage());
+        }
+    }
+
+    public File getFile() {
+        return file;
+    }
+
+    private void load() {
+        if (!file.exists()) {
+            return;
+        }
+        try (InputStream inputStream = Files.newInputStream(file.toPath())) {
+            snapshot.load(inputStream);
+        } catch (IOException e) {
+            System.err.println("无法读取代码生成快照：" + e.getMessage());
+        }
+    }
+
+    private static boolean isFilesExist(String files) {
+        if (files == null) {
+            return false;
+        }
+        for (String path : files.split(File.pathSeparator)) {
+            if (!path.isEmpty() && !new File(path).exists()) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static String key(Table table) {
+        return StringUtil.hasText(table.getSchema()) ? table.getSchema() + "." + table.getName() : table.getName();
+    }
+
+    private String digest(Table table) {
+        StringBuilder sb = new StringBuilder(String.valueOf(configFingerprint));
+        sb.append('|').append(table.getSchema())
+            .append('|').append(table.getName())
+            .append('|').append(table.getComment())
+            .append('|').append(table.getPrimaryKeys());
+        for (Column column : table.getColumns()) {
+            sb.append('|').append(column.getName())
+                .append(',').append(column.getRawType())
+                .append(',').append(column.getRawLength())
+                .append(',').append(column.getNullable())
+                .append(',').append(column.getAutoIncrement())
+                .append(',').append(column.getComment())
+                .append(',').append(column.getPropertyType());
+        }
+        return sha256(sb.toString());
+    }
+
+    private static String sha256(String content) {
+        try {
+            MessageDigest messageDigest = MessageDigest.getInstance("SHA-256");
+            byte[] bytes = messageDigest.digest(content.getBytes(StandardCharsets.UTF_8));
+            StringBuilder sb = new StringBuilder(bytes.length * 2);
+            for (byte b : bytes) {
+                sb.append(String.format("%02x", b));
+            }
+            return sb.toString();
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * 通过反射遍历配置对象，计算生成配置的指纹，配置中含有 lambda 时返回 {@code null}。
+     */
+    private static String fingerprint(GlobalConfig globalConfig) {
+        StringBuilder sb = new StringBuilder();
+        FingerprintContext context = new FingerprintContext();
+        appendValue(sb, globalConfig, context);
+        return context.hasLambda ? null : sha256(sb.toString());
+    }
+
+    private static void appendValue(StringBuilder sb, Object value, FingerprintContext context) {
+        if (value == null) {
+            sb.append("null");
+            return;
+        }
+        Class<?> clazz = value.getClass();
+        if (value instanceof CharSequence || value instanceof Number || value instanceof Boolean
+            || value instanceof Character || value instanceof Enum) {
+            sb.append(value);
+        } else if (value instanceof Class) {
+            sb.append(((Class<?>) value).getName());
+        } else if (clazz.isArray()) {
+            sb.append('[');
+            int length = Array.getLength(value);
+            for (int i = 0; i < length; i++) {
+                appendValue(sb, Array.get(value, i), context);
+                sb.append(',');
+            }
+            sb.append(']');
+        } else if (value instanceof Map) {
+            // 按 key 排序，避免 HashMap 的遍历顺序影响结果
+            List<String> entries = new ArrayList<>();
+            for (Map.Entry<?, ?> entry : ((Map<?, ?>) value).entrySet()) {
+                StringBuilder entrySb = new StringBuilder();
+                appendValue(entrySb, entry.getKey(), context);
+                entrySb.append('=');
+                appendValue(entrySb, entry.getValue(), context);
+                entries.add(entrySb.toString());
+            }
+            Collections.sort(entries);
+            sb.append(entries);
+        } else if (value instanceof Collection) {
+            List<String> elements = new ArrayList<>();
+            for (Object element : (Collection<?>) value) {
+                StringBuilder elementSb = new StringBuilder();
+                appendValue(elementSb, element, context);
+                elements.add(elementSb.toString());
+            }
+            if (value instanceof Set) {
+                Collections.sort(elements);
+            }
+            sb.append(elements);
+        } else if (isLambda(clazz)) {
+            // lambda 的逻辑无法比较，修改后也无法发现
+            context.hasLambda = true;
+        } else if (clazz.getName().startsWith("com.mybatisflex.codegen.config.")) {
+            if (!context.visited.add(value)) {
+                return;
+            }
+            sb.append(clazz.getName()).append('{');
+            Object defaultValue = context.defaultOf(clazz);
+            for (Class<?> c = clazz; c != null && c != Object.class; c = c.getSuperclass()) {
+                for (Field field : c.getDeclaredFields()) {
+                    if (Modifier.isStatic(field.getModifiers()) || Modifier.isTransient(field.getModifiers())) {
+                        continue;
+                    }
+                    try {
+                        field.setAccessible(true);
+                        sb.append(field.getName()).append('=');
+                        Object fieldValue = field.get(value);
+                        if (fieldValue != null && defaultValue != null && isLambda(fieldValue.getClass())
+                            && fieldValue == field.get(defaultValue)) {
+                            // 没有修改过的默认 lambda
+                            sb.append("default");
+                        } else {
+                            appendValue(sb, fieldValue, context);
+                        }
+                        sb.append(';');
+                    } catch (Exception e) {
+                        // 无法访问的字段不参与计算
+                    }
+                }
+            }
+            sb.append('}');
+        } else {
+            sb.append(clazz.getName());
+        }
+    }
+
+    private static boolean isLambda(Class<?> clazz) {
+        return clazz.isSynthetic() || clazz.isAnonymousClass() || clazz.getName().contains("$$Lambda");
+    }
+
+    private static class FingerprintContext {
+
+        private final Set<Object> visited = Collections.newSetFromMap(new IdentityHashMap<>());
+        private final Map<Class<?>, Object> defaults = new HashMap<>();
+        private boolean hasLambda;
+
+        /**
+         * 使用无参构造器创建的配置对象，用于识别没有修改过的默认值。
+         */
+        private Object defaultOf(Class<?> clazz) {
+            return defaults.computeIfAbsent(clazz, c -> {
+                try {
+                    Constructor<?> constructor = c.getDeclaredConstructor();
+                    constructor.setAccessible(true);
+                    return constructor.newInstance();
+                } catch (Exception e) {
+                    return null;
+                }
+            });
+        }
+
+    }
+
+    private static class TableRecord {
+
+        private final List<File> files = new ArrayList<>();
+        private boolean failed;
+
+    }
+
+}
@@ -30,6 +30,10 @@ import java.sql.SQLException;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import java.util.stream.Collectors;
 
 /**
@@ -66,16 +70,95 @@ public class Generator {
             System.out.printf("find tables: %s%n", tables.stream().map(Table::getName).collect(Collectors.toSet()));
         }
 
-        for (Table table : tables) {
-            Collection<IGenerator> generators = GeneratorFactory.getGenerators();
-            for (IGenerator generator : generators) {
-                generator.generate(table, globalConfig);
+        GenerateSnapshot snapshot = null;
+        if (globalConfig.isIncrementalEnable()) {
+            snapshot = new GenerateSnapshot(globalConfig);
+            List<Table> changedTables = new ArrayList<>(tables.size());
+            for (Table table : tables) {
+                if (snapshot.isChanged(table)) {
+                    changedTables.add(table);
+                }
+            }
+            if (changedTables.size() < tables.size()) {
+                System.out.printf("skip unchanged tables: %d, generate tables: %s%n", tables.size() - changedTables.size()
+                    , changedTables.stream().map(Table::getName).collect(Collectors.toSet()));
+            }
+            tables = changedTables;
+        }
+
+        int threads = Math.min(globalConfig.getGenerateThreads(), tables.size());
+        try {
+            if (threads > 1) {
+                generateConcurrently(tables, threads, snapshot);
+            } else {
+                for (Table table : tables) {
+                    generateTable(table, snapshot);
+                }
+            }
+        } finally {
+            // 生成失败时也保存已经生成成功的表
+            if (snapshot != null) {
+                snapshot.save();
             }
         }
         System.out.println("Code is generated successfully.");
     }
 
 
+    protected void generateTable(Table table) {
+        Collection<IGenerator> generators = GeneratorFactory.getGenerators();
+        for (IGenerator generator : generators) {
+            generator.generate(table, globalConfig);
+        }
+    }
+
+
+    private void generateTable(Table table, GenerateSnapshot snapshot) {
+        if (snapshot == null) {
+            generateTable(table);
+            return;
+        }
+        boolean success = false;
+        snapshot.begin();
+        try {
+            generateTable(table);
+            success = true;
+        } finally {
+            snapshot.end(table, success);
+        }
+    }
+
+
+    protected void generateConcurrently(List<Table> tables, int threads, GenerateSnapshot snapshot) {
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            List<Future<?>> futures = new ArrayList<>(tables.size());
+            for (Table table : tables) {
+                futures.add(executor.submit(() -> generateTable(table, snapshot)));
+            }
+            // 等待全部表生成结束，再抛出第一个失败的原因，保证快照只在所有任务结束后保存
+            Throwable failure = null;
+            for (Future<?> future : futures) {
+                try {
+                    future.get();
+                } catch (ExecutionException e) {
+                    if (failure == null) {
+                        failure = e.getCause();
+                    }
+                }
+            }
+            if (failure != null) {
+                throw new IllegalStateException("Code generation failed.", failure);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Code generation is interrupted.", e);
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+
     public List<Table> getTables() {
         try (Connection conn = dataSource.getConnection()) {
             DatabaseMetaData dbMeta = conn.getMetaData();
@@ -117,17 +200,31 @@ public class Generator {
                 String remarks = rs.getString("REMARKS");
                 table.setComment(remarks);
 
-
-                buildPrimaryKey(dbMeta, conn, table);
-
-                dialect.buildTableColumns(schemaName, table, globalConfig, dbMeta, conn);
-
                 tables.add(table);
             }
         }
+
+        // 批量模式下每个模式只查询一次元数据，不支持时逐表查询
+        if (strategyConfig.isBulkMetadataEnable() && !tables.isEmpty()
+            && dialect.buildTablesColumns(schemaName, tables, globalConfig, dbMeta, conn)) {
+            for (Table table : tables) {
+                if (table.getColumns().isEmpty()) {
+                    buildTableColumns(dbMeta, conn, table);
+                }
+            }
+        } else {
+            for (Table table : tables) {
+                buildTableColumns(dbMeta, conn, table);
+            }
+        }
         return tables;
     }
 
+    protected void buildTableColumns(DatabaseMetaData dbMeta, Connection conn, Table table) throws SQLException {
+        buildPrimaryKey(dbMeta, conn, table);
+        dialect.buildTableColumns(table.getSchema(), table, globalConfig, dbMeta, conn);
+    }
+
 
     protected ResultSet getTablesResultSet(DatabaseMetaData dbMeta, Connection conn, String schema) throws SQLException {
         if (globalConfig.getStrategyConfig().isGenerateForView()) {
@@ -701,6 +701,63 @@ public class GlobalConfig implements Serializable {
     }
 
 
+    /**
+     * @see StrategyConfig#isBulkMetadataEnable()
+     */
+    public boolean isBulkMetadataEnable() {
+        return getStrategyConfig().isBulkMetadataEnable();
+    }
+
+    /**
+     * @see StrategyConfig#setBulkMetadataEnable(boolean)
+     */
+    public void setBulkMetadataEnable(boolean bulkMetadataEnable) {
+        getStrategyConfig().setBulkMetadataEnable(bulkMetadataEnable);
+    }
+
+    /**
+     * @see StrategyConfig#getGenerateThreads()
+     */
+    public int getGenerateThreads() {
+        return getStrategyConfig().getGenerateThreads();
+    }
+
+    /**
+     * @see StrategyConfig#setGenerateThreads(int)
+     */
+    public void setGenerateThreads(int generateThreads) {
+        getStrategyConfig().setGenerateThreads(generateThreads);
+    }
+
+    /**
+     * @see StrategyConfig#isIncrementalEnable()
+     */
+    public boolean isIncrementalEnable() {
+        return getStrategyConfig().isIncrementalEnable();
+    }
+
+    /**
+     * @see StrategyConfig#setIncrementalEnable(boolean)
+     */
+    public void setIncrementalEnable(boolean incrementalEnable) {
+        getStrategyConfig().setIncrementalEnable(incrementalEnable);
+    }
+
+    /**
+     * @see StrategyConfig#getSnapshotPath()
+     */
+    public String getSnapshotPath() {
+        return getStrategyConfig().getSnapshotPath();
+    }
+
+    /**
+     * @see StrategyConfig#setSnapshotPath(String)
+     */
+    public void setSnapshotPath(String snapshotPath) {
+        getStrategyConfig().setSnapshotPath(snapshotPath);
+    }
+
+
     /**
      * @see StrategyConfig#getGenerateSchema()
      */
@@ -111,7 +111,7 @@ public class JavadocConfig implements Serializable {
      * 设置自。
      */
     public JavadocConfig setSince(String since) {
-        this.since = () -> since;
+        this.since = new FixedSince(since);
         return this;
     }
 
@@ -259,4 +259,24 @@ public class JavadocConfig implements Serializable {
         return this;
     }
 
+    /**
+     * 固定的值，与 lambda 不同，增量生成时可以比较它的内容。
+     */
+    private static final class FixedSince implements Supplier<String>, Serializable {
+
+        private static final long serialVersionUID = 1L;
+
+        private final String since;
+
+        private FixedSince(String since) {
+            this.since = since;
+        }
+
+        @Override
+        public String get() {
+            return since;
+        }
+
+    }
+
 }
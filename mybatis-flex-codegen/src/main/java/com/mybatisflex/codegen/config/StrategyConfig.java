@@ -94,6 +94,26 @@ public class StrategyConfig implements Serializable {
      */
     private Set<String> ignoreColumns;
 
+    /**
+     * 是否按模式批量获取表的元数据（主键、字段、注释），方言不支持时逐表获取。
+     */
+    private boolean bulkMetadataEnable;
+
+    /**
+     * 生成代码时使用的线程数，大于 1 时多张表并行渲染模板。
+     */
+    private int generateThreads = 1;
+
+    /**
+     * 是否开启增量生成，开启后表结构和配置都没有变化的表将不再重新生成。
+     */
+    private boolean incrementalEnable;
+
+    /**
+     * 增量生成的快照文件路径，默认为当前工作目录下的 {@code .mybatis-flex-codegen.snapshot}。
+     */
+    private String snapshotPath;
+
     /**
      * 获取需要忽略的列 全局配置。
      */
@@ -422,4 +442,64 @@ public class StrategyConfig implements Serializable {
         return this;
     }
 
+    /**
+     * 是否批量获取元数据。
+     */
+    public boolean isBulkMetadataEnable() {
+        return bulkMetadataEnable;
+    }
+
+    /**
+     * 设置是否批量获取元数据。
+     */
+    public StrategyConfig setBulkMetadataEnable(boolean bulkMetadataEnable) {
+        this.bulkMetadataEnable = bulkMetadataEnable;
+        return this;
+    }
+
+    /**
+     * 获取生成代码的线程数。
+     */
+    public int getGenerateThreads() {
+        return generateThreads;
+    }
+
+    /**
+     * 设置生成代码的线程数。
+     */
+    public StrategyConfig setGenerateThreads(int generateThreads) {
+        this.generateThreads = generateThreads;
+        return this;
+    }
+
+    /**
+     * 是否开启增量生成。
+     */
+    public boolean isIncrementalEnable() {
+        return incrementalEnable;
+    }
+
+    /**
+     * 设置是否开启增量生成。
+     */
+    public StrategyConfig setIncrementalEnable(boolean incrementalEnable) {
+        this.incrementalEnable = incrementalEnable;
+        return this;
+    }
+
+    /**
+     * 获取增量生成的快照文件路径。
+     */
+    public String getSnapshotPath() {
+        return snapshotPath;
+    }
+
+    /**
+     * 设置增量生成的快照文件路径。
+     */
+    public StrategyConfig setSnapshotPath(String snapshotPath) {
+        this.snapshotPath = snapshotPath;
+        return this;
+    }
+
 }
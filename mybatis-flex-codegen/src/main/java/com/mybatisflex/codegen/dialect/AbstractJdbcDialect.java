@@ -19,8 +19,11 @@ import com.mybatisflex.codegen.config.GlobalConfig;
 import com.mybatisflex.codegen.entity.Column;
 import com.mybatisflex.codegen.entity.Table;
 
+import com.mybatisflex.core.util.StringUtil;
+
 import java.sql.*;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 
 /**
@@ -61,6 +64,59 @@ public abstract class AbstractJdbcDialect implements IDialect {
         }
     }
 
+    @Override
+    public boolean buildTablesColumns(String schemaName, List<Table> tables, GlobalConfig globalConfig, DatabaseMetaData dbMeta, Connection conn) throws SQLException {
+        String primaryKeysSql = forBulkPrimaryKeysSql();
+        String columnsSql = forBulkColumnsSql();
+        if (primaryKeysSql == null || columnsSql == null) {
+            return false;
+        }
+
+        String schema = forBulkSchema(schemaName, conn);
+        Map<String, Table> tableMap = new HashMap<>(tables.size());
+        for (Table table : tables) {
+            tableMap.put(table.getName(), table);
+        }
+
+        // 主键需要在添加列之前设置
+        try (PreparedStatement pstmt = conn.prepareStatement(primaryKeysSql)) {
+            pstmt.setString(1, schema);
+            try (ResultSet rs = pstmt.executeQuery()) {
+                while (rs.next()) {
+                    Table table = tableMap.get(rs.getString("TABLE_NAME"));
+                    if (table != null) {
+                        table.addPrimaryKey(rs.getString("COLUMN_NAME"));
+                    }
+                }
+            }
+        }
+
+        try (PreparedStatement pstmt = conn.prepareStatement(columnsSql)) {
+            pstmt.setString(1, schema);
+            try (ResultSet rs = pstmt.executeQuery()) {
+                while (rs.next()) {
+                    Table table = tableMap.get(rs.getString("TABLE_NAME"));
+                    if (table == null) {
+                        continue;
+                    }
+                    Column column = new Column();
+                    column.setName(rs.getString("COLUMN_NAME"));
+                    column.setRawType(rs.getString("TYPE_NAME"));
+                    column.setRawLength(rs.getInt("COLUMN_SIZE"));
+                    column.setAutoIncrement(rs.getInt("IS_AUTO_INCREMENT") == 1);
+                    column.setNullable(rs.getInt("NULLABLE"));
+                    column.setComment(rs.getString("REMARKS"));
+
+                    String jdbcType = forBulkColumnClassName(rs);
+                    column.setPropertyType(JdbcTypeMapping.getType(jdbcType, table, column));
+
+                    table.addColumn(column);
+                }
+            }
+        }
+        return true;
+    }
+
     private Map<String, String> buildColumnRemarks(String schemaName, Table table, DatabaseMetaData dbMeta, Connection conn) {
         Map<String, String> columnRemarks = new HashMap<>();
         try (ResultSet colRs = forRemarks(schemaName, table, dbMeta, conn)) {
@@ -105,4 +161,51 @@ public abstract class AbstractJdbcDialect implements IDialect {
     protected abstract String forBuildColumnsSql(String schema, String tableName);
 
 
+    /**
+     * 批量查询模式下所有表主键的 SQL 语句，参数为模式名称，结果包含 {@code TABLE_NAME}、{@code COLUMN_NAME} 列。
+     *
+     * @return SQL 语句，返回 {@code null} 时不支持批量查询
+     */
+    protected String forBulkPrimaryKeysSql() {
+        return null;
+    }
+
+
+    /**
+     * 批量查询模式下所有表字段的 SQL 语句，参数为模式名称，结果按表名和字段顺序排列，包含 {@code TABLE_NAME}、
+     * {@code COLUMN_NAME}、{@code TYPE_NAME}、{@code COLUMN_SIZE}、{@code NULLABLE}、{@code IS_AUTO_INCREMENT}、
+     * {@code REMARKS} 列。
+     *
+     * @return SQL 语句，返回 {@code null} 时不支持批量查询
+     */
+    protected String forBulkColumnsSql() {
+        return null;
+    }
+
+
+    /**
+     * 批量查询时，根据字段的数据库类型推断与 {@link ResultSetMetaData#getColumnClassName(int)} 一致的 Java 类型。
+     *
+     * @param rs 字段查询结果
+     * @return Java 类型名称
+     * @throws SQLException 发生 SQL 异常时抛出
+     */
+    protected String forBulkColumnClassName(ResultSet rs) throws SQLException {
+        return String.class.getName();
+    }
+
+
+    /**
+     * 批量查询使用的模式名称，未配置时使用当前连接的模式。
+     *
+     * @param schemaName 配置的模式名称
+     * @param conn       连接
+     * @return 模式名称
+     * @throws SQLException 发生 SQL 异常时抛出
+     */
+    protected String forBulkSchema(String schemaName, Connection conn) throws SQLException {
+        return StringUtil.hasText(schemaName) ? schemaName : conn.getSchema();
+    }
+
+
 }
@@ -27,6 +27,7 @@ import java.sql.Connection;
 import java.sql.DatabaseMetaData;
 import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.util.List;
 
 /**
  * 方言接口。
@@ -84,4 +85,19 @@ public interface IDialect {
      */
     ResultSet getTablesResultSet(DatabaseMetaData dbMeta, Connection conn, String schema, String[] types) throws SQLException;
 
+    /**
+     * 按模式批量构建多张表的主键和列的信息，每个模式只需要查询一次数据库的元数据。
+     *
+     * @param schemaName   模式
+     * @param tables       需要构建的表
+     * @param globalConfig 全局配置
+     * @param dbMeta       数据库元数据
+     * @param conn         连接
+     * @return 不支持批量构建时返回 {@code false}，此时将逐表调用 {@link #buildTableColumns}
+     * @throws SQLException 发生 SQL 异常时抛出
+     */
+    default boolean buildTablesColumns(String schemaName, List<Table> tables, GlobalConfig globalConfig, DatabaseMetaData dbMeta, Connection conn) throws SQLException {
+        return false;
+    }
+
 }
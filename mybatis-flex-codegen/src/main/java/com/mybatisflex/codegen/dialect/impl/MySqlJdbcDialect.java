@@ -18,6 +18,10 @@ package com.mybatisflex.codegen.dialect.impl;
 import com.mybatisflex.codegen.dialect.AbstractJdbcDialect;
 import com.mybatisflex.core.util.StringUtil;
 
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+
 /**
  * @author michael
  */
@@ -26,4 +30,76 @@ public class MySqlJdbcDialect extends AbstractJdbcDialect {
     protected String forBuildColumnsSql(String schema, String tableName) {
         return "SELECT * FROM `" + (StringUtil.hasText(schema) ? schema + "`.`" : "") + tableName + "` WHERE 1 = 2";
     }
+
+    @Override
+    protected String forBulkPrimaryKeysSql() {
+        return "SELECT TABLE_NAME, COLUMN_NAME FROM information_schema.KEY_COLUMN_USAGE" +
+            " WHERE TABLE_SCHEMA = ? AND CONSTRAINT_NAME = 'PRIMARY' ORDER BY TABLE_NAME, ORDINAL_POSITION";
+    }
+
+    @Override
+    protected String forBulkColumnsSql() {
+        return "SELECT TABLE_NAME, COLUMN_NAME, COLUMN_TYPE," +
+            " CONCAT(UPPER(DATA_TYPE), IF(COLUMN_TYPE LIKE '%unsigned%', ' UNSIGNED', '')) AS TYPE_NAME," +
+            " COALESCE(CHARACTER_MAXIMUM_LENGTH, NUMERIC_PRECISION, DATETIME_PRECISION, 0) AS COLUMN_SIZE," +
+            " IF(IS_NULLABLE = 'YES', 1, 0) AS NULLABLE," +
+            " IF(EXTRA LIKE '%auto_increment%', 1, 0) AS IS_AUTO_INCREMENT," +
+            " COLUMN_COMMENT AS REMARKS" +
+            " FROM information_schema.COLUMNS WHERE TABLE_SCHEMA = ? ORDER BY TABLE_NAME, ORDINAL_POSITION";
+    }
+
+    @Override
+    protected String forBulkSchema(String schemaName, Connection conn) throws SQLException {
+        return StringUtil.hasText(schemaName) ? schemaName : conn.getCatalog();
+    }
+
+    /**
+     * 与 MySQL Connector/J 8 的 {@code getColumnClassName} 保持一致。
+     */
+    @Override
+    protected String forBulkColumnClassName(ResultSet rs) throws SQLException {
+        String typeName = rs.getString("TYPE_NAME");
+        String columnType = rs.getString("COLUMN_TYPE").toLowerCase();
+        boolean unsigned = typeName.endsWith(" UNSIGNED");
+        String dataType = unsigned ? typeName.substring(0, typeName.length() - 9) : typeName;
+        switch (dataType) {
+            case "BIT":
+                return columnType.startsWith("bit(1)") ? "java.lang.Boolean" : "[B";
+            case "TINYINT":
+                return columnType.startsWith("tinyint(1)") ? "java.lang.Boolean" : "java.lang.Integer";
+            case "SMALLINT":
+            case "MEDIUMINT":
+                return "java.lang.Integer";
+            case "INT":
+            case "INTEGER":
+                return unsigned ? "java.lang.Long" : "java.lang.Integer";
+            case "BIGINT":
+                return unsigned ? "java.math.BigInteger" : "java.lang.Long";
+            case "DECIMAL":
+                return "java.math.BigDecimal";
+            case "FLOAT":
+                return "java.lang.Float";
+            case "DOUBLE":
+                return "java.lang.Double";
+            case "DATE":
+            case "YEAR":
+                return "java.sql.Date";
+            case "TIME":
+                return "java.sql.Time";
+            case "DATETIME":
+                return "java.time.LocalDateTime";
+            case "TIMESTAMP":
+                return "java.sql.Timestamp";
+            case "BINARY":
+            case "VARBINARY":
+            case "TINYBLOB":
+            case "BLOB":
+            case "MEDIUMBLOB":
+            case "LONGBLOB":
+            case "GEOMETRY":
+                return "[B";
+            default:
+                return "java.lang.String";
+        }
+    }
 }
@@ -18,6 +18,10 @@ package com.mybatisflex.codegen.dialect.impl;
 import com.mybatisflex.codegen.dialect.AbstractJdbcDialect;
 import com.mybatisflex.core.util.StringUtil;
 
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+
 /**
  * @author strignke
  */
@@ -26,4 +30,78 @@ public class PostgreSQLJdbcDialect extends AbstractJdbcDialect {
     protected String forBuildColumnsSql(String schema, String tableName) {
         return "SELECT * FROM " + (StringUtil.hasText(schema) ? schema + "." : "") + "\"" + tableName + "\"" + " WHERE 1 = 2";
     }
+
+    @Override
+    protected String forBulkPrimaryKeysSql() {
+        return "SELECT kcu.table_name AS \"TABLE_NAME\", kcu.column_name AS \"COLUMN_NAME\"" +
+            " FROM information_schema.table_constraints tc" +
+            " JOIN information_schema.key_column_usage kcu ON tc.constraint_name = kcu.constraint_name" +
+            " AND tc.table_schema = kcu.table_schema AND tc.table_name = kcu.table_name" +
+            " WHERE tc.constraint_type = 'PRIMARY KEY' AND tc.table_schema = COALESCE(?, current_schema())" +
+            " ORDER BY kcu.table_name, kcu.ordinal_position";
+    }
+
+    @Override
+    protected String forBulkColumnsSql() {
+        return "SELECT c.table_name AS \"TABLE_NAME\", c.column_name AS \"COLUMN_NAME\"," +
+            " CASE WHEN c.is_identity = 'YES' OR c.column_default LIKE 'nextval(%'" +
+            " THEN CASE c.udt_name WHEN 'int8' THEN 'bigserial' WHEN 'int2' THEN 'smallserial' ELSE 'serial' END" +
+            " ELSE c.udt_name END AS \"TYPE_NAME\"," +
+            " COALESCE(c.character_maximum_length, c.numeric_precision, c.datetime_precision, 0) AS \"COLUMN_SIZE\"," +
+            " CASE WHEN c.is_nullable = 'YES' THEN 1 ELSE 0 END AS \"NULLABLE\"," +
+            " CASE WHEN c.is_identity = 'YES' OR c.column_default LIKE 'nextval(%' THEN 1 ELSE 0 END AS \"IS_AUTO_INCREMENT\"," +
+            " col_description(format('%I.%I', c.table_schema, c.table_name)::regclass, c.ordinal_position) AS \"REMARKS\"," +
+            " c.udt_name AS \"UDT_NAME\"" +
+            " FROM information_schema.columns c WHERE c.table_schema = COALESCE(?, current_schema())" +
+            " ORDER BY c.table_name, c.ordinal_position";
+    }
+
+    @Override
+    protected String forBulkSchema(String schemaName, Connection conn) {
+        return StringUtil.hasText(schemaName) ? schemaName : null;
+    }
+
+    /**
+     * 与 PostgreSQL JDBC 驱动的 {@code getColumnClassName} 保持一致。
+     */
+    @Override
+    protected String forBulkColumnClassName(ResultSet rs) throws SQLException {
+        String udtName = rs.getString("UDT_NAME");
+        if (udtName.startsWith("_")) {
+            return "java.sql.Array";
+        }
+        switch (udtName) {
+            case "int2":
+            case "int4":
+                return "java.lang.Integer";
+            case "int8":
+                return "java.lang.Long";
+            case "numeric":
+                return "java.math.BigDecimal";
+            case "float4":
+                return "java.lang.Float";
+            case "float8":
+                return "java.lang.Double";
+            case "bool":
+            case "bit":
+                return "java.lang.Boolean";
+            case "bytea":
+                return "[B";
+            case "date":
+                return "java.sql.Date";
+            case "time":
+            case "timetz":
+                return "java.sql.Time";
+            case "timestamp":
+            case "timestamptz":
+                return "java.sql.Timestamp";
+            case "uuid":
+                return "java.util.UUID";
+            case "json":
+            case "jsonb":
+                return "org.postgresql.util.PGobject";
+            default:
+                return "java.lang.String";
+        }
+    }
 }
@@ -21,12 +21,16 @@ import com.jfinal.template.source.ClassPathSource;
 import com.jfinal.template.source.FileSource;
 import com.jfinal.template.source.ISource;
 import com.jfinal.template.source.ISourceFactory;
+import com.mybatisflex.codegen.GenerateSnapshot;
 import com.mybatisflex.codegen.template.ITemplate;
 import com.mybatisflex.core.util.StringUtil;
 
+import java.io.ByteArrayOutputStream;
 import java.io.File;
-import java.io.FileOutputStream;
+import java.nio.file.Files;
+import java.util.Arrays;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * <a href=https://jfinal.com/doc/6-1>JFinal Enjoy</a> 模板引擎实现。
@@ -36,6 +40,7 @@ import java.util.Map;
 public class EnjoyTemplate implements ITemplate {
 
     private static final String engineName = "mybatis-flex";
+    private static final Map<String, Object> fileLocks = new ConcurrentHashMap<>();
     private final Engine engine;
 
     public EnjoyTemplate() {
@@ -58,13 +63,26 @@ public class EnjoyTemplate implements ITemplate {
 
     @Override
     public void generate(Map<String, Object> params, String templateFilePath, File generateFile) {
-        if (!generateFile.getParentFile().exists() && !generateFile.getParentFile().mkdirs()) {
+        // 多线程生成时其他线程可能同时创建了目录
+        if (!generateFile.getParentFile().mkdirs() && !generateFile.getParentFile().isDirectory()) {
             throw new IllegalStateException("Can not mkdirs by dir: " + generateFile.getParentFile());
         }
         // 开始生成文件
-        try (FileOutputStream fileOutputStream = new FileOutputStream(generateFile)) {
-            engine.getTemplate(templateFilePath).render(params, fileOutputStream);
+        try {
+            ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+            engine.getTemplate(templateFilePath).render(params, outputStream);
+            byte[] content = outputStream.toByteArray();
+
+            // 多线程生成时，package-info.java 等文件会被多张表同时写入
+            synchronized (fileLocks.computeIfAbsent(generateFile.getAbsolutePath(), key -> new Object())) {
+                // 内容没有变化时不重写文件，避免修改文件时间触发 IDE 或者构建工具的重新编译
+                if (!generateFile.exists() || !Arrays.equals(content, Files.readAllBytes(generateFile.toPath()))) {
+                    Files.write(generateFile.toPath(), content);
+                }
+            }
+            GenerateSnapshot.recordFile(generateFile);
         } catch (Exception e) {
+            GenerateSnapshot.recordFailure();
             e.printStackTrace();
         }
     }
@@ -0,0 +1,179 @@
+/*
+ *  Copyright (c) 2022-2025, Mybatis-Flex (fuhai999@gmail.com).
+ *  <p>
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *  <p>
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *  <p>
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package com.mybatisflex.codegen.test;
+
+import com.alibaba.druid.pool.DruidDataSource;
+import com.mybatisflex.codegen.Generator;
+import com.mybatisflex.codegen.config.GlobalConfig;
+import com.mybatisflex.codegen.dialect.IDialect;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.File;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.sql.Connection;
+import java.sql.Statement;
+
+/**
+ * 增量生成和多线程生成测试。
+ */
+public class IncrementalGeneratorTest {
+
+    @Rule
+    public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+    private DruidDataSource dataSource;
+    private File sourceDir;
+    private File snapshotFile;
+
+    @Before
+    public void setUp() throws Exception {
+        File dbFile = temporaryFolder.newFile("codegen.db");
+        sourceDir = temporaryFolder.newFolder("src");
+        snapshotFile = new File(temporaryFolder.getRoot(), "codegen.snapshot");
+
+        dataSource = new DruidDataSource();
+        dataSource.setUrl("jdbc:sqlite:" + dbFile.getAbsolutePath());
+
+        try (Connection connection = dataSource.getConnection();
+             Statement statement = connection.createStatement()) {
+            statement.executeUpdate("create table person (id INTEGER PRIMARY KEY AUTOINCREMENT, name varchar(20))");
+            statement.executeUpdate("create table book (id INTEGER PRIMARY KEY AUTOINCREMENT, title varchar(50))");
+            statement.executeUpdate("create table shop (id INTEGER PRIMARY KEY AUTOINCREMENT, address varchar(50))");
+        }
+    }
+
+    @After
+    public void tearDown() {
+        dataSource.close();
+    }
+
+    @Test
+    public void testSkipUnchangedTables() throws Exception {
+        generate(createGlobalConfig());
+
+        File person = entityFile("Person");
+        Assert.assertTrue(person.exists());
+        Assert.assertTrue(snapshotFile.exists());
+
+        // 表结构没有变化时跳过生成，不会覆盖用户修改过的文件
+        Files.write(person.toPath(), "// modified".getBytes(StandardCharsets.UTF_8));
+        generate(createGlobalConfig());
+        Assert.assertEquals("// modified", new String(Files.readAllBytes(person.toPath()), StandardCharsets.UTF_8));
+
+        // 表结构变化时重新生成
+        try (Connection connection = dataSource.getConnection();
+             Statement statement = connection.createStatement()) {
+            statement.executeUpdate("alter table person add column mobile varchar(20)");
+        }
+        generate(createGlobalConfig());
+        Assert.assertTrue(new String(Files.readAllBytes(person.toPath()), StandardCharsets.UTF_8).contains("mobile"));
+    }
+
+    @Test
+    public void testLambdaConfig() throws Exception {
+        GlobalConfig globalConfig = createGlobalConfig();
+        globalConfig.getJavadocConfig().setSince("2026-10-19");
+        generate(globalConfig);
+
+        // 固定的 since 可以比较，没有变化时跳过生成
+        File person = entityFile("Person");
+        Files.write(person.toPath(), "// modified".getBytes(StandardCharsets.UTF_8));
+        generate(globalConfig);
+        Assert.assertEquals("// modified", new String(Files.readAllBytes(person.toPath()), StandardCharsets.UTF_8));
+
+        // 无法比较 lambda 的内容，配置中含有 lambda 时总是重新生成
+        globalConfig.getJavadocConfig().setColumnCommentFormat(comment -> comment + "。");
+        generate(globalConfig);
+        Assert.assertNotEquals("// modified", new String(Files.readAllBytes(person.toPath()), StandardCharsets.UTF_8));
+    }
+
+    @Test
+    public void testRegenerateDeletedFiles() throws Exception {
+        generate(createGlobalConfig());
+
+        File mapper = new File(sourceDir, "com/test/mapper/BookMapper.java");
+        Assert.assertTrue(mapper.exists());
+        Assert.assertTrue(mapper.delete());
+
+        generate(createGlobalConfig());
+        Assert.assertTrue(mapper.exists());
+    }
+
+    @Test
+    public void testRegenerateFailedTables() throws Exception {
+        // 模板路径保存在全局的 GeneratorFactory 中，测试结束后需要还原
+        GlobalConfig globalConfig = createGlobalConfig();
+        String mapperTemplate = globalConfig.getTemplateConfig().getMapper();
+        try {
+            globalConfig.getTemplateConfig().setMapper("/templates/enjoy/not-exists.tpl");
+            generate(globalConfig);
+        } finally {
+            globalConfig.getTemplateConfig().setMapper(mapperTemplate);
+        }
+
+        File person = entityFile("Person");
+        Assert.assertTrue(person.exists());
+        Assert.assertFalse(new File(sourceDir, "com/test/mapper/PersonMapper.java").exists());
+
+        // 生成失败的表没有记录到快照中，修复模板后会重新生成
+        Files.write(person.toPath(), "// failed".getBytes(StandardCharsets.UTF_8));
+        generate(createGlobalConfig());
+        Assert.assertTrue(new File(sourceDir, "com/test/mapper/PersonMapper.java").exists());
+        Assert.assertNotEquals("// failed", new String(Files.readAllBytes(person.toPath()), StandardCharsets.UTF_8));
+    }
+
+    @Test
+    public void testGenerateConcurrently() {
+        GlobalConfig globalConfig = createGlobalConfig();
+        globalConfig.setGenerateThreads(3);
+        generate(globalConfig);
+
+        for (String name : new String[]{"Person", "Book", "Shop"}) {
+            Assert.assertTrue(entityFile(name).exists());
+            Assert.assertTrue(new File(sourceDir, "com/test/mapper/" + name + "Mapper.java").exists());
+        }
+    }
+
+    private GlobalConfig createGlobalConfig() {
+        GlobalConfig globalConfig = new GlobalConfig();
+        globalConfig.getPackageConfig()
+            .setSourceDir(sourceDir.getAbsolutePath())
+            .setBasePackage("com.test");
+        globalConfig.getStrategyConfig()
+            .setGenerateTable("person", "book", "shop")
+            .setIncrementalEnable(true)
+            .setSnapshotPath(snapshotFile.getAbsolutePath());
+        globalConfig.enableEntity()
+            .setOverwriteEnable(true);
+        globalConfig.enableMapper();
+        return globalConfig;
+    }
+
+    private void generate(GlobalConfig globalConfig) {
+        new Generator(dataSource, globalConfig, IDialect.SQLITE).generate();
+    }
+
+    private File entityFile(String name) {
+        return new File(sourceDir, "com/test/entity/" + name + ".java");
+    }
+
+}
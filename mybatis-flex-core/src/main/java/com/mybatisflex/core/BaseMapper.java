@@ -16,9 +16,11 @@
 package com.mybatisflex.core;
 
 import com.mybatisflex.core.constant.FuncName;
+import com.mybatisflex.core.dialect.bulk.BulkLoadExecutor;
 import com.mybatisflex.core.exception.FlexAssert;
 import com.mybatisflex.core.field.FieldQueryBuilder;
 import com.mybatisflex.core.mybatis.MappedStatementTypes;
+import com.mybatisflex.core.mybatis.SessionCursor;
 import com.mybatisflex.core.paginate.Page;
 import com.mybatisflex.core.provider.EntitySqlProvider;
 import com.mybatisflex.core.query.CPI;
@@ -51,6 +53,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.function.BiConsumer;
 import java.util.function.Consumer;
+import java.util.stream.Stream;
 
 import static com.mybatisflex.core.query.QueryMethods.count;
 
@@ -217,6 +220,39 @@ public interface BaseMapper<T> {
     }
 
 
+    /**
+     * 使用数据库的批量导入方式导入大量数据，例如 PostgreSQL 的 {@code COPY}、MySQL 的 {@code LOAD DATA}，
+     * 不支持的数据库使用按参数数量上限切分的多行 INSERT。数据逐条读取，不会一次性加载到内存。
+     *
+     * <p>导入时不会回填自增主键，{@link com.mybatisflex.annotation.KeyType#Generator} 主键会在导入前生成。
+     *
+     * @param entities 导入的数据
+     * @return 导入的行数
+     * @see com.mybatisflex.core.dialect.IDialect#getBulkLoader()
+     */
+    default long bulkLoad(Iterable<T> entities) {
+        FlexAssert.notNull(entities, "entities");
+        TableInfo tableInfo = TableInfoFactory.ofMapperClass(ClassUtil.getUsefulClass(getClass()));
+        return BulkLoadExecutor.loadEntities(this, tableInfo, entities.iterator());
+    }
+
+
+    /**
+     * 使用数据库的批量导入方式导入大量数据，数据流在导入结束后关闭。
+     *
+     * @param entities 导入的数据
+     * @return 导入的行数
+     * @see #bulkLoad(Iterable)
+     */
+    default long bulkLoad(Stream<T> entities) {
+        FlexAssert.notNull(entities, "entities");
+        try (Stream<T> stream = entities) {
+            TableInfo tableInfo = TableInfoFactory.ofMapperClass(ClassUtil.getUsefulClass(getClass()));
+            return BulkLoadExecutor.loadEntities(this, tableInfo, stream.iterator());
+        }
+    }
+
+
     /**
      * 插入或者更新，若主键有值，则更新，若没有主键值，则插入，插入或者更新都不会忽略 {@code null} 值。
      *
@@ -369,6 +405,43 @@ public interface BaseMapper<T> {
     @UpdateProvider(type = EntitySqlProvider.class, method = "update")
     int update(@Param(FlexConsts.ENTITY) T entity, @Param(FlexConsts.IGNORE_NULLS) boolean ignoreNulls);
 
+    /**
+     * 根据主键批量更新数据，若实体类属性数据为 {@code null}，该属性不会更新到数据库。
+     *
+     * @param entities 数据内容，必须包含有主键
+     * @return 受影响的行数
+     * @see #updateBatchById(Collection, boolean)
+     */
+    default int updateBatchById(Collection<T> entities) {
+        return updateBatchById(entities, true);
+    }
+
+    /**
+     * 根据主键批量更新数据，按照单条 SQL 的参数数量上限自动切分，每批数据只执行一条 SQL。
+     *
+     * <p>存在乐观锁字段时，没有更新成功的数据会通过 {@link com.mybatisflex.core.optimisticlock.OptimisticLockException} 报告，
+     * 其他数据已经更新，需要在事务中执行以便整体回滚。
+     *
+     * @param entities    数据内容，必须包含有主键
+     * @param ignoreNulls 是否忽略 {@code null} 数据，忽略时每条数据只更新自己不为 {@code null} 的属性
+     * @return 受影响的行数
+     */
+    default int updateBatchById(Collection<T> entities, boolean ignoreNulls) {
+        return MapperUtil.updateBatchById(this, entities, ignoreNulls);
+    }
+
+    /**
+     * 根据主键批量更新数据，所有数据只执行一条 SQL，不会切分，也不检查乐观锁的更新结果。
+     *
+     * @param entities    数据内容，必须包含有主键
+     * @param ignoreNulls 是否忽略 {@code null} 数据
+     * @return 受影响的行数
+     * @see com.mybatisflex.core.provider.EntitySqlProvider#updateEntitiesById(Map, ProviderContext)
+     * @see com.mybatisflex.core.dialect.IDialect#forUpdateEntityBatchById(TableInfo, List, boolean, List)
+     */
+    @UpdateProvider(type = EntitySqlProvider.class, method = "updateEntitiesById")
+    int updateEntitiesById(@Param(FlexConsts.ENTITIES) Collection<T> entities, @Param(FlexConsts.IGNORE_NULLS) boolean ignoreNulls);
+
     /**
      * 根据 Map 构建的条件来更新数据。
      *
@@ -729,6 +802,77 @@ public interface BaseMapper<T> {
         }
     }
 
+    /**
+     * 根据查询条件流式查询数据。查询在独立的会话中进行，不需要在事务中使用，关闭 Stream 时释放数据库连接，
+     * 因此需要通过 try-with-resources 使用。
+     *
+     * @param queryWrapper 条件
+     * @return 数据流
+     */
+    default Stream<T> stream(QueryWrapper queryWrapper) {
+        return MapperUtil.<T>openCursor(this, queryWrapper, null).stream();
+    }
+
+    /**
+     * 根据查询条件流式查询数据，要求返回的数据为 asType 类型。关闭 Stream 时释放数据库连接，
+     * 因此需要通过 try-with-resources 使用。
+     *
+     * @param queryWrapper 条件
+     * @param asType       接收的数据类型
+     * @return 数据流
+     */
+    default <R> Stream<R> streamAs(QueryWrapper queryWrapper, Class<R> asType) {
+        return MapperUtil.<R>openCursor(this, queryWrapper, asType).stream();
+    }
+
+    /**
+     * 根据查询条件流式查询数据，每读取 {@link SessionCursor#DEFAULT_WINDOW_SIZE} 条数据进行一次字段查询。
+     * 关闭 Stream 时释放数据库连接，因此需要通过 try-with-resources 使用。
+     *
+     * @param queryWrapper 条件
+     * @param consumers    字段查询
+     * @return 数据流
+     */
+    default Stream<T> stream(QueryWrapper queryWrapper, Consumer<FieldQueryBuilder<T>>... consumers) {
+        return MapperUtil.streamWithFields(this, queryWrapper, SessionCursor.DEFAULT_WINDOW_SIZE, consumers);
+    }
+
+    /**
+     * 根据查询条件流式查询数据，每读取 {@link SessionCursor#DEFAULT_WINDOW_SIZE} 条数据批量查询一次 Relations 注解的关联数据。
+     * 关闭 Stream 时释放数据库连接，因此需要通过 try-with-resources 使用。
+     *
+     * @param queryWrapper 条件
+     * @return 数据流
+     */
+    default Stream<T> streamWithRelations(QueryWrapper queryWrapper) {
+        return MapperUtil.streamWithRelations(this, queryWrapper, null, SessionCursor.DEFAULT_WINDOW_SIZE);
+    }
+
+    /**
+     * 根据查询条件流式查询数据，每读取 {@code windowSize} 条数据批量查询一次 Relations 注解的关联数据，
+     * 内存占用只与窗口大小有关。关闭 Stream 时释放数据库连接，因此需要通过 try-with-resources 使用。
+     *
+     * @param queryWrapper 条件
+     * @param windowSize   窗口大小
+     * @return 数据流
+     */
+    default Stream<T> streamWithRelations(QueryWrapper queryWrapper, int windowSize) {
+        return MapperUtil.streamWithRelations(this, queryWrapper, null, windowSize);
+    }
+
+    /**
+     * 根据查询条件流式查询数据，要求返回的数据为 asType 类型，每读取 {@code windowSize} 条数据批量查询一次
+     * Relations 注解的关联数据。关闭 Stream 时释放数据库连接，因此需要通过 try-with-resources 使用。
+     *
+     * @param queryWrapper 条件
+     * @param asType       接收的数据类型
+     * @param windowSize   窗口大小
+     * @return 数据流
+     */
+    default <R> Stream<R> streamWithRelationsAs(QueryWrapper queryWrapper, Class<R> asType, int windowSize) {
+        return MapperUtil.streamWithRelations(this, queryWrapper, asType, windowSize);
+    }
+
     /**
      * 根据查询条件查询 Row 数据。
      *
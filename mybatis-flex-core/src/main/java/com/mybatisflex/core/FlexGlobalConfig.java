@@ -116,6 +116,11 @@ public class FlexGlobalConfig {
      */
     private boolean ignoreSchema = false;
 
+    /**
+     * 扁平（无嵌套、无鉴别器、无构造方法映射）的结果映射是否使用预先生成的映射器，而不是每一行都通过 MetaObject 赋值
+     */
+    private boolean flatResultMappingEnable = true;
+
     /**
      * 未匹配列处理器
      */
@@ -348,6 +353,14 @@ public class FlexGlobalConfig {
         this.ignoreSchema = ignoreSchema;
     }
 
+    public boolean isFlatResultMappingEnable() {
+        return flatResultMappingEnable;
+    }
+
+    public void setFlatResultMappingEnable(boolean flatResultMappingEnable) {
+        this.flatResultMappingEnable = flatResultMappingEnable;
+    }
+
     public UnMappedColumnHandler getUnMappedColumnHandler() {
         return unMappedColumnHandler;
     }
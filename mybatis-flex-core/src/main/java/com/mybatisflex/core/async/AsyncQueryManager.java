@@ -0,0 +1,315 @@
+/*
+ *  Copyright (c) 2022-2025, Mybatis-Flex (fuhai999@gmail.com).
+ *  <p>
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *  <p>
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *  <p>
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package com.mybatisflex.core.async;
+
+import com.mybatisflex.core.FlexGlobalConfig;
+import com.mybatisflex.core.context.FlexContext;
+import com.mybatisflex.core.datasource.FlexDataSource;
+import com.mybatisflex.core.datasource.LazyDataSource;
+import com.mybatisflex.core.exception.FlexAssert;
+import com.mybatisflex.core.exception.FlexExceptions;
+import com.mybatisflex.core.transaction.TransactionContext;
+import com.mybatisflex.core.util.StringUtil;
+import org.apache.ibatis.session.Configuration;
+
+import javax.sql.DataSource;
+import java.lang.reflect.Method;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * 异步查询管理器，{@code IService#getByIdAsync}、{@code Db#selectListByQueryAsync} 等方法都通过该类执行。
+ *
+ * <ul>
+ *     <li>查询在 {@link #setExecutor(Executor)} 设置的线程池中执行；未设置时，JDK 21 及以上使用虚拟线程，否则使用守护线程池。</li>
+ *     <li>提交任务时捕获当前的 {@link FlexContext}（数据源、租户、逻辑删除等配置），并在执行查询时使用。</li>
+ *     <li>每个数据源同时执行的异步查询数量受信号量限制，默认为连接池最大连接数的一半，避免并发查询耗尽连接池；
+ *     许可在提交时获取，达到上限时提交方阻塞等待。</li>
+ *     <li>事务中的连接只属于开启事务的线程，因此在事务（包括 Spring 的 {@code @Transactional}）中调用时，
+ *     查询会在当前线程中同步执行（或者直接拒绝）。</li>
+ * </ul>
+ *
+ * @author michael
+ * @since 2026-10-19
+ */
+public class AsyncQueryManager {
+
+    /**
+     * 无法获取连接池大小时，每个数据源默认的最大并发数。
+     */
+    public static final int DEFAULT_MAX_CONCURRENCY = 8;
+
+    private static final String[] POOL_SIZE_GETTERS = {
+        "getMaximumPoolSize", // HikariCP
+        "getMaxActive",       // Druid、Tomcat JDBC、BeeCP
+        "getMaxTotal",        // DBCP2
+        "getMaxPoolSize",     // C3P0
+    };
+
+    private static final Map<String, ConcurrencyLimiter> SEMAPHORES = new ConcurrentHashMap<>();
+
+    private static volatile Executor executor;
+    private static volatile int maxConcurrency;
+    private static volatile boolean rejectInTransaction;
+
+    private AsyncQueryManager() {
+    }
+
+
+    public static Executor getExecutor() {
+        Executor result = executor;
+        if (result == null) {
+            synchronized (AsyncQueryManager.class) {
+                if (executor == null) {
+                    executor = createDefaultExecutor();
+                }
+                result = executor;
+            }
+        }
+        return result;
+    }
+
+    /**
+     * 设置执行异步查询的线程池。
+     *
+     * @param executor 线程池
+     */
+    public static void setExecutor(Executor executor) {
+        FlexAssert.notNull(executor, "executor");
+        AsyncQueryManager.executor = executor;
+    }
+
+    public static int getMaxConcurrency() {
+        return maxConcurrency;
+    }
+
+    /**
+     * 设置每个数据源同时执行的异步查询的最大数量，小于等于 0 时根据连接池的大小计算。
+     *
+     * <p>已经创建的信号量会调整许可的数量，而不是重新创建，执行中的查询完成后仍然归还到同一个信号量中，
+     * 因此调小之后，需要等待执行中的查询完成到新的上限以下，才能提交新的查询。
+     *
+     * @param maxConcurrency 最大并发数
+     */
+    public static void setMaxConcurrency(int maxConcurrency) {
+        synchronized (SEMAPHORES) {
+            AsyncQueryManager.maxConcurrency = maxConcurrency;
+            FlexDataSource flexDataSource = getFlexDataSource();
+            SEMAPHORES.forEach((key, semaphore) -> semaphore.resize(resolveMaxConcurrency(flexDataSource, key)));
+        }
+    }
+
+    public static boolean isRejectInTransaction() {
+        return rejectInTransaction;
+    }
+
+    /**
+     * 设置在事务中调用异步查询时是否直接抛出异常，默认为 {@code false}，即在当前线程中同步执行。
+     *
+     * @param rejectInTransaction 是否拒绝
+     */
+    public static void setRejectInTransaction(boolean rejectInTransaction) {
+        AsyncQueryManager.rejectInTransaction = rejectInTransaction;
+    }
+
+
+    /**
+     * 异步执行查询。
+     *
+     * @param supplier 查询
+     * @return 查询结果
+     */
+    public static <T> CompletableFuture<T> supplyAsync(Supplier<T> supplier) {
+        FlexAssert.notNull(supplier, "supplier");
+
+        // 包括 Db.tx 以及 Spring 的 @Transactional
+        if (TransactionContext.isTransactionActive()) {
+            if (rejectInTransaction) {
+                throw FlexExceptions.wrap("Asynchronous query is not allowed in transaction.");
+            }
+            return supplySync(supplier);
+        }
+
+        FlexContext context = FlexContext.capture();
+        Semaphore semaphore = getSemaphore(context.getDataSourceKey());
+        // 在提交线程中获取许可，达到并发上限时阻塞提交方，而不是让排队的任务占用线程池中的线程
+        try {
+            semaphore.acquire();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw FlexExceptions.wrap(e);
+        }
+        try {
+            return CompletableFuture.supplyAsync(() -> {
+                try {
+                    return context.callWith(supplier);
+                } finally {
+                    semaphore.release();
+                }
+            }, getExecutor());
+        } catch (RuntimeException e) {
+            // 线程池拒绝了任务
+            semaphore.release();
+            throw e;
+        }
+    }
+
+    private static <T> CompletableFuture<T> supplySync(Supplier<T> supplier) {
+        CompletableFuture<T> future = new CompletableFuture<>();
+        try {
+            future.complete(supplier.get());
+        } catch (Throwable e) {
+            future.completeExceptionally(e);
+        }
+        return future;
+    }
+
+    private static Semaphore getSemaphore(String dataSourceKey) {
+        FlexDataSource flexDataSource = getFlexDataSource();
+        String key = normalizeKey(flexDataSource, dataSourceKey);
+        Semaphore semaphore = SEMAPHORES.get(key);
+        if (semaphore == null) {
+            // 与 setMaxConcurrency 互斥，避免以旧的最大并发数创建信号量
+            synchronized (SEMAPHORES) {
+                semaphore = SEMAPHORES.computeIfAbsent(key, k -> new ConcurrencyLimiter(resolveMaxConcurrency(flexDataSource, k)));
+            }
+        }
+        return semaphore;
+    }
+
+    /**
+     * 转换为实际路由到的数据源的 key，未指定数据源（或者只有一个数据源）时与显式指定默认数据源共用同一个信号量。
+     */
+    private static String normalizeKey(FlexDataSource flexDataSource, String dataSourceKey) {
+        if (flexDataSource == null) {
+            return dataSourceKey != null ? dataSourceKey : "";
+        }
+        if (StringUtil.noText(dataSourceKey) || flexDataSource.getDataSourceMap().size() <= 1) {
+            return flexDataSource.getDefaultDataSourceKey();
+        }
+        return dataSourceKey;
+    }
+
+    private static int resolveMaxConcurrency(FlexDataSource flexDataSource, String dataSourceKey) {
+        if (maxConcurrency > 0) {
+            return maxConcurrency;
+        }
+        int poolSize = getPoolSize(findDataSource(flexDataSource, dataSourceKey));
+        return poolSize > 0 ? Math.max(1, poolSize / 2) : DEFAULT_MAX_CONCURRENCY;
+    }
+
+    private static FlexDataSource getFlexDataSource() {
+        FlexGlobalConfig globalConfig = FlexGlobalConfig.getDefaultConfig();
+        Configuration configuration = globalConfig != null ? globalConfig.getConfiguration() : null;
+        if (configuration == null || configuration.getEnvironment() == null
+            || !(configuration.getEnvironment().getDataSource() instanceof FlexDataSource)) {
+            return null;
+        }
+        return (FlexDataSource) configuration.getEnvironment().getDataSource();
+    }
+
+    private static DataSource findDataSource(FlexDataSource flexDataSource, String dataSourceKey) {
+        if (flexDataSource == null) {
+            return null;
+        }
+        DataSource dataSource = flexDataSource.getDataSourceMap().get(dataSourceKey);
+        if (dataSource instanceof LazyDataSource) {
+            // 还没有创建的数据源不在这里创建，使用默认的并发数
+            LazyDataSource lazyDataSource = (LazyDataSource) dataSource;
+            return lazyDataSource.isInitialized() ? lazyDataSource.getTargetDataSource() : null;
+        }
+        return dataSource;
+    }
+
+    static int getPoolSize(DataSource dataSource) {
+        if (dataSource == null) {
+            return -1;
+        }
+        for (String getter : POOL_SIZE_GETTERS) {
+            try {
+                Method method = dataSource.getClass().getMethod(getter);
+                Object size = method.invoke(dataSource);
+                if (size instanceof Number) {
+                    return ((Number) size).intValue();
+                }
+            } catch (Exception e) {
+                // 不是该连接池，或者获取失败
+            }
+        }
+        return -1;
+    }
+
+    private static Executor createDefaultExecutor() {
+        try {
+            Method method = Executors.class.getMethod("newVirtualThreadPerTaskExecutor");
+            return (ExecutorService) method.invoke(null);
+        } catch (Exception e) {
+            return Executors.newCachedThreadPool(new AsyncThreadFactory());
+        }
+    }
+
+
+    /**
+     * 可以调整许可数量的信号量。
+     */
+    private static class ConcurrencyLimiter extends Semaphore {
+
+        private static final long serialVersionUID = 1L;
+
+        private int limit;
+
+        ConcurrencyLimiter(int limit) {
+            super(limit);
+            this.limit = limit;
+        }
+
+        /**
+         * 调整许可的总数，减少时可用的许可可能暂时为负数，直到执行中的查询归还许可。
+         */
+        synchronized void resize(int newLimit) {
+            int delta = newLimit - limit;
+            if (delta > 0) {
+                release(delta);
+            } else if (delta < 0) {
+                reducePermits(-delta);
+            }
+            limit = newLimit;
+        }
+
+    }
+
+
+    private static class AsyncThreadFactory implements ThreadFactory {
+
+        private final AtomicInteger counter = new AtomicInteger();
+
+        @Override
+        public Thread newThread(Runnable runnable) {
+            Thread thread = new Thread(runnable, "mybatis-flex-async-" + counter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        }
+    }
+
+}
@@ -0,0 +1,62 @@
+/*
+ *  Copyright (c) 2022-2025, Mybatis-Flex (fuhai999@gmail.com).
+ *  <p>
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *  <p>
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *  <p>
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package com.mybatisflex.core.cache;
+
+/**
+ * 实体缓存的存储接口（SPI），可以通过 {@link EntityCacheManager#setEntityCache(EntityCache)} 替换为 Redis 等分布式的实现。
+ *
+ * <p>缓存按区域（region）划分，每张表对应一个区域，区域名称为小写的表名。表中的数据发生变化时，
+ * 会通过 {@link #invalidate(String)} 清除整个区域。
+ *
+ * <p>实现类需要是线程安全的。缓存的值由主键、字段值等组成，分布式的实现需要能够序列化这些值。
+ *
+ * @author michael
+ * @since 2026-10-19
+ * @see LocalEntityCache
+ */
+public interface EntityCache {
+
+    /**
+     * 获取缓存。
+     *
+     * @param region 区域
+     * @param key    缓存 key
+     * @return 缓存值，不存在或者已过期时返回 {@code null}
+     */
+    Object get(String region, String key);
+
+    /**
+     * 放入缓存。
+     *
+     * @param region 区域
+     * @param key    缓存 key
+     * @param value  缓存值
+     */
+    void put(String region, String key, Object value);
+
+    /**
+     * 清除区域内的所有缓存。
+     *
+     * @param region 区域
+     */
+    void invalidate(String region);
+
+    /**
+     * 清除所有缓存。
+     */
+    void clear();
+
+}
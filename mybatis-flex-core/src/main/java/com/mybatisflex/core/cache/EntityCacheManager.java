@@ -0,0 +1,487 @@
+/*
+ *  Copyright (c) 2022-2025, Mybatis-Flex (fuhai999@gmail.com).
+ *  <p>
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *  <p>
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *  <p>
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package com.mybatisflex.core.cache;
+
+import com.mybatisflex.core.context.FlexContext;
+import com.mybatisflex.core.datasource.DataSourceManager;
+import com.mybatisflex.core.mybatis.TypeHandlerObject;
+import com.mybatisflex.core.table.ColumnInfo;
+import com.mybatisflex.core.table.IdInfo;
+import com.mybatisflex.core.table.TableInfo;
+import com.mybatisflex.core.table.TableManager;
+import com.mybatisflex.core.transaction.TransactionContext;
+import com.mybatisflex.core.util.ClassUtil;
+import com.mybatisflex.core.util.CollectionUtil;
+import com.mybatisflex.core.util.MapUtil;
+import com.mybatisflex.core.util.PropertyAccessor;
+
+import java.io.Serializable;
+import java.lang.reflect.Array;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Calendar;
+import java.util.Collection;
+import java.util.Date;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 实体二级缓存管理。
+ *
+ * <p>开启后，{@code BaseMapper#selectOneById}、{@code BaseMapper#selectListByIds} 会优先从缓存中读取实体，
+ * 只有未命中的主键才会查询数据库；开启查询缓存后，单表的 {@code BaseMapper#selectListByQuery} 会以最终执行的
+ * SQL 和参数作为 key 缓存查询结果。通过 {@code BaseMapper}、{@code Db}、{@code UpdateChain} 等执行的
+ * insert、update、delete 会自动清除对应表的缓存，无法识别表名的 SQL 会清除所有缓存。
+ *
+ * <p>缓存中保存的是实体属性值的快照，每次读取都会创建新的实体对象，修改读取到的实体不会影响缓存。
+ * {@link Date}、{@link Calendar} 和基本类型数组会被复制，属性值中含有其他可变类型（例如 {@link List}、JSON 对象）
+ * 的实体，以及配置了 {@code SetListener} 的实体不会被缓存。
+ * 事务中（或者当前线程有未提交的修改时）、使用动态表名或者数据源分片时不会读取和写入缓存。
+ *
+ * <pre>{@code
+ * EntityCacheManager.setEntityCache(new LocalEntityCache(1024, 60_000));
+ * EntityCacheManager.addCacheableEntity(Account.class, Article.class);
+ * }</pre>
+ *
+ * @author michael
+ * @since 2026-10-19
+ */
+public class EntityCacheManager {
+
+    private EntityCacheManager() {
+    }
+
+    private static final String ID_KEY_PREFIX = "id:";
+    private static final String QUERY_KEY_PREFIX = "query:";
+
+    private static volatile EntityCache entityCache;
+    private static volatile boolean queryCacheEnable = false;
+    private static final Set<Class<?>> cacheableEntities = ConcurrentHashMap.newKeySet();
+
+    private static final AtomicLong globalVersion = new AtomicLong();
+    private static final Map<String, AtomicLong> regionVersions = new ConcurrentHashMap<>();
+    private static final ThreadLocal<Set<String>> pendingRegions = new ThreadLocal<>();
+    private static final ThreadLocal<Boolean> afterCompletionRegistered = new ThreadLocal<>();
+
+    /**
+     * 是否开启了实体缓存。
+     */
+    public static boolean isEnable() {
+        return entityCache != null && !cacheableEntities.isEmpty();
+    }
+
+    public static EntityCache getEntityCache() {
+        return entityCache;
+    }
+
+    /**
+     * 设置缓存的存储实现，设置为 {@code null} 时关闭缓存。
+     *
+     * @param entityCache 缓存实现
+     */
+    public static void setEntityCache(EntityCache entityCache) {
+        EntityCacheManager.entityCache = entityCache;
+    }
+
+    public static boolean isQueryCacheEnable() {
+        return queryCacheEnable;
+    }
+
+    /**
+     * 是否缓存单表的 {@code selectListByQuery} 查询结果，默认关闭。
+     *
+     * @param queryCacheEnable 是否开启
+     */
+    public static void setQueryCacheEnable(boolean queryCacheEnable) {
+        EntityCacheManager.queryCacheEnable = queryCacheEnable;
+    }
+
+    /**
+     * 添加需要缓存的实体类。
+     *
+     * @param entityClasses 实体类
+     */
+    public static void addCacheableEntity(Class<?>... entityClasses) {
+        cacheableEntities.addAll(Arrays.asList(entityClasses));
+    }
+
+    public static void removeCacheableEntity(Class<?>... entityClasses) {
+        cacheableEntities.removeAll(Arrays.asList(entityClasses));
+    }
+
+    /**
+     * 实体是否可以缓存，{@code SetListener} 已经处理过快照中的属性值，读取缓存时无法再次执行，因此配置了
+     * {@code SetListener} 的实体不缓存。
+     *
+     * @param tableInfo 表信息
+     * @return {@code true} 可以缓存
+     */
+    public static boolean isCacheable(TableInfo tableInfo) {
+        return tableInfo != null && entityCache != null && cacheableEntities.contains(tableInfo.getEntityClass())
+            && !tableInfo.hasSetListener();
+    }
+
+
+    /**
+     * 当前线程是否需要绕过缓存：在事务中或者有未提交的修改时，以及查询的表或者数据源在每次执行时才能确定
+     * （动态表名、动态 schema、数据源分片）时绕过。
+     */
+    public static boolean isBypass() {
+        Set<String> pending = pendingRegions.get();
+        if ((pending != null && !pending.isEmpty()) || TransactionContext.isTransactionActive()) {
+            return true;
+        }
+        FlexContext context = FlexContext.current();
+        return TableManager.getDynamicTableProcessor() != null
+            || TableManager.getDynamicSchemaProcessor() != null
+            || DataSourceManager.getDataSourceShardingStrategy() != null
+            || !CollectionUtil.isEmpty(context.getTableNameMapping())
+            || !CollectionUtil.isEmpty(context.getSchemaMapping());
+    }
+
+
+    /**
+     * 获取表对应的缓存区域名称：去掉 schema 和引号后的小写表名。
+     *
+     * @param tableName 表名
+     * @return 区域名称
+     */
+    public static String getRegion(String tableName) {
+        String region = tableName;
+        int index = region.lastIndexOf('.');
+        if (index >= 0) {
+            region = region.substring(index + 1);
+        }
+        StringBuilder sb = new StringBuilder(region.length());
+        for (int i = 0; i < region.length(); i++) {
+            char c = region.charAt(i);
+            if (c != '`' && c != '"' && c != '[' && c != ']') {
+                sb.append(c);
+            }
+        }
+        return sb.toString().toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * 获取区域当前的版本，缓存数据前后版本不一致时，说明查询期间数据被修改了，此时不应写入缓存。
+     *
+     * @param region 区域
+     * @return 版本
+     */
+    public static long getVersion(String region) {
+        AtomicLong version = regionVersions.get(region);
+        return globalVersion.get() + (version == null ? 0 : version.get());
+    }
+
+
+    /**
+     * 清除表的缓存。
+     *
+     * @param tableName 表名
+     */
+    public static void invalidate(String tableName) {
+        EntityCache cache = entityCache;
+        if (cache == null) {
+            return;
+        }
+        String region = getRegion(tableName);
+        MapUtil.computeIfAbsent(regionVersions, region, key -> new AtomicLong()).incrementAndGet();
+        cache.invalidate(region);
+
+        Set<String> pending = pendingRegions.get();
+        if (pending == null) {
+            pending = new HashSet<>();
+            pendingRegions.set(pending);
+        }
+        pending.add(region);
+    }
+
+    /**
+     * 清除所有的缓存。
+     */
+    public static void invalidateAll() {
+        EntityCache cache = entityCache;
+        if (cache == null) {
+            return;
+        }
+        globalVersion.incrementAndGet();
+        cache.clear();
+
+        Set<String> pending = pendingRegions.get();
+        if (pending == null) {
+            pending = new HashSet<>();
+            pendingRegions.set(pending);
+        }
+        pending.add("*");
+    }
+
+    /**
+     * 在 Spring 管理的事务中，会话关闭时事务还没有提交，因此注册事务完成后的回调，由回调调用 {@link #afterTransaction()}。
+     *
+     * @return {@code false} 无法注册回调，需要立即调用 {@link #afterTransaction()}
+     */
+    public static boolean deferAfterTransaction() {
+        if (pendingRegions.get() == null || afterCompletionRegistered.get() != null) {
+            return true;
+        }
+        if (TransactionContext.registerAfterCompletion(EntityCacheManager::afterTransaction)) {
+            afterCompletionRegistered.set(Boolean.TRUE);
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * 事务提交或者回滚后调用，再次清除事务中修改过的表的缓存，避免事务提交前被其他线程写入旧数据。
+     */
+    public static void afterTransaction() {
+        afterCompletionRegistered.remove();
+        Set<String> pending = pendingRegions.get();
+        if (pending == null) {
+            return;
+        }
+        pendingRegions.remove();
+        EntityCache cache = entityCache;
+        if (cache == null) {
+            return;
+        }
+        if (pending.contains("*")) {
+            globalVersion.incrementAndGet();
+            cache.clear();
+            return;
+        }
+        for (String region : pending) {
+            MapUtil.computeIfAbsent(regionVersions, region, key -> new AtomicLong()).incrementAndGet();
+            cache.invalidate(region);
+        }
+    }
+
+
+    /**
+     * 构建主键缓存的 key，包含数据源、租户、是否跳过逻辑删除和脱敏状态。
+     *
+     * @param tableInfo 表信息
+     * @param id        主键值
+     * @return 缓存 key
+     */
+    public static String buildIdKey(TableInfo tableInfo, Object id) {
+        return ID_KEY_PREFIX + buildContextKey(tableInfo.buildTenantIdArgs()) + '|' + id;
+    }
+
+    /**
+     * 构建查询缓存的 key。
+     *
+     * @param statementId 执行的 MappedStatement id
+     * @param sql         SQL
+     * @param sqlArgs     SQL 参数
+     * @return 缓存 key
+     */
+    public static String buildQueryKey(String statementId, String sql, Object[] sqlArgs) {
+        Object[] args = sqlArgs == null ? null : new Object[sqlArgs.length];
+        if (args != null) {
+            for (int i = 0; i < sqlArgs.length; i++) {
+                Object arg = sqlArgs[i];
+                args[i] = arg instanceof TypeHandlerObject ? ((TypeHandlerObject) arg).getValue() : arg;
+            }
+        }
+        return QUERY_KEY_PREFIX + buildContextKey(null) + '|' + statementId + '|' + sql + '|' + Arrays.deepToString(args);
+    }
+
+    private static String buildContextKey(Object[] tenantIds) {
+        FlexContext context = FlexContext.current();
+        String dsKey = context.getDataSourceKey();
+        return (dsKey == null ? "" : dsKey)
+            + '|' + (tenantIds == null || tenantIds.length == 0 ? "" : Arrays.toString(tenantIds))
+            + '|' + (context.isSkipLogicDelete() ? "deleted" : "")
+            + '|' + (context.isSkipMask() ? "unmasked" : "");
+    }
+
+
+    /**
+     * 从缓存中读取实体。
+     *
+     * @param tableInfo 表信息
+     * @param key       缓存 key
+     * @return 新创建的实体，未命中时返回 {@code null}
+     */
+    public static Object getEntity(TableInfo tableInfo, String key) {
+        Object value = entityCache.get(getRegion(tableInfo.getTableName()), key);
+        return value instanceof Object[] ? restore(tableInfo, (Object[]) value) : null;
+    }
+
+    /**
+     * 缓存实体，查询期间表的数据发生变化时不缓存。
+     *
+     * @param tableInfo 表信息
+     * @param key       缓存 key
+     * @param entity    实体
+     * @param version   查询前的区域版本
+     */
+    public static void putEntity(TableInfo tableInfo, String key, Object entity, long version) {
+        Object[] snapshot = snapshot(tableInfo, entity);
+        if (snapshot == null) {
+            return;
+        }
+        String region = getRegion(tableInfo.getTableName());
+        if (getVersion(region) == version) {
+            entityCache.put(region, key, snapshot);
+        }
+    }
+
+    /**
+     * 从缓存中读取实体列表。
+     *
+     * @param tableInfo 表信息
+     * @param key       缓存 key
+     * @return 新创建的实体列表，未命中时返回 {@code null}
+     */
+    public static List<Object> getList(TableInfo tableInfo, String key) {
+        Object value = entityCache.get(getRegion(tableInfo.getTableName()), key);
+        if (!(value instanceof Object[][])) {
+            return null;
+        }
+        Object[][] snapshots = (Object[][]) value;
+        List<Object> list = new ArrayList<>(snapshots.length);
+        for (Object[] snapshot : snapshots) {
+            list.add(restore(tableInfo, snapshot));
+        }
+        return list;
+    }
+
+    /**
+     * 缓存实体列表，列表中包含非当前实体类的对象（例如通过 {@code selectListByQueryAs} 查询）时不缓存。
+     *
+     * @param tableInfo 表信息
+     * @param key       缓存 key
+     * @param list      实体列表
+     * @param version   查询前的区域版本
+     */
+    public static void putList(TableInfo tableInfo, String key, Collection<?> list, long version) {
+        Object[][] snapshots = new Object[list.size()][];
+        int index = 0;
+        for (Object entity : list) {
+            if (entity == null || ClassUtil.getUsefulClass(entity.getClass()) != tableInfo.getEntityClass()) {
+                return;
+            }
+            Object[] snapshot = snapshot(tableInfo, entity);
+            if (snapshot == null) {
+                return;
+            }
+            snapshots[index++] = snapshot;
+        }
+        String region = getRegion(tableInfo.getTableName());
+        if (getVersion(region) == version) {
+            entityCache.put(region, key, snapshots);
+        }
+    }
+
+
+    /**
+     * 创建实体属性值的快照，属性值中含有无法复制的可变类型时返回 {@code null}。
+     */
+    private static Object[] snapshot(TableInfo tableInfo, Object entity) {
+        List<IdInfo> primaryKeys = tableInfo.getPrimaryKeyList();
+        List<ColumnInfo> columns = tableInfo.getColumnInfoList();
+        Object[] values = new Object[primaryKeys.size() + columns.size()];
+        Class<?> entityClass = tableInfo.getEntityClass();
+        int index = 0;
+        for (IdInfo idInfo : primaryKeys) {
+            values[index++] = PropertyAccessor.of(entityClass, idInfo.getProperty()).get(entity);
+        }
+        for (ColumnInfo columnInfo : columns) {
+            values[index++] = PropertyAccessor.of(entityClass, columnInfo.getProperty()).get(entity);
+        }
+        for (int i = 0; i < values.length; i++) {
+            Object value = values[i];
+            if (value != null && !isImmutable(value)) {
+                if (!isCopyable(value)) {
+                    return null;
+                }
+                values[i] = copy(value);
+            }
+        }
+        return values;
+    }
+
+    private static Object restore(TableInfo tableInfo, Object[] values) {
+        Class<?> entityClass = tableInfo.getEntityClass();
+        Object entity = ClassUtil.newInstance(entityClass);
+        int index = 0;
+        for (IdInfo idInfo : tableInfo.getPrimaryKeyList()) {
+            setValue(entityClass, idInfo.getProperty(), entity, values[index++]);
+        }
+        for (ColumnInfo columnInfo : tableInfo.getColumnInfoList()) {
+            setValue(entityClass, columnInfo.getProperty(), entity, values[index++]);
+        }
+        return entity;
+    }
+
+    private static void setValue(Class<?> entityClass, String property, Object entity, Object value) {
+        if (value != null) {
+            PropertyAccessor accessor = PropertyAccessor.of(entityClass, property);
+            if (accessor.hasSetter()) {
+                accessor.set(entity, isImmutable(value) ? value : copy(value));
+            }
+        }
+    }
+
+    private static boolean isImmutable(Object value) {
+        Class<?> clazz = value.getClass();
+        return clazz == String.class || clazz == Integer.class || clazz == Long.class || clazz == Boolean.class
+            || clazz == BigDecimal.class || clazz == BigInteger.class || clazz == Short.class || clazz == Byte.class
+            || clazz == Double.class || clazz == Float.class || clazz == Character.class || clazz == UUID.class
+            || value instanceof Enum || clazz.getName().startsWith("java.time.");
+    }
+
+    private static boolean isCopyable(Object value) {
+        return value instanceof Date || value instanceof Calendar
+            || (value.getClass().isArray() && value.getClass().getComponentType().isPrimitive());
+    }
+
+    private static Object copy(Object value) {
+        if (value instanceof Date) {
+            return ((Date) value).clone();
+        }
+        if (value instanceof Calendar) {
+            return ((Calendar) value).clone();
+        }
+        int length = Array.getLength(value);
+        Object array = Array.newInstance(value.getClass().getComponentType(), length);
+        System.arraycopy(value, 0, array, 0, length);
+        return array;
+    }
+
+    /**
+     * 主键是否可以作为缓存的 key：单主键并且不是数组。
+     *
+     * @param tableInfo 表信息
+     * @param id        主键值
+     * @return {@code true} 可以缓存
+     */
+    public static boolean isCacheableId(TableInfo tableInfo, Object id) {
+        return id != null && tableInfo.getPrimaryKeyList().size() == 1
+            && (id instanceof Serializable) && !id.getClass().isArray();
+    }
+
+}
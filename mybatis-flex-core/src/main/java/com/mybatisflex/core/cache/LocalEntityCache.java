@@ -0,0 +1,126 @@
+/*
+ *  Copyright (c) 2022-2025, Mybatis-Flex (fuhai999@gmail.com).
+ *  <p>
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *  <p>
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *  <p>
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package com.mybatisflex.core.cache;
+
+import com.mybatisflex.core.util.MapUtil;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 进程内的实体缓存，每个区域按最近最少使用（LRU）的规则限制数量，并支持过期时间。
+ *
+ * @author michael
+ * @since 2026-10-19
+ */
+public class LocalEntityCache implements EntityCache {
+
+    private final Map<String, Region> regions = new ConcurrentHashMap<>();
+
+    private final int maximumSize;
+    private final long ttlMillis;
+
+    /**
+     * 每个区域最多缓存 1024 条数据，10 分钟过期。
+     */
+    public LocalEntityCache() {
+        this(1024, 10 * 60 * 1000L);
+    }
+
+    /**
+     * @param maximumSize 每个区域最多缓存的数量
+     * @param ttlMillis   过期时间（毫秒），小于等于 0 时不过期
+     */
+    public LocalEntityCache(int maximumSize, long ttlMillis) {
+        if (maximumSize <= 0) {
+            throw new IllegalArgumentException("maximumSize must be greater than 0");
+        }
+        this.maximumSize = maximumSize;
+        this.ttlMillis = ttlMillis;
+    }
+
+    @Override
+    public Object get(String region, String key) {
+        Region r = regions.get(region);
+        return r == null ? null : r.get(key);
+    }
+
+    @Override
+    public void put(String region, String key, Object value) {
+        MapUtil.computeIfAbsent(regions, region, k -> new Region()).put(key, value);
+    }
+
+    @Override
+    public void invalidate(String region) {
+        regions.remove(region);
+    }
+
+    @Override
+    public void clear() {
+        regions.clear();
+    }
+
+    public int getMaximumSize() {
+        return maximumSize;
+    }
+
+    public long getTtlMillis() {
+        return ttlMillis;
+    }
+
+
+    private class Region {
+
+        private final LinkedHashMap<String, Entry> entries = new LinkedHashMap<String, Entry>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Entry> eldest) {
+                return size() > maximumSize;
+            }
+        };
+
+        synchronized Object get(String key) {
+            Entry entry = entries.get(key);
+            if (entry == null) {
+                return null;
+            }
+            if (entry.expireAt > 0 && entry.expireAt < System.currentTimeMillis()) {
+                entries.remove(key);
+                return null;
+            }
+            return entry.value;
+        }
+
+        synchronized void put(String key, Object value) {
+            entries.put(key, new Entry(value, ttlMillis > 0 ? System.currentTimeMillis() + ttlMillis : 0));
+        }
+
+    }
+
+
+    private static class Entry {
+
+        private final Object value;
+        private final long expireAt;
+
+        Entry(Object value, long expireAt) {
+            this.value = value;
+            this.expireAt = expireAt;
+        }
+
+    }
+
+}
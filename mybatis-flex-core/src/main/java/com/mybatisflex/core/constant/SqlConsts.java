@@ -63,6 +63,7 @@ public final class SqlConsts {
     public static final String DELETE = "DELETE";
     public static final String UPDATE = "UPDATE ";
     public static final String HAVING = " HAVING ";
+    public static final String EXISTS = "EXISTS ";
     public static final String DISTINCT = "DISTINCT ";
     public static final String GROUP_BY = " GROUP BY ";
     public static final String ORDER_BY = " ORDER BY ";
@@ -0,0 +1,68 @@
+/*
+ *  Copyright (c) 2022-2025, Mybatis-Flex (fuhai999@gmail.com).
+ *  <p>
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *  <p>
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *  <p>
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package com.mybatisflex.core.context;
+
+/**
+ * {@link FlexContext} 的载体，决定当前上下文保存在哪里。
+ *
+ * <p>默认使用 {@link ThreadLocalContextCarrier}；需要在线程池中自动传递上下文时，可以使用 {@code TransmittableThreadLocal}
+ * 创建 {@link ThreadLocalContextCarrier}，或者实现基于 {@code ScopedValue} 等机制的载体。
+ *
+ * @author michael
+ * @since 2026-10-19
+ */
+public interface ContextCarrier {
+
+    /**
+     * 获取当前上下文。
+     *
+     * @return 当前上下文，没有时返回 {@code null}
+     */
+    FlexContext get();
+
+    /**
+     * 设置当前上下文。
+     *
+     * @param context 上下文
+     */
+    void set(FlexContext context);
+
+    /**
+     * 移除当前上下文。
+     */
+    void remove();
+
+    /**
+     * 在指定的上下文中执行，执行完成后恢复原有的上下文。
+     *
+     * @param context  上下文
+     * @param runnable 执行的代码
+     */
+    default void run(FlexContext context, Runnable runnable) {
+        FlexContext previous = get();
+        set(context);
+        try {
+            runnable.run();
+        } finally {
+            if (previous == null) {
+                remove();
+            } else {
+                set(previous);
+            }
+        }
+    }
+
+}
@@ -0,0 +1,467 @@
+/*
+ *  Copyright (c) 2022-2025, Mybatis-Flex (fuhai999@gmail.com).
+ *  <p>
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *  <p>
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *  <p>
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package com.mybatisflex.core.context;
+
+import com.mybatisflex.core.dialect.DbType;
+import com.mybatisflex.core.exception.FlexAssert;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.Executor;
+import java.util.function.Supplier;
+
+/**
+ * 执行上下文。
+ *
+ * <p>保存当前线程中通过 {@code DataSourceKey}、{@code DialectFactory}、{@code TenantManager}、{@code LogicDeleteManager}、
+ * {@code OptimisticLockManager}、{@code MaskManager}、{@code TableManager} 以及 {@code RelationManager} 设置的配置。
+ * 上下文是不可变的，每次修改都会生成新的上下文并通过 {@link ContextCarrier} 保存，因此可以安全地传递给其他线程：
+ *
+ * <pre>{@code
+ * FlexContext context = FlexContext.capture();
+ * executor.execute(context.wrap(() -> accountMapper.selectAll()));
+ *
+ * CompletableFuture.supplyAsync(FlexContext.capture().wrap(() -> accountMapper.selectAll()), executor);
+ * }</pre>
+ *
+ * <p>注意：事务（{@code TransactionContext}）以及事务中的数据库连接只属于开启事务的线程，不会随上下文传递。
+ *
+ * @author michael
+ * @since 2026-10-19
+ */
+public final class FlexContext {
+
+    /**
+     * 空的上下文。
+     */
+    public static final FlexContext EMPTY = new FlexContext();
+
+    private static final int IGNORE_TENANT_CONDITION = 1;
+    private static final int SKIP_LOGIC_DELETE = 1 << 1;
+    private static final int SKIP_OPTIMISTIC_LOCK = 1 << 2;
+    private static final int SKIP_MASK = 1 << 3;
+    private static final int DISABLE_RELATION_AUTO_CLEAR = 1 << 4;
+
+    private static volatile ContextCarrier carrier = new ThreadLocalContextCarrier();
+
+    // 除 ignoreRelations、queryRelations 外，集合均为不可修改的副本，每次修改都会创建新的上下文
+    private final KeyNode dataSourceKeys;
+    private final DbType hintDbType;
+    private final int flags;
+    private final Map<String, String> tableNameMapping;
+    private final Map<String, String> schemaMapping;
+    private final Integer relationQueryDepth;
+    private final Map<String, Object> relationExtraConditionParams;
+    private final Set<String> ignoreRelations;
+    private final Set<String> queryRelations;
+
+    private FlexContext() {
+        this(null, null, 0
+            , null, null, null
+            , null, null, null);
+    }
+
+    private FlexContext(KeyNode dataSourceKeys, DbType hintDbType, int flags
+        , Map<String, String> tableNameMapping, Map<String, String> schemaMapping, Integer relationQueryDepth
+        , Map<String, Object> relationExtraConditionParams, Set<String> ignoreRelations, Set<String> queryRelations) {
+        this.dataSourceKeys = dataSourceKeys;
+        this.hintDbType = hintDbType;
+        this.flags = flags;
+        this.tableNameMapping = tableNameMapping;
+        this.schemaMapping = schemaMapping;
+        this.relationQueryDepth = relationQueryDepth;
+        this.relationExtraConditionParams = relationExtraConditionParams;
+        this.ignoreRelations = ignoreRelations;
+        this.queryRelations = queryRelations;
+    }
+
+
+    public static ContextCarrier getCarrier() {
+        return carrier;
+    }
+
+    /**
+     * 设置上下文的载体，当前线程的上下文会转移到新的载体中。
+     *
+     * <p>只有调用线程的上下文会被转移，其他线程保存在原有载体中的上下文不会再被读取，因此应当在应用启动时、
+     * 任何线程设置上下文之前调用。
+     *
+     * @param contextCarrier 载体
+     */
+    public static void setCarrier(ContextCarrier contextCarrier) {
+        FlexAssert.notNull(contextCarrier, "contextCarrier");
+        FlexContext context = current();
+        carrier.remove();
+        carrier = contextCarrier;
+        setCurrent(context);
+    }
+
+    /**
+     * 获取当前线程的上下文。
+     *
+     * @return 上下文，不会为 {@code null}
+     */
+    public static FlexContext current() {
+        FlexContext context = carrier.get();
+        return context != null ? context : EMPTY;
+    }
+
+    /**
+     * 捕获当前线程的上下文，用于传递给其他线程。
+     *
+     * @return 上下文
+     */
+    public static FlexContext capture() {
+        return current();
+    }
+
+    /**
+     * 设置当前线程的上下文，空的上下文会直接从载体中移除。
+     *
+     * @param context 上下文
+     */
+    public static void setCurrent(FlexContext context) {
+        if (context == null || context.isEmpty()) {
+            carrier.remove();
+        } else {
+            carrier.set(context);
+        }
+    }
+
+    /**
+     * 包装 {@link Executor}，提交任务时捕获提交线程的上下文，并在执行任务时使用该上下文。
+     *
+     * @param executor 线程池
+     * @return 传递上下文的线程池
+     */
+    public static Executor propagating(Executor executor) {
+        FlexAssert.notNull(executor, "executor");
+        return command -> executor.execute(capture().wrap(command));
+    }
+
+
+    /**
+     * 在当前上下文中执行，执行完成后恢复原有的上下文。
+     *
+     * @param runnable 执行的代码
+     */
+    public void runWith(Runnable runnable) {
+        carrier.run(this, runnable);
+    }
+
+    /**
+     * 在当前上下文中执行并返回结果，执行完成后恢复原有的上下文。
+     *
+     * @param supplier 执行的代码
+     * @return 执行结果
+     */
+    public <T> T callWith(Supplier<T> supplier) {
+        Object[] result = new Object[1];
+        carrier.run(this, () -> result[0] = supplier.get());
+        @SuppressWarnings("unchecked")
+        T value = (T) result[0];
+        return value;
+    }
+
+    /**
+     * 包装 {@link Runnable}，执行时使用当前上下文。
+     */
+    public Runnable wrap(Runnable runnable) {
+        return () -> runWith(runnable);
+    }
+
+    /**
+     * 包装 {@link Supplier}，执行时使用当前上下文，可用于 {@code CompletableFuture.supplyAsync}。
+     */
+    public <T> Supplier<T> wrap(Supplier<T> supplier) {
+        return () -> callWith(supplier);
+    }
+
+
+    //////// data source ////////
+
+    public String getDataSourceKey() {
+        return dataSourceKeys != null ? dataSourceKeys.key : null;
+    }
+
+    public FlexContext pushDataSourceKey(String dataSourceKey) {
+        return new FlexContext(new KeyNode(dataSourceKey, dataSourceKeys), hintDbType, flags
+            , tableNameMapping, schemaMapping, relationQueryDepth
+            , relationExtraConditionParams, ignoreRelations, queryRelations);
+    }
+
+    public FlexContext popDataSourceKey() {
+        if (dataSourceKeys == null) {
+            return this;
+        }
+        if (dataSourceKeys.next == null && hasOnlyDataSourceKeys()) {
+            return EMPTY;
+        }
+        return new FlexContext(dataSourceKeys.next, hintDbType, flags
+            , tableNameMapping, schemaMapping, relationQueryDepth
+            , relationExtraConditionParams, ignoreRelations, queryRelations);
+    }
+
+    public FlexContext clearDataSourceKeys() {
+        if (dataSourceKeys == null) {
+            return this;
+        }
+        return new FlexContext(null, hintDbType, flags
+            , tableNameMapping, schemaMapping, relationQueryDepth
+            , relationExtraConditionParams, ignoreRelations, queryRelations);
+    }
+
+
+    //////// dialect ////////
+
+    public DbType getHintDbType() {
+        return hintDbType;
+    }
+
+    public FlexContext withHintDbType(DbType dbType) {
+        if (hintDbType == dbType) {
+            return this;
+        }
+        return new FlexContext(dataSourceKeys, dbType, flags
+            , tableNameMapping, schemaMapping, relationQueryDepth
+            , relationExtraConditionParams, ignoreRelations, queryRelations);
+    }
+
+
+    //////// tenant, logic delete, optimistic lock, mask ////////
+
+    public boolean isIgnoreTenantCondition() {
+        return (flags & IGNORE_TENANT_CONDITION) != 0;
+    }
+
+    public FlexContext withIgnoreTenantCondition(boolean ignore) {
+        return withFlags(ignore ? flags | IGNORE_TENANT_CONDITION : flags & ~IGNORE_TENANT_CONDITION);
+    }
+
+    public boolean isSkipLogicDelete() {
+        return (flags & SKIP_LOGIC_DELETE) != 0;
+    }
+
+    public FlexContext withSkipLogicDelete(boolean skip) {
+        return withFlags(skip ? flags | SKIP_LOGIC_DELETE : flags & ~SKIP_LOGIC_DELETE);
+    }
+
+    public boolean isSkipOptimisticLock() {
+        return (flags & SKIP_OPTIMISTIC_LOCK) != 0;
+    }
+
+    public FlexContext withSkipOptimisticLock(boolean skip) {
+        return withFlags(skip ? flags | SKIP_OPTIMISTIC_LOCK : flags & ~SKIP_OPTIMISTIC_LOCK);
+    }
+
+    public boolean isSkipMask() {
+        return (flags & SKIP_MASK) != 0;
+    }
+
+    public FlexContext withSkipMask(boolean skip) {
+        return withFlags(skip ? flags | SKIP_MASK : flags & ~SKIP_MASK);
+    }
+
+
+    //////// dynamic table ////////
+
+    /**
+     * 返回不可修改的集合，没有配置时为 {@code null}。
+     */
+    public Map<String, String> getTableNameMapping() {
+        return tableNameMapping;
+    }
+
+    public FlexContext withTableNameMapping(String tableName, String mappingTable) {
+        return new FlexContext(dataSourceKeys, hintDbType, flags
+            , put(tableNameMapping, tableName, mappingTable), schemaMapping, relationQueryDepth
+            , relationExtraConditionParams, ignoreRelations, queryRelations);
+    }
+
+    /**
+     * 返回不可修改的集合，没有配置时为 {@code null}。
+     */
+    public Map<String, String> getSchemaMapping() {
+        return schemaMapping;
+    }
+
+    public FlexContext withSchemaMapping(String schema, String mappingSchema) {
+        return new FlexContext(dataSourceKeys, hintDbType, flags
+            , tableNameMapping, put(schemaMapping, schema, mappingSchema), relationQueryDepth
+            , relationExtraConditionParams, ignoreRelations, queryRelations);
+    }
+
+    public FlexContext clearTableMappings() {
+        if (tableNameMapping == null && schemaMapping == null) {
+            return this;
+        }
+        return new FlexContext(dataSourceKeys, hintDbType, flags
+            , null, null, relationQueryDepth
+            , relationExtraConditionParams, ignoreRelations, queryRelations);
+    }
+
+
+    //////// relations ////////
+
+    /**
+     * 关联查询的深度，{@code null} 表示使用默认的深度。
+     */
+    public Integer getRelationQueryDepth() {
+        return relationQueryDepth;
+    }
+
+    public FlexContext withRelationQueryDepth(Integer depth) {
+        if (Objects.equals(relationQueryDepth, depth)) {
+            return this;
+        }
+        return new FlexContext(dataSourceKeys, hintDbType, flags
+            , tableNameMapping, schemaMapping, depth
+            , relationExtraConditionParams, ignoreRelations, queryRelations);
+    }
+
+    /**
+     * 返回不可修改的集合，没有配置时为 {@code null}。
+     */
+    public Map<String, Object> getRelationExtraConditionParams() {
+        return relationExtraConditionParams;
+    }
+
+    public FlexContext withRelationExtraConditionParams(Map<String, Object> params) {
+        if (relationExtraConditionParams == params) {
+            return this;
+        }
+        return new FlexContext(dataSourceKeys, hintDbType, flags
+            , tableNameMapping, schemaMapping, relationQueryDepth
+            , params == null ? null : Collections.unmodifiableMap(new HashMap<>(params)), ignoreRelations, queryRelations);
+    }
+
+    public FlexContext withRelationExtraConditionParam(String key, Object value) {
+        return withRelationExtraConditionParams(put(relationExtraConditionParams, key, value));
+    }
+
+    /**
+     * 返回设置的集合本身（与 {@code RelationManager} 原有的行为一致，可以修改），没有配置时为 {@code null}。
+     */
+    public Set<String> getIgnoreRelations() {
+        return ignoreRelations;
+    }
+
+    public FlexContext withIgnoreRelations(Set<String> relations) {
+        if (ignoreRelations == relations) {
+            return this;
+        }
+        return new FlexContext(dataSourceKeys, hintDbType, flags
+            , tableNameMapping, schemaMapping, relationQueryDepth
+            , relationExtraConditionParams, relations, queryRelations);
+    }
+
+    /**
+     * 返回设置的集合本身（与 {@code RelationManager} 原有的行为一致，可以修改），没有配置时为 {@code null}。
+     */
+    public Set<String> getQueryRelations() {
+        return queryRelations;
+    }
+
+    public FlexContext withQueryRelations(Set<String> relations) {
+        if (queryRelations == relations) {
+            return this;
+        }
+        return new FlexContext(dataSourceKeys, hintDbType, flags
+            , tableNameMapping, schemaMapping, relationQueryDepth
+            , relationExtraConditionParams, ignoreRelations, relations);
+    }
+
+    public boolean isRelationAutoClearConfig() {
+        return (flags & DISABLE_RELATION_AUTO_CLEAR) == 0;
+    }
+
+    public FlexContext withRelationAutoClearConfig(boolean enable) {
+        return withFlags(enable ? flags & ~DISABLE_RELATION_AUTO_CLEAR : flags | DISABLE_RELATION_AUTO_CLEAR);
+    }
+
+    /**
+     * 清除关联查询的深度、附加条件参数、忽略以及仅查询的 Relations 配置。
+     */
+    public FlexContext clearRelationConfig() {
+        if (relationQueryDepth == null && relationExtraConditionParams == null
+            && ignoreRelations == null && queryRelations == null) {
+            return this;
+        }
+        return new FlexContext(dataSourceKeys, hintDbType, flags
+            , tableNameMapping, schemaMapping, null
+            , null, null, null);
+    }
+
+
+    /**
+     * 复制 Map 并添加元素，已有的上下文（可能已被其他线程捕获）中的 Map 不会被修改。
+     */
+    private static <V> Map<String, V> put(Map<String, V> map, String key, V value) {
+        Map<String, V> newMap = map == null ? new HashMap<>() : new HashMap<>(map);
+        newMap.put(key, value);
+        return Collections.unmodifiableMap(newMap);
+    }
+
+    private FlexContext withFlags(int newFlags) {
+        if (flags == newFlags) {
+            return this;
+        }
+        return new FlexContext(dataSourceKeys, hintDbType, newFlags
+            , tableNameMapping, schemaMapping, relationQueryDepth
+            , relationExtraConditionParams, ignoreRelations, queryRelations);
+    }
+
+    private boolean isEmpty() {
+        return this == EMPTY || (dataSourceKeys == null && hasOnlyDataSourceKeys());
+    }
+
+    private boolean hasOnlyDataSourceKeys() {
+        return hintDbType == null && flags == 0
+            && tableNameMapping == null && schemaMapping == null && relationQueryDepth == null
+            && relationExtraConditionParams == null && ignoreRelations == null && queryRelations == null;
+    }
+
+    @Override
+    public String toString() {
+        return "FlexContext{" +
+            "dataSourceKey=" + getDataSourceKey() +
+            ", hintDbType=" + hintDbType +
+            ", flags=" + Integer.toBinaryString(flags) +
+            ", tableNameMapping=" + tableNameMapping +
+            ", schemaMapping=" + schemaMapping +
+            ", relationQueryDepth=" + relationQueryDepth +
+            '}';
+    }
+
+
+    /**
+     * 数据源的栈，不可变的单向链表。
+     */
+    private static final class KeyNode {
+
+        private final String key;
+        private final KeyNode next;
+
+        private KeyNode(String key, KeyNode next) {
+            this.key = key;
+            this.next = next;
+        }
+    }
+
+}
@@ -0,0 +1,57 @@
+/*
+ *  Copyright (c) 2022-2025, Mybatis-Flex (fuhai999@gmail.com).
+ *  <p>
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *  <p>
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *  <p>
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package com.mybatisflex.core.context;
+
+import com.mybatisflex.core.exception.FlexAssert;
+
+/**
+ * 基于 {@link ThreadLocal} 的 {@link ContextCarrier}。
+ *
+ * @author michael
+ * @since 2026-10-19
+ */
+public class ThreadLocalContextCarrier implements ContextCarrier {
+
+    private final ThreadLocal<FlexContext> threadLocal;
+
+    public ThreadLocalContextCarrier() {
+        this(new ThreadLocal<>());
+    }
+
+    /**
+     * @param threadLocal 保存上下文的 ThreadLocal，例如 {@code InheritableThreadLocal}、{@code TransmittableThreadLocal}
+     */
+    public ThreadLocalContextCarrier(ThreadLocal<FlexContext> threadLocal) {
+        FlexAssert.notNull(threadLocal, "threadLocal");
+        this.threadLocal = threadLocal;
+    }
+
+    @Override
+    public FlexContext get() {
+        return threadLocal.get();
+    }
+
+    @Override
+    public void set(FlexContext context) {
+        threadLocal.set(context);
+    }
+
+    @Override
+    public void remove() {
+        threadLocal.remove();
+    }
+
+}
@@ -0,0 +1,82 @@
+/*
+ *  Copyright (c) 2022-2025, Mybatis-Flex (fuhai999@gmail.com).
+ *  <p>
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *  <p>
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *  <p>
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package com.mybatisflex.core.datasource;
+
+import org.apache.ibatis.logging.Log;
+import org.apache.ibatis.logging.LogFactory;
+
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 定时关闭 {@link FlexDataSource} 中长时间未被使用的 {@link LazyDataSource} 连接池。
+ *
+ * @author michael
+ * @since 2026-10-19
+ */
+public class DataSourceIdleEvictor implements AutoCloseable {
+
+    private static final Log log = LogFactory.getLog(DataSourceIdleEvictor.class);
+
+    private final FlexDataSource flexDataSource;
+    private final long idleMillis;
+    private final long intervalMillis;
+    private ScheduledExecutorService scheduler;
+
+    /**
+     * @param flexDataSource 数据源
+     * @param idleMillis     空闲多久（毫秒）后关闭连接池
+     * @param intervalMillis 检查间隔（毫秒）
+     */
+    public DataSourceIdleEvictor(FlexDataSource flexDataSource, long idleMillis, long intervalMillis) {
+        this.flexDataSource = flexDataSource;
+        this.idleMillis = idleMillis;
+        this.intervalMillis = intervalMillis;
+    }
+
+    public synchronized void start() {
+        if (scheduler != null) {
+            return;
+        }
+        scheduler = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread thread = new Thread(r, "flex-datasource-evictor");
+            thread.setDaemon(true);
+            return thread;
+        });
+        scheduler.scheduleWithFixedDelay(this::evict, intervalMillis, intervalMillis, TimeUnit.MILLISECONDS);
+    }
+
+    void evict() {
+        try {
+            int count = flexDataSource.evictIdleDataSources(idleMillis);
+            if (count > 0 && log.isDebugEnabled()) {
+                log.debug("Evicted " + count + " idle dataSource(s).");
+            }
+        } catch (Exception e) {
+            log.warn("Can not evict idle dataSources. Cause: " + e);
+        }
+    }
+
+    @Override
+    public synchronized void close() {
+        if (scheduler != null) {
+            scheduler.shutdownNow();
+            scheduler = null;
+        }
+    }
+
+}
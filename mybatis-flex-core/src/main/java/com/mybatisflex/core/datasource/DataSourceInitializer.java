@@ -0,0 +1,108 @@
+/*
+ *  Copyright (c) 2022-2025, Mybatis-Flex (fuhai999@gmail.com).
+ *  <p>
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *  <p>
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *  <p>
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package com.mybatisflex.core.datasource;
+
+import com.mybatisflex.core.exception.FlexExceptions;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+/**
+ * 数据源初始化工具，用于以有限的并发度批量创建数据源（或执行其他初始化任务）。
+ *
+ * @author michael
+ * @since 2026-10-19
+ */
+public class DataSourceInitializer {
+
+    private DataSourceInitializer() {
+    }
+
+    /**
+     * 以最多 {@code parallelism} 个线程并行执行初始化任务，并按照 {@code keys} 的顺序返回结果。
+     * 任意一个任务失败时，取消其余任务并抛出异常。
+     *
+     * @param keys        数据源的 key
+     * @param task        初始化任务
+     * @param parallelism 并发度，小于等于 1 时在当前线程中串行执行
+     * @return key 与初始化结果的映射
+     */
+    public static <R> Map<String, R> initialize(List<String> keys, Function<String, R> task, int parallelism) {
+        Map<String, R> results = new LinkedHashMap<>(keys.size());
+        if (parallelism <= 1 || keys.size() <= 1) {
+            for (String key : keys) {
+                results.put(key, task.apply(key));
+            }
+            return results;
+        }
+
+        ExecutorService executor = Executors.newFixedThreadPool(Math.min(parallelism, keys.size()), new InitThreadFactory());
+        try {
+            List<Future<R>> futures = new ArrayList<>(keys.size());
+            for (String key : keys) {
+                Callable<R> callable = () -> task.apply(key);
+                futures.add(executor.submit(callable));
+            }
+            for (int i = 0; i < keys.size(); i++) {
+                results.put(keys.get(i), await(keys.get(i), futures.get(i)));
+            }
+            return results;
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private static <R> R await(String key, Future<R> future) {
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw FlexExceptions.wrap(e, "Interrupted while initializing dataSource: \"%s\"", key);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            throw FlexExceptions.wrap(cause, "Can not initialize dataSource: \"%s\"", key);
+        }
+    }
+
+    private static class InitThreadFactory implements ThreadFactory {
+
+        private static final AtomicInteger POOL_NUMBER = new AtomicInteger();
+        private final int poolNumber = POOL_NUMBER.incrementAndGet();
+        private final AtomicInteger threadNumber = new AtomicInteger();
+
+        @Override
+        public Thread newThread(Runnable r) {
+            Thread thread = new Thread(r, "flex-datasource-init-" + poolNumber + "-" + threadNumber.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        }
+
+    }
+
+}
@@ -15,7 +15,10 @@
  */
 package com.mybatisflex.core.datasource;
 
+import com.mybatisflex.core.context.ContextCarrier;
+import com.mybatisflex.core.context.FlexContext;
 import com.mybatisflex.core.exception.FlexAssert;
+import org.apache.ibatis.logging.LogFactory;
 
 import java.lang.reflect.Method;
 import java.util.ArrayDeque;
@@ -27,37 +30,23 @@ import java.util.function.Supplier;
  */
 public class DataSourceKey {
 
-    private static ThreadLocal<Deque<String>> lookup = ThreadLocal.withInitial(ArrayDeque::new);
-
     private DataSourceKey() {
     }
 
     public static void use(String dataSourceKey) {
-        Deque<String> deque = lookup.get();
-        if (deque == null) {
-            deque = new ArrayDeque<>(1);
-            lookup.set(deque);
-        }
-        deque.push(dataSourceKey);
+        FlexContext.setCurrent(FlexContext.current().pushDataSourceKey(dataSourceKey));
     }
 
     public static String get() {
-        Deque<String> deque = lookup.get();
-        return deque != null ? deque.peek() : null;
+        return FlexContext.current().getDataSourceKey();
     }
 
     public static void clear() {
-        Deque<String> deque = lookup.get();
-        if (deque != null) {
-            deque.pop();
-            if (deque.isEmpty()) {
-                lookup.remove();
-            }
-        }
+        FlexContext.setCurrent(FlexContext.current().popDataSourceKey());
     }
 
     public static void forceClear() {
-        lookup.remove();
+        FlexContext.setCurrent(FlexContext.current().clearDataSourceKeys());
     }
 
     public static void use(String dataSourceKey, Runnable runnable) {
@@ -78,12 +67,18 @@ public class DataSourceKey {
         }
     }
 
+    /**
+     * @deprecated 数据源保存在 {@link FlexContext} 中，使用 {@link FlexContext#setCarrier(ContextCarrier)} 代替，例如
+     * {@code FlexContext.setCarrier(new ThreadLocalContextCarrier(new TransmittableThreadLocal<>()))}。
+     * 为了兼容，传入的 ThreadLocal（例如 {@code TransmittableThreadLocal}）会作为载体，其中保存的 {@code Deque<String>}
+     * 只包含当前的数据源，并且携带了整个 {@link FlexContext}，调用方修改该 Deque 或者设置该 ThreadLocal 的值不会生效。
+     */
+    @Deprecated
     public static void setThreadLocal(ThreadLocal<Deque<String>> threadLocal) {
         FlexAssert.notNull(threadLocal, "threadLocal");
-        if (threadLocal.get() == null) {
-            threadLocal.set(lookup.get());
-        }
-        lookup = threadLocal;
+        LogFactory.getLog(DataSourceKey.class).warn("DataSourceKey.setThreadLocal() is deprecated, the given ThreadLocal now carries "
+            + "the whole FlexContext, use FlexContext.setCarrier(new ThreadLocalContextCarrier(threadLocal)) instead.");
+        FlexContext.setCarrier(new DequeContextCarrier(threadLocal));
     }
 
     public static String processDataSourceKey(String dataSourceKey, Object targetOrProxy, Method method, Object[] arguments) {
@@ -97,4 +92,52 @@ public class DataSourceKey {
         return shardingDsKey != null ? shardingDsKey : dataSource;
     }
 
+
+
+    /**
+     * 把 {@link FlexContext} 保存在调用方传入的 {@code ThreadLocal<Deque<String>>} 中。
+     */
+    private static class DequeContextCarrier implements ContextCarrier {
+
+        private final ThreadLocal<Deque<String>> threadLocal;
+
+        private DequeContextCarrier(ThreadLocal<Deque<String>> threadLocal) {
+            this.threadLocal = threadLocal;
+        }
+
+        @Override
+        public FlexContext get() {
+            Deque<String> deque = threadLocal.get();
+            return deque instanceof ContextDeque ? ((ContextDeque) deque).context : null;
+        }
+
+        @Override
+        public void set(FlexContext context) {
+            threadLocal.set(new ContextDeque(context));
+        }
+
+        @Override
+        public void remove() {
+            threadLocal.remove();
+        }
+    }
+
+    /**
+     * 包含当前数据源并携带 {@link FlexContext} 的 Deque。
+     */
+    private static class ContextDeque extends ArrayDeque<String> {
+
+        private static final long serialVersionUID = 1L;
+
+        private final transient FlexContext context;
+
+        private ContextDeque(FlexContext context) {
+            this.context = context;
+            String dataSourceKey = context.getDataSourceKey();
+            if (dataSourceKey != null) {
+                add(dataSourceKey);
+            }
+        }
+    }
+
 }
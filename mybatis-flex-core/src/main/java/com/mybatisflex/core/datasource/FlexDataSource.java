@@ -18,6 +18,7 @@ package com.mybatisflex.core.datasource;
 import com.mybatisflex.core.FlexGlobalConfig;
 import com.mybatisflex.core.dialect.DbType;
 import com.mybatisflex.core.dialect.DbTypeUtil;
+import com.mybatisflex.core.metrics.MetricsManager;
 import com.mybatisflex.core.transaction.TransactionContext;
 import com.mybatisflex.core.transaction.TransactionalManager;
 import com.mybatisflex.core.util.ArrayUtil;
@@ -37,7 +38,9 @@ import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Supplier;
 
 /**
  * @author michael
@@ -47,7 +50,7 @@ public class FlexDataSource extends AbstractDataSource {
     private static final char LOAD_BALANCE_KEY_SUFFIX = '*';
     private static final Log log = LogFactory.getLog(FlexDataSource.class);
 
-    private final Map<String, DataSource> dataSourceMap = new HashMap<>();
+    private final Map<String, DataSource> dataSourceMap = new ConcurrentHashMap<>();
     private final Map<String, DbType> dbTypeHashMap = new HashMap<>();
 
     private DbType defaultDbType;
@@ -115,6 +118,84 @@ public class FlexDataSource extends AbstractDataSource {
         dbTypeHashMap.put(dataSourceKey, dbType);
     }
 
+    /**
+     * 注册一个延迟创建的数据源，真实的连接池会在第一次获取该 key 的连接时才创建。
+     *
+     * @param dataSourceKey      数据源的 key
+     * @param dataSourceSupplier 真实数据源的创建逻辑
+     * @param dbType             数据库类型，不能为 {@code null}（延迟数据源无法在注册时连接数据库进行识别）
+     */
+    public void addLazyDataSource(String dataSourceKey, Supplier<DataSource> dataSourceSupplier, DbType dbType) {
+        addLazyDataSource(new LazyDataSource(dataSourceKey, dataSourceSupplier), dbType);
+    }
+
+    /**
+     * 注册一个延迟创建的数据源。
+     *
+     * @param lazyDataSource 延迟数据源
+     * @param dbType         数据库类型，为 {@code null} 时根据 {@link LazyDataSource#getUrl()} 解析
+     */
+    public void addLazyDataSource(LazyDataSource lazyDataSource, DbType dbType) {
+        if (dbType == null && StringUtil.hasText(lazyDataSource.getUrl())) {
+            dbType = DbTypeUtil.parseDbType(lazyDataSource.getUrl());
+        }
+        if (dbType == null) {
+            throw new IllegalArgumentException("DbType must be declared for lazy dataSource: \"" + lazyDataSource.getDataSourceKey() + "\"");
+        }
+
+        dataSourceMap.put(lazyDataSource.getDataSourceKey(), lazyDataSource);
+        dbTypeHashMap.put(lazyDataSource.getDataSourceKey(), dbType);
+    }
+
+    /**
+     * 以最多 {@code parallelism} 个线程并行预热所有尚未创建的延迟数据源。
+     */
+    public void warmUpLazyDataSources(int parallelism) {
+        List<LazyDataSource> lazyDataSources = getLazyDataSources();
+        List<String> keys = new ArrayList<>(lazyDataSources.size());
+        Map<String, LazyDataSource> lazyDataSourceMap = new HashMap<>(lazyDataSources.size());
+        for (LazyDataSource lazyDataSource : lazyDataSources) {
+            if (!lazyDataSource.isInitialized()) {
+                keys.add(lazyDataSource.getDataSourceKey());
+                lazyDataSourceMap.put(lazyDataSource.getDataSourceKey(), lazyDataSource);
+            }
+        }
+
+        DataSourceInitializer.initialize(keys, key -> {
+            try {
+                lazyDataSourceMap.get(key).warmUp();
+            } catch (SQLException e) {
+                log.warn("Can not warm up dataSource: \"" + key + "\". Cause: " + e);
+            }
+            return Boolean.TRUE;
+        }, parallelism);
+    }
+
+    /**
+     * 关闭超过 {@code idleMillis} 毫秒未被使用的延迟数据源的底层连接池，下次使用时会重新创建。
+     *
+     * @return 本次关闭的连接池数量
+     */
+    public int evictIdleDataSources(long idleMillis) {
+        int count = 0;
+        for (LazyDataSource lazyDataSource : getLazyDataSources()) {
+            if (lazyDataSource.evictIfIdle(idleMillis)) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    private List<LazyDataSource> getLazyDataSources() {
+        List<LazyDataSource> lazyDataSources = new ArrayList<>();
+        for (DataSource dataSource : dataSourceMap.values()) {
+            if (dataSource instanceof LazyDataSource) {
+                lazyDataSources.add((LazyDataSource) dataSource);
+            }
+        }
+        return lazyDataSources;
+    }
+
 
     public void removeDatasource(String dataSourceKey) {
         dataSourceMap.remove(dataSourceKey);
@@ -145,9 +226,31 @@ public class FlexDataSource extends AbstractDataSource {
         return dbTypeHashMap.get(dataSourceKey);
     }
 
+    /**
+     * 获取当前线程（{@link DataSourceKey}）路由到的目标数据源。
+     *
+     * <p>与 {@link #getConnection()} 不同，从目标数据源获取的连接不会加入当前的事务（xid），
+     * 适用于需要独立连接和事务的场景，例如号段模式的主键生成器。
+     *
+     * @return 目标数据源
+     */
+    public DataSource getTargetDataSource() {
+        return getDataSource();
+    }
+
 
     @Override
     public Connection getConnection() throws SQLException {
+        if (!MetricsManager.isMetricsEnable() || !MetricsManager.isPhaseTimingEnable()) {
+            return doGetConnection();
+        }
+        long start = System.nanoTime();
+        Connection connection = doGetConnection();
+        MetricsManager.connectionAcquired(System.nanoTime() - start);
+        return connection;
+    }
+
+    private Connection doGetConnection() throws SQLException {
         String xid = TransactionContext.getXID();
         if (StringUtil.hasText(xid)) {
             String dataSourceKey = DataSourceKey.get();
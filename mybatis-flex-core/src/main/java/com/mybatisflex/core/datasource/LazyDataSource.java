@@ -0,0 +1,321 @@
+/*
+ *  Copyright (c) 2022-2025, Mybatis-Flex (fuhai999@gmail.com).
+ *  <p>
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *  <p>
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *  <p>
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package com.mybatisflex.core.datasource;
+
+import com.mybatisflex.core.exception.FlexExceptions;
+import org.apache.ibatis.logging.Log;
+import org.apache.ibatis.logging.LogFactory;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Supplier;
+
+/**
+ * 延迟创建的数据源。
+ *
+ * <p>注册时只保存数据源的创建逻辑，在第一次获取连接（或预热）时才真正创建连接池并解密配置；
+ * 长时间未使用并且没有未归还的连接时，可以通过 {@link #evictIfIdle(long)} 关闭底层连接池，下次使用时再重新创建。
+ * 适用于租户库数量较多、大部分租户访问频率较低的场景。
+ *
+ * <p>底层数据源不是 {@link AutoCloseable}（例如 Seata 的 {@code DataSourceProxy}）时，会通过 JDBC 的
+ * {@code unwrap} 或者 {@code getTargetDataSource()} 方法找到可以关闭的连接池；找不到时不会释放该数据源。
+ *
+ * @author michael
+ * @since 2026-10-19
+ */
+public class LazyDataSource extends AbstractDataSource {
+
+    private static final Log log = LogFactory.getLog(LazyDataSource.class);
+
+    private final String dataSourceKey;
+    private final Supplier<DataSource> dataSourceSupplier;
+    private final boolean needDecryptDataSource;
+    private final String url;
+
+    // target、borrowed 只在持有锁时修改，lastAccessTime 与 borrowed 在同一个锁中更新
+    private volatile DataSource target;
+    private volatile long lastAccessTime;
+    private int borrowed;
+    private boolean closeable = true;
+
+    public LazyDataSource(String dataSourceKey, Supplier<DataSource> dataSourceSupplier) {
+        this(dataSourceKey, dataSourceSupplier, null, true);
+    }
+
+    /**
+     * @param dataSourceKey         数据源的 key
+     * @param dataSourceSupplier    真实数据源的创建逻辑
+     * @param url                   JDBC URL，用于在不创建数据源的情况下识别数据库类型，可为 {@code null}
+     * @param needDecryptDataSource 创建后是否需要通过 {@link DataSourceManager#decryptDataSource(DataSource)} 解密
+     */
+    public LazyDataSource(String dataSourceKey, Supplier<DataSource> dataSourceSupplier, String url, boolean needDecryptDataSource) {
+        this.dataSourceKey = dataSourceKey;
+        this.dataSourceSupplier = dataSourceSupplier;
+        this.url = url;
+        this.needDecryptDataSource = needDecryptDataSource;
+    }
+
+    public String getDataSourceKey() {
+        return dataSourceKey;
+    }
+
+    /**
+     * 方便用于 {@link com.mybatisflex.core.dialect.DbTypeUtil#getJdbcUrl(DataSource)}，未配置 URL 时返回 {@code null}，
+     * 不会触发数据源的创建。
+     */
+    public String getUrl() {
+        return url;
+    }
+
+    /**
+     * 底层数据源是否已经创建。
+     */
+    public boolean isInitialized() {
+        return target != null;
+    }
+
+    public long getLastAccessTime() {
+        return lastAccessTime;
+    }
+
+    /**
+     * 通过当前数据源获取并且尚未关闭的连接数量。
+     */
+    public synchronized int getBorrowedConnections() {
+        return borrowed;
+    }
+
+    /**
+     * 获取底层数据源，未创建时会先创建。
+     *
+     * <p>注意：直接通过底层数据源获取的连接不会被统计，数据源仍可能在连接归还之前被释放，
+     * 获取连接请使用 {@link #getConnection()}。
+     */
+    public synchronized DataSource getTargetDataSource() {
+        lastAccessTime = System.currentTimeMillis();
+        return getOrCreate();
+    }
+
+    /**
+     * 预热数据源：创建底层连接池并获取一次连接。
+     */
+    public void warmUp() throws SQLException {
+        try (Connection ignored = getConnection()) {
+            // do nothing here.
+        }
+    }
+
+    /**
+     * 当数据源超过 {@code idleMillis} 毫秒未被使用，并且所有连接都已归还时，关闭并释放底层连接池。
+     *
+     * @return 是否释放了底层连接池
+     */
+    public boolean evictIfIdle(long idleMillis) {
+        if (target == null || System.currentTimeMillis() - lastAccessTime < idleMillis) {
+            return false;
+        }
+
+        AutoCloseable pool;
+        synchronized (this) {
+            DataSource dataSource = target;
+            if (dataSource == null || !closeable || borrowed > 0
+                || System.currentTimeMillis() - lastAccessTime < idleMillis) {
+                return false;
+            }
+            pool = findCloseable(dataSource);
+            if (pool == null) {
+                // 无法关闭的数据源，释放引用会导致连接池泄漏，因此保留
+                closeable = false;
+                log.warn("Can not evict dataSource: \"" + dataSourceKey + "\", "
+                    + dataSource.getClass().getName() + " is not AutoCloseable and can not be unwrapped.");
+                return false;
+            }
+            target = null;
+        }
+
+        close(pool);
+        return true;
+    }
+
+    /**
+     * 关闭并释放底层连接池，未归还的连接会随连接池一起关闭。
+     */
+    public void close() {
+        DataSource dataSource;
+        synchronized (this) {
+            dataSource = target;
+            target = null;
+        }
+        if (dataSource != null) {
+            AutoCloseable pool = findCloseable(dataSource);
+            if (pool != null) {
+                close(pool);
+            }
+        }
+    }
+
+    private DataSource getOrCreate() {
+        DataSource dataSource = target;
+        if (dataSource == null) {
+            dataSource = createDataSource();
+            target = dataSource;
+            closeable = true;
+        }
+        return dataSource;
+    }
+
+    /**
+     * 借出连接：创建数据源、更新访问时间以及增加借出数量在同一个锁中完成，避免与释放数据源交错。
+     */
+    private synchronized DataSource borrow() {
+        DataSource dataSource = getOrCreate();
+        borrowed++;
+        lastAccessTime = System.currentTimeMillis();
+        return dataSource;
+    }
+
+    private synchronized void giveBack() {
+        borrowed--;
+        lastAccessTime = System.currentTimeMillis();
+    }
+
+    private Connection track(Connection connection) {
+        return (Connection) Proxy.newProxyInstance(LazyDataSource.class.getClassLoader()
+            , new Class[]{Connection.class}, new ConnectionHandler(connection));
+    }
+
+    /**
+     * 查找真正持有连接池的对象，例如 Seata 的 {@code DataSourceProxy} 可以通过 {@code getTargetDataSource()} 获取。
+     */
+    private static AutoCloseable findCloseable(DataSource dataSource) {
+        for (int i = 0; i < 8 && dataSource != null; i++) {
+            if (dataSource instanceof AutoCloseable) {
+                return (AutoCloseable) dataSource;
+            }
+            try {
+                if (dataSource.isWrapperFor(AutoCloseable.class)) {
+                    return dataSource.unwrap(AutoCloseable.class);
+                }
+            } catch (Exception e) {
+                // 部分代理没有正确实现 Wrapper，继续尝试 getTargetDataSource()
+            }
+            try {
+                Method method = dataSource.getClass().getMethod("getTargetDataSource");
+                Object next = method.invoke(dataSource);
+                dataSource = next != dataSource && next instanceof DataSource ? (DataSource) next : null;
+            } catch (Exception e) {
+                return null;
+            }
+        }
+        return null;
+    }
+
+    private DataSource createDataSource() {
+        DataSource dataSource = dataSourceSupplier.get();
+        if (dataSource == null) {
+            throw FlexExceptions.wrap("Can not create dataSource by key: \"%s\"", dataSourceKey);
+        }
+        if (needDecryptDataSource) {
+            DataSourceManager.decryptDataSource(dataSource);
+        }
+        return dataSource;
+    }
+
+    private void close(AutoCloseable pool) {
+        try {
+            pool.close();
+        } catch (Exception e) {
+            log.warn("Can not close dataSource: \"" + dataSourceKey + "\". Cause: " + e);
+        }
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        DataSource dataSource = borrow();
+        try {
+            return track(dataSource.getConnection());
+        } catch (SQLException | RuntimeException e) {
+            giveBack();
+            throw e;
+        }
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        DataSource dataSource = borrow();
+        try {
+            return track(dataSource.getConnection(username, password));
+        } catch (SQLException | RuntimeException e) {
+            giveBack();
+            throw e;
+        }
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T unwrap(Class<T> iface) throws SQLException {
+        if (iface.isInstance(this)) {
+            return (T) this;
+        }
+        return getTargetDataSource().unwrap(iface);
+    }
+
+    @Override
+    public boolean isWrapperFor(Class<?> iface) throws SQLException {
+        return iface.isInstance(this) || getTargetDataSource().isWrapperFor(iface);
+    }
+
+
+    /**
+     * 连接关闭时归还借出数量，重复关闭只归还一次。
+     */
+    private class ConnectionHandler implements InvocationHandler {
+
+        private final Connection original;
+        private final AtomicBoolean closed = new AtomicBoolean();
+
+        ConnectionHandler(Connection original) {
+            this.original = original;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            if ("close".equals(method.getName()) && (args == null || args.length == 0)) {
+                if (!closed.compareAndSet(false, true)) {
+                    return null;
+                }
+                try {
+                    original.close();
+                } finally {
+                    giveBack();
+                }
+                return null;
+            }
+            try {
+                return method.invoke(original, args);
+            } catch (InvocationTargetException e) {
+                throw e.getTargetException();
+            }
+        }
+    }
+
+}
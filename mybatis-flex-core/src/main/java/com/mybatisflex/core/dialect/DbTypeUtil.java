@@ -71,6 +71,28 @@ public class DbTypeUtil {
         throw new IllegalStateException("Can not get dataSource jdbcUrl: " + dataSource.getClass().getName());
     }
 
+    /**
+     * 只通过数据源配置的 JDBC URL 解析 DbType，不会获取数据库连接（例如不会对 SQL Server 执行 {@code SELECT @@VERSION}）。
+     * 适用于启动时需要快速注册大量数据源的场景。
+     *
+     * @return 数据库类型，无法通过 getter 获取 JDBC URL 时返回 {@code null}
+     */
+    public static DbType getDbTypeByUrl(DataSource dataSource) {
+        String[] methodNames = new String[]{"getUrl", "getJdbcUrl"};
+        for (String methodName : methodNames) {
+            try {
+                Method method = dataSource.getClass().getMethod(methodName);
+                String jdbcUrl = (String) method.invoke(dataSource);
+                if (StringUtil.hasText(jdbcUrl)) {
+                    return parseDbType(jdbcUrl);
+                }
+            } catch (Exception e) {
+                //ignore
+            }
+        }
+        return null;
+    }
+
     /**
      * 通过数据源获取 SQLserver 版本
      *
@@ -17,6 +17,7 @@ package com.mybatisflex.core.dialect;
 
 
 import com.mybatisflex.core.FlexGlobalConfig;
+import com.mybatisflex.core.context.FlexContext;
 import com.mybatisflex.core.dialect.impl.*;
 import com.mybatisflex.core.util.MapUtil;
 import com.mybatisflex.core.util.ObjectUtil;
@@ -38,20 +39,15 @@ public class DialectFactory {
      * 此 map 中，用于覆盖系统的方言实现
      */
     private static final Map<DbType, IDialect> dialectMap = new EnumMap<>(DbType.class);
-    /**
-     * 通过设置当前线程的数据库类型，以达到在代码执行时随时切换方言的功能
-     */
-    private static final ThreadLocal<DbType> dbTypeThreadLocal = new ThreadLocal<>();
-
     /**
      * 获取方言
      *
      * @return IDialect
      */
     public static IDialect getDialect() {
-        DbType dbType = ObjectUtil.requireNonNullElse(dbTypeThreadLocal.get(),
+        DbType dbType = ObjectUtil.requireNonNullElse(FlexContext.current().getHintDbType(),
             FlexGlobalConfig.getDefaultConfig().getDbType());
-        return MapUtil.computeIfAbsent(dialectMap, dbType, DialectFactory::createDialect);
+        return MapUtil.computeIfAbsent(dialectMap, dbType, type -> bindDbType(type, createDialect(type)));
     }
 
     /**
@@ -60,7 +56,7 @@ public class DialectFactory {
      * @param dbType
      */
     public static void setHintDbType(DbType dbType) {
-        dbTypeThreadLocal.set(dbType);
+        FlexContext.setCurrent(FlexContext.current().withHintDbType(dbType));
     }
 
     /**
@@ -69,7 +65,7 @@ public class DialectFactory {
      * @return dbType
      */
     public static DbType getHintDbType() {
-        return dbTypeThreadLocal.get();
+        return FlexContext.current().getHintDbType();
     }
 
 
@@ -77,7 +73,7 @@ public class DialectFactory {
      * 清除当前线程的 dbType
      */
     public static void clearHintDbType() {
-        dbTypeThreadLocal.remove();
+        FlexContext.setCurrent(FlexContext.current().withHintDbType(null));
     }
 
 
@@ -88,7 +84,18 @@ public class DialectFactory {
      * @param dialect 方言的实现
      */
     public static void registerDialect(DbType dbType, IDialect dialect) {
-        dialectMap.put(dbType, dialect);
+        dialectMap.put(dbType, bindDbType(dbType, dialect));
+    }
+
+
+    private static IDialect bindDbType(DbType dbType, IDialect dialect) {
+        if (dialect instanceof CommonsDialectImpl) {
+            CommonsDialectImpl commonsDialect = (CommonsDialectImpl) dialect;
+            if (commonsDialect.getDbType() == null) {
+                commonsDialect.setDbType(dbType);
+            }
+        }
+        return dialect;
     }
 
 
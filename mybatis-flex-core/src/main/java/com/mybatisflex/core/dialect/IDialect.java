@@ -15,12 +15,17 @@
  */
 package com.mybatisflex.core.dialect;
 
+import com.mybatisflex.core.dialect.bulk.BulkLoader;
+import com.mybatisflex.core.dialect.bulk.InsertBulkLoader;
+import com.mybatisflex.core.mybatis.SessionCursor;
 import com.mybatisflex.core.query.QueryTable;
 import com.mybatisflex.core.query.QueryWrapper;
 import com.mybatisflex.core.row.Row;
 import com.mybatisflex.core.table.TableInfo;
 import com.mybatisflex.core.table.TableManager;
 
+import java.sql.SQLException;
+import java.sql.Statement;
 import java.util.Collection;
 import java.util.List;
 
@@ -29,6 +34,16 @@ import java.util.List;
  */
 public interface IDialect {
 
+    /**
+     * 游标查询默认的 fetchSize
+     */
+    int CURSOR_FETCH_SIZE = 1000;
+
+    /**
+     * 单条 SQL 默认的参数（{@code ?}）数量上限，兼容 SQL Server（2100）等限制较低的数据库
+     */
+    int DEFAULT_MAX_BIND_PARAMETERS = 2000;
+
     String wrap(String keyword);
 
     String wrapColumnAlias(String keyword);
@@ -91,12 +106,51 @@ public interface IDialect {
 
     String forUpdateEntity(TableInfo tableInfo, Object entity, boolean ignoreNulls);
 
+    /**
+     * 根据主键批量更新实体类，一条 SQL 更新所有的实体类。
+     * 不同的数据库可能使用不同的 SQL 形式，参数的顺序与 SQL 相关，因此由方言按照占位符的顺序写入 {@code sqlArgs}。
+     *
+     * @param tableInfo   表信息
+     * @param entities    实体类，必须包含有主键
+     * @param ignoreNulls 是否忽略 null 值
+     * @param sqlArgs     SQL 参数
+     * @return SQL 语句
+     */
+    String forUpdateEntityBatchById(TableInfo tableInfo, List<?> entities, boolean ignoreNulls, List<Object> sqlArgs);
+
     String forUpdateEntityByQuery(TableInfo tableInfo, Object entity, boolean ignoreNulls, QueryWrapper queryWrapper);
 
     String forSelectOneEntityById(TableInfo tableInfo);
 
     String forSelectEntityListByIds(TableInfo tableInfo, Object[] primaryValues);
 
+    /**
+     * 构建根据多个主键查询数据的条件（不包含 {@code WHERE}），与 {@link #forSelectEntityListByIds(TableInfo, Object[])}
+     * 生成的条件一致，参数的顺序和主键值一致（复合主键为 a, b, a, b ...）。
+     *
+     * @param table       已经处理过的表名（包含 schema），用于关联子查询
+     * @param primaryKeys 主键列
+     * @param rowCount    主键值的数量（复合主键为组数）
+     * @return 条件 SQL
+     */
+    default String forPrimaryKeysCondition(String table, String[] primaryKeys, int rowCount) {
+        StringBuilder sql = new StringBuilder("(");
+        for (int i = 0; i < rowCount; i++) {
+            if (i > 0) {
+                sql.append(" OR ");
+            }
+            sql.append('(');
+            for (int j = 0; j < primaryKeys.length; j++) {
+                if (j > 0) {
+                    sql.append(" AND ");
+                }
+                sql.append(wrap(primaryKeys[j])).append(" = ?");
+            }
+            sql.append(')');
+        }
+        return sql.append(')').toString();
+    }
+
     /**
      * 权限处理
      *
@@ -126,4 +180,46 @@ public interface IDialect {
      */
     default void prepareAuth(TableInfo tableInfo, StringBuilder sql, OperateType operateType) {
     }
+
+    /**
+     * 游标查询执行前配置 Statement，让 JDBC 驱动分批读取数据，而不是一次性把全部结果加载到内存中。
+     * 只有在 MappedStatement 和全局配置都没有设置 fetchSize 时才会调用。
+     *
+     * <p>MySQL Connector/J 只有在 fetchSize 为 {@link Integer#MIN_VALUE} 时才会逐行读取；其他驱动使用
+     * {@link #CURSOR_FETCH_SIZE}，其中 PostgreSQL 还要求连接关闭自动提交（游标查询使用的会话默认已关闭）。
+     * MySQL 逐行读取期间同一个连接无法执行其他查询，因此游标与其他查询共用连接时（{@link SessionCursor#isSharedConnection()}），
+     * 不开启逐行读取，由驱动缓冲全部结果。
+     *
+     * @param statement 游标查询使用的 Statement
+     * @throws SQLException 配置失败
+     */
+    default void prepareCursorStatement(Statement statement) throws SQLException {
+        String driverName = statement.getConnection().getMetaData().getDriverName();
+        if (driverName != null && driverName.startsWith("MySQL Connector")) {
+            if (!SessionCursor.isSharedConnection()) {
+                statement.setFetchSize(Integer.MIN_VALUE);
+            }
+        } else {
+            statement.setFetchSize(CURSOR_FETCH_SIZE);
+        }
+    }
+
+    /**
+     * 单条 SQL 中参数（{@code ?}）数量的上限，批量操作根据该值对数据进行分批。
+     *
+     * @return 参数数量的上限
+     */
+    default int getMaxBindParameters() {
+        return DEFAULT_MAX_BIND_PARAMETERS;
+    }
+
+    /**
+     * 批量导入数据的方式，默认使用多行 INSERT。
+     *
+     * @return 批量导入的方式
+     */
+    default BulkLoader getBulkLoader() {
+        return InsertBulkLoader.INSTANCE;
+    }
+
 }
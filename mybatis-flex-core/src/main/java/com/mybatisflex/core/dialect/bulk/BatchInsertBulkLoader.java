@@ -0,0 +1,77 @@
+/*
+ *  Copyright (c) 2022-2025, Mybatis-Flex (fuhai999@gmail.com).
+ *  <p>
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *  <p>
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *  <p>
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package com.mybatisflex.core.dialect.bulk;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Iterator;
+
+/**
+ * 通过 JDBC 批处理（{@code addBatch}/{@code executeBatch}）执行单行 INSERT 的批量导入。
+ *
+ * <p>用于不支持多行 VALUES 的数据库（例如 Oracle），以及由驱动实现批量导入的数据库，例如 SQL Server 在连接参数中配置
+ * {@code useBulkCopyForBatchInsert=true} 后，驱动会通过 Bulk Copy API 执行批处理中的 INSERT。
+ *
+ * @author michael
+ * @since 2026-10-19
+ */
+public class BatchInsertBulkLoader implements BulkLoader {
+
+    public static final BatchInsertBulkLoader INSTANCE = new BatchInsertBulkLoader();
+
+    /**
+     * 每次执行批处理的行数。
+     */
+    public static final int BATCH_SIZE = 1000;
+
+    @Override
+    public long load(Connection connection, BulkLoadTarget target, Iterator<Object[]> rows) throws SQLException {
+        long count = 0;
+        try (PreparedStatement statement = connection.prepareStatement(target.buildInsertSql(1))) {
+            int batchRows = 0;
+            while (rows.hasNext()) {
+                Object[] row = rows.next();
+                for (int i = 0; i < row.length; i++) {
+                    target.setParameter(statement, i + 1, row[i]);
+                }
+                statement.addBatch();
+                if (++batchRows == BATCH_SIZE) {
+                    count += execute(statement);
+                    batchRows = 0;
+                }
+            }
+            if (batchRows > 0) {
+                count += execute(statement);
+            }
+        }
+        return count;
+    }
+
+    private static long execute(PreparedStatement statement) throws SQLException {
+        long count = 0;
+        for (int result : statement.executeBatch()) {
+            if (result > 0) {
+                count += result;
+            } else if (result == Statement.SUCCESS_NO_INFO) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+}
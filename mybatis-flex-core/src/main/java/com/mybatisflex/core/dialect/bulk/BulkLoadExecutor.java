@@ -0,0 +1,295 @@
+/*
+ *  Copyright (c) 2022-2025, Mybatis-Flex (fuhai999@gmail.com).
+ *  <p>
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *  <p>
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *  <p>
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package com.mybatisflex.core.dialect.bulk;
+
+import com.mybatisflex.annotation.KeyType;
+import com.mybatisflex.core.FlexGlobalConfig;
+import com.mybatisflex.core.dialect.DialectFactory;
+import com.mybatisflex.core.dialect.IDialect;
+import com.mybatisflex.core.exception.FlexExceptions;
+import com.mybatisflex.core.keygen.IKeyGenerator;
+import com.mybatisflex.core.keygen.KeyGeneratorFactory;
+import com.mybatisflex.core.keygen.MybatisKeyGeneratorUtil;
+import com.mybatisflex.core.mybatis.Mappers;
+import com.mybatisflex.core.row.Row;
+import com.mybatisflex.core.row.RowCPI;
+import com.mybatisflex.core.table.IdInfo;
+import com.mybatisflex.core.table.TableInfo;
+import com.mybatisflex.core.update.RawValue;
+import com.mybatisflex.core.util.ArrayUtil;
+import com.mybatisflex.core.util.ConvertUtil;
+import com.mybatisflex.core.util.FieldWrapper;
+import com.mybatisflex.core.util.StringUtil;
+import org.apache.ibatis.mapping.Environment;
+import org.apache.ibatis.session.Configuration;
+import org.apache.ibatis.transaction.Transaction;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 批量导入的执行器：把实体类或者 {@link Row} 转换为参数值，并交给当前方言的 {@link BulkLoader} 导入。
+ *
+ * <p>连接通过 Mapper 所在环境的 {@link org.apache.ibatis.transaction.TransactionFactory} 获取，与 Mapper 的其他方法一样参与事务：
+ * {@code Db.tx()}、{@code FlexTransactionManager} 开启的事务，以及环境使用 {@code SpringManagedTransactionFactory} 时
+ * Spring 的事务（例如 {@code DataSourceTransactionManager}）都会加入。连接不在事务中时，导入在一个独立的事务中执行，
+ * 失败时全部回滚。
+ *
+ * @author michael
+ * @since 2026-10-19
+ */
+public class BulkLoadExecutor {
+
+    private BulkLoadExecutor() {
+    }
+
+
+    /**
+     * 导入实体类。
+     *
+     * @param mapper    执行导入的 Mapper，使用其所在环境的配置、数据源和事务
+     * @param tableInfo 实体类对应的表信息
+     * @param entities  实体类
+     * @return 导入的行数
+     */
+    public static <T> long loadEntities(Object mapper, TableInfo tableInfo, Iterator<T> entities) {
+        if (!entities.hasNext()) {
+            return 0;
+        }
+
+        Configuration configuration = Mappers.getSqlSessionFactory(mapper).getConfiguration();
+        IDialect dialect = DialectFactory.getDialect();
+
+        String[] columns = tableInfo.obtainInsertColumns(null, false);
+        Map<String, String> onInsertColumns = tableInfo.getOnInsertColumns();
+        String[] expressions = new String[columns.length];
+        for (int i = 0; i < columns.length; i++) {
+            if (onInsertColumns != null && onInsertColumns.containsKey(columns[i])) {
+                expressions[i] = onInsertColumns.get(columns[i]);
+            }
+        }
+
+        BulkLoadTarget target = new BulkLoadTarget(dialect, configuration
+            , tableInfo.getSchema(), tableInfo.getTableName(), columns, expressions);
+        String[] parameterColumns = target.getParameterColumns();
+        List<KeyFiller> keyFillers = createKeyFillers(tableInfo, getGlobalConfig(configuration));
+
+        Iterator<Object[]> rows = new Iterator<Object[]>() {
+            @Override
+            public boolean hasNext() {
+                return entities.hasNext();
+            }
+
+            @Override
+            public Object[] next() {
+                T entity = entities.next();
+                tableInfo.initVersionValueIfNecessary(entity);
+                tableInfo.initTenantIdIfNecessary(entity);
+                tableInfo.initLogicDeleteValueIfNecessary(entity);
+
+                //执行 onInsert 监听器
+                tableInfo.invokeOnInsertListener(entity);
+
+                for (KeyFiller keyFiller : keyFillers) {
+                    keyFiller.fill(entity);
+                }
+
+                Object[] values = new Object[parameterColumns.length];
+                for (int i = 0; i < parameterColumns.length; i++) {
+                    values[i] = tableInfo.buildColumnSqlArg(entity, parameterColumns[i]);
+                }
+                return values;
+            }
+        };
+
+        return execute(configuration, target, rows);
+    }
+
+
+    /**
+     * 导入 {@link Row}，所有的 {@link Row} 以第一条数据的列为准。
+     *
+     * @param mapper    执行导入的 Mapper，使用其所在环境的配置、数据源和事务
+     * @param schema    模式
+     * @param tableName 表名
+     * @param rows      数据
+     * @return 导入的行数
+     */
+    public static long loadRows(Object mapper, String schema, String tableName, Iterator<Row> rows) {
+        if (!rows.hasNext()) {
+            return 0;
+        }
+
+        Row firstRow = rows.next();
+        Set<String> attrs = new LinkedHashSet<>(RowCPI.getInsertAttrs(firstRow));
+
+        Configuration configuration = Mappers.getSqlSessionFactory(mapper).getConfiguration();
+        BulkLoadTarget target = new BulkLoadTarget(DialectFactory.getDialect(), configuration
+            , schema, tableName, attrs.toArray(new String[0]), null);
+
+        Iterator<Object[]> values = new Iterator<Object[]>() {
+            private Row pending = firstRow;
+
+            @Override
+            public boolean hasNext() {
+                return pending != null || rows.hasNext();
+            }
+
+            @Override
+            public Object[] next() {
+                Row row = pending != null ? pending : rows.next();
+                pending = null;
+                Object[] rowValues = row.obtainInsertValues(attrs);
+                for (Object value : rowValues) {
+                    if (value instanceof RawValue) {
+                        throw FlexExceptions.wrap("Bulk load does not support RawValue: %s", value);
+                    }
+                }
+                return rowValues;
+            }
+        };
+
+        return execute(configuration, target, values);
+    }
+
+
+    private static long execute(Configuration configuration, BulkLoadTarget target, Iterator<Object[]> rows) {
+        // 与 Mapper 的 SqlSession 一样通过 TransactionFactory 获取连接，已开启事务时得到的是事务中的连接（autoCommit 为 false）
+        Environment environment = configuration.getEnvironment();
+        Transaction transaction = environment.getTransactionFactory().newTransaction(environment.getDataSource(), null, true);
+        Connection connection = null;
+        boolean autoCommit = false;
+        try {
+            connection = transaction.getConnection();
+            autoCommit = connection.getAutoCommit();
+            if (autoCommit) {
+                connection.setAutoCommit(false);
+            }
+
+            long count = target.getDialect().getBulkLoader().load(connection, target, rows);
+
+            if (autoCommit) {
+                connection.commit();
+            }
+            return count;
+        } catch (SQLException e) {
+            rollbackQuietly(connection, autoCommit);
+            throw FlexExceptions.wrap(e);
+        } catch (RuntimeException e) {
+            rollbackQuietly(connection, autoCommit);
+            throw e;
+        } finally {
+            try {
+                if (connection != null && autoCommit) {
+                    connection.setAutoCommit(true);
+                }
+            } catch (SQLException e) {
+                // do nothing
+            }
+            try {
+                // 事务中的连接由事务负责关闭
+                transaction.close();
+            } catch (SQLException e) {
+                // do nothing
+            }
+        }
+    }
+
+
+    private static void rollbackQuietly(Connection connection, boolean autoCommit) {
+        if (connection != null && autoCommit) {
+            try {
+                connection.rollback();
+            } catch (SQLException e) {
+                // do nothing
+            }
+        }
+    }
+
+
+    private static FlexGlobalConfig getGlobalConfig(Configuration configuration) {
+        FlexGlobalConfig globalConfig = FlexGlobalConfig.getConfig(configuration);
+        return globalConfig != null ? globalConfig : FlexGlobalConfig.getDefaultConfig();
+    }
+
+
+    private static List<KeyFiller> createKeyFillers(TableInfo tableInfo, FlexGlobalConfig globalConfig) {
+        List<KeyFiller> keyFillers = new ArrayList<>();
+        List<IdInfo> primaryKeyList = tableInfo.getPrimaryKeyList();
+        if (primaryKeyList == null) {
+            return keyFillers;
+        }
+
+        FlexGlobalConfig.KeyConfig keyConfig = globalConfig.getKeyConfig();
+        for (IdInfo idInfo : primaryKeyList) {
+            if (!ArrayUtil.contains(tableInfo.getInsertPrimaryKeys(), idInfo.getColumn())) {
+                continue;
+            }
+            KeyType keyType = MybatisKeyGeneratorUtil.getKeyType(idInfo, keyConfig);
+            IKeyGenerator keyGenerator = null;
+            if (keyType == KeyType.Generator) {
+                keyGenerator = KeyGeneratorFactory.getKeyGenerator(MybatisKeyGeneratorUtil.getKeyValue(idInfo, keyConfig));
+                if (keyGenerator == null) {
+                    throw FlexExceptions.wrap("The name of \"%s\" key generator not exist, field: %s#%s"
+                        , idInfo.getValue(), tableInfo.getEntityClass().getName(), idInfo.getProperty());
+                }
+            }
+            keyFillers.add(new KeyFiller(tableInfo, idInfo, keyType, keyGenerator));
+        }
+        return keyFillers;
+    }
+
+
+    /**
+     * 为未设置主键的实体类生成主键，序列主键需要在导入前自行设置。
+     */
+    private static class KeyFiller {
+
+        private final IdInfo idInfo;
+        private final KeyType keyType;
+        private final IKeyGenerator keyGenerator;
+        private final FieldWrapper fieldWrapper;
+        private final Class<?> entityClass;
+
+        KeyFiller(TableInfo tableInfo, IdInfo idInfo, KeyType keyType, IKeyGenerator keyGenerator) {
+            this.idInfo = idInfo;
+            this.keyType = keyType;
+            this.keyGenerator = keyGenerator;
+            this.entityClass = tableInfo.getEntityClass();
+            this.fieldWrapper = FieldWrapper.of(entityClass, idInfo.getProperty());
+        }
+
+        void fill(Object entity) {
+            Object existId = fieldWrapper.get(entity);
+            if (existId != null && !(existId instanceof String && StringUtil.noText((String) existId))) {
+                return;
+            }
+            if (keyGenerator == null) {
+                throw FlexExceptions.wrap("Bulk load requires the value of primary key %s#%s with key type: %s"
+                    , entityClass.getName(), idInfo.getProperty(), keyType);
+            }
+            Object generateId = keyGenerator.generate(entity, idInfo.getColumn());
+            fieldWrapper.set(ConvertUtil.convert(generateId, fieldWrapper.getFieldType()), entity);
+        }
+    }
+
+}
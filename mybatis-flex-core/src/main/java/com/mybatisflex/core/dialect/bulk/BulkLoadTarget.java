@@ -0,0 +1,240 @@
+/*
+ *  Copyright (c) 2022-2025, Mybatis-Flex (fuhai999@gmail.com).
+ *  <p>
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *  <p>
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *  <p>
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package com.mybatisflex.core.dialect.bulk;
+
+import com.mybatisflex.core.dialect.IDialect;
+import com.mybatisflex.core.dialect.OperateType;
+import com.mybatisflex.core.mybatis.TypeHandlerObject;
+import com.mybatisflex.core.util.StringUtil;
+import org.apache.ibatis.session.Configuration;
+import org.apache.ibatis.type.TypeHandler;
+import org.apache.ibatis.type.TypeHandlerRegistry;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.time.temporal.TemporalAccessor;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.StringJoiner;
+import java.util.UUID;
+
+import static com.mybatisflex.core.constant.SqlConsts.*;
+
+/**
+ * 批量导入的目标：表名、列，以及参数值的处理。
+ *
+ * @author michael
+ * @since 2026-10-19
+ */
+public class BulkLoadTarget {
+
+    private final IDialect dialect;
+    private final Configuration configuration;
+    private final String schema;
+    private final String table;
+    private final String[] columns;
+    private final String[] expressions;
+    private final String[] parameterColumns;
+
+    private CapturingHandler capturingHandler;
+    private PreparedStatement capturingStatement;
+
+    /**
+     * @param dialect       方言
+     * @param configuration MyBatis 配置，用于获取类型处理器
+     * @param schema        模式，可以为 {@code null}
+     * @param tableName     表名
+     * @param columns       列
+     * @param expressions   与 {@code columns} 对应的 SQL 表达式（例如 {@code @Column(onInsertValue = "now()")}），
+     *                      为 {@code null} 或者对应的元素为 {@code null} 时使用参数值
+     */
+    public BulkLoadTarget(IDialect dialect, Configuration configuration, String schema, String tableName
+        , String[] columns, String[] expressions) {
+        this.dialect = dialect;
+        this.configuration = configuration;
+        this.table = dialect.getRealTable(tableName, OperateType.INSERT);
+        this.schema = StringUtil.hasText(schema) ? dialect.getRealSchema(schema, this.table, OperateType.INSERT) : null;
+        this.columns = columns;
+        this.expressions = expressions != null ? expressions : new String[columns.length];
+
+        List<String> parameterColumnList = new ArrayList<>(columns.length);
+        for (int i = 0; i < columns.length; i++) {
+            if (this.expressions[i] == null) {
+                parameterColumnList.add(columns[i]);
+            }
+        }
+        this.parameterColumns = parameterColumnList.toArray(new String[0]);
+    }
+
+    public IDialect getDialect() {
+        return dialect;
+    }
+
+    public Configuration getConfiguration() {
+        return configuration;
+    }
+
+    public String getSchema() {
+        return schema;
+    }
+
+    public String getTable() {
+        return table;
+    }
+
+    public String[] getColumns() {
+        return columns;
+    }
+
+    /**
+     * 需要参数值的列，即除去使用 SQL 表达式的列。
+     */
+    public String[] getParameterColumns() {
+        return parameterColumns;
+    }
+
+    /**
+     * 是否有列使用 SQL 表达式，这些列无法通过 COPY、LOAD DATA 等方式导入。
+     */
+    public boolean hasExpressions() {
+        return parameterColumns.length != columns.length;
+    }
+
+    /**
+     * 获取添加了关键字包裹的表名（包含模式）。
+     */
+    public String getWrappedTable() {
+        return schema != null ? dialect.wrap(schema) + REFERENCE + dialect.wrap(table) : dialect.wrap(table);
+    }
+
+    /**
+     * 获取添加了关键字包裹并以 {@code ", "} 连接的列。
+     */
+    public String getWrappedColumns(String[] columns) {
+        StringJoiner joiner = new StringJoiner(DELIMITER);
+        for (String column : columns) {
+            joiner.add(dialect.wrap(column));
+        }
+        return joiner.toString();
+    }
+
+    /**
+     * 构建插入 {@code rowCount} 行数据的 INSERT 语句。
+     */
+    public String buildInsertSql(int rowCount) {
+        StringBuilder sql = new StringBuilder(INSERT_INTO)
+            .append(getWrappedTable())
+            .append(BRACKET_LEFT).append(getWrappedColumns(columns)).append(BRACKET_RIGHT)
+            .append(VALUES);
+
+        StringJoiner valueJoiner = new StringJoiner(DELIMITER, BRACKET_LEFT, BRACKET_RIGHT);
+        for (String expression : expressions) {
+            valueJoiner.add(expression != null ? expression : PLACEHOLDER);
+        }
+        String rowValues = valueJoiner.toString();
+        for (int i = 0; i < rowCount; i++) {
+            if (i > 0) {
+                sql.append(DELIMITER);
+            }
+            sql.append(rowValues);
+        }
+        return sql.toString();
+    }
+
+    /**
+     * 设置参数值，与 MyBatis 一样使用类型处理器。
+     */
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    public void setParameter(PreparedStatement ps, int index, Object value) throws SQLException {
+        if (value instanceof TypeHandlerObject) {
+            ((TypeHandlerObject) value).setParameter(ps, index);
+        } else if (value == null) {
+            ps.setNull(index, configuration.getJdbcTypeForNull().TYPE_CODE);
+        } else {
+            TypeHandler typeHandler = configuration.getTypeHandlerRegistry().getTypeHandler(value.getClass());
+            if (typeHandler != null) {
+                typeHandler.setParameter(ps, index, value, null);
+            } else {
+                ps.setObject(index, value);
+            }
+        }
+    }
+
+    /**
+     * 把参数值转换为 JDBC 的值（类型处理器传给 {@link PreparedStatement} 的值），用于 COPY、LOAD DATA 等文本格式的编码。
+     */
+    public Object toJdbcValue(Object value) throws SQLException {
+        if (value == null || isJdbcValue(value)) {
+            return value;
+        }
+        if (value instanceof TypeHandlerObject) {
+            return capture(value);
+        }
+        TypeHandlerRegistry registry = configuration.getTypeHandlerRegistry();
+        return registry.hasTypeHandler(value.getClass()) ? capture(value) : value;
+    }
+
+    private static boolean isJdbcValue(Object value) {
+        return value instanceof CharSequence || value instanceof Number || value instanceof Boolean
+            || value instanceof Date || value instanceof TemporalAccessor || value instanceof byte[]
+            || value instanceof UUID || value instanceof Character;
+    }
+
+    private Object capture(Object value) throws SQLException {
+        if (capturingStatement == null) {
+            capturingHandler = new CapturingHandler();
+            capturingStatement = (PreparedStatement) Proxy.newProxyInstance(PreparedStatement.class.getClassLoader()
+                , new Class[]{PreparedStatement.class}, capturingHandler);
+        }
+        capturingHandler.value = null;
+        setParameter(capturingStatement, 1, value);
+        return capturingHandler.value;
+    }
+
+
+    /**
+     * 记录类型处理器通过 {@code setXxx(index, value)} 设置的值。
+     */
+    private static class CapturingHandler implements InvocationHandler {
+
+        private Object value;
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) {
+            String name = method.getName();
+            if (name.startsWith("set") && args != null && args.length >= 2 && args[0] instanceof Integer) {
+                value = "setNull".equals(name) ? null : args[1];
+                return null;
+            }
+            Class<?> returnType = method.getReturnType();
+            if (returnType == boolean.class) {
+                return false;
+            }
+            if (returnType == int.class) {
+                return 0;
+            }
+            if (returnType == long.class) {
+                return 0L;
+            }
+            return null;
+        }
+    }
+
+}
@@ -0,0 +1,42 @@
+/*
+ *  Copyright (c) 2022-2025, Mybatis-Flex (fuhai999@gmail.com).
+ *  <p>
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *  <p>
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *  <p>
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package com.mybatisflex.core.dialect.bulk;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.Iterator;
+
+/**
+ * 批量导入数据的方式，由 {@link com.mybatisflex.core.dialect.IDialect#getBulkLoader()} 提供。
+ *
+ * <p>数据按行逐条读取，实现类不应一次性读取所有数据，以保证导入大量数据时内存占用保持稳定。
+ *
+ * @author michael
+ * @since 2026-10-19
+ */
+public interface BulkLoader {
+
+    /**
+     * 导入数据。
+     *
+     * @param connection 数据库连接，由调用方负责提交和关闭
+     * @param target     导入的表和列
+     * @param rows       每一行的参数值，与 {@link BulkLoadTarget#getParameterColumns()} 一一对应
+     * @return 导入的行数
+     */
+    long load(Connection connection, BulkLoadTarget target, Iterator<Object[]> rows) throws SQLException;
+
+}
@@ -0,0 +1,82 @@
+/*
+ *  Copyright (c) 2022-2025, Mybatis-Flex (fuhai999@gmail.com).
+ *  <p>
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *  <p>
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *  <p>
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package com.mybatisflex.core.dialect.bulk;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+
+/**
+ * 通用的批量导入：多行 {@code INSERT INTO ... VALUES (...), (...)}。
+ *
+ * <p>每条 SQL 的行数由 {@link com.mybatisflex.core.dialect.IDialect#getMaxBindParameters()} 除以列数计算，
+ * 最多缓存一条 SQL 的数据，因此内存占用与导入的总行数无关。
+ *
+ * @author michael
+ * @since 2026-10-19
+ */
+public class InsertBulkLoader implements BulkLoader {
+
+    public static final InsertBulkLoader INSTANCE = new InsertBulkLoader();
+
+    @Override
+    public long load(Connection connection, BulkLoadTarget target, Iterator<Object[]> rows) throws SQLException {
+        int parameterCount = target.getParameterColumns().length;
+        int rowsPerStatement = Math.max(1, target.getDialect().getMaxBindParameters() / Math.max(1, parameterCount));
+
+        long count = 0;
+        List<Object[]> chunk = new ArrayList<>(Math.min(rowsPerStatement, 1024));
+        PreparedStatement fullStatement = null;
+        try {
+            while (rows.hasNext()) {
+                chunk.add(rows.next());
+                if (chunk.size() == rowsPerStatement) {
+                    // 相同行数的 SQL 只预编译一次
+                    if (fullStatement == null) {
+                        fullStatement = connection.prepareStatement(target.buildInsertSql(rowsPerStatement));
+                    }
+                    count += execute(fullStatement, target, chunk);
+                    chunk.clear();
+                }
+            }
+            if (!chunk.isEmpty()) {
+                try (PreparedStatement statement = connection.prepareStatement(target.buildInsertSql(chunk.size()))) {
+                    count += execute(statement, target, chunk);
+                }
+            }
+        } finally {
+            if (fullStatement != null) {
+                fullStatement.close();
+            }
+        }
+        return count;
+    }
+
+    private static int execute(PreparedStatement statement, BulkLoadTarget target, List<Object[]> chunk) throws SQLException {
+        int index = 1;
+        for (Object[] row : chunk) {
+            for (Object value : row) {
+                target.setParameter(statement, index++, value);
+            }
+        }
+        int updateCount = statement.executeUpdate();
+        return updateCount >= 0 ? updateCount : chunk.size();
+    }
+
+}
@@ -0,0 +1,127 @@
+/*
+ *  Copyright (c) 2022-2025, Mybatis-Flex (fuhai999@gmail.com).
+ *  <p>
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *  <p>
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *  <p>
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package com.mybatisflex.core.dialect.bulk;
+
+import java.io.InputStream;
+import java.lang.reflect.InvocationTargetException;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLWarning;
+import java.sql.Statement;
+import java.util.Iterator;
+
+/**
+ * MySQL 的批量导入：{@code LOAD DATA LOCAL INFILE}，数据以文本格式逐行编码，通过 MySQL Connector/J 的
+ * {@code setLocalInfileInputStream} 以内存中的流代替本地文件。
+ *
+ * <p>需要在连接参数中配置 {@code allowLoadLocalInfile=true}，并且数据库开启了 {@code local_infile}；
+ * 连接不是 MySQL Connector/J 的连接、没有开启 {@code allowLoadLocalInfile}，或者有列使用 SQL 表达式时，
+ * 使用 {@link InsertBulkLoader}。
+ *
+ * <p>导入的行数与发送的行数不一致，或者产生了警告时抛出 {@link SQLException}。
+ *
+ * @author michael
+ * @since 2026-10-19
+ */
+public class MysqlLoadDataBulkLoader implements BulkLoader {
+
+    public static final MysqlLoadDataBulkLoader INSTANCE = new MysqlLoadDataBulkLoader();
+
+    private static final String JDBC_CONNECTION_CLASS = "com.mysql.cj.jdbc.JdbcConnection";
+    private static final String JDBC_STATEMENT_CLASS = "com.mysql.cj.jdbc.JdbcStatement";
+    private static final String PROPERTY_SET_CLASS = "com.mysql.cj.conf.PropertySet";
+    private static final String RUNTIME_PROPERTY_CLASS = "com.mysql.cj.conf.RuntimeProperty";
+    private static final int MAX_REPORTED_WARNINGS = 10;
+
+    @Override
+    public long load(Connection connection, BulkLoadTarget target, Iterator<Object[]> rows) throws SQLException {
+        if (target.hasExpressions() || !isLocalInfileAllowed(connection)) {
+            return InsertBulkLoader.INSTANCE.load(connection, target, rows);
+        }
+
+        // 使用默认的格式：字段以 tab 分隔，行以 \n 分隔，转义符为 \
+        // CHARACTER SET binary 表示不进行字符集转换，字符串已经以 UTF-8 编码
+        String sql = "LOAD DATA LOCAL INFILE 'mybatis-flex-bulk-load' INTO TABLE " + target.getWrappedTable()
+            + " CHARACTER SET binary (" + target.getWrappedColumns(target.getColumns()) + ")";
+        try (Statement statement = connection.createStatement()) {
+            Class<?> statementClass = Class.forName(JDBC_STATEMENT_CLASS);
+            Object mysqlStatement = statement.unwrap(statementClass);
+            MysqlTextInputStream in = new MysqlTextInputStream(target, rows);
+            statementClass.getMethod("setLocalInfileInputStream", InputStream.class).invoke(mysqlStatement, in);
+            long loaded = statement.executeUpdate(sql);
+            checkLoaded(loaded, in.getRowCount(), statement.getWarnings());
+            return loaded;
+        } catch (InvocationTargetException e) {
+            Throwable cause = e.getTargetException();
+            throw cause instanceof SQLException ? (SQLException) cause : new SQLException(cause);
+        } catch (ReflectiveOperationException e) {
+            throw new SQLException(e);
+        }
+    }
+
+    /**
+     * {@code LOCAL} 导入时，重复的主键以及无法转换的值只会产生警告（等同于 {@code IGNORE}），数据被跳过或者被截断，
+     * 这里与其他导入方式一样抛出异常。
+     */
+    private static void checkLoaded(long loaded, long sent, SQLWarning warning) throws SQLException {
+        if (loaded == sent && warning == null) {
+            return;
+        }
+        StringBuilder message = new StringBuilder("LOAD DATA loaded ").append(loaded).append(" of ").append(sent).append(" rows");
+        int count = 0;
+        for (SQLWarning w = warning; w != null && count < MAX_REPORTED_WARNINGS; w = w.getNextWarning(), count++) {
+            message.append(count == 0 ? ": " : "; ").append(w.getMessage());
+        }
+        throw new SQLException(message.toString(), warning != null ? warning.getSQLState() : null, warning);
+    }
+
+    private static boolean isLocalInfileAllowed(Connection connection) {
+        try {
+            Class<?> connectionClass = Class.forName(JDBC_CONNECTION_CLASS);
+            if (!connection.isWrapperFor(connectionClass)) {
+                return false;
+            }
+            Object mysqlConnection = connection.unwrap(connectionClass);
+            Object propertySet = connectionClass.getMethod("getPropertySet").invoke(mysqlConnection);
+            Object property = Class.forName(PROPERTY_SET_CLASS).getMethod("getBooleanProperty", String.class)
+                .invoke(propertySet, "allowLoadLocalInfile");
+            Object value = Class.forName(RUNTIME_PROPERTY_CLASS).getMethod("getValue").invoke(property);
+            return Boolean.TRUE.equals(value);
+        } catch (Exception e) {
+            return false;
+        }
+    }
+
+
+    static class MysqlTextInputStream extends TextRowInputStream {
+
+        MysqlTextInputStream(BulkLoadTarget target, Iterator<Object[]> rows) {
+            super(target, rows);
+        }
+
+        @Override
+        protected void writeValue(Object value) {
+            if (value instanceof Boolean) {
+                writeRaw((Boolean) value ? "1" : "0");
+            } else if (value instanceof byte[]) {
+                writeEscaped((byte[]) value);
+            } else {
+                writeText(toText(value));
+            }
+        }
+    }
+
+}
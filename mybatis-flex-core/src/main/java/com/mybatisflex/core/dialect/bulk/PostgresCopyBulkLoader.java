@@ -0,0 +1,104 @@
+/*
+ *  Copyright (c) 2022-2025, Mybatis-Flex (fuhai999@gmail.com).
+ *  <p>
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *  <p>
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *  <p>
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package com.mybatisflex.core.dialect.bulk;
+
+import java.io.InputStream;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.Iterator;
+
+/**
+ * PostgreSQL 的批量导入：{@code COPY table (columns) FROM STDIN}，数据以文本格式逐行编码后通过驱动的
+ * {@code CopyManager} 以流的方式发送。
+ *
+ * <p>连接不是 PostgreSQL 驱动（pgjdbc）的连接，或者有列使用 SQL 表达式时，使用 {@link InsertBulkLoader}。
+ *
+ * @author michael
+ * @since 2026-10-19
+ */
+public class PostgresCopyBulkLoader implements BulkLoader {
+
+    public static final PostgresCopyBulkLoader INSTANCE = new PostgresCopyBulkLoader();
+
+    private static final String PG_CONNECTION_CLASS = "org.postgresql.PGConnection";
+
+    @Override
+    public long load(Connection connection, BulkLoadTarget target, Iterator<Object[]> rows) throws SQLException {
+        Object copyManager = target.hasExpressions() ? null : getCopyManager(connection);
+        if (copyManager == null) {
+            return InsertBulkLoader.INSTANCE.load(connection, target, rows);
+        }
+
+        String sql = "COPY " + target.getWrappedTable()
+            + " (" + target.getWrappedColumns(target.getColumns()) + ") FROM STDIN";
+        try {
+            Method copyIn = copyManager.getClass().getMethod("copyIn", String.class, InputStream.class);
+            Object count = copyIn.invoke(copyManager, sql, new PostgresTextInputStream(target, rows));
+            return ((Number) count).longValue();
+        } catch (InvocationTargetException e) {
+            Throwable cause = e.getTargetException();
+            if (cause instanceof SQLException) {
+                throw (SQLException) cause;
+            }
+            throw new SQLException("Can not copy data into " + target.getWrappedTable() + ": " + cause.getMessage(), cause);
+        } catch (ReflectiveOperationException e) {
+            throw new SQLException(e);
+        }
+    }
+
+    private static Object getCopyManager(Connection connection) {
+        try {
+            Class<?> pgConnectionClass = Class.forName(PG_CONNECTION_CLASS);
+            if (!connection.isWrapperFor(pgConnectionClass)) {
+                return null;
+            }
+            Object pgConnection = connection.unwrap(pgConnectionClass);
+            return pgConnectionClass.getMethod("getCopyAPI").invoke(pgConnection);
+        } catch (Exception e) {
+            return null;
+        }
+    }
+
+
+    static class PostgresTextInputStream extends TextRowInputStream {
+
+        private static final char[] HEX = "0123456789abcdef".toCharArray();
+
+        PostgresTextInputStream(BulkLoadTarget target, Iterator<Object[]> rows) {
+            super(target, rows);
+        }
+
+        @Override
+        protected void writeValue(Object value) {
+            if (value instanceof Boolean) {
+                writeRaw((Boolean) value ? "t" : "f");
+            } else if (value instanceof byte[]) {
+                // bytea 的 hex 格式 \x...，反斜杠在 COPY 的文本格式中需要转义
+                byte[] bytes = (byte[]) value;
+                StringBuilder hex = new StringBuilder(bytes.length * 2 + 3).append("\\\\x");
+                for (byte b : bytes) {
+                    hex.append(HEX[(b >> 4) & 0xF]).append(HEX[b & 0xF]);
+                }
+                writeRaw(hex.toString());
+            } else {
+                writeText(toText(value));
+            }
+        }
+    }
+
+}
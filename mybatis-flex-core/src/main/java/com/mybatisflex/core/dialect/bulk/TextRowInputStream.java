@@ -0,0 +1,180 @@
+/*
+ *  Copyright (c) 2022-2025, Mybatis-Flex (fuhai999@gmail.com).
+ *  <p>
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *  <p>
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *  <p>
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package com.mybatisflex.core.dialect.bulk;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.util.Date;
+import java.util.Iterator;
+
+/**
+ * 把数据逐行编码为文本格式（以 tab 分隔列、换行分隔行、{@code \N} 表示 null）的输入流，
+ * 用于 PostgreSQL {@code COPY ... FROM STDIN} 以及 MySQL {@code LOAD DATA LOCAL INFILE}。
+ *
+ * <p>只有在读取时才会编码后续的数据，不会缓存全部数据。
+ *
+ * @author michael
+ * @since 2026-10-19
+ */
+abstract class TextRowInputStream extends InputStream {
+
+    private static final int ROWS_PER_FILL = 64;
+    private static final byte[] NULL = {'\\', 'N'};
+
+    private final BulkLoadTarget target;
+    private final Iterator<Object[]> rows;
+    private final ByteArrayOutputStream out = new ByteArrayOutputStream(8192);
+
+    private byte[] buffer = new byte[0];
+    private int position;
+    private long rowCount;
+
+    TextRowInputStream(BulkLoadTarget target, Iterator<Object[]> rows) {
+        this.target = target;
+        this.rows = rows;
+    }
+
+    /**
+     * 已经编码的行数。
+     */
+    long getRowCount() {
+        return rowCount;
+    }
+
+    /**
+     * 写入非 null 的值。
+     */
+    protected abstract void writeValue(Object value);
+
+    protected void writeText(String text) {
+        writeEscaped(text.getBytes(StandardCharsets.UTF_8));
+    }
+
+    protected void writeEscaped(byte[] bytes) {
+        for (byte b : bytes) {
+            switch (b) {
+                case '\\':
+                    out.write('\\');
+                    out.write('\\');
+                    break;
+                case '\t':
+                    out.write('\\');
+                    out.write('t');
+                    break;
+                case '\n':
+                    out.write('\\');
+                    out.write('n');
+                    break;
+                case '\r':
+                    out.write('\\');
+                    out.write('r');
+                    break;
+                case 0:
+                    out.write('\\');
+                    out.write('0');
+                    break;
+                default:
+                    out.write(b);
+            }
+        }
+    }
+
+    protected void writeRaw(String ascii) {
+        byte[] bytes = ascii.getBytes(StandardCharsets.US_ASCII);
+        out.write(bytes, 0, bytes.length);
+    }
+
+    /**
+     * 数字、日期等通用的文本表示。
+     */
+    protected static String toText(Object value) {
+        if (value instanceof BigDecimal) {
+            return ((BigDecimal) value).toPlainString();
+        }
+        if (value instanceof Date && !(value instanceof java.sql.Date) && !(value instanceof java.sql.Time)
+            && !(value instanceof Timestamp)) {
+            return new Timestamp(((Date) value).getTime()).toString();
+        }
+        return String.valueOf(value);
+    }
+
+    private boolean fill() throws IOException {
+        if (!rows.hasNext()) {
+            return false;
+        }
+        out.reset();
+        try {
+            for (int i = 0; i < ROWS_PER_FILL && rows.hasNext(); i++) {
+                Object[] row = rows.next();
+                rowCount++;
+                for (int j = 0; j < row.length; j++) {
+                    if (j > 0) {
+                        out.write('\t');
+                    }
+                    Object value = target.toJdbcValue(row[j]);
+                    if (value == null) {
+                        out.write(NULL, 0, NULL.length);
+                    } else {
+                        writeValue(value);
+                    }
+                }
+                out.write('\n');
+            }
+        } catch (SQLException e) {
+            throw new IOException(e);
+        }
+        buffer = out.toByteArray();
+        position = 0;
+        return true;
+    }
+
+    @Override
+    public int read() throws IOException {
+        while (position >= buffer.length) {
+            if (!fill()) {
+                return -1;
+            }
+        }
+        return buffer[position++] & 0xFF;
+    }
+
+    @Override
+    public int read(byte[] b, int off, int len) throws IOException {
+        if (len == 0) {
+            return 0;
+        }
+        while (position >= buffer.length) {
+            if (!fill()) {
+                return -1;
+            }
+        }
+        int n = Math.min(len, buffer.length - position);
+        System.arraycopy(buffer, position, b, off, n);
+        position += n;
+        return n;
+    }
+
+    @Override
+    public int available() {
+        return buffer.length - position;
+    }
+
+}
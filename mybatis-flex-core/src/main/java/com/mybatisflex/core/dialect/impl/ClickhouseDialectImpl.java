@@ -202,42 +202,19 @@ public class ClickhouseDialectImpl extends CommonsDialectImpl {
      */
     @Override
     public String forDeleteBatchByIds(String schema, String tableName, String[] primaryKeys, Object[] ids) {
-        //eg: ALTER TABLE test  DELETE WHERE CUSERID = ?
+        //eg: ALTER TABLE test  DELETE WHERE CUSERID IN (?, ?)
         String table = getRealTable(tableName, OperateType.DELETE);
-        StringBuilder sql = new StringBuilder();
-        sql.append(ALTER_TABLE);
+        StringBuilder wrapTable = new StringBuilder();
         if (StringUtil.hasText(schema)) {
-            sql.append(wrap(getRealSchema(schema, table, OperateType.DELETE))).append(REFERENCE);
+            wrapTable.append(wrap(getRealSchema(schema, table, OperateType.DELETE))).append(REFERENCE);
         }
-        sql.append(wrap(table));
+        wrapTable.append(wrap(table));
+
+        StringBuilder sql = new StringBuilder();
+        sql.append(ALTER_TABLE).append(wrapTable);
         sql.append(CK_DELETE);
         sql.append(WHERE);
-
-        // 多主键的场景
-        if (primaryKeys.length > 1) {
-            for (int i = 0; i < ids.length / primaryKeys.length; i++) {
-                if (i > 0) {
-                    sql.append(OR);
-                }
-                sql.append(BRACKET_LEFT);
-                for (int j = 0; j < primaryKeys.length; j++) {
-                    if (j > 0) {
-                        sql.append(AND);
-                    }
-                    sql.append(wrap(primaryKeys[j])).append(EQUALS_PLACEHOLDER);
-                }
-                sql.append(BRACKET_RIGHT);
-            }
-        }
-        // 单主键
-        else {
-            for (int i = 0; i < ids.length; i++) {
-                if (i > 0) {
-                    sql.append(OR);
-                }
-                sql.append(wrap(primaryKeys[0])).append(EQUALS_PLACEHOLDER);
-            }
-        }
+        buildPrimaryKeysCondition(sql, wrapTable.toString(), primaryKeys, ids.length / primaryKeys.length);
         prepareAuth(schema, table, sql, OperateType.DELETE);
         return sql.toString();
     }
@@ -261,48 +238,20 @@ public class ClickhouseDialectImpl extends CommonsDialectImpl {
 
             // 多租户
             if (ArrayUtil.isNotEmpty(tenantIdArgs)) {
-                deleteSQL = deleteSQL.replace(WHERE, WHERE + BRACKET_LEFT) + BRACKET_RIGHT;
                 deleteSQL = tableInfo.buildTenantCondition(deleteSQL, tenantIdArgs, this);
             }
             return deleteSQL;
         }
 
+        String table = tableInfo.getWrapSchemaAndTableName(this, OperateType.UPDATE);
+        String[] primaryKeys = tableInfo.getPrimaryColumns();
         StringBuilder sql = new StringBuilder();
         sql.append(ALTER_TABLE);
-        sql.append(tableInfo.getWrapSchemaAndTableName(this, OperateType.UPDATE));
+        sql.append(table);
         sql.append(CK_UPDATE).append(buildLogicDeletedSet(logicDeleteColumn, tableInfo));
         sql.append(WHERE);
-        sql.append(BRACKET_LEFT);
-
-        String[] primaryKeys = tableInfo.getPrimaryColumns();
-
-        // 多主键的场景
-        if (primaryKeys.length > 1) {
-            for (int i = 0; i < primaryValues.length / primaryKeys.length; i++) {
-                if (i > 0) {
-                    sql.append(OR);
-                }
-                sql.append(BRACKET_LEFT);
-                for (int j = 0; j < primaryKeys.length; j++) {
-                    if (j > 0) {
-                        sql.append(AND);
-                    }
-                    sql.append(wrap(primaryKeys[j])).append(EQUALS_PLACEHOLDER);
-                }
-                sql.append(BRACKET_RIGHT);
-            }
-        }
-        // 单主键
-        else {
-            for (int i = 0; i < primaryValues.length; i++) {
-                if (i > 0) {
-                    sql.append(OR);
-                }
-                sql.append(wrap(primaryKeys[0])).append(EQUALS_PLACEHOLDER);
-            }
-        }
-
-        sql.append(BRACKET_RIGHT).append(AND).append(buildLogicNormalCondition(logicDeleteColumn, tableInfo));
+        buildPrimaryKeysCondition(sql, table, primaryKeys, primaryValues.length / primaryKeys.length);
+        sql.append(AND).append(buildLogicNormalCondition(logicDeleteColumn, tableInfo));
 
         tableInfo.buildTenantCondition(sql, tenantIdArgs, this);
         prepareAuth(tableInfo, sql, OperateType.DELETE);
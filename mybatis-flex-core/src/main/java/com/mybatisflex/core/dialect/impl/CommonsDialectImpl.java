@@ -15,10 +15,15 @@
  */
 package com.mybatisflex.core.dialect.impl;
 
+import com.mybatisflex.core.dialect.DbType;
 import com.mybatisflex.core.dialect.IDialect;
 import com.mybatisflex.core.dialect.KeywordWrap;
 import com.mybatisflex.core.dialect.LimitOffsetProcessor;
 import com.mybatisflex.core.dialect.OperateType;
+import com.mybatisflex.core.dialect.bulk.BulkLoader;
+import com.mybatisflex.core.dialect.bulk.InsertBulkLoader;
+import com.mybatisflex.core.dialect.bulk.MysqlLoadDataBulkLoader;
+import com.mybatisflex.core.dialect.bulk.PostgresCopyBulkLoader;
 import com.mybatisflex.core.exception.FlexAssert;
 import com.mybatisflex.core.exception.FlexExceptions;
 import com.mybatisflex.core.exception.locale.LocalizedFormats;
@@ -47,22 +52,28 @@ import java.util.stream.Collectors;
 import java.util.stream.IntStream;
 
 import static com.mybatisflex.core.constant.SqlConsts.AND;
+import static com.mybatisflex.core.constant.SqlConsts.AS;
 import static com.mybatisflex.core.constant.SqlConsts.ASTERISK;
 import static com.mybatisflex.core.constant.SqlConsts.BLANK;
 import static com.mybatisflex.core.constant.SqlConsts.BRACKET_LEFT;
 import static com.mybatisflex.core.constant.SqlConsts.BRACKET_RIGHT;
+import static com.mybatisflex.core.constant.SqlConsts.CASE;
 import static com.mybatisflex.core.constant.SqlConsts.DELETE;
 import static com.mybatisflex.core.constant.SqlConsts.DELETE_FROM;
 import static com.mybatisflex.core.constant.SqlConsts.DELIMITER;
 import static com.mybatisflex.core.constant.SqlConsts.DUAL;
+import static com.mybatisflex.core.constant.SqlConsts.ELSE;
 import static com.mybatisflex.core.constant.SqlConsts.EMPTY;
+import static com.mybatisflex.core.constant.SqlConsts.END;
 import static com.mybatisflex.core.constant.SqlConsts.EQUALS;
 import static com.mybatisflex.core.constant.SqlConsts.EQUALS_PLACEHOLDER;
+import static com.mybatisflex.core.constant.SqlConsts.EXISTS;
 import static com.mybatisflex.core.constant.SqlConsts.FROM;
 import static com.mybatisflex.core.constant.SqlConsts.GROUP_BY;
 import static com.mybatisflex.core.constant.SqlConsts.HAVING;
 import static com.mybatisflex.core.constant.SqlConsts.HINT_END;
 import static com.mybatisflex.core.constant.SqlConsts.HINT_START;
+import static com.mybatisflex.core.constant.SqlConsts.IN;
 import static com.mybatisflex.core.constant.SqlConsts.INSERT_INTO;
 import static com.mybatisflex.core.constant.SqlConsts.OR;
 import static com.mybatisflex.core.constant.SqlConsts.ORDER_BY;
@@ -72,8 +83,11 @@ import static com.mybatisflex.core.constant.SqlConsts.SELECT;
 import static com.mybatisflex.core.constant.SqlConsts.SELECT_ALL_FROM;
 import static com.mybatisflex.core.constant.SqlConsts.SEMICOLON;
 import static com.mybatisflex.core.constant.SqlConsts.SET;
+import static com.mybatisflex.core.constant.SqlConsts.THEN;
+import static com.mybatisflex.core.constant.SqlConsts.UNION_ALL;
 import static com.mybatisflex.core.constant.SqlConsts.UPDATE;
 import static com.mybatisflex.core.constant.SqlConsts.VALUES;
+import static com.mybatisflex.core.constant.SqlConsts.WHEN;
 import static com.mybatisflex.core.constant.SqlConsts.WHERE;
 
 /**
@@ -84,6 +98,15 @@ public class CommonsDialectImpl implements IDialect {
 
     protected KeywordWrap keywordWrap = KeywordWrap.BACK_QUOTE;
     private LimitOffsetProcessor limitOffsetProcessor = LimitOffsetProcessor.MYSQL;
+    /**
+     * 方言对应的数据库类型，由 {@link com.mybatisflex.core.dialect.DialectFactory} 设置，用于选择批量操作的方式
+     */
+    protected DbType dbType;
+
+    /**
+     * 批量更新时 VALUES 列表的别名
+     */
+    private static final String UPDATE_VALUES_ALIAS = "flex_values";
 
     public CommonsDialectImpl() {
     }
@@ -97,6 +120,46 @@ public class CommonsDialectImpl implements IDialect {
         this.limitOffsetProcessor = limitOffsetProcessor;
     }
 
+    public DbType getDbType() {
+        return dbType;
+    }
+
+    public void setDbType(DbType dbType) {
+        this.dbType = dbType;
+    }
+
+    @Override
+    public int getMaxBindParameters() {
+        if (dbType == null) {
+            return DEFAULT_MAX_BIND_PARAMETERS;
+        }
+        switch (dbType) {
+            case MYSQL:
+            case MARIADB:
+                return 65535;
+            case POSTGRE_SQL:
+                return 32767;
+            case SQLITE:
+                return 999;
+            case ORACLE:
+                // IN 列表最多 1000 个表达式
+                return 1000;
+            default:
+                return DEFAULT_MAX_BIND_PARAMETERS;
+        }
+    }
+
+    @Override
+    public BulkLoader getBulkLoader() {
+        if (dbType == DbType.POSTGRE_SQL) {
+            return PostgresCopyBulkLoader.INSTANCE;
+        }
+        if (dbType == DbType.MYSQL) {
+            return MysqlLoadDataBulkLoader.INSTANCE;
+        }
+        return InsertBulkLoader.INSTANCE;
+    }
+
     @Override
     public String wrap(String keyword) {
         return ASTERISK.equals(keyword) || DUAL.equalsIgnoreCase(StringUtil.tryTrim(keyword)) ?
@@ -215,40 +278,16 @@ public class CommonsDialectImpl implements IDialect {
     public String forDeleteBatchByIds(String schema, String tableName, String[] primaryKeys, Object[] ids) {
         assertPrimaryKeysNotEmpty(primaryKeys);
         String table = getRealTable(tableName, OperateType.DELETE);
-        StringBuilder sql = new StringBuilder();
-        sql.append(DELETE_FROM);
+        StringBuilder wrapTable = new StringBuilder();
         if (StringUtil.hasText(schema)) {
-            sql.append(wrap(getRealSchema(schema, table, OperateType.DELETE))).append(REFERENCE);
+            wrapTable.append(wrap(getRealSchema(schema, table, OperateType.DELETE))).append(REFERENCE);
         }
+        wrapTable.append(wrap(table));
 
-        sql.append(wrap(table));
+        StringBuilder sql = new StringBuilder();
+        sql.append(DELETE_FROM).append(wrapTable);
         sql.append(WHERE);
-
-        // 多主键的场景
-        if (primaryKeys.length > 1) {
-            for (int i = 0; i < ids.length / primaryKeys.length; i++) {
-                if (i > 0) {
-                    sql.append(OR);
-                }
-                sql.append(BRACKET_LEFT);
-                for (int j = 0; j < primaryKeys.length; j++) {
-                    if (j > 0) {
-                        sql.append(AND);
-                    }
-                    sql.append(wrap(primaryKeys[j])).append(EQUALS_PLACEHOLDER);
-                }
-                sql.append(BRACKET_RIGHT);
-            }
-        }
-        // 单主键
-        else {
-            for (int i = 0; i < ids.length; i++) {
-                if (i > 0) {
-                    sql.append(OR);
-                }
-                sql.append(wrap(primaryKeys[0])).append(EQUALS_PLACEHOLDER);
-            }
-        }
+        buildPrimaryKeysCondition(sql, wrapTable.toString(), primaryKeys, ids.length / primaryKeys.length);
         prepareAuth(schema, table, sql, OperateType.DELETE);
         return sql.toString();
     }
@@ -745,46 +784,19 @@ public class CommonsDialectImpl implements IDialect {
 
             // 多租户
             if (ArrayUtil.isNotEmpty(tenantIdArgs)) {
-                deleteSQL = deleteSQL.replace(WHERE, WHERE + BRACKET_LEFT) + BRACKET_RIGHT;
                 deleteSQL = tableInfo.buildTenantCondition(deleteSQL, tenantIdArgs, this);
             }
             return deleteSQL;
         }
 
+        String table = tableInfo.getWrapSchemaAndTableName(this, OperateType.UPDATE);
         StringBuilder sql = new StringBuilder();
         sql.append(UPDATE);
-        sql.append(tableInfo.getWrapSchemaAndTableName(this, OperateType.UPDATE));
+        sql.append(table);
         sql.append(SET).append(buildLogicDeletedSet(logicDeleteColumn, tableInfo));
         sql.append(WHERE);
-        sql.append(BRACKET_LEFT);
-
-        // 多主键的场景
-        if (primaryKeys.length > 1) {
-            for (int i = 0; i < primaryValues.length / primaryKeys.length; i++) {
-                if (i > 0) {
-                    sql.append(OR);
-                }
-                sql.append(BRACKET_LEFT);
-                for (int j = 0; j < primaryKeys.length; j++) {
-                    if (j > 0) {
-                        sql.append(AND);
-                    }
-                    sql.append(wrap(primaryKeys[j])).append(EQUALS_PLACEHOLDER);
-                }
-                sql.append(BRACKET_RIGHT);
-            }
-        }
-        // 单主键
-        else {
-            for (int i = 0; i < primaryValues.length; i++) {
-                if (i > 0) {
-                    sql.append(OR);
-                }
-                sql.append(wrap(primaryKeys[0])).append(EQUALS_PLACEHOLDER);
-            }
-        }
-
-        sql.append(BRACKET_RIGHT).append(AND).append(buildLogicNormalCondition(logicDeleteColumn, tableInfo));
+        buildPrimaryKeysCondition(sql, table, primaryKeys, primaryValues.length / primaryKeys.length);
+        sql.append(AND).append(buildLogicNormalCondition(logicDeleteColumn, tableInfo));
 
         tableInfo.buildTenantCondition(sql, tenantIdArgs, this);
         prepareAuth(tableInfo, sql, OperateType.DELETE);
@@ -893,6 +905,367 @@ public class CommonsDialectImpl implements IDialect {
         return sql.toString();
     }
 
+    @Override
+    public String forUpdateEntityBatchById(TableInfo tableInfo, List<?> entities, boolean ignoreNulls, List<Object> sqlArgs) {
+        String[] primaryKeys = tableInfo.getPrimaryColumns();
+        assertPrimaryKeysNotEmpty(primaryKeys);
+
+        List<Object[]> primaryValues = new ArrayList<>(entities.size());
+        List<Map<String, Object>> updateValues = new ArrayList<>(entities.size());
+        Set<String> allUpdateColumns = new HashSet<>();
+        for (Object entity : entities) {
+            primaryValues.add(tableInfo.buildPkSqlArgs(entity));
+            Map<String, Object> values = tableInfo.obtainUpdateValues(entity, ignoreNulls);
+            updateValues.add(values);
+            allUpdateColumns.addAll(values.keySet());
+        }
+
+        // 按照表字段的顺序排列，保证不同批次的数据生成相同的 SQL
+        Set<String> updateColumns = new LinkedHashSet<>();
+        for (String column : tableInfo.getColumns()) {
+            if (allUpdateColumns.contains(column)) {
+                updateColumns.add(column);
+            }
+        }
+        updateColumns.addAll(allUpdateColumns);
+
+        // 乐观锁字段
+        Object[] versionValues = null;
+        String versionColumn = tableInfo.getOptimisticLockColumnOrSkip();
+        if (StringUtil.hasText(versionColumn)) {
+            versionValues = new Object[entities.size()];
+            for (int i = 0; i < entities.size(); i++) {
+                versionValues[i] = tableInfo.buildColumnSqlArg(entities.get(i), versionColumn);
+                if (versionValues[i] == null) {
+                    throw FlexExceptions.wrap(LocalizedFormats.ENTITY_VERSION_NULL, entities.get(i));
+                }
+            }
+        }
+
+        Map<String, String> onUpdateColumns = tableInfo.getOnUpdateColumns();
+        if (updateColumns.isEmpty() && versionValues == null && (onUpdateColumns == null || onUpdateColumns.isEmpty())) {
+            throw FlexExceptions.wrap("There is no column to update for entities of %s", tableInfo.getEntityClass().getName());
+        }
+
+        // 每条数据更新的字段都相同时，才能使用 VALUES 列表的方式更新
+        boolean sameColumns = true;
+        for (Map<String, Object> values : updateValues) {
+            if (values.size() != updateColumns.size() || values.values().stream().anyMatch(RawValue.class::isInstance)) {
+                sameColumns = false;
+                break;
+            }
+        }
+
+        // PostgreSQL 的 VALUES 列表中未指定类型的参数（例如日期、null）会被推断为 text，无法赋值给其他类型的字段，因此使用 CASE 的方式更新
+        if (sameColumns && (dbType == DbType.SQLSERVER || dbType == DbType.MYSQL || dbType == DbType.MARIADB)) {
+            return buildUpdateBatchByValues(tableInfo, primaryValues, updateColumns, updateValues, versionValues, sqlArgs);
+        }
+        return buildUpdateBatchByCase(tableInfo, primaryValues, updateColumns, updateValues, versionValues, sqlArgs);
+    }
+
+    /**
+     * 通用的批量更新：{@code UPDATE t SET c = CASE pk WHEN ? THEN ? ... END WHERE pk IN (...)}。
+     * PostgreSQL 下总是添加 {@code ELSE c}，使 CASE 中未指定类型的参数按照字段的类型推断。
+     */
+    protected String buildUpdateBatchByCase(TableInfo tableInfo, List<Object[]> primaryValues, Set<String> updateColumns
+        , List<Map<String, Object>> updateValues, Object[] versionValues, List<Object> sqlArgs) {
+        String[] primaryKeys = tableInfo.getPrimaryColumns();
+        StringBuilder sql = new StringBuilder();
+        sql.append(UPDATE).append(tableInfo.getWrapSchemaAndTableName(this, OperateType.UPDATE)).append(SET);
+
+        StringJoiner stringJoiner = new StringJoiner(DELIMITER);
+        for (String updateColumn : updateColumns) {
+            StringBuilder caseSql = new StringBuilder();
+            boolean hasMissing = false;
+            for (int i = 0; i < primaryValues.size(); i++) {
+                Map<String, Object> values = updateValues.get(i);
+                if (!values.containsKey(updateColumn)) {
+                    hasMissing = true;
+                    continue;
+                }
+                appendCaseWhen(caseSql, primaryKeys, primaryValues.get(i), sqlArgs);
+                Object value = values.get(updateColumn);
+                if (value instanceof RawValue) {
+                    caseSql.append(THEN).append(((RawValue) value).toSql(this));
+                    sqlArgs.addAll(Arrays.asList(((RawValue) value).getParams()));
+                } else {
+                    caseSql.append(THEN).append(PLACEHOLDER);
+                    sqlArgs.add(value);
+                }
+            }
+            // 忽略 null 值时，没有该字段的数据保持原值
+            if (hasMissing || dbType == DbType.POSTGRE_SQL) {
+                caseSql.append(ELSE).append(wrap(updateColumn));
+            }
+            stringJoiner.add(wrap(updateColumn) + EQUALS + buildCaseStart(primaryKeys) + caseSql + END);
+        }
+        appendOnUpdateAndVersionColumns(stringJoiner, tableInfo, versionValues != null);
+        sql.append(stringJoiner);
+
+        sql.append(WHERE);
+        appendPrimaryKeysInCondition(sql, tableInfo.getWrapSchemaAndTableName(this, OperateType.UPDATE), primaryKeys, primaryValues, sqlArgs);
+        appendUpdateBatchConditions(sql, tableInfo, sqlArgs);
+
+        // 乐观锁条件
+        if (versionValues != null) {
+            StringBuilder caseSql = new StringBuilder(buildCaseStart(primaryKeys));
+            for (int i = 0; i < primaryValues.size(); i++) {
+                appendCaseWhen(caseSql, primaryKeys, primaryValues.get(i), sqlArgs);
+                caseSql.append(THEN).append(PLACEHOLDER);
+                sqlArgs.add(versionValues[i]);
+            }
+            sql.append(AND).append(wrap(tableInfo.getVersionColumn())).append(EQUALS).append(caseSql).append(END);
+        }
+
+        prepareAuth(tableInfo, sql, OperateType.UPDATE);
+        return sql.toString();
+    }
+
+    /**
+     * 通过 VALUES 列表关联更新，SQL Server 使用 {@code UPDATE ... FROM t, (VALUES ...)}，
+     * MySQL 使用多表更新 {@code UPDATE t, (SELECT ... UNION ALL ...) SET ...}
+     */
+    protected String buildUpdateBatchByValues(TableInfo tableInfo, List<Object[]> primaryValues, Set<String> updateColumns
+        , List<Map<String, Object>> updateValues, Object[] versionValues, List<Object> sqlArgs) {
+        String[] primaryKeys = tableInfo.getPrimaryColumns();
+        String table = tableInfo.getWrapSchemaAndTableName(this, OperateType.UPDATE);
+        int columnCount = primaryKeys.length + updateColumns.size() + (versionValues != null ? 1 : 0);
+        boolean isMysql = dbType == DbType.MYSQL || dbType == DbType.MARIADB;
+
+        // VALUES 的列名不能和表的列名相同，否则条件中的列名会有歧义
+        String[] valueAliases = new String[columnCount];
+        for (int i = 0; i < columnCount; i++) {
+            valueAliases[i] = UPDATE_VALUES_ALIAS + "_" + i;
+        }
+
+        StringJoiner setJoiner = new StringJoiner(DELIMITER);
+        int aliasIndex = primaryKeys.length;
+        for (String updateColumn : updateColumns) {
+            setJoiner.add(wrap(updateColumn) + EQUALS + UPDATE_VALUES_ALIAS + REFERENCE + valueAliases[aliasIndex++]);
+        }
+        appendOnUpdateAndVersionColumns(setJoiner, tableInfo, versionValues != null);
+
+        StringBuilder valuesSql = new StringBuilder(BRACKET_LEFT);
+        for (int i = 0; i < primaryValues.size(); i++) {
+            StringJoiner rowJoiner = new StringJoiner(DELIMITER);
+            List<Object> rowValues = new ArrayList<>(columnCount);
+            rowValues.addAll(Arrays.asList(primaryValues.get(i)));
+            rowValues.addAll(updateValues.get(i).values());
+            if (versionValues != null) {
+                rowValues.add(versionValues[i]);
+            }
+            for (int j = 0; j < rowValues.size(); j++) {
+                rowJoiner.add(isMysql && i == 0 ? PLACEHOLDER + AS + valueAliases[j] : PLACEHOLDER);
+            }
+            sqlArgs.addAll(rowValues);
+
+            if (isMysql) {
+                valuesSql.append(i == 0 ? SELECT : UNION_ALL + SELECT).append(rowJoiner);
+            } else {
+                valuesSql.append(i == 0 ? VALUES.trim() + BLANK : DELIMITER).append(BRACKET_LEFT).append(rowJoiner).append(BRACKET_RIGHT);
+            }
+        }
+        valuesSql.append(BRACKET_RIGHT).append(AS).append(UPDATE_VALUES_ALIAS);
+        if (!isMysql) {
+            valuesSql.append(BLANK).append(BRACKET_LEFT).append(String.join(DELIMITER, valueAliases)).append(BRACKET_RIGHT);
+        }
+
+        StringBuilder sql = new StringBuilder(UPDATE);
+        if (isMysql) {
+            sql.append(table).append(DELIMITER).append(valuesSql).append(SET).append(setJoiner);
+        } else {
+            sql.append(table).append(SET).append(setJoiner).append(FROM).append(table).append(DELIMITER).append(valuesSql);
+        }
+
+        sql.append(WHERE);
+        for (int i = 0; i < primaryKeys.length; i++) {
+            if (i > 0) {
+                sql.append(AND);
+            }
+            sql.append(table).append(REFERENCE).append(wrap(primaryKeys[i]))
+                .append(EQUALS).append(UPDATE_VALUES_ALIAS).append(REFERENCE).append(valueAliases[i]);
+        }
+        appendUpdateBatchConditions(sql, tableInfo, sqlArgs);
+
+        // 乐观锁条件
+        if (versionValues != null) {
+            sql.append(AND).append(table).append(REFERENCE).append(wrap(tableInfo.getVersionColumn()))
+                .append(EQUALS).append(UPDATE_VALUES_ALIAS).append(REFERENCE).append(valueAliases[columnCount - 1]);
+        }
+
+        prepareAuth(tableInfo, sql, OperateType.UPDATE);
+        return sql.toString();
+    }
+
+    private String buildCaseStart(String[] primaryKeys) {
+        return primaryKeys.length == 1 ? CASE + BLANK + wrap(primaryKeys[0]) : CASE;
+    }
+
+    private void appendCaseWhen(StringBuilder caseSql, String[] primaryKeys, Object[] primaryValues, List<Object> sqlArgs) {
+        caseSql.append(WHEN);
+        if (primaryKeys.length == 1) {
+            caseSql.append(PLACEHOLDER);
+        } else {
+            for (int i = 0; i < primaryKeys.length; i++) {
+                if (i > 0) {
+                    caseSql.append(AND);
+                }
+                caseSql.append(wrap(primaryKeys[i])).append(EQUALS).append(PLACEHOLDER);
+            }
+        }
+        sqlArgs.addAll(Arrays.asList(primaryValues));
+    }
+
+    private void appendOnUpdateAndVersionColumns(StringJoiner stringJoiner, TableInfo tableInfo, boolean withVersion) {
+        Map<String, String> onUpdateColumns = tableInfo.getOnUpdateColumns();
+        if (onUpdateColumns != null && !onUpdateColumns.isEmpty()) {
+            onUpdateColumns.forEach((column, value) -> stringJoiner.add(wrap(column) + EQUALS + value));
+        }
+
+        // 乐观锁字段
+        if (withVersion) {
+            String versionColumn = tableInfo.getVersionColumn();
+            stringJoiner.add(wrap(versionColumn) + EQUALS + wrap(versionColumn) + " + 1 ");
+        }
+    }
+
+    private void appendPrimaryKeysInCondition(StringBuilder sql, String table, String[] primaryKeys, List<Object[]> primaryValues, List<Object> sqlArgs) {
+        buildPrimaryKeysCondition(sql, table, primaryKeys, primaryValues.size());
+        for (Object[] values : primaryValues) {
+            sqlArgs.addAll(Arrays.asList(values));
+        }
+    }
+
+    @Override
+    public String forPrimaryKeysCondition(String table, String[] primaryKeys, int rowCount) {
+        StringBuilder sql = new StringBuilder();
+        buildPrimaryKeysCondition(sql, table, primaryKeys, rowCount);
+        return sql.toString();
+    }
+
+    /**
+     * 构建根据主键查询、删除多条数据的条件，参数的顺序和主键值一致（复合主键为 a, b, a, b ...），且构建的条件是一个整体，可以直接拼接其他条件。
+     *
+     * <ul>
+     *     <li>单个主键值：{@code pk = ?}</li>
+     *     <li>单主键：{@code pk IN (?, ?)}</li>
+     *     <li>复合主键，PostgreSQL：{@code (a, b) IN (VALUES (?, ?), (?, ?))}</li>
+     *     <li>复合主键，SQL Server：{@code EXISTS (SELECT 1 FROM (VALUES (?, ?), (?, ?)) AS flex_values (flex_values_0, flex_values_1) WHERE t.a = flex_values.flex_values_0 AND ...)}</li>
+     *     <li>复合主键，支持行值表达式的数据库：{@code (a, b) IN ((?, ?), (?, ?))}</li>
+     *     <li>复合主键，其他数据库：{@code ((a = ? AND b = ?) OR (a = ? AND b = ?))}</li>
+     * </ul>
+     *
+     * @param sql         SQL 语句
+     * @param table       已经处理过的表名（包含 schema），用于关联子查询
+     * @param primaryKeys 主键列
+     * @param rowCount    主键值的数量（复合主键为组数）
+     */
+    protected void buildPrimaryKeysCondition(StringBuilder sql, String table, String[] primaryKeys, int rowCount) {
+        if (primaryKeys.length == 1) {
+            sql.append(wrap(primaryKeys[0]));
+            if (rowCount == 1) {
+                sql.append(EQUALS_PLACEHOLDER);
+            } else {
+                sql.append(IN).append(SqlUtil.buildSqlParamPlaceholder(rowCount));
+            }
+            return;
+        }
+
+        String rowPlaceholder = SqlUtil.buildSqlParamPlaceholder(primaryKeys.length);
+        StringJoiner rowsJoiner = new StringJoiner(DELIMITER);
+        for (int i = 0; i < rowCount; i++) {
+            rowsJoiner.add(rowPlaceholder);
+        }
+
+        if (dbType == DbType.SQLSERVER) {
+            String[] valueAliases = new String[primaryKeys.length];
+            for (int i = 0; i < primaryKeys.length; i++) {
+                valueAliases[i] = UPDATE_VALUES_ALIAS + "_" + i;
+            }
+            sql.append(EXISTS).append(BRACKET_LEFT).append(SELECT).append("1").append(FROM)
+                .append(BRACKET_LEFT).append(VALUES.trim()).append(BLANK).append(rowsJoiner).append(BRACKET_RIGHT)
+                .append(AS).append(UPDATE_VALUES_ALIAS).append(BLANK)
+                .append(BRACKET_LEFT).append(String.join(DELIMITER, valueAliases)).append(BRACKET_RIGHT)
+                .append(WHERE);
+            for (int i = 0; i < primaryKeys.length; i++) {
+                if (i > 0) {
+                    sql.append(AND);
+                }
+                sql.append(table).append(REFERENCE).append(wrap(primaryKeys[i]))
+                    .append(EQUALS).append(UPDATE_VALUES_ALIAS).append(REFERENCE).append(valueAliases[i]);
+            }
+            sql.append(BRACKET_RIGHT);
+            return;
+        }
+
+        if (isSupportRowValueIn()) {
+            StringJoiner columnsJoiner = new StringJoiner(DELIMITER, BRACKET_LEFT, BRACKET_RIGHT);
+            for (String primaryKey : primaryKeys) {
+                columnsJoiner.add(wrap(primaryKey));
+            }
+            sql.append(columnsJoiner).append(IN).append(BRACKET_LEFT);
+            if (dbType == DbType.POSTGRE_SQL) {
+                sql.append(VALUES.trim()).append(BLANK);
+            }
+            sql.append(rowsJoiner).append(BRACKET_RIGHT);
+            return;
+        }
+
+        sql.append(BRACKET_LEFT);
+        for (int i = 0; i < rowCount; i++) {
+            if (i > 0) {
+                sql.append(OR);
+            }
+            sql.append(BRACKET_LEFT);
+            for (int j = 0; j < primaryKeys.length; j++) {
+                if (j > 0) {
+                    sql.append(AND);
+                }
+                sql.append(wrap(primaryKeys[j])).append(EQUALS_PLACEHOLDER);
+            }
+            sql.append(BRACKET_RIGHT);
+        }
+        sql.append(BRACKET_RIGHT);
+    }
+
+    /**
+     * 是否支持 {@code (a, b) IN ((?, ?), (?, ?))} 形式的行值表达式。
+     */
+    protected boolean isSupportRowValueIn() {
+        if (dbType == null) {
+            return false;
+        }
+        switch (dbType) {
+            case MYSQL:
+            case MARIADB:
+            case POSTGRE_SQL:
+            case ORACLE:
+            case H2:
+            case DB2:
+            case SQLITE:
+            case HSQL:
+            case CLICK_HOUSE:
+                return true;
+            default:
+                return false;
+        }
+    }
+
+    private void appendUpdateBatchConditions(StringBuilder sql, TableInfo tableInfo, List<Object> sqlArgs) {
+        // 逻辑删除条件，已删除的数据不能被修改
+        String logicDeleteColumn = tableInfo.getLogicDeleteColumnOrSkip();
+        if (StringUtil.hasText(logicDeleteColumn)) {
+            sql.append(AND).append(buildLogicNormalCondition(logicDeleteColumn, tableInfo));
+        }
+
+        // 租户ID字段
+        Object[] tenantIdArgs = tableInfo.buildTenantIdArgs();
+        tableInfo.buildTenantCondition(sql, tenantIdArgs, this);
+        if (ArrayUtil.isNotEmpty(tenantIdArgs)) {
+            sqlArgs.addAll(Arrays.asList(tenantIdArgs));
+        }
+    }
+
     @Override
     public String forUpdateEntityByQuery(TableInfo tableInfo, Object entity, boolean ignoreNulls, QueryWrapper queryWrapper) {
         prepareAuth(queryWrapper, OperateType.UPDATE);
@@ -994,50 +1367,17 @@ public class CommonsDialectImpl implements IDialect {
 
     @Override
     public String forSelectEntityListByIds(TableInfo tableInfo, Object[] primaryValues) {
+        String table = tableInfo.getWrapSchemaAndTableName(this, OperateType.SELECT);
         StringBuilder sql = new StringBuilder();
         buildSelectColumnSql(sql, null, tableInfo.getDefaultQueryColumn(), null);
-        sql.append(FROM).append(tableInfo.getWrapSchemaAndTableName(this, OperateType.SELECT));
+        sql.append(FROM).append(table);
         sql.append(WHERE);
         String[] primaryKeys = tableInfo.getPrimaryColumns();
         assertPrimaryKeysNotEmpty(primaryKeys);
+        buildPrimaryKeysCondition(sql, table, primaryKeys, primaryValues.length / primaryKeys.length);
 
         String logicDeleteColumn = tableInfo.getLogicDeleteColumnOrSkip();
         Object[] tenantIdArgs = tableInfo.buildTenantIdArgs();
-        if (StringUtil.hasText(logicDeleteColumn) || ArrayUtil.isNotEmpty(tenantIdArgs)) {
-            sql.append(BRACKET_LEFT);
-        }
-
-        // 多主键的场景
-        if (primaryKeys.length > 1) {
-            for (int i = 0; i < primaryValues.length / primaryKeys.length; i++) {
-                if (i > 0) {
-                    sql.append(OR);
-                }
-                sql.append(BRACKET_LEFT);
-                for (int j = 0; j < primaryKeys.length; j++) {
-                    if (j > 0) {
-                        sql.append(AND);
-                    }
-                    sql.append(wrap(primaryKeys[j])).append(EQUALS_PLACEHOLDER);
-                }
-                sql.append(BRACKET_RIGHT);
-            }
-        }
-        // 单主键
-        else {
-            for (int i = 0; i < primaryValues.length; i++) {
-                if (i > 0) {
-                    sql.append(OR);
-                }
-                sql.append(wrap(primaryKeys[0])).append(EQUALS_PLACEHOLDER);
-            }
-        }
-
-        if (StringUtil.hasText(logicDeleteColumn) || ArrayUtil.isNotEmpty(tenantIdArgs)) {
-            sql.append(BRACKET_RIGHT);
-        }
-
-
         if (StringUtil.hasText(logicDeleteColumn)) {
             sql.append(AND).append(buildLogicNormalCondition(logicDeleteColumn, tableInfo));
         }
@@ -19,6 +19,8 @@ import com.mybatisflex.core.constant.SqlConsts;
 import com.mybatisflex.core.dialect.KeywordWrap;
 import com.mybatisflex.core.dialect.LimitOffsetProcessor;
 import com.mybatisflex.core.dialect.OperateType;
+import com.mybatisflex.core.dialect.bulk.BatchInsertBulkLoader;
+import com.mybatisflex.core.dialect.bulk.BulkLoader;
 import com.mybatisflex.core.row.Row;
 import com.mybatisflex.core.row.RowCPI;
 import com.mybatisflex.core.table.TableInfo;
@@ -181,4 +183,12 @@ public class OracleDialect extends CommonsDialectImpl {
         return sql.append(INSERT_ALL_END).toString();
     }
 
+    /**
+     * Oracle 不支持多行 VALUES，使用 JDBC 批处理导入数据。
+     */
+    @Override
+    public BulkLoader getBulkLoader() {
+        return BatchInsertBulkLoader.INSTANCE;
+    }
+
 }
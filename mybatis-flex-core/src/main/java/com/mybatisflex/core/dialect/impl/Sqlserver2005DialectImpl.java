@@ -17,6 +17,8 @@ package com.mybatisflex.core.dialect.impl;
 
 import com.mybatisflex.core.dialect.KeywordWrap;
 import com.mybatisflex.core.dialect.LimitOffsetProcessor;
+import com.mybatisflex.core.dialect.bulk.BatchInsertBulkLoader;
+import com.mybatisflex.core.dialect.bulk.BulkLoader;
 import com.mybatisflex.core.util.CollectionUtil;
 
 import java.util.Set;
@@ -62,5 +64,12 @@ public class Sqlserver2005DialectImpl extends CommonsDialectImpl {
         return ASTERISK.equals(keyword) ? keyword : keywordWrap.wrap4Sqlserver(keyword);
     }
 
-}
+    /**
+     * SQL Server 驱动开启 {@code useBulkCopyForBatchInsert} 后，JDBC 批处理会转换为 Bulk Copy 执行。
+     */
+    @Override
+    public BulkLoader getBulkLoader() {
+        return BatchInsertBulkLoader.INSTANCE;
+    }
 
+}
@@ -15,10 +15,24 @@
  */
 package com.mybatisflex.core.handler;
 
+import com.mybatisflex.core.exception.FlexExceptions;
 import com.mybatisflex.core.util.StringUtil;
 import org.apache.ibatis.type.BaseTypeHandler;
 import org.apache.ibatis.type.JdbcType;
 
+import java.io.ByteArrayInputStream;
+import java.io.CharArrayReader;
+import java.io.CharArrayWriter;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.PushbackInputStream;
+import java.io.PushbackReader;
+import java.io.Reader;
+import java.io.Writer;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Method;
+import java.nio.charset.StandardCharsets;
 import java.sql.CallableStatement;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
@@ -26,31 +40,324 @@ import java.sql.SQLException;
 
 public abstract class BaseJsonTypeHandler<T> extends BaseTypeHandler<T> {
 
+    /**
+     * JSON 列的读写方式。
+     */
+    public enum StreamMode {
+
+        /**
+         * 通过 {@code getString}/{@code setString} 读写，默认方式。
+         */
+        STRING,
+
+        /**
+         * 通过 {@code getCharacterStream}/{@code setCharacterStream} 读写，适用于 CLOB/TEXT 等大文本列。
+         * 读取时直接从字符流中解析；写入时通过 {@link BaseJsonTypeHandler#toJson(Object, Writer)} 序列化到内存的字符缓冲区后再传给驱动，
+         * 不会生成中间字符串，但仍需在内存中保存完整的 JSON 内容。
+         */
+        CHARACTER,
+
+        /**
+         * 通过 {@code getBinaryStream} 以 UTF-8 字节读取，解析时不再生成中间字符串；写入时只有 jdbcType 为二进制类型
+         * （BINARY、VARBINARY、LONGVARBINARY、BLOB）才使用 {@code setBytes}，否则使用 {@code setString}，
+         * 因为 MySQL 等数据库的 JSON 列不接受二进制参数。
+         */
+        BINARY
+
+    }
+
+    private static final String PG_OBJECT_CLASS = "org.postgresql.util.PGobject";
+    private static final String PG_STATEMENT_CLASS = "org.postgresql.PGStatement";
+
+    private static volatile StreamMode defaultStreamMode = StreamMode.STRING;
+
+    private static volatile String pgObjectType = "jsonb";
+
+    private static volatile PgObjectAccessors pgObjectAccessors;
+
     @Override
     public void setNonNullParameter(PreparedStatement ps, int i, T parameter, JdbcType jdbcType) throws SQLException {
-        ps.setString(i, toJson(parameter));
+        // PostgreSQL 的 json/jsonb 列，需要以 PGobject 类型的参数传递
+        if (jdbcType == JdbcType.OTHER && isPostgresStatement(ps)) {
+            setPgObjectParameter(ps, i, toJson(parameter));
+            return;
+        }
+        switch (getStreamMode()) {
+            case CHARACTER:
+                JsonCharBuffer buffer = new JsonCharBuffer();
+                try {
+                    toJson(parameter, buffer);
+                } catch (IOException e) {
+                    throw FlexExceptions.wrap(e, "Can not convert object to Json by %s", getClass().getSimpleName());
+                }
+                ps.setCharacterStream(i, buffer.toReader(), buffer.size());
+                break;
+            case BINARY:
+                if (isBinaryType(jdbcType)) {
+                    ps.setBytes(i, toJsonBytes(parameter));
+                } else {
+                    ps.setString(i, toJson(parameter));
+                }
+                break;
+            default:
+                ps.setString(i, toJson(parameter));
+        }
     }
 
     @Override
     public T getNullableResult(ResultSet rs, String columnName) throws SQLException {
-        final String json = rs.getString(columnName);
-        return StringUtil.noText(json) ? null : parseJson(json);
+        switch (getStreamMode()) {
+            case CHARACTER:
+                return parseReader(rs.getCharacterStream(columnName));
+            case BINARY:
+                return parseInputStream(rs.getBinaryStream(columnName));
+            default:
+                final String json = rs.getString(columnName);
+                return StringUtil.noText(json) ? null : parseJson(json);
+        }
     }
 
     @Override
     public T getNullableResult(ResultSet rs, int columnIndex) throws SQLException {
-        final String json = rs.getString(columnIndex);
-        return StringUtil.noText(json) ? null : parseJson(json);
+        switch (getStreamMode()) {
+            case CHARACTER:
+                return parseReader(rs.getCharacterStream(columnIndex));
+            case BINARY:
+                return parseInputStream(rs.getBinaryStream(columnIndex));
+            default:
+                final String json = rs.getString(columnIndex);
+                return StringUtil.noText(json) ? null : parseJson(json);
+        }
     }
 
     @Override
     public T getNullableResult(CallableStatement cs, int columnIndex) throws SQLException {
-        final String json = cs.getString(columnIndex);
-        return StringUtil.noText(json) ? null : parseJson(json);
+        switch (getStreamMode()) {
+            case CHARACTER:
+                return parseReader(cs.getCharacterStream(columnIndex));
+            case BINARY:
+                byte[] bytes = cs.getBytes(columnIndex);
+                return bytes == null ? null : parseInputStream(new ByteArrayInputStream(bytes));
+            default:
+                final String json = cs.getString(columnIndex);
+                return StringUtil.noText(json) ? null : parseJson(json);
+        }
     }
 
     protected abstract T parseJson(String json);
 
     protected abstract String toJson(T object);
 
+    /**
+     * 从字符流中解析 JSON，默认读取为字符串后再解析，子类可以重写为流式解析。
+     *
+     * @param reader 字符流
+     * @return 解析结果
+     */
+    protected T parseJson(Reader reader) throws IOException {
+        StringBuilder json = new StringBuilder();
+        char[] buffer = new char[4096];
+        int len;
+        while ((len = reader.read(buffer)) != -1) {
+            json.append(buffer, 0, len);
+        }
+        return parseJson(json.toString());
+    }
+
+    /**
+     * 从 UTF-8 字节流中解析 JSON，默认转换为字符流解析，子类可以重写为直接解析字节。
+     *
+     * @param inputStream 字节流
+     * @return 解析结果
+     */
+    protected T parseJson(InputStream inputStream) throws IOException {
+        return parseJson(new InputStreamReader(inputStream, StandardCharsets.UTF_8));
+    }
+
+    /**
+     * 把对象序列化到字符流中，默认序列化为字符串后再写入，子类可以重写为直接输出到字符流。
+     *
+     * @param object 对象
+     * @param writer 字符流
+     */
+    protected void toJson(T object, Writer writer) throws IOException {
+        writer.write(toJson(object));
+    }
+
+    /**
+     * 把对象序列化为 UTF-8 字节，子类可以重写为直接输出字节。
+     *
+     * @param object 对象
+     * @return JSON 字节
+     */
+    protected byte[] toJsonBytes(T object) {
+        return toJson(object).getBytes(StandardCharsets.UTF_8);
+    }
+
+    /**
+     * 当前处理器的读写方式，默认使用全局配置 {@link #setDefaultStreamMode(StreamMode)}。
+     *
+     * @return 读写方式
+     */
+    protected StreamMode getStreamMode() {
+        return defaultStreamMode;
+    }
+
+    private T parseReader(Reader reader) {
+        if (reader == null) {
+            return null;
+        }
+        try (PushbackReader pushbackReader = new PushbackReader(reader)) {
+            int c;
+            do {
+                c = pushbackReader.read();
+            } while (c != -1 && Character.isWhitespace(c));
+            // 空白内容与 getString 的处理方式保持一致
+            if (c == -1) {
+                return null;
+            }
+            pushbackReader.unread(c);
+            return parseJson(pushbackReader);
+        } catch (IOException e) {
+            throw FlexExceptions.wrap(e, "Can not parseJson by %s", getClass().getSimpleName());
+        }
+    }
+
+    private T parseInputStream(InputStream inputStream) {
+        if (inputStream == null) {
+            return null;
+        }
+        try (PushbackInputStream pushbackInputStream = new PushbackInputStream(inputStream)) {
+            int b;
+            do {
+                b = pushbackInputStream.read();
+            } while (b != -1 && Character.isWhitespace(b));
+            if (b == -1) {
+                return null;
+            }
+            pushbackInputStream.unread(b);
+            return parseJson(pushbackInputStream);
+        } catch (IOException e) {
+            throw FlexExceptions.wrap(e, "Can not parseJson by %s", getClass().getSimpleName());
+        }
+    }
+
+    private static boolean isBinaryType(JdbcType jdbcType) {
+        return jdbcType == JdbcType.BINARY || jdbcType == JdbcType.VARBINARY
+            || jdbcType == JdbcType.LONGVARBINARY || jdbcType == JdbcType.BLOB;
+    }
+
+    /**
+     * 是否为 PostgreSQL 驱动（pgjdbc）的 PreparedStatement，连接池的代理对象通过 {@code isWrapperFor} 判断。
+     */
+    static boolean isPostgresStatement(PreparedStatement ps) {
+        PgObjectAccessors accessors = getPgObjectAccessors();
+        if (accessors == PgObjectAccessors.UNAVAILABLE) {
+            return false;
+        }
+        try {
+            return ps.isWrapperFor(accessors.pgStatementClass);
+        } catch (SQLException e) {
+            return false;
+        }
+    }
+
+    /**
+     * 以 PGobject 类型的参数传递 JSON，调用前需要通过 {@link #isPostgresStatement(PreparedStatement)} 判断。
+     */
+    static void setPgObjectParameter(PreparedStatement ps, int i, String json) throws SQLException {
+        PgObjectAccessors accessors = getPgObjectAccessors();
+        try {
+            Object pgObject = accessors.pgObjectConstructor.newInstance();
+            accessors.setType.invoke(pgObject, pgObjectType);
+            accessors.setValue.invoke(pgObject, json);
+            ps.setObject(i, pgObject);
+        } catch (ReflectiveOperationException e) {
+            throw FlexExceptions.wrap(e, "Can not create %s for json parameter", PG_OBJECT_CLASS);
+        }
+    }
+
+    private static PgObjectAccessors getPgObjectAccessors() {
+        PgObjectAccessors accessors = pgObjectAccessors;
+        if (accessors == null) {
+            try {
+                ClassLoader classLoader = Thread.currentThread().getContextClassLoader();
+                if (classLoader == null) {
+                    classLoader = BaseJsonTypeHandler.class.getClassLoader();
+                }
+                Class<?> pgObjectClass = Class.forName(PG_OBJECT_CLASS, true, classLoader);
+                accessors = new PgObjectAccessors(pgObjectClass.getConstructor()
+                    , pgObjectClass.getMethod("setType", String.class)
+                    , pgObjectClass.getMethod("setValue", String.class)
+                    , Class.forName(PG_STATEMENT_CLASS, false, classLoader));
+            } catch (ReflectiveOperationException | LinkageError e) {
+                accessors = PgObjectAccessors.UNAVAILABLE;
+            }
+            pgObjectAccessors = accessors;
+        }
+        return accessors;
+    }
+
+    public static StreamMode getDefaultStreamMode() {
+        return defaultStreamMode;
+    }
+
+    /**
+     * 设置所有 JSON 处理器默认的读写方式。
+     *
+     * @param defaultStreamMode 读写方式
+     */
+    public static void setDefaultStreamMode(StreamMode defaultStreamMode) {
+        BaseJsonTypeHandler.defaultStreamMode = defaultStreamMode;
+    }
+
+    public static String getPgObjectType() {
+        return pgObjectType;
+    }
+
+    /**
+     * 设置 {@code jdbcType = JdbcType.OTHER} 时 PGobject 参数的类型，默认为 {@code jsonb}。
+     *
+     * @param pgObjectType PGobject 类型，例如 {@code json}、{@code jsonb}
+     */
+    public static void setPgObjectType(String pgObjectType) {
+        BaseJsonTypeHandler.pgObjectType = pgObjectType;
+    }
+
+    /**
+     * 通过反射访问 pgjdbc 的 PGobject 和 PGStatement，没有 PostgreSQL 驱动时为 {@link #UNAVAILABLE}。
+     */
+    private static final class PgObjectAccessors {
+
+        private static final PgObjectAccessors UNAVAILABLE = new PgObjectAccessors(null, null, null, null);
+
+        private final Constructor<?> pgObjectConstructor;
+        private final Method setType;
+        private final Method setValue;
+        private final Class<?> pgStatementClass;
+
+        private PgObjectAccessors(Constructor<?> pgObjectConstructor, Method setType, Method setValue, Class<?> pgStatementClass) {
+            this.pgObjectConstructor = pgObjectConstructor;
+            this.setType = setType;
+            this.setValue = setValue;
+            this.pgStatementClass = pgStatementClass;
+        }
+
+    }
+
+    /**
+     * 直接以内部的字符数组创建 Reader，避免再复制一次 JSON 内容。
+     */
+    private static final class JsonCharBuffer extends CharArrayWriter {
+
+        private JsonCharBuffer() {
+            super(256);
+        }
+
+        private Reader toReader() {
+            return new CharArrayReader(buf, 0, count);
+        }
+
+    }
+
 }
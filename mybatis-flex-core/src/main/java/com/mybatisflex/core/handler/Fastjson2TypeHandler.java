@@ -20,6 +20,8 @@ import com.alibaba.fastjson2.JSONReader;
 import com.alibaba.fastjson2.JSONWriter;
 import com.alibaba.fastjson2.TypeReference;
 
+import java.io.InputStream;
+import java.io.Reader;
 import java.lang.reflect.Modifier;
 import java.lang.reflect.ParameterizedType;
 import java.lang.reflect.Type;
@@ -72,20 +74,46 @@ public class Fastjson2TypeHandler extends BaseJsonTypeHandler<Object> {
         }
     }
 
+    @Override
+    protected Object parseJson(Reader reader) {
+        return JSON.parseObject(reader, getParseType(), getReaderFeatures());
+    }
+
+    @Override
+    protected Object parseJson(InputStream inputStream) {
+        return JSON.parseObject(inputStream, getParseType(), getReaderFeatures());
+    }
+
     @Override
     protected String toJson(Object object) {
+        return JSON.toJSONString(object, getWriterFeatures());
+    }
+
+    @Override
+    protected byte[] toJsonBytes(Object object) {
+        return JSON.toJSONBytes(object, getWriterFeatures());
+    }
+
+    private Type getParseType() {
+        if (supportAutoType) {
+            return Object.class;
+        }
+        return genericType != null && Collection.class.isAssignableFrom(propertyType) ? type : propertyType;
+    }
+
+    private JSONReader.Feature[] getReaderFeatures() {
+        return supportAutoType ? new JSONReader.Feature[]{JSONReader.Feature.SupportAutoType} : new JSONReader.Feature[0];
+    }
+
+    private JSONWriter.Feature[] getWriterFeatures() {
         if (supportAutoType) {
-            return JSON.toJSONString(object
-                , JSONWriter.Feature.WriteMapNullValue
+            return new JSONWriter.Feature[]{JSONWriter.Feature.WriteMapNullValue
                 , JSONWriter.Feature.WriteNullListAsEmpty
-                , JSONWriter.Feature.WriteNullStringAsEmpty, JSONWriter.Feature.WriteClassName
-            );
+                , JSONWriter.Feature.WriteNullStringAsEmpty, JSONWriter.Feature.WriteClassName};
         } else {
-            return JSON.toJSONString(object
-                , JSONWriter.Feature.WriteMapNullValue
+            return new JSONWriter.Feature[]{JSONWriter.Feature.WriteMapNullValue
                 , JSONWriter.Feature.WriteNullListAsEmpty
-                , JSONWriter.Feature.WriteNullStringAsEmpty
-            );
+                , JSONWriter.Feature.WriteNullStringAsEmpty};
         }
     }
 }
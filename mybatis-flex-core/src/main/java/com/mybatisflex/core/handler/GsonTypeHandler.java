@@ -18,6 +18,9 @@ package com.mybatisflex.core.handler;
 import com.google.gson.Gson;
 import com.google.gson.reflect.TypeToken;
 
+import java.io.Reader;
+import java.io.Writer;
+
 /**
  * @author michael
  */
@@ -46,11 +49,26 @@ public class GsonTypeHandler extends BaseJsonTypeHandler<Object> {
         }
     }
 
+    @Override
+    protected Object parseJson(Reader reader) {
+        if (genericType != null) {
+            TypeToken<?> typeToken = TypeToken.getParameterized(propertyType, genericType);
+            return getGson().fromJson(reader, typeToken);
+        } else {
+            return getGson().fromJson(reader, propertyType);
+        }
+    }
+
     @Override
     protected String toJson(Object object) {
         return getGson().toJson(object);
     }
 
+    @Override
+    protected void toJson(Object object, Writer writer) {
+        getGson().toJson(object, writer);
+    }
+
 
     public static Gson getGson() {
         if (null == gson) {
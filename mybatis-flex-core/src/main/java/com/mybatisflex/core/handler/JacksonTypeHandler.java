@@ -21,6 +21,9 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import com.mybatisflex.core.exception.FlexExceptions;
 
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.Reader;
+import java.io.Writer;
 import java.util.Collection;
 
 /**
@@ -55,6 +58,24 @@ public class JacksonTypeHandler extends BaseJsonTypeHandler<Object> {
         }
     }
 
+    @Override
+    protected Object parseJson(Reader reader) throws IOException {
+        if (genericType != null && Collection.class.isAssignableFrom(propertyType)) {
+            return getObjectMapper().readValue(reader, getJavaType());
+        } else {
+            return getObjectMapper().readValue(reader, propertyType);
+        }
+    }
+
+    @Override
+    protected Object parseJson(InputStream inputStream) throws IOException {
+        if (genericType != null && Collection.class.isAssignableFrom(propertyType)) {
+            return getObjectMapper().readValue(inputStream, getJavaType());
+        } else {
+            return getObjectMapper().readValue(inputStream, propertyType);
+        }
+    }
+
     @Override
     protected String toJson(Object object) {
         try {
@@ -64,6 +85,20 @@ public class JacksonTypeHandler extends BaseJsonTypeHandler<Object> {
         }
     }
 
+    @Override
+    protected void toJson(Object object, Writer writer) throws IOException {
+        getObjectMapper().writeValue(writer, object);
+    }
+
+    @Override
+    protected byte[] toJsonBytes(Object object) {
+        try {
+            return getObjectMapper().writeValueAsBytes(object);
+        } catch (JsonProcessingException e) {
+            throw FlexExceptions.wrap(e, "Can not convert object to Json by JacksonTypeHandler: " + object);
+        }
+    }
+
 
     public JavaType getJavaType() {
         if (javaType == null){
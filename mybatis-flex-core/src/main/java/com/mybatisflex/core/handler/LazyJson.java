@@ -0,0 +1,154 @@
+/*
+ *  Copyright (c) 2022-2025, Mybatis-Flex (fuhai999@gmail.com).
+ *  <p>
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *  <p>
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *  <p>
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package com.mybatisflex.core.handler;
+
+import java.io.IOException;
+import java.io.ObjectOutputStream;
+import java.io.Serializable;
+import java.util.Objects;
+import java.util.function.Function;
+
+/**
+ * 延迟解析的 JSON 值。
+ *
+ * <p>实体类属性声明为 {@code LazyJson<T>} 并配置 JSON 类型处理器后，查询时只保存数据库中的原始 JSON 文本，
+ * 直到第一次调用 {@link #get()} 时才解析。列表查询中没有被访问的 JSON 列不会产生解析开销；
+ * 未被访问过的值在更新时会直接写回原始文本。
+ *
+ * <pre>{@code
+ * @Column(typeHandler = JacksonTypeHandler.class)
+ * private LazyJson<Options> options;
+ * }</pre>
+ *
+ * @param <T> 值类型
+ * @author michael
+ * @since 2026-10-19
+ */
+public class LazyJson<T> implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    private transient Function<String, T> parser;
+    private String json;
+    private T value;
+    private volatile boolean parsed;
+
+    private LazyJson() {
+    }
+
+    /**
+     * 通过已有的值创建。
+     *
+     * @param value 值
+     * @return LazyJson
+     */
+    public static <T> LazyJson<T> of(T value) {
+        LazyJson<T> lazyJson = new LazyJson<>();
+        lazyJson.value = value;
+        lazyJson.parsed = true;
+        return lazyJson;
+    }
+
+    /**
+     * 通过原始 JSON 文本创建，在第一次访问时使用 {@code parser} 解析。
+     *
+     * @param json   JSON 文本
+     * @param parser 解析器
+     * @return LazyJson
+     */
+    public static <T> LazyJson<T> ofJson(String json, Function<String, T> parser) {
+        LazyJson<T> lazyJson = new LazyJson<>();
+        lazyJson.json = json;
+        lazyJson.parser = parser;
+        return lazyJson;
+    }
+
+    /**
+     * 获取值，首次调用时解析 JSON。
+     *
+     * @return 值
+     */
+    public T get() {
+        if (!parsed) {
+            synchronized (this) {
+                if (!parsed) {
+                    value = parser == null ? null : parser.apply(json);
+                    parser = null;
+                    parsed = true;
+                }
+            }
+        }
+        return value;
+    }
+
+    /**
+     * 设置新的值，原始 JSON 文本会被丢弃。
+     *
+     * @param value 值
+     */
+    public synchronized void set(T value) {
+        this.value = value;
+        this.json = null;
+        this.parser = null;
+        this.parsed = true;
+    }
+
+    /**
+     * 是否已经解析（或者通过值创建）。
+     *
+     * @return {@code true} 已解析
+     */
+    public boolean isParsed() {
+        return parsed;
+    }
+
+    /**
+     * 获取原始 JSON 文本，通过值创建或者调用过 {@link #set(Object)} 后返回 {@code null}。
+     *
+     * @return JSON 文本
+     */
+    public String getJson() {
+        return json;
+    }
+
+    private void writeObject(ObjectOutputStream out) throws IOException {
+        // 解析器无法序列化，序列化前先完成解析
+        get();
+        out.defaultWriteObject();
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof LazyJson)) {
+            return false;
+        }
+        return Objects.equals(get(), ((LazyJson<?>) o).get());
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hashCode(get());
+    }
+
+    @Override
+    public String toString() {
+        return parsed ? String.valueOf(value) : json;
+    }
+
+}
@@ -0,0 +1,88 @@
+/*
+ *  Copyright (c) 2022-2025, Mybatis-Flex (fuhai999@gmail.com).
+ *  <p>
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *  <p>
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *  <p>
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package com.mybatisflex.core.handler;
+
+import com.mybatisflex.core.util.StringUtil;
+import org.apache.ibatis.type.BaseTypeHandler;
+import org.apache.ibatis.type.JdbcType;
+
+import java.sql.CallableStatement;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Types;
+
+/**
+ * {@link LazyJson} 属性的类型处理器，读取时只保存 JSON 文本，解析和序列化交给实际的 JSON 类型处理器。
+ *
+ * @author michael
+ * @since 2026-10-19
+ */
+@SuppressWarnings({"rawtypes", "unchecked"})
+public class LazyJsonTypeHandler extends BaseTypeHandler<LazyJson<?>> {
+
+    private final BaseJsonTypeHandler jsonTypeHandler;
+
+    public LazyJsonTypeHandler(BaseJsonTypeHandler<?> jsonTypeHandler) {
+        this.jsonTypeHandler = jsonTypeHandler;
+    }
+
+    @Override
+    public void setNonNullParameter(PreparedStatement ps, int i, LazyJson<?> parameter, JdbcType jdbcType) throws SQLException {
+        // 未被访问过的值直接写回原始 JSON，无需解析再序列化
+        if (!parameter.isParsed() && parameter.getJson() != null) {
+            if (jdbcType == JdbcType.OTHER && BaseJsonTypeHandler.isPostgresStatement(ps)) {
+                BaseJsonTypeHandler.setPgObjectParameter(ps, i, parameter.getJson());
+            } else {
+                ps.setString(i, parameter.getJson());
+            }
+            return;
+        }
+        Object value = parameter.get();
+        if (value == null) {
+            ps.setNull(i, jdbcType == null ? Types.VARCHAR : jdbcType.TYPE_CODE);
+        } else {
+            jsonTypeHandler.setNonNullParameter(ps, i, value, jdbcType);
+        }
+    }
+
+    @Override
+    public LazyJson<?> getNullableResult(ResultSet rs, String columnName) throws SQLException {
+        return toLazyJson(rs.getString(columnName));
+    }
+
+    @Override
+    public LazyJson<?> getNullableResult(ResultSet rs, int columnIndex) throws SQLException {
+        return toLazyJson(rs.getString(columnIndex));
+    }
+
+    @Override
+    public LazyJson<?> getNullableResult(CallableStatement cs, int columnIndex) throws SQLException {
+        return toLazyJson(cs.getString(columnIndex));
+    }
+
+    private LazyJson<?> toLazyJson(String json) {
+        if (json == null) {
+            return null;
+        }
+        return LazyJson.ofJson(json, text -> StringUtil.noText(text) ? null : jsonTypeHandler.parseJson(text));
+    }
+
+    public BaseJsonTypeHandler<?> getJsonTypeHandler() {
+        return jsonTypeHandler;
+    }
+
+}
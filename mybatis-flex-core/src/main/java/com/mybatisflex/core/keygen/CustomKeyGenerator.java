@@ -22,6 +22,7 @@ import com.mybatisflex.core.exception.FlexExceptions;
 import com.mybatisflex.core.table.IdInfo;
 import com.mybatisflex.core.table.TableInfo;
 import com.mybatisflex.core.util.ConvertUtil;
+import com.mybatisflex.core.util.PropertyAccessor;
 import com.mybatisflex.core.util.StringUtil;
 import org.apache.ibatis.executor.Executor;
 import org.apache.ibatis.executor.ExecutorException;
@@ -31,6 +32,9 @@ import org.apache.ibatis.reflection.MetaObject;
 import org.apache.ibatis.session.Configuration;
 
 import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
 import java.util.Map;
 
 /**
@@ -88,6 +92,40 @@ public class CustomKeyGenerator implements KeyGenerator {
     }
 
 
+    /**
+     * 批量插入时，一次性为所有未设置主键的实体类生成主键。
+     *
+     * @param ms       MappedStatement
+     * @param entities 实体类
+     */
+    public void processBatchBefore(MappedStatement ms, Collection<?> entities) {
+        try {
+            PropertyAccessor accessor = PropertyAccessor.of(tableInfo.getEntityClass(), idInfo.getProperty());
+            List<Object> needIdEntities = new ArrayList<>(entities.size());
+            for (Object entity : entities) {
+                Object existId = accessor.get(entity);
+                if (existId == null || (existId instanceof String && StringUtil.noText((String) existId))) {
+                    needIdEntities.add(entity);
+                }
+            }
+            if (needIdEntities.isEmpty()) {
+                return;
+            }
+
+            Object[] generateIds = keyGenerator.generateBatch(needIdEntities, idInfo.getColumn());
+            if (!accessor.hasSetter()) {
+                throw new ExecutorException("No setter found for the keyProperty '" + idInfo.getProperty() + "' in " + tableInfo.getEntityClass().getName() + ".");
+            }
+            Class<?> setterType = accessor.getSetterType();
+            for (int i = 0; i < generateIds.length; i++) {
+                accessor.set(needIdEntities.get(i), ConvertUtil.convert(generateIds[i], setterType));
+            }
+        } catch (Exception e) {
+            throw FlexExceptions.wrap(e);
+        }
+    }
+
+
     @Override
     public void processAfter(Executor executor, MappedStatement ms, Statement stmt, Object parameter) {
         // do nothing
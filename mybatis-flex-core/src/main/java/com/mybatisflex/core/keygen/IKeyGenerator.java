@@ -15,8 +15,26 @@
  */
 package com.mybatisflex.core.keygen;
 
+import java.util.List;
+
 public interface IKeyGenerator {
 
     Object generate(Object entity, String keyColumn);
 
+    /**
+     * 批量插入时为多个实体类生成主键，默认逐个调用 {@link #generate(Object, String)}。
+     * 可以一次性预留多个主键的生成器（例如雪花算法）可以重写此方法。
+     *
+     * @param entities  需要生成主键的实体类
+     * @param keyColumn 主键列名
+     * @return 主键，与 {@code entities} 一一对应
+     */
+    default Object[] generateBatch(List<?> entities, String keyColumn) {
+        Object[] ids = new Object[entities.size()];
+        for (int i = 0; i < ids.length; i++) {
+            ids[i] = generate(entities.get(i), keyColumn);
+        }
+        return ids;
+    }
+
 }
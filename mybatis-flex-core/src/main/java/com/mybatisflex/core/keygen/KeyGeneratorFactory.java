@@ -18,6 +18,7 @@ package com.mybatisflex.core.keygen;
 import com.mybatisflex.core.exception.FlexExceptions;
 import com.mybatisflex.core.exception.locale.LocalizedFormats;
 import com.mybatisflex.core.keygen.impl.FlexIDKeyGenerator;
+import com.mybatisflex.core.keygen.impl.SegmentKeyGenerator;
 import com.mybatisflex.core.keygen.impl.SnowFlakeIDKeyGenerator;
 import com.mybatisflex.core.keygen.impl.ULIDKeyGenerator;
 import com.mybatisflex.core.keygen.impl.UUIDKeyGenerator;
@@ -41,6 +42,7 @@ public class KeyGeneratorFactory {
         register(KeyGenerators.flexId, new FlexIDKeyGenerator());
         register(KeyGenerators.snowFlakeId, new SnowFlakeIDKeyGenerator());
         register(KeyGenerators.ulid, new ULIDKeyGenerator());
+        register(KeyGenerators.segment, new SegmentKeyGenerator());
 
     }
 
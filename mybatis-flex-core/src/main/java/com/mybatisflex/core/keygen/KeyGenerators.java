@@ -43,4 +43,10 @@ public class KeyGenerators {
      * {@link com.mybatisflex.core.keygen.impl.ULIDKeyGenerator}
      */
     public static final String ulid = "ulid";
+
+    /**
+     * 号段模式主键生成器
+     * {@link com.mybatisflex.core.keygen.impl.SegmentKeyGenerator}
+     */
+    public static final String segment = "segment";
 }
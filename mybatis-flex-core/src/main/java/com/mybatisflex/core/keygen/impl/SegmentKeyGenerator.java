@@ -0,0 +1,440 @@
+/*
+ *  Copyright (c) 2022-2025, Mybatis-Flex (fuhai999@gmail.com).
+ *  <p>
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *  <p>
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *  <p>
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package com.mybatisflex.core.keygen.impl;
+
+import com.mybatisflex.core.FlexGlobalConfig;
+import com.mybatisflex.core.datasource.FlexDataSource;
+import com.mybatisflex.core.exception.FlexExceptions;
+import com.mybatisflex.core.keygen.IKeyGenerator;
+import com.mybatisflex.core.row.Row;
+import com.mybatisflex.core.table.TableInfo;
+import com.mybatisflex.core.table.TableInfoFactory;
+import com.mybatisflex.core.util.ClassUtil;
+import com.mybatisflex.core.util.MapUtil;
+import com.mybatisflex.core.util.StringUtil;
+import org.apache.ibatis.logging.LogFactory;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * <p>号段模式的数据库 ID 生成器。
+ *
+ * <p>每次从数据库中申请一段（{@link #setStep(int) step} 个）ID 缓存在内存中，申请的方式有两种：
+ * <ul>
+ *     <li>号段表（默认）：执行 {@code UPDATE flex_id_segment SET max_id = max_id + step WHERE biz_tag = ?}，
+ *     号段为 {@code (max_id - step, max_id]}；
+ *     <li>数据库序列：配置 {@link #setSequenceSql(String)}，例如 {@code SELECT nextval('seq_%s')}，序列需要配置
+ *     {@code INCREMENT BY step}，号段为 {@code [nextval, nextval + step)}。
+ * </ul>
+ *
+ * <p>当前号段使用超过 {@link #setPrefetchRatio(double) prefetchRatio}（默认 80%）时，会异步申请下一个号段，
+ * 当前号段用完后直接切换，因此批量插入 10 万条数据只需要很少次数的数据库访问。
+ *
+ * <p>号段表的结构：
+ * <pre>{@code
+ * CREATE TABLE flex_id_segment (
+ *     biz_tag VARCHAR(128) NOT NULL PRIMARY KEY,
+ *     max_id  BIGINT       NOT NULL
+ * );
+ * }</pre>
+ *
+ * <p>默认以实体类的表名作为 biz_tag，号段表中不存在对应的记录时会自动插入。未配置数据源时，在当前线程路由到的目标数据源
+ * （{@link FlexDataSource#getTargetDataSource()}）中申请号段，每个目标数据源拥有各自的号段缓存。申请号段时总是从目标数据源
+ * 获取独立的数据库连接并在独立的事务中提交，不会加入当前业务的事务（{@code Db.tx}），也不受其回滚的影响。
+ *
+ * @author michael
+ * @since 2026-10-19
+ */
+public class SegmentKeyGenerator implements IKeyGenerator {
+
+    private static final ExecutorService DEFAULT_EXECUTOR = Executors.newCachedThreadPool(runnable -> {
+        Thread thread = new Thread(runnable, "SegmentKeyGenerator");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private final Map<DataSource, Map<String, SegmentBuffer>> buffers = new ConcurrentHashMap<>();
+
+    /**
+     * 固定的 biz_tag，为空时使用表名。
+     */
+    private String bizTag;
+    private DataSource dataSource;
+    private String tableName = "flex_id_segment";
+    private String sequenceSql;
+    private int step = 1000;
+    private double prefetchRatio = 0.8;
+    private Executor executor = DEFAULT_EXECUTOR;
+
+    public SegmentKeyGenerator() {
+    }
+
+    public SegmentKeyGenerator(String bizTag) {
+        this.bizTag = bizTag;
+    }
+
+    public SegmentKeyGenerator(DataSource dataSource, String bizTag) {
+        this.dataSource = dataSource;
+        this.bizTag = bizTag;
+    }
+
+    @Override
+    public Object generate(Object entity, String keyColumn) {
+        return nextId(getBizTag(entity, keyColumn));
+    }
+
+    @Override
+    public Object[] generateBatch(List<?> entities, String keyColumn) {
+        Object[] result = new Object[entities.size()];
+        if (result.length == 0) {
+            return result;
+        }
+        long[] ids = nextIds(getBizTag(entities.get(0), keyColumn), result.length);
+        for (int i = 0; i < ids.length; i++) {
+            result[i] = ids[i];
+        }
+        return result;
+    }
+
+    /**
+     * 获取下一个 ID。
+     *
+     * @param bizTag 业务标识
+     * @return ID
+     */
+    public long nextId(String bizTag) {
+        return getBuffer(bizTag).nextId();
+    }
+
+    /**
+     * 一次性获取 {@code count} 个 ID。
+     *
+     * @param bizTag 业务标识
+     * @param count  数量
+     * @return ID 数组，按申请顺序递增
+     */
+    public long[] nextIds(String bizTag, int count) {
+        return getBuffer(bizTag).nextIds(count);
+    }
+
+    private SegmentBuffer getBuffer(String bizTag) {
+        // 在调用线程中解析数据源，异步预申请号段的线程中没有当前的 DataSourceKey
+        DataSource targetDataSource = getDataSource();
+        Map<String, SegmentBuffer> bufferMap = MapUtil.computeIfAbsent(buffers, targetDataSource, ds -> new ConcurrentHashMap<>());
+        return MapUtil.computeIfAbsent(bufferMap, bizTag, tag -> new SegmentBuffer(targetDataSource, tag));
+    }
+
+    protected String getBizTag(Object entity, String keyColumn) {
+        if (StringUtil.hasText(bizTag)) {
+            return bizTag;
+        }
+        if (entity != null && !(entity instanceof Row)) {
+            TableInfo tableInfo = TableInfoFactory.ofEntityClass(ClassUtil.getUsefulClass(entity.getClass()));
+            if (tableInfo != null) {
+                return tableInfo.getTableName();
+            }
+        }
+        if (StringUtil.hasText(keyColumn)) {
+            return keyColumn;
+        }
+        throw FlexExceptions.wrap("Can not resolve biz tag for SegmentKeyGenerator, please set bizTag.");
+    }
+
+
+    /**
+     * 从数据库中申请一个号段。
+     *
+     * @param dataSource 目标数据源
+     * @param bizTag     业务标识
+     * @return 号段
+     */
+    protected Segment allocate(DataSource dataSource, String bizTag) {
+        try (Connection connection = dataSource.getConnection()) {
+            boolean autoCommit = connection.getAutoCommit();
+            connection.setAutoCommit(false);
+            try {
+                Segment segment = StringUtil.hasText(sequenceSql)
+                    ? allocateBySequence(connection, bizTag)
+                    : allocateByTable(connection, bizTag);
+                connection.commit();
+                return segment;
+            } catch (SQLException | RuntimeException e) {
+                connection.rollback();
+                throw e;
+            } finally {
+                connection.setAutoCommit(autoCommit);
+            }
+        } catch (SQLException e) {
+            throw FlexExceptions.wrap(e, "Can not allocate id segment for biz tag: %s", bizTag);
+        }
+    }
+
+    private Segment allocateBySequence(Connection connection, String bizTag) throws SQLException {
+        try (PreparedStatement ps = connection.prepareStatement(String.format(sequenceSql, bizTag));
+             ResultSet rs = ps.executeQuery()) {
+            if (!rs.next()) {
+                throw new SQLException("Sequence returns no value: " + sequenceSql);
+            }
+            long start = rs.getLong(1);
+            return new Segment(start, start + step);
+        }
+    }
+
+    private Segment allocateByTable(Connection connection, String bizTag) throws SQLException {
+        if (updateMaxId(connection, bizTag) == 0) {
+            try (PreparedStatement ps = connection.prepareStatement(
+                "INSERT INTO " + tableName + " (biz_tag, max_id) VALUES (?, ?)")) {
+                ps.setString(1, bizTag);
+                ps.setLong(2, 0L);
+                ps.executeUpdate();
+                connection.commit();
+            } catch (SQLException e) {
+                // 其他节点可能同时插入了该记录，忽略主键冲突后重新更新
+                connection.rollback();
+                LogFactory.getLog(SegmentKeyGenerator.class).debug("Insert id segment failed: " + e.getMessage());
+            }
+            if (updateMaxId(connection, bizTag) == 0) {
+                throw new SQLException("Can not find biz tag \"" + bizTag + "\" in table " + tableName);
+            }
+        }
+        try (PreparedStatement ps = connection.prepareStatement(
+            "SELECT max_id FROM " + tableName + " WHERE biz_tag = ?")) {
+            ps.setString(1, bizTag);
+            try (ResultSet rs = ps.executeQuery()) {
+                rs.next();
+                long maxId = rs.getLong(1);
+                return new Segment(maxId - step + 1, maxId + 1);
+            }
+        }
+    }
+
+    private int updateMaxId(Connection connection, String bizTag) throws SQLException {
+        try (PreparedStatement ps = connection.prepareStatement(
+            "UPDATE " + tableName + " SET max_id = max_id + ? WHERE biz_tag = ?")) {
+            ps.setLong(1, step);
+            ps.setString(2, bizTag);
+            return ps.executeUpdate();
+        }
+    }
+
+    /**
+     * 申请号段使用的数据源。未配置时使用默认环境的数据源；{@link FlexDataSource} 会被解析为当前线程路由到的目标数据源，
+     * 从而绕过 {@link FlexDataSource} 的事务连接，保证号段在独立的连接和事务中申请。
+     */
+    protected DataSource getDataSource() {
+        DataSource ds = dataSource;
+        if (ds == null) {
+            ds = FlexGlobalConfig.getDefaultConfig().getConfiguration().getEnvironment().getDataSource();
+        }
+        return ds instanceof FlexDataSource ? ((FlexDataSource) ds).getTargetDataSource() : ds;
+    }
+
+
+    public String getBizTag() {
+        return bizTag;
+    }
+
+    public void setBizTag(String bizTag) {
+        this.bizTag = bizTag;
+    }
+
+    public void setDataSource(DataSource dataSource) {
+        this.dataSource = dataSource;
+    }
+
+    public String getTableName() {
+        return tableName;
+    }
+
+    public void setTableName(String tableName) {
+        this.tableName = tableName;
+    }
+
+    public String getSequenceSql() {
+        return sequenceSql;
+    }
+
+    /**
+     * 设置通过数据库序列申请号段的 SQL，{@code %s} 会被替换为 biz_tag，例如：
+     * {@code SELECT nextval('seq_%s')}、{@code SELECT seq_%s.NEXTVAL FROM DUAL}。
+     * 序列的 {@code INCREMENT BY} 必须与 {@link #setStep(int) step} 一致。
+     *
+     * @param sequenceSql SQL
+     */
+    public void setSequenceSql(String sequenceSql) {
+        this.sequenceSql = sequenceSql;
+    }
+
+    public int getStep() {
+        return step;
+    }
+
+    public void setStep(int step) {
+        if (step <= 0) {
+            throw new IllegalArgumentException("step must be greater than 0.");
+        }
+        this.step = step;
+    }
+
+    public double getPrefetchRatio() {
+        return prefetchRatio;
+    }
+
+    /**
+     * 设置当前号段使用到多少比例时异步申请下一个号段，取值范围 (0, 1]。
+     *
+     * @param prefetchRatio 比例
+     */
+    public void setPrefetchRatio(double prefetchRatio) {
+        if (prefetchRatio <= 0 || prefetchRatio > 1) {
+            throw new IllegalArgumentException("prefetchRatio must be in (0, 1].");
+        }
+        this.prefetchRatio = prefetchRatio;
+    }
+
+    public void setExecutor(Executor executor) {
+        this.executor = executor;
+    }
+
+
+    /**
+     * 号段：[start, end)。
+     */
+    protected static class Segment {
+
+        private final long start;
+        private final long end;
+        private final long prefetchAt;
+        private final AtomicLong value;
+
+        public Segment(long start, long end) {
+            this(start, end, 1.0);
+        }
+
+        Segment(long start, long end, double prefetchRatio) {
+            this.start = start;
+            this.end = end;
+            this.prefetchAt = start + (long) ((end - start) * prefetchRatio);
+            this.value = new AtomicLong(start);
+        }
+
+        public long getStart() {
+            return start;
+        }
+
+        public long getEnd() {
+            return end;
+        }
+    }
+
+
+    /**
+     * 双缓冲：当前号段 + 异步申请中的下一个号段。
+     */
+    private class SegmentBuffer {
+
+        private final DataSource dataSource;
+        private final String bizTag;
+        private volatile Segment current;
+        private volatile CompletableFuture<Segment> next;
+
+        SegmentBuffer(DataSource dataSource, String bizTag) {
+            this.dataSource = dataSource;
+            this.bizTag = bizTag;
+        }
+
+        long nextId() {
+            while (true) {
+                Segment segment = current;
+                if (segment != null) {
+                    long id = segment.value.getAndIncrement();
+                    if (id < segment.end) {
+                        prefetchIfNecessary(segment, id);
+                        return id;
+                    }
+                }
+                switchSegment(segment);
+            }
+        }
+
+        long[] nextIds(int count) {
+            long[] ids = new long[count];
+            int index = 0;
+            while (index < count) {
+                Segment segment = current;
+                if (segment != null) {
+                    long first = segment.value.getAndAdd(count - index);
+                    if (first < segment.end) {
+                        long last = Math.min(first + (count - index), segment.end);
+                        for (long id = first; id < last; id++) {
+                            ids[index++] = id;
+                        }
+                        prefetchIfNecessary(segment, last - 1);
+                        continue;
+                    }
+                }
+                switchSegment(segment);
+            }
+            return ids;
+        }
+
+        private void prefetchIfNecessary(Segment segment, long id) {
+            if (id >= segment.prefetchAt && next == null && current == segment) {
+                synchronized (this) {
+                    if (next == null && current == segment) {
+                        next = CompletableFuture.supplyAsync(this::allocateSegment, executor);
+                    }
+                }
+            }
+        }
+
+        private synchronized void switchSegment(Segment exhausted) {
+            if (current != exhausted) {
+                // 其他线程已经切换了号段
+                return;
+            }
+            Segment segment = null;
+            CompletableFuture<Segment> future = next;
+            next = null;
+            if (future != null) {
+                try {
+                    segment = future.join();
+                } catch (RuntimeException e) {
+                    LogFactory.getLog(SegmentKeyGenerator.class).warn("Prefetch id segment failed, retry synchronously: " + e);
+                }
+            }
+            current = segment != null ? segment : allocateSegment();
+        }
+
+        private Segment allocateSegment() {
+            Segment segment = allocate(dataSource, bizTag);
+            return new Segment(segment.start, segment.end, prefetchRatio);
+        }
+    }
+
+}
@@ -23,6 +23,10 @@ import org.apache.ibatis.logging.LogFactory;
 import java.lang.management.ManagementFactory;
 import java.net.InetAddress;
 import java.net.NetworkInterface;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
 
 /**
  * <p>雪花算法 ID 生成器。
@@ -34,6 +38,10 @@ import java.net.NetworkInterface;
  *     <li>最后 12 位存储序列号，同一毫秒时间戳时，通过这个递增的序列号来区分，即对于同一台机器而言，同一毫秒时间戳下，可以生成 2 ^ 12 = 4096 个不重复 ID。
  * </ul>
  *
+ * <p>时间戳和序列号保存在同一个 {@link AtomicLong} 中（时间戳 &lt;&lt; 12 | 序列号），通过 CAS 无锁生成 ID；
+ * 序列号用完时直接进位到下一毫秒。配置了 {@link #setMaxBorrowMillis(long)} 时，允许 ID 的时间戳最多领先系统时间
+ * 指定的毫秒数，从而在突发流量和小幅度的时钟回拨时不阻塞。
+ *
  * <p>优化自开源项目：<a href="https://gitee.com/yu120/sequence">Sequence</a>
  *
  * @author 王帅
@@ -85,6 +93,10 @@ public class SnowFlakeIDKeyGenerator implements IKeyGenerator {
      * 可容忍的时间偏移量。
      */
     private static long offsetPeriod = 5L;
+    /**
+     * ID 的时间戳允许领先系统时间的最大毫秒数，默认为 0，即不允许领先。
+     */
+    private static long maxBorrowMillis = 0L;
 
     /**
      * 工作机器 ID。
@@ -100,13 +112,13 @@ public class SnowFlakeIDKeyGenerator implements IKeyGenerator {
      */
     protected InetAddress address;
     /**
-     * 同一毫秒内的最新序号，最大值可为（2^12 - 1 = 4095）。
+     * 数据中心 ID 和工作机器 ID 部分。
      */
-    private long sequence;
+    private final long nodeBits;
     /**
-     * 上次生产 ID 时间戳。
+     * 最后一次生成 ID 使用的状态：（时间戳 - twepoch）&lt;&lt; 12 | 序列号，-1 表示还未生成过 ID。
      */
-    private long lastTimeMillis = -1L;
+    private final AtomicLong state = new AtomicLong(-1L);
 
     /**
      * 雪花算法 ID 生成器。
@@ -124,6 +136,7 @@ public class SnowFlakeIDKeyGenerator implements IKeyGenerator {
         this.address = address;
         this.dataCenterId = getDataCenterId(MAX_DATA_CENTER_ID);
         this.workerId = getWorkerId(dataCenterId, MAX_WORKER_ID);
+        this.nodeBits = (dataCenterId << DATA_CENTER_ID_SHIFT) | (workerId << WORK_ID_SHIFT);
     }
 
     /**
@@ -143,6 +156,7 @@ public class SnowFlakeIDKeyGenerator implements IKeyGenerator {
         }
         this.workerId = workerId;
         this.dataCenterId = dataCenterId;
+        this.nodeBits = (dataCenterId << DATA_CENTER_ID_SHIFT) | (workerId << WORK_ID_SHIFT);
     }
 
     /**
@@ -188,61 +202,96 @@ public class SnowFlakeIDKeyGenerator implements IKeyGenerator {
         return nextId();
     }
 
+    @Override
+    public Object[] generateBatch(List<?> entities, String keyColumn) {
+        long[] ids = nextIds(entities.size());
+        Object[] result = new Object[ids.length];
+        for (int i = 0; i < ids.length; i++) {
+            result[i] = ids[i];
+        }
+        return result;
+    }
+
     /**
      * 获取下一个 ID。
      */
-    public synchronized long nextId() {
-        long currentTimeMillis = System.currentTimeMillis();
-        // 当前时间小于上一次生成 ID 使用的时间，可能出现服务器时钟回拨问题。
-        if (currentTimeMillis < lastTimeMillis) {
-            long offset = lastTimeMillis - currentTimeMillis;
-            // 在可容忍的时间差值之内等待时间恢复正常
-            if (offset <= offsetPeriod) {
-                try {
-                    wait(offset << 1L);
-                    currentTimeMillis = System.currentTimeMillis();
-                    if (currentTimeMillis < lastTimeMillis) {
-                        throw FlexExceptions.wrap("Clock moved backwards, please check the time. Current timestamp: %d, last used timestamp: %d", currentTimeMillis, lastTimeMillis);
-                    }
-                } catch (InterruptedException e) {
-                    throw FlexExceptions.wrap(e);
-                }
-            } else {
-                throw FlexExceptions.wrap("Clock moved backwards, please check the time. Current timestamp: %d, last used timestamp: %d", currentTimeMillis, lastTimeMillis);
+    public long nextId() {
+        while (true) {
+            long current = state.get();
+            long nowMillis = System.currentTimeMillis() - twepoch;
+            // 同一毫秒内序列号自增，用完时进位到下一毫秒；系统时间前进时从新的毫秒开始
+            long next = Math.max(current + 1, nowMillis << SEQUENCE_BITS);
+            if (next > maxState(nowMillis)) {
+                waitForClock(next, nowMillis);
+                continue;
+            }
+            if (state.compareAndSet(current, next)) {
+                return toId(next);
             }
         }
+    }
 
-        if (currentTimeMillis == lastTimeMillis) {
-            // 相同毫秒内，序列号自增
-            sequence = (sequence + 1) & SEQUENCE_MASK;
-            if (sequence == 0) {
-                // 同一毫秒的序列数已经达到最大
-                currentTimeMillis = tilNextMillis(lastTimeMillis);
+    /**
+     * 一次性预留 {@code count} 个 ID，适用于批量插入等场景，只需要很少次数的 CAS 操作。
+     * 同一毫秒内预留的 ID 是连续的。
+     *
+     * @param count ID 数量
+     * @return ID 数组，按生成顺序递增
+     */
+    public long[] nextIds(int count) {
+        long[] ids = new long[count];
+        int index = 0;
+        while (index < count) {
+            long current = state.get();
+            long nowMillis = System.currentTimeMillis() - twepoch;
+            long start = Math.max(current + 1, nowMillis << SEQUENCE_BITS);
+            long max = maxState(nowMillis);
+            if (start > max) {
+                waitForClock(start, nowMillis);
+                continue;
+            }
+            long end = Math.min(start + (count - index) - 1, max);
+            if (state.compareAndSet(current, end)) {
+                for (long value = start; value <= end; value++) {
+                    ids[index++] = toId(value);
+                }
             }
-        } else {
-            // 不同毫秒内，序列号置为 0。
-            sequence = 0L;
         }
+        return ids;
+    }
 
-        // 记录最后一次使用的毫秒时间戳
-        lastTimeMillis = currentTimeMillis;
-
-        // 时间戳部分 | 数据中心部分 | 机器标识部分 | 序列号部分
-        return ((currentTimeMillis - twepoch) << TIMESTAMP_SHIFT)
-            | (dataCenterId << DATA_CENTER_ID_SHIFT)
-            | (workerId << WORK_ID_SHIFT)
-            | sequence;
+    /**
+     * 当前系统时间下允许使用的最大状态值。
+     */
+    private static long maxState(long nowMillis) {
+        return ((nowMillis + maxBorrowMillis + 1) << SEQUENCE_BITS) - 1;
     }
 
     /**
-     * 获取指定时间戳的接下来的时间戳。
+     * ID 的时间戳超出了允许领先的范围：领先太多时认为是时钟回拨，否则等待系统时间追上。
      */
-    private long tilNextMillis(long lastTimestamp) {
-        long currentTimeMillis = System.currentTimeMillis();
-        while (currentTimeMillis <= lastTimestamp) {
-            currentTimeMillis = System.currentTimeMillis();
+    private static void waitForClock(long next, long nowMillis) {
+        long lastMillis = next >>> SEQUENCE_BITS;
+        long aheadMillis = lastMillis - nowMillis - maxBorrowMillis;
+        if (aheadMillis > offsetPeriod) {
+            throw FlexExceptions.wrap("Clock moved backwards, please check the time. Current timestamp: %d, last used timestamp: %d"
+                , nowMillis + twepoch, lastMillis + twepoch);
+        }
+        if (aheadMillis <= 1) {
+            // 一般是同一毫秒内的序列号已经用完，很快就会进入下一毫秒
+            Thread.yield();
+        } else {
+            LockSupport.parkNanos(TimeUnit.MILLISECONDS.toNanos(aheadMillis - 1));
         }
-        return currentTimeMillis;
+    }
+
+    /**
+     * 时间戳部分 | 数据中心部分 | 机器标识部分 | 序列号部分
+     */
+    private long toId(long value) {
+        return ((value >>> SEQUENCE_BITS) << TIMESTAMP_SHIFT)
+            | nodeBits
+            | (value & SEQUENCE_MASK);
     }
 
     public static long getTwepoch() {
@@ -261,6 +310,23 @@ public class SnowFlakeIDKeyGenerator implements IKeyGenerator {
         SnowFlakeIDKeyGenerator.offsetPeriod = offsetPeriod;
     }
 
+    public static long getMaxBorrowMillis() {
+        return maxBorrowMillis;
+    }
+
+    /**
+     * 设置 ID 的时间戳允许领先系统时间的最大毫秒数。大于 0 时，同一毫秒的序列号用完后直接使用下一毫秒的序列号，
+     * 小于该值的时钟回拨也不会阻塞。需要注意的是，应用重启的时间间隔小于该值时可能生成重复的 ID。
+     *
+     * @param maxBorrowMillis 最大领先毫秒数
+     */
+    public static void setMaxBorrowMillis(long maxBorrowMillis) {
+        if (maxBorrowMillis < 0) {
+            throw new IllegalArgumentException("maxBorrowMillis must not be less than 0.");
+        }
+        SnowFlakeIDKeyGenerator.maxBorrowMillis = maxBorrowMillis;
+    }
+
     public long getWorkerId() {
         return workerId;
     }
@@ -278,18 +344,26 @@ public class SnowFlakeIDKeyGenerator implements IKeyGenerator {
     }
 
     public long getSequence() {
-        return sequence;
+        long value = state.get();
+        return value < 0 ? 0L : value & SEQUENCE_MASK;
     }
 
     public void setSequence(long sequence) {
-        this.sequence = sequence;
+        long value = state.get();
+        long millis = value < 0 ? 0L : value >>> SEQUENCE_BITS;
+        state.set((millis << SEQUENCE_BITS) | (sequence & SEQUENCE_MASK));
     }
 
     public long getLastTimeMillis() {
-        return lastTimeMillis;
+        long value = state.get();
+        return value < 0 ? -1L : (value >>> SEQUENCE_BITS) + twepoch;
     }
 
     public void setLastTimeMillis(long lastTimeMillis) {
-        this.lastTimeMillis = lastTimeMillis;
+        if (lastTimeMillis < 0) {
+            state.set(-1L);
+            return;
+        }
+        state.set(((lastTimeMillis - twepoch) << SEQUENCE_BITS) | getSequence());
     }
 }
@@ -15,6 +15,7 @@
  */
 package com.mybatisflex.core.logicdelete;
 
+import com.mybatisflex.core.context.FlexContext;
 import com.mybatisflex.core.logicdelete.impl.DefaultLogicDeleteProcessor;
 
 import java.util.function.Supplier;
@@ -28,7 +29,6 @@ public class LogicDeleteManager {
     }
 
     private static LogicDeleteProcessor processor = new DefaultLogicDeleteProcessor();
-    private static final ThreadLocal<Boolean> skipFlags = new ThreadLocal<>();
 
     /**
      * 获取逻辑删除处理器。
@@ -76,14 +76,14 @@ public class LogicDeleteManager {
      * 跳过逻辑删除字段处理。
      */
     public static void skipLogicDelete() {
-        skipFlags.set(Boolean.TRUE);
+        FlexContext.setCurrent(FlexContext.current().withSkipLogicDelete(true));
     }
 
     /**
      * 恢复逻辑删除字段处理。
      */
     public static void restoreLogicDelete() {
-        skipFlags.remove();
+        FlexContext.setCurrent(FlexContext.current().withSkipLogicDelete(false));
     }
 
     /**
@@ -96,11 +96,7 @@ public class LogicDeleteManager {
         if (logicDeleteColumn == null) {
             return null;
         }
-        Boolean skipFlag = skipFlags.get();
-        if (skipFlag == null) {
-            return logicDeleteColumn;
-        }
-        return skipFlag ? null : logicDeleteColumn;
+        return FlexContext.current().isSkipLogicDelete() ? null : logicDeleteColumn;
     }
 
 }
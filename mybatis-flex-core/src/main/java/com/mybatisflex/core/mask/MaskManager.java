@@ -15,6 +15,8 @@
  */
 package com.mybatisflex.core.mask;
 
+import com.mybatisflex.core.context.FlexContext;
+
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
@@ -33,7 +35,6 @@ public class MaskManager {
      */
     private static final Map<String, MaskProcessor> processorMap = new HashMap<>();
 
-    private static final ThreadLocal<Boolean> skipFlags = new ThreadLocal<>();
 
 
     static {
@@ -91,7 +92,7 @@ public class MaskManager {
      * 跳过脱敏处理
      */
     public static void skipMask() {
-        skipFlags.set(Boolean.TRUE);
+        FlexContext.setCurrent(FlexContext.current().withSkipMask(true));
     }
 
 
@@ -99,13 +100,20 @@ public class MaskManager {
      * 恢复脱敏处理
      */
     public static void restoreMask() {
-        skipFlags.remove();
+        FlexContext.setCurrent(FlexContext.current().withSkipMask(false));
+    }
+
+
+    /**
+     * 当前线程是否跳过了脱敏处理
+     */
+    public static boolean isSkipMask() {
+        return FlexContext.current().isSkipMask();
     }
 
 
     public static Object mask(String type, Object data) {
-        Boolean skipMask = skipFlags.get();
-        if (skipMask != null && skipMask) {
+        if (FlexContext.current().isSkipMask()) {
             return data;
         }
 
@@ -0,0 +1,175 @@
+/*
+ *  Copyright (c) 2022-2025, Mybatis-Flex (fuhai999@gmail.com).
+ *  <p>
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *  <p>
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *  <p>
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package com.mybatisflex.core.metrics;
+
+import com.mybatisflex.core.util.MapUtil;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 默认的指标收集器，在内存中按 类型、名称、数据源、执行结果 汇总执行次数、行数、各阶段耗时以及耗时分布。
+ *
+ * <p>记录过程是无锁的（{@link LongAdder} 与原子数组），可以通过 {@link #getSnapshot()} 随时获取汇总结果。
+ *
+ * @author michael
+ * @since 2026-10-19
+ */
+public class DefaultMetricsCollector implements MetricsCollector {
+
+    private static final String NO_DATA_SOURCE = "";
+
+    private final Map<StatementMetrics.Kind, Map<String, Map<String, Outcomes>>> statsMap = new EnumMap<>(StatementMetrics.Kind.class);
+
+    // 每个收集器实例独有，调用 reset() 后更换
+    private volatile Object epoch = new Object();
+
+    public DefaultMetricsCollector() {
+        for (StatementMetrics.Kind kind : StatementMetrics.Kind.values()) {
+            statsMap.put(kind, new ConcurrentHashMap<>());
+        }
+    }
+
+    @Override
+    public void record(StatementMetrics metrics) {
+        StatementMetrics.Kind kind = metrics.getKind();
+        String name = metrics.getName();
+        String dataSourceKey = metrics.getDataSourceKey();
+        Object currentEpoch = epoch;
+        Outcomes outcomes;
+        // MappedStatement id 与数据源 key 通常是同一个字符串对象，这里只比较引用
+        if (metrics.cachedEpoch == currentEpoch && metrics.cachedKind == kind
+            && metrics.cachedName == name && metrics.cachedDataSourceKey == dataSourceKey) {
+            outcomes = (Outcomes) metrics.cachedStats;
+        } else {
+            Map<String, Outcomes> dsStats = MapUtil.computeIfAbsent(statsMap.get(kind), name, key -> new ConcurrentHashMap<>());
+            outcomes = MapUtil.computeIfAbsent(dsStats, dataSourceKey == null ? NO_DATA_SOURCE : dataSourceKey, key -> new Outcomes());
+            metrics.cachedEpoch = currentEpoch;
+            metrics.cachedKind = kind;
+            metrics.cachedName = name;
+            metrics.cachedDataSourceKey = dataSourceKey;
+            metrics.cachedStats = outcomes;
+        }
+        outcomes.get(metrics.isSuccess()).record(metrics);
+    }
+
+    /**
+     * 获取当前的汇总结果。
+     *
+     * @return 汇总结果
+     */
+    public List<MetricsSnapshot> getSnapshot() {
+        List<MetricsSnapshot> snapshots = new ArrayList<>();
+        statsMap.forEach((kind, nameStats) -> nameStats.forEach((name, dsStats) -> dsStats.forEach((dataSourceKey, outcomes) -> {
+            String key = NO_DATA_SOURCE.equals(dataSourceKey) ? null : dataSourceKey;
+            snapshots.add(outcomes.success.snapshot(kind, name, key, true));
+            Stats error = outcomes.error;
+            if (error != null) {
+                snapshots.add(error.snapshot(kind, name, key, false));
+            }
+        })));
+        return snapshots;
+    }
+
+    /**
+     * 清空所有汇总结果。
+     */
+    public void reset() {
+        // 使各线程缓存的汇总对象失效
+        epoch = new Object();
+        statsMap.values().forEach(Map::clear);
+    }
+
+
+    /**
+     * 按执行结果分开汇总，失败的统计只在第一次失败时创建。
+     */
+    static class Outcomes {
+
+        private final Stats success = new Stats();
+        private volatile Stats error;
+
+        Stats get(boolean succeeded) {
+            if (succeeded) {
+                return success;
+            }
+            Stats stats = error;
+            if (stats == null) {
+                synchronized (this) {
+                    stats = error;
+                    if (stats == null) {
+                        error = stats = new Stats();
+                    }
+                }
+            }
+            return stats;
+        }
+    }
+
+
+    static class Stats {
+
+        // 执行次数取自直方图，总耗时为各阶段之和；未按阶段计时时各阶段为 0，跳过以减少记录时的原子操作
+        private final LongAdder rows = new LongAdder();
+        private final LongAdder buildNanos = new LongAdder();
+        private final LongAdder acquireNanos = new LongAdder();
+        private final LongAdder executeNanos = new LongAdder();
+        private final LongAdder mappingNanos = new LongAdder();
+        private final AtomicLong maxNanos = new AtomicLong();
+        private final LatencyHistogram histogram = new LatencyHistogram();
+
+        void record(StatementMetrics metrics) {
+            long total = metrics.getTotalNanos();
+            addIfPositive(rows, metrics.getRows());
+            addIfPositive(buildNanos, metrics.getBuildNanos());
+            addIfPositive(acquireNanos, metrics.getAcquireNanos());
+            executeNanos.add(metrics.getExecuteNanos());
+            addIfPositive(mappingNanos, metrics.getMappingNanos());
+            long max;
+            while (total > (max = maxNanos.get()) && !maxNanos.compareAndSet(max, total)) {
+                // 并发更新时重试
+            }
+            histogram.record(total);
+        }
+
+        private static void addIfPositive(LongAdder adder, long value) {
+            if (value > 0) {
+                adder.add(value);
+            }
+        }
+
+        MetricsSnapshot snapshot(StatementMetrics.Kind kind, String name, String dataSourceKey, boolean success) {
+            long c = histogram.count();
+            long max = maxNanos.get();
+            long build = buildNanos.sum();
+            long acquire = acquireNanos.sum();
+            long execute = executeNanos.sum();
+            long mapping = mappingNanos.sum();
+            return new MetricsSnapshot(kind, name, dataSourceKey, success, c, rows.sum()
+                , build + acquire + execute + mapping, build, acquire, execute, mapping
+                , max
+                , Math.min(max, histogram.percentile(0.50, c))
+                , Math.min(max, histogram.percentile(0.95, c))
+                , Math.min(max, histogram.percentile(0.99, c)));
+        }
+    }
+
+}
@@ -0,0 +1,175 @@
+/*
+ *  Copyright (c) 2022-2025, Mybatis-Flex (fuhai999@gmail.com).
+ *  <p>
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *  <p>
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *  <p>
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package com.mybatisflex.core.metrics;
+
+import com.mybatisflex.core.mybatis.binding.FlexMapperProxyFactory;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * {@link QueryDetector} 的检测作用域，只能在开启它的线程中使用。
+ *
+ * @author michael
+ * @since 2026-10-19
+ */
+public class DetectionScope implements AutoCloseable {
+
+    /**
+     * 未检测的作用域。
+     */
+    static final DetectionScope NONE = new DetectionScope(0, 0, 0);
+
+    private static final String[] FRAMEWORK_PACKAGES = {
+        "com.mybatisflex.core.", "org.apache.ibatis.", "org.mybatis.spring.",
+        "java.", "javax.", "jdk.", "sun.", "com.sun.", "org.springframework.aop.",
+    };
+
+    private final int repeatThreshold;
+    private final long slowThresholdNanos;
+    private final int stackDepth;
+    private final Map<String, Repeat> repeats = new HashMap<>();
+    private final List<QueryIssue> slowQueries = new ArrayList<>();
+    private int statementCount;
+    private boolean closed;
+
+    DetectionScope(int repeatThreshold, long slowThresholdNanos, int stackDepth) {
+        this.repeatThreshold = repeatThreshold;
+        this.slowThresholdNanos = slowThresholdNanos;
+        this.stackDepth = stackDepth;
+    }
+
+    /**
+     * 记录一次 SQL 执行。
+     *
+     * @param statementId  MappedStatement id
+     * @param sql          SQL
+     * @param elapsedNanos 耗时
+     */
+    public void record(String statementId, String sql, long elapsedNanos) {
+        if (this == NONE || closed) {
+            return;
+        }
+        statementCount++;
+        String fingerprint = SqlFingerprint.of(sql);
+
+        if (slowThresholdNanos > 0 && elapsedNanos >= slowThresholdNanos) {
+            slowQueries.add(new QueryIssue(QueryIssue.Type.SLOW_QUERY, statementId, sql, fingerprint, 1, elapsedNanos, captureStackTrace()));
+        }
+
+        if (repeatThreshold > 1) {
+            Repeat repeat = repeats.get(fingerprint);
+            if (repeat == null) {
+                repeats.put(fingerprint, new Repeat(statementId, sql, elapsedNanos));
+            } else {
+                repeat.count++;
+                repeat.elapsedNanos += elapsedNanos;
+                if (repeat.count == repeatThreshold) {
+                    repeat.stackTrace = captureStackTrace();
+                }
+            }
+        }
+    }
+
+    /**
+     * 作用域内执行的 SQL 数量。
+     */
+    public int getStatementCount() {
+        return statementCount;
+    }
+
+    /**
+     * 当前发现的问题。
+     *
+     * @return 问题列表
+     */
+    public List<QueryIssue> getIssues() {
+        if (this == NONE) {
+            return Collections.emptyList();
+        }
+        List<QueryIssue> issues = new ArrayList<>();
+        repeats.forEach((fingerprint, repeat) -> {
+            if (repeat.count >= repeatThreshold) {
+                issues.add(new QueryIssue(QueryIssue.Type.N_PLUS_ONE, repeat.statementId, repeat.sql, fingerprint
+                    , repeat.count, repeat.elapsedNanos, repeat.stackTrace));
+            }
+        });
+        issues.addAll(slowQueries);
+        return issues;
+    }
+
+    /**
+     * 结束检测，并报告发现的问题。
+     */
+    @Override
+    public void close() {
+        if (this == NONE || closed) {
+            return;
+        }
+        closed = true;
+        QueryDetector.closeScope(this);
+    }
+
+
+    private StackTraceElement[] captureStackTrace() {
+        StackTraceElement[] elements = new Throwable().getStackTrace();
+        List<StackTraceElement> result = new ArrayList<>(stackDepth);
+        for (StackTraceElement element : elements) {
+            if (result.size() >= stackDepth) {
+                break;
+            }
+            if (!isFrameworkFrame(element.getClassName())) {
+                result.add(element);
+            }
+        }
+        // 全部为框架内部调用时，保留原始的调用栈
+        return result.isEmpty() ? Arrays.copyOf(elements, Math.min(stackDepth, elements.length))
+            : result.toArray(new StackTraceElement[0]);
+    }
+
+    private static boolean isFrameworkFrame(String className) {
+        if (className.contains("$Proxy") || className.endsWith(FlexMapperProxyFactory.GENERATED_MAPPER_SUFFIX)) {
+            return true;
+        }
+        for (String pkg : FRAMEWORK_PACKAGES) {
+            if (className.startsWith(pkg)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+
+    static class Repeat {
+
+        private final String statementId;
+        private final String sql;
+        private int count = 1;
+        private long elapsedNanos;
+        private StackTraceElement[] stackTrace;
+
+        Repeat(String statementId, String sql, long elapsedNanos) {
+            this.statementId = statementId;
+            this.sql = sql;
+            this.elapsedNanos = elapsedNanos;
+        }
+    }
+
+}
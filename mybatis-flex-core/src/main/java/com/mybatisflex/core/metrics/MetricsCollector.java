@@ -0,0 +1,38 @@
+/*
+ *  Copyright (c) 2022-2025, Mybatis-Flex (fuhai999@gmail.com).
+ *  <p>
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *  <p>
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *  <p>
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package com.mybatisflex.core.metrics;
+
+/**
+ * 执行指标收集器。
+ *
+ * <p>每条 SQL 执行完成、每次关联查询完成以及每次批量刷新完成后，都会在当前线程中同步调用一次
+ * {@link #record(StatementMetrics)}，实现类需要保证足够轻量并且线程安全。
+ *
+ * @author michael
+ * @since 2026-10-19
+ */
+public interface MetricsCollector {
+
+    /**
+     * 记录一次执行指标。
+     *
+     * <p>注意：{@code metrics} 对象会在当前线程中被复用，方法返回后不能再持有该对象。
+     *
+     * @param metrics 执行指标
+     */
+    void record(StatementMetrics metrics);
+
+}
@@ -0,0 +1,254 @@
+/*
+ *  Copyright (c) 2022-2025, Mybatis-Flex (fuhai999@gmail.com).
+ *  <p>
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *  <p>
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *  <p>
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package com.mybatisflex.core.metrics;
+
+import com.mybatisflex.core.FlexGlobalConfig;
+import com.mybatisflex.core.datasource.DataSourceKey;
+import com.mybatisflex.core.util.ClassUtil;
+import com.mybatisflex.core.util.MapUtil;
+import com.mybatisflex.core.util.StringUtil;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 执行指标管理器，统一指标采集的配置入口。
+ *
+ * <p>开启后，每条 SQL 的执行耗时、行数以及执行结果（成功或者失败）会被记录，关联查询和批量刷新也会分别记录，
+ * 最终交给 {@link MetricsCollector} 处理。未开启时各个埋点只有一次静态字段的判断。
+ *
+ * <p>默认每条 SQL 只读取两次系统时间，耗时全部计入执行阶段；开启 {@link #setPhaseTimingEnable(boolean) phaseTimingEnable}
+ * 后，才会把 SQL 构建、获取连接、执行、结果映射四个阶段分别计时，每条 SQL 需要额外读取四次系统时间。
+ *
+ * @author michael
+ * @since 2026-10-19
+ */
+public class MetricsManager {
+
+    private MetricsManager() {
+    }
+
+    private static final ThreadLocal<StatementMetrics> CONTEXT = ThreadLocal.withInitial(StatementMetrics::new);
+    private static final Map<Class<?>, String> RELATION_NAMES = new ConcurrentHashMap<>();
+
+    private static boolean metricsEnable = false;
+    private static boolean phaseTimingEnable = false;
+    private static MetricsCollector metricsCollector = new DefaultMetricsCollector();
+
+    public static boolean isMetricsEnable() {
+        return metricsEnable;
+    }
+
+    public static void setMetricsEnable(boolean metricsEnable) {
+        MetricsManager.metricsEnable = metricsEnable;
+    }
+
+    public static boolean isPhaseTimingEnable() {
+        return phaseTimingEnable;
+    }
+
+    /**
+     * 设置是否按阶段（SQL 构建、获取连接、执行、结果映射）分别计时，默认关闭。
+     *
+     * @param phaseTimingEnable 是否按阶段计时
+     */
+    public static void setPhaseTimingEnable(boolean phaseTimingEnable) {
+        MetricsManager.phaseTimingEnable = phaseTimingEnable;
+    }
+
+    public static MetricsCollector getMetricsCollector() {
+        return metricsCollector;
+    }
+
+    public static void setMetricsCollector(MetricsCollector metricsCollector) {
+        MetricsManager.metricsCollector = metricsCollector;
+    }
+
+
+    /**
+     * Mapper 方法开始执行，嵌套调用时只记录最外层的开始时间。只在按阶段计时时调用，并且需要与 {@link #exitInvoke()} 成对调用。
+     */
+    public static void enterInvoke() {
+        StatementMetrics metrics = CONTEXT.get();
+        if (metrics.invokeDepth++ == 0) {
+            metrics.lastMarkNanos = System.nanoTime();
+        }
+    }
+
+    /**
+     * Mapper 方法执行结束。
+     */
+    public static void exitInvoke() {
+        StatementMetrics metrics = CONTEXT.get();
+        if (--metrics.invokeDepth <= 0) {
+            metrics.invokeDepth = 0;
+            metrics.lastMarkNanos = 0;
+        }
+    }
+
+    /**
+     * StatementHandler 被创建，此时 SQL 已经构建完成。
+     */
+    public static void statementCreated() {
+        StatementMetrics metrics = CONTEXT.get();
+        if (metrics.statementDepth > 0) {
+            // 结果映射过程中触发的嵌套查询，耗时计入外层的映射阶段
+            return;
+        }
+        long now = System.nanoTime();
+        metrics.reset(StatementMetrics.Kind.STATEMENT);
+        metrics.setBuildNanos(metrics.lastMarkNanos > 0 ? now - metrics.lastMarkNanos : 0);
+        metrics.createdNanos = now;
+        metrics.mappingStartNanos = 0;
+    }
+
+    /**
+     * 从数据源获取连接完成。
+     *
+     * @param nanos 获取连接的耗时
+     */
+    public static void connectionAcquired(long nanos) {
+        StatementMetrics metrics = CONTEXT.get();
+        if (metrics.statementDepth == 0 && metrics.createdNanos > 0) {
+            metrics.setAcquireNanos(metrics.getAcquireNanos() + nanos);
+        }
+    }
+
+    /**
+     * 结果集映射开始，映射的耗时计算到 SQL 执行结束为止。
+     */
+    public static void mappingStarted() {
+        if (!phaseTimingEnable) {
+            return;
+        }
+        StatementMetrics metrics = CONTEXT.get();
+        if (metrics.statementDepth == 1 && metrics.mappingStartNanos == 0) {
+            metrics.mappingStartNanos = System.nanoTime();
+        }
+    }
+
+    /**
+     * 结果集映射完成。
+     *
+     * @param rows 映射的行数
+     */
+    public static void resultsMapped(long rows) {
+        StatementMetrics metrics = CONTEXT.get();
+        if (metrics.statementDepth == 1) {
+            metrics.setRows(metrics.getRows() + rows);
+        }
+    }
+
+    /**
+     * SQL 开始执行。
+     *
+     * @return 是否为最外层的 SQL
+     */
+    public static boolean beginStatement() {
+        return CONTEXT.get().statementDepth++ == 0;
+    }
+
+    /**
+     * SQL 执行结束，最外层的 SQL 会被记录。
+     *
+     * @param outermost {@link #beginStatement()} 的返回值
+     * @param stmtId    MappedStatement id
+     * @param rows      影响的行数，查询时传入 {@code -1} 使用映射的行数
+     * @param success   是否执行成功，执行时抛出异常为 {@code false}
+     */
+    public static void endStatement(boolean outermost, String stmtId, long rows, boolean success) {
+        StatementMetrics metrics = CONTEXT.get();
+        metrics.statementDepth--;
+        if (!outermost || metrics.createdNanos == 0) {
+            return;
+        }
+        long now = System.nanoTime();
+        long elapsed = now - metrics.createdNanos;
+        if (metrics.mappingStartNanos != 0) {
+            metrics.setMappingNanos(now - metrics.mappingStartNanos);
+            metrics.mappingStartNanos = 0;
+        }
+        metrics.setExecuteNanos(Math.max(0, elapsed - metrics.getAcquireNanos() - metrics.getMappingNanos()));
+        metrics.setTotalNanos(metrics.getBuildNanos() + elapsed);
+        if (rows >= 0) {
+            metrics.setRows(rows);
+        }
+        metrics.setName(stmtId);
+        metrics.setDataSourceKey(currentDataSourceKey());
+        metrics.setSuccess(success);
+        metrics.createdNanos = 0;
+        metrics.lastMarkNanos = metrics.invokeDepth > 0 ? now : 0;
+        metricsCollector.record(metrics);
+    }
+
+    /**
+     * 记录一次关联查询。
+     *
+     * @param mapperClass Mapper 类
+     * @param startNanos  开始时间
+     * @param entities    主实体的数量
+     * @param success     是否查询成功
+     */
+    public static void recordRelations(Class<?> mapperClass, long startNanos, long entities, boolean success) {
+        long nanos = System.nanoTime() - startNanos;
+        String name = MapUtil.computeIfAbsent(RELATION_NAMES, mapperClass
+            , clazz -> ClassUtil.getUsefulClass(clazz).getName() + ".queryRelations");
+        StatementMetrics metrics = CONTEXT.get();
+        StatementMetrics relation = metrics.statementDepth == 0 ? metrics : new StatementMetrics();
+        relation.reset(StatementMetrics.Kind.RELATION);
+        relation.setName(name);
+        relation.setDataSourceKey(currentDataSourceKey());
+        relation.setTotalNanos(nanos);
+        relation.setExecuteNanos(nanos);
+        relation.setRows(entities);
+        relation.setSuccess(success);
+        metricsCollector.record(relation);
+    }
+
+    /**
+     * 记录一次批量刷新。
+     *
+     * @param stmtId     MappedStatement id
+     * @param startNanos 开始时间
+     * @param rows       影响的行数
+     * @param success    是否执行成功
+     */
+    public static void recordBatch(String stmtId, long startNanos, long rows, boolean success) {
+        long nanos = System.nanoTime() - startNanos;
+        StatementMetrics metrics = CONTEXT.get();
+        metrics.reset(StatementMetrics.Kind.BATCH);
+        metrics.setName(stmtId);
+        metrics.setDataSourceKey(currentDataSourceKey());
+        metrics.setTotalNanos(nanos);
+        metrics.setExecuteNanos(nanos);
+        metrics.setRows(rows);
+        metrics.setSuccess(success);
+        metricsCollector.record(metrics);
+    }
+
+
+    private static String currentDataSourceKey() {
+        String key = DataSourceKey.get();
+        if (StringUtil.noText(key)) {
+            FlexGlobalConfig config = FlexGlobalConfig.getDefaultConfig();
+            if (config != null && config.getConfiguration() != null) {
+                key = config.getDataSource().getDefaultDataSourceKey();
+            }
+        }
+        return key;
+    }
+
+}
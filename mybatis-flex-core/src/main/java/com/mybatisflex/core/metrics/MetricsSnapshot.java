@@ -0,0 +1,177 @@
+/*
+ *  Copyright (c) 2022-2025, Mybatis-Flex (fuhai999@gmail.com).
+ *  <p>
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *  <p>
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *  <p>
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package com.mybatisflex.core.metrics;
+
+/**
+ * {@link DefaultMetricsCollector} 中某个指标在某个数据源下的汇总快照，时间单位均为纳秒。
+ *
+ * @author michael
+ * @since 2026-10-19
+ */
+public class MetricsSnapshot {
+
+    private final StatementMetrics.Kind kind;
+    private final String name;
+    private final String dataSourceKey;
+    private final boolean success;
+    private final long count;
+    private final long rows;
+    private final long totalNanos;
+    private final long buildNanos;
+    private final long acquireNanos;
+    private final long executeNanos;
+    private final long mappingNanos;
+    private final long maxNanos;
+    private final long p50Nanos;
+    private final long p95Nanos;
+    private final long p99Nanos;
+
+    public MetricsSnapshot(StatementMetrics.Kind kind, String name, String dataSourceKey, boolean success, long count, long rows
+        , long totalNanos, long buildNanos, long acquireNanos, long executeNanos, long mappingNanos
+        , long maxNanos, long p50Nanos, long p95Nanos, long p99Nanos) {
+        this.kind = kind;
+        this.name = name;
+        this.dataSourceKey = dataSourceKey;
+        this.success = success;
+        this.count = count;
+        this.rows = rows;
+        this.totalNanos = totalNanos;
+        this.buildNanos = buildNanos;
+        this.acquireNanos = acquireNanos;
+        this.executeNanos = executeNanos;
+        this.mappingNanos = mappingNanos;
+        this.maxNanos = maxNanos;
+        this.p50Nanos = p50Nanos;
+        this.p95Nanos = p95Nanos;
+        this.p99Nanos = p99Nanos;
+    }
+
+    public StatementMetrics.Kind getKind() {
+        return kind;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public String getDataSourceKey() {
+        return dataSourceKey;
+    }
+
+    /**
+     * 执行结果，{@code false} 为执行时抛出异常的汇总。
+     */
+    public boolean isSuccess() {
+        return success;
+    }
+
+    /**
+     * 执行次数。
+     */
+    public long getCount() {
+        return count;
+    }
+
+    /**
+     * 累计行数。
+     */
+    public long getRows() {
+        return rows;
+    }
+
+    /**
+     * 累计总耗时。
+     */
+    public long getTotalNanos() {
+        return totalNanos;
+    }
+
+    /**
+     * 累计 SQL 构建耗时。
+     */
+    public long getBuildNanos() {
+        return buildNanos;
+    }
+
+    /**
+     * 累计获取连接耗时。
+     */
+    public long getAcquireNanos() {
+        return acquireNanos;
+    }
+
+    /**
+     * 累计执行耗时。
+     */
+    public long getExecuteNanos() {
+        return executeNanos;
+    }
+
+    /**
+     * 累计结果映射耗时。
+     */
+    public long getMappingNanos() {
+        return mappingNanos;
+    }
+
+    /**
+     * 单次最大耗时。
+     */
+    public long getMaxNanos() {
+        return maxNanos;
+    }
+
+    public long getP50Nanos() {
+        return p50Nanos;
+    }
+
+    public long getP95Nanos() {
+        return p95Nanos;
+    }
+
+    public long getP99Nanos() {
+        return p99Nanos;
+    }
+
+    /**
+     * 平均耗时。
+     */
+    public long getMeanNanos() {
+        return count == 0 ? 0 : totalNanos / count;
+    }
+
+    @Override
+    public String toString() {
+        return "MetricsSnapshot{" +
+            "kind=" + kind +
+            ", name='" + name + '\'' +
+            ", dataSourceKey='" + dataSourceKey + '\'' +
+            ", success=" + success +
+            ", count=" + count +
+            ", rows=" + rows +
+            ", totalNanos=" + totalNanos +
+            ", buildNanos=" + buildNanos +
+            ", acquireNanos=" + acquireNanos +
+            ", executeNanos=" + executeNanos +
+            ", mappingNanos=" + mappingNanos +
+            ", maxNanos=" + maxNanos +
+            ", p50Nanos=" + p50Nanos +
+            ", p95Nanos=" + p95Nanos +
+            ", p99Nanos=" + p99Nanos +
+            '}';
+    }
+
+}
@@ -0,0 +1,193 @@
+/*
+ *  Copyright (c) 2022-2025, Mybatis-Flex (fuhai999@gmail.com).
+ *  <p>
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *  <p>
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *  <p>
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package com.mybatisflex.core.metrics;
+
+import com.mybatisflex.core.exception.FlexExceptions;
+import org.apache.ibatis.logging.Log;
+import org.apache.ibatis.logging.LogFactory;
+
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 慢查询与 N+1 查询检测。
+ *
+ * <p>检测以作用域为单位进行，例如一次 HTTP 请求或者一段业务代码：
+ *
+ * <pre>{@code
+ * try (DetectionScope scope = QueryDetector.open()) {
+ *     for (Long id : ids) {
+ *         accountMapper.selectOneById(id);
+ *     }
+ * }
+ * }</pre>
+ *
+ * <p>作用域内结构相同（参见 {@link SqlFingerprint}）的 SQL 执行次数达到 {@link #getRepeatThreshold()} 时，
+ * 视为 N+1 查询；单条 SQL 的耗时超过 {@link #getSlowThresholdMillis()} 时，视为慢查询。作用域关闭时把发现的问题交给
+ * {@link QueryIssueReporter}，严格模式下会抛出异常（一般用于单元测试）。
+ *
+ * <p>可以通过 {@link #setSampleRate(double)} 只对部分作用域进行检测，未被采样的作用域没有额外开销。
+ *
+ * @author michael
+ * @since 2026-10-19
+ */
+public class QueryDetector {
+
+    private static final Log log = LogFactory.getLog(QueryDetector.class);
+
+    private QueryDetector() {
+    }
+
+    private static final ThreadLocal<DetectionScope> CURRENT = new ThreadLocal<>();
+
+    private static boolean detectorEnable = false;
+    private static boolean strict = false;
+    private static int repeatThreshold = 10;
+    private static long slowThresholdMillis = 1000;
+    private static double sampleRate = 1.0;
+    private static int stackDepth = 10;
+    private static QueryIssueReporter issueReporter = QueryDetector::logIssues;
+
+    public static boolean isDetectorEnable() {
+        return detectorEnable;
+    }
+
+    public static void setDetectorEnable(boolean detectorEnable) {
+        QueryDetector.detectorEnable = detectorEnable;
+    }
+
+    public static boolean isStrict() {
+        return strict;
+    }
+
+    /**
+     * 设置严格模式，严格模式下作用域关闭时若存在问题会抛出异常。
+     */
+    public static void setStrict(boolean strict) {
+        QueryDetector.strict = strict;
+    }
+
+    public static int getRepeatThreshold() {
+        return repeatThreshold;
+    }
+
+    /**
+     * 设置同一个作用域内相同结构的 SQL 被视为 N+1 查询的执行次数，默认为 10。
+     */
+    public static void setRepeatThreshold(int repeatThreshold) {
+        QueryDetector.repeatThreshold = repeatThreshold;
+    }
+
+    public static long getSlowThresholdMillis() {
+        return slowThresholdMillis;
+    }
+
+    /**
+     * 设置慢查询的阈值（毫秒），默认为 1000，小于等于 0 时不检测慢查询。
+     */
+    public static void setSlowThresholdMillis(long slowThresholdMillis) {
+        QueryDetector.slowThresholdMillis = slowThresholdMillis;
+    }
+
+    public static double getSampleRate() {
+        return sampleRate;
+    }
+
+    /**
+     * 设置作用域的采样率，取值 0 ~ 1，默认为 1（全部检测）。
+     */
+    public static void setSampleRate(double sampleRate) {
+        QueryDetector.sampleRate = sampleRate;
+    }
+
+    public static int getStackDepth() {
+        return stackDepth;
+    }
+
+    /**
+     * 设置调用栈采样的最大深度，默认为 10。
+     */
+    public static void setStackDepth(int stackDepth) {
+        QueryDetector.stackDepth = stackDepth;
+    }
+
+    public static QueryIssueReporter getIssueReporter() {
+        return issueReporter;
+    }
+
+    public static void setIssueReporter(QueryIssueReporter issueReporter) {
+        QueryDetector.issueReporter = issueReporter;
+    }
+
+
+    /**
+     * 在当前线程中开启一个检测作用域。
+     *
+     * <p>未开启检测、未被采样或者当前线程已经存在作用域时，返回一个空的作用域，关闭时不做任何操作。
+     *
+     * @return 作用域
+     */
+    public static DetectionScope open() {
+        if (!detectorEnable || CURRENT.get() != null) {
+            return DetectionScope.NONE;
+        }
+        if (sampleRate < 1.0 && ThreadLocalRandom.current().nextDouble() >= sampleRate) {
+            return DetectionScope.NONE;
+        }
+        DetectionScope scope = new DetectionScope(repeatThreshold, TimeUnit.MILLISECONDS.toNanos(slowThresholdMillis), stackDepth);
+        CURRENT.set(scope);
+        return scope;
+    }
+
+    /**
+     * 获取当前线程正在检测的作用域。
+     *
+     * @return 作用域，不存在时返回 {@code null}
+     */
+    public static DetectionScope currentScope() {
+        return detectorEnable ? CURRENT.get() : null;
+    }
+
+
+    static void closeScope(DetectionScope scope) {
+        if (CURRENT.get() == scope) {
+            CURRENT.remove();
+        }
+        List<QueryIssue> issues = scope.getIssues();
+        if (issues.isEmpty()) {
+            return;
+        }
+        if (issueReporter != null) {
+            issueReporter.report(issues);
+        }
+        if (strict) {
+            StringBuilder message = new StringBuilder("Detected ").append(issues.size()).append(" query issue(s):");
+            for (QueryIssue issue : issues) {
+                message.append('\n').append(issue);
+            }
+            throw FlexExceptions.wrap("%s", message);
+        }
+    }
+
+
+    private static void logIssues(List<QueryIssue> issues) {
+        for (QueryIssue issue : issues) {
+            log.warn(issue.toString());
+        }
+    }
+
+}
@@ -0,0 +1,123 @@
+/*
+ *  Copyright (c) 2022-2025, Mybatis-Flex (fuhai999@gmail.com).
+ *  <p>
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *  <p>
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *  <p>
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package com.mybatisflex.core.metrics;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link QueryDetector} 发现的问题。
+ *
+ * @author michael
+ * @since 2026-10-19
+ */
+public class QueryIssue {
+
+    /**
+     * 问题类型。
+     */
+    public enum Type {
+
+        /**
+         * 同一个作用域内，相同结构的 SQL 被重复执行（例如在循环中调用 selectOneById）。
+         */
+        N_PLUS_ONE,
+
+        /**
+         * 慢查询。
+         */
+        SLOW_QUERY
+    }
+
+    private final Type type;
+    private final String statementId;
+    private final String sql;
+    private final String fingerprint;
+    private final int count;
+    private final long elapsedNanos;
+    private final StackTraceElement[] stackTrace;
+
+    public QueryIssue(Type type, String statementId, String sql, String fingerprint, int count, long elapsedNanos, StackTraceElement[] stackTrace) {
+        this.type = type;
+        this.statementId = statementId;
+        this.sql = sql;
+        this.fingerprint = fingerprint;
+        this.count = count;
+        this.elapsedNanos = elapsedNanos;
+        this.stackTrace = stackTrace;
+    }
+
+    public Type getType() {
+        return type;
+    }
+
+    /**
+     * 发生问题的 Mapper 方法（MappedStatement id）。
+     */
+    public String getStatementId() {
+        return statementId;
+    }
+
+    /**
+     * SQL（重复执行时为第一次执行的 SQL）。
+     */
+    public String getSql() {
+        return sql;
+    }
+
+    public String getFingerprint() {
+        return fingerprint;
+    }
+
+    /**
+     * 执行次数，慢查询为 1。
+     */
+    public int getCount() {
+        return count;
+    }
+
+    /**
+     * 耗时，重复执行时为累计耗时。
+     */
+    public long getElapsedNanos() {
+        return elapsedNanos;
+    }
+
+    /**
+     * 触发问题时的调用栈（已过滤框架内部的调用）。
+     */
+    public StackTraceElement[] getStackTrace() {
+        return stackTrace;
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder();
+        if (type == Type.N_PLUS_ONE) {
+            sb.append("N+1 query: ").append(statementId).append(" executed ").append(count).append(" times");
+        } else {
+            sb.append("Slow query: ").append(statementId);
+        }
+        sb.append(" (").append(TimeUnit.NANOSECONDS.toMillis(elapsedNanos)).append("ms)")
+            .append(", sql: ").append(sql);
+        if (stackTrace != null) {
+            for (StackTraceElement element : stackTrace) {
+                sb.append("\n\tat ").append(element);
+            }
+        }
+        return sb.toString();
+    }
+
+}
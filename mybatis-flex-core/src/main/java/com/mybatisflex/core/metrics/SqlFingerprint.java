@@ -0,0 +1,100 @@
+/*
+ *  Copyright (c) 2022-2025, Mybatis-Flex (fuhai999@gmail.com).
+ *  <p>
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *  <p>
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *  <p>
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package com.mybatisflex.core.metrics;
+
+import java.util.regex.Pattern;
+
+/**
+ * SQL 结构指纹：去掉字面量以及参数个数的差异，只保留 SQL 的结构。
+ *
+ * <pre>
+ * SELECT * FROM tb_account WHERE id IN (?, ?, ?) AND name = 'michael'
+ * =&gt; SELECT * FROM tb_account WHERE id IN (?) AND name = ?
+ * </pre>
+ *
+ * @author michael
+ * @since 2026-10-19
+ */
+public class SqlFingerprint {
+
+    private static final Pattern PARAM_LIST = Pattern.compile("\\?(?:\\s*,\\s*\\?)+");
+    private static final Pattern VALUES_LIST = Pattern.compile("\\(\\?\\)(?:\\s*,\\s*\\(\\?\\))+");
+
+    private SqlFingerprint() {
+    }
+
+    /**
+     * 计算 SQL 的结构指纹。
+     *
+     * @param sql SQL
+     * @return 指纹
+     */
+    public static String of(String sql) {
+        if (sql == null) {
+            return null;
+        }
+        int length = sql.length();
+        StringBuilder sb = new StringBuilder(length);
+        boolean whitespace = false;
+        for (int i = 0; i < length; i++) {
+            char c = sql.charAt(i);
+            if (Character.isWhitespace(c)) {
+                whitespace = true;
+                continue;
+            }
+            if (whitespace) {
+                if (sb.length() > 0) {
+                    sb.append(' ');
+                }
+                whitespace = false;
+            }
+            if (c == '\'') {
+                // 字符串字面量，'' 为转义的单引号
+                i++;
+                while (i < length) {
+                    if (sql.charAt(i) == '\'') {
+                        if (i + 1 < length && sql.charAt(i + 1) == '\'') {
+                            i += 2;
+                            continue;
+                        }
+                        break;
+                    }
+                    i++;
+                }
+                sb.append('?');
+            } else if (Character.isDigit(c) && !isIdentifierPart(sb)) {
+                // 数字字面量，例如 1、1.5、1e10
+                while (i + 1 < length && (Character.isLetterOrDigit(sql.charAt(i + 1)) || sql.charAt(i + 1) == '.')) {
+                    i++;
+                }
+                sb.append('?');
+            } else {
+                sb.append(c);
+            }
+        }
+        String fingerprint = PARAM_LIST.matcher(sb).replaceAll("?");
+        return VALUES_LIST.matcher(fingerprint).replaceAll("(?)");
+    }
+
+    private static boolean isIdentifierPart(StringBuilder sb) {
+        if (sb.length() == 0) {
+            return false;
+        }
+        char prev = sb.charAt(sb.length() - 1);
+        return Character.isLetterOrDigit(prev) || prev == '_' || prev == '$';
+    }
+
+}
@@ -0,0 +1,214 @@
+/*
+ *  Copyright (c) 2022-2025, Mybatis-Flex (fuhai999@gmail.com).
+ *  <p>
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *  <p>
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *  <p>
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package com.mybatisflex.core.metrics;
+
+/**
+ * 一次执行的指标，时间单位均为纳秒。
+ *
+ * <p>该对象由 {@link MetricsManager} 按线程复用，只在 {@link MetricsCollector#record(StatementMetrics)}
+ * 调用期间有效。
+ *
+ * @author michael
+ * @since 2026-10-19
+ */
+public class StatementMetrics {
+
+    /**
+     * 指标类型。
+     */
+    public enum Kind {
+
+        /**
+         * 单条 SQL 的执行。
+         */
+        STATEMENT,
+
+        /**
+         * 一次 {@code @Relation*} 关联数据的查询。
+         */
+        RELATION,
+
+        /**
+         * 一次批量语句的刷新（{@code executeBatch}）。
+         */
+        BATCH
+    }
+
+    private Kind kind;
+    private String name;
+    private String dataSourceKey;
+    private long totalNanos;
+    private long buildNanos;
+    private long acquireNanos;
+    private long executeNanos;
+    private long mappingNanos;
+    private long rows;
+    private boolean success;
+
+    // 以下为线程内的计时状态
+    int invokeDepth;
+    int statementDepth;
+    long lastMarkNanos;
+    long createdNanos;
+    long mappingStartNanos;
+
+    // DefaultMetricsCollector 在当前线程中最近一次查找到的汇总对象，同一条 SQL 连续执行时省去 Map 查找
+    Object cachedEpoch;
+    Kind cachedKind;
+    String cachedName;
+    String cachedDataSourceKey;
+    Object cachedStats;
+
+    StatementMetrics() {
+    }
+
+    void reset(Kind kind) {
+        this.kind = kind;
+        this.name = null;
+        this.dataSourceKey = null;
+        this.totalNanos = 0;
+        this.buildNanos = 0;
+        this.acquireNanos = 0;
+        this.executeNanos = 0;
+        this.mappingNanos = 0;
+        this.rows = 0;
+        this.success = true;
+    }
+
+    /**
+     * 指标类型。
+     */
+    public Kind getKind() {
+        return kind;
+    }
+
+    /**
+     * 指标名称：SQL 执行为 MappedStatement 的 id（即 Mapper 方法），关联查询为 Mapper 接口名 + {@code .queryRelations}。
+     */
+    public String getName() {
+        return name;
+    }
+
+    void setName(String name) {
+        this.name = name;
+    }
+
+    /**
+     * 执行时使用的数据源。
+     */
+    public String getDataSourceKey() {
+        return dataSourceKey;
+    }
+
+    void setDataSourceKey(String dataSourceKey) {
+        this.dataSourceKey = dataSourceKey;
+    }
+
+    /**
+     * 总耗时，等于各阶段耗时之和。
+     */
+    public long getTotalNanos() {
+        return totalNanos;
+    }
+
+    void setTotalNanos(long totalNanos) {
+        this.totalNanos = totalNanos;
+    }
+
+    /**
+     * SQL 构建耗时：从 Mapper 方法被调用（或者上一条 SQL 执行结束）到创建 StatementHandler 的耗时，
+     * 包括 QueryWrapper 转换为 SQL、参数处理等。
+     */
+    public long getBuildNanos() {
+        return buildNanos;
+    }
+
+    void setBuildNanos(long buildNanos) {
+        this.buildNanos = buildNanos;
+    }
+
+    /**
+     * 从数据源获取连接的耗时。
+     */
+    public long getAcquireNanos() {
+        return acquireNanos;
+    }
+
+    void setAcquireNanos(long acquireNanos) {
+        this.acquireNanos = acquireNanos;
+    }
+
+    /**
+     * 预编译、设置参数以及数据库执行的耗时。
+     */
+    public long getExecuteNanos() {
+        return executeNanos;
+    }
+
+    void setExecuteNanos(long executeNanos) {
+        this.executeNanos = executeNanos;
+    }
+
+    /**
+     * 结果集映射的耗时。
+     */
+    public long getMappingNanos() {
+        return mappingNanos;
+    }
+
+    void setMappingNanos(long mappingNanos) {
+        this.mappingNanos = mappingNanos;
+    }
+
+    /**
+     * 行数：查询为映射的行数，更新为影响的行数，关联查询为主实体的数量。
+     */
+    public long getRows() {
+        return rows;
+    }
+
+    void setRows(long rows) {
+        this.rows = rows;
+    }
+
+    /**
+     * 是否执行成功，执行时抛出异常为 {@code false}。
+     */
+    public boolean isSuccess() {
+        return success;
+    }
+
+    void setSuccess(boolean success) {
+        this.success = success;
+    }
+
+    @Override
+    public String toString() {
+        return "StatementMetrics{" +
+            "kind=" + kind +
+            ", name='" + name + '\'' +
+            ", dataSourceKey='" + dataSourceKey + '\'' +
+            ", totalNanos=" + totalNanos +
+            ", buildNanos=" + buildNanos +
+            ", acquireNanos=" + acquireNanos +
+            ", executeNanos=" + executeNanos +
+            ", mappingNanos=" + mappingNanos +
+            ", rows=" + rows +
+            ", success=" + success +
+            '}';
+    }
+
+}
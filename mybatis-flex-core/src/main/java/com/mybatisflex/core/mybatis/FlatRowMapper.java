@@ -0,0 +1,315 @@
+/*
+ *  Copyright (c) 2022-2025, Mybatis-Flex (fuhai999@gmail.com).
+ *  <p>
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *  <p>
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *  <p>
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package com.mybatisflex.core.mybatis;
+
+import com.mybatisflex.core.FlexGlobalConfig;
+import com.mybatisflex.core.table.TableInfo;
+import com.mybatisflex.core.table.TableInfoFactory;
+import com.mybatisflex.core.util.PropertyAccessor;
+import org.apache.ibatis.executor.resultset.ResultSetWrapper;
+import org.apache.ibatis.mapping.ResultMap;
+import org.apache.ibatis.mapping.ResultMapping;
+import org.apache.ibatis.reflection.MetaClass;
+import org.apache.ibatis.reflection.factory.DefaultObjectFactory;
+import org.apache.ibatis.reflection.wrapper.DefaultObjectWrapperFactory;
+import org.apache.ibatis.reflection.wrapper.ObjectWrapperFactory;
+import org.apache.ibatis.session.AutoMappingUnknownColumnBehavior;
+import org.apache.ibatis.session.Configuration;
+import org.apache.ibatis.type.TypeHandler;
+import org.apache.ibatis.type.TypeHandlerRegistry;
+
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Modifier;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Supplier;
+
+/**
+ * 扁平结果映射的映射器。
+ *
+ * <p>对于没有嵌套映射、鉴别器、构造方法映射以及嵌套查询的 ResultMap，按照 (ResultMap, 结果集的列布局) 生成一次映射器：
+ * 列的下标、TypeHandler 以及属性的 setter（{@link PropertyAccessor}）都在生成时确定，映射每一行时只需按下标读取列并直接赋值，
+ * 不再为每一行创建 {@code MetaObject}，也不再按列名查找列。不满足条件时由 {@link FlexDefaultResultSetHandler} 使用原有的映射逻辑。
+ *
+ * @author michael
+ * @since 2026-10-19
+ */
+class FlatRowMapper {
+
+    /**
+     * 不支持快速映射的布局。
+     */
+    static final FlatRowMapper UNSUPPORTED = new FlatRowMapper(null, new int[0], new TypeHandler[0]
+        , new PropertyAccessor[0], new String[0], new boolean[0], null, false, false);
+
+    private final Supplier<Object> instantiator;
+    private final int[] columnIndexes;
+    private final TypeHandler<?>[] typeHandlers;
+    private final PropertyAccessor[] accessors;
+    private final String[] properties;
+    private final boolean[] primitives;
+    private final TableInfo tableInfo;
+    private final boolean callSettersOnNulls;
+    private final boolean returnInstanceForEmptyRow;
+
+    private FlatRowMapper(Supplier<Object> instantiator, int[] columnIndexes, TypeHandler<?>[] typeHandlers
+        , PropertyAccessor[] accessors, String[] properties, boolean[] primitives, TableInfo tableInfo
+        , boolean callSettersOnNulls, boolean returnInstanceForEmptyRow) {
+        this.instantiator = instantiator;
+        this.columnIndexes = columnIndexes;
+        this.typeHandlers = typeHandlers;
+        this.accessors = accessors;
+        this.properties = properties;
+        this.primitives = primitives;
+        this.tableInfo = tableInfo;
+        this.callSettersOnNulls = callSettersOnNulls;
+        this.returnInstanceForEmptyRow = returnInstanceForEmptyRow;
+    }
+
+
+    /**
+     * 映射当前行，与 {@code getRowValue} 一致：先自动映射、再属性映射，所有列都为 {@code null} 时返回 {@code null}
+     * （除非开启了 returnInstanceForEmptyRow）。
+     */
+    Object map(ResultSet rs) throws SQLException {
+        Object rowValue = instantiator.get();
+        boolean foundValues = false;
+        for (int i = 0; i < columnIndexes.length; i++) {
+            Object value = typeHandlers[i].getResult(rs, columnIndexes[i]);
+            if (value != null) {
+                foundValues = true;
+            } else if (!callSettersOnNulls || primitives[i]) {
+                continue;
+            }
+            if (tableInfo != null) {
+                value = tableInfo.invokeOnSetListener(rowValue, properties[i], value);
+            }
+            accessors[i].set(rowValue, value);
+        }
+        return foundValues || returnInstanceForEmptyRow ? rowValue : null;
+    }
+
+
+    /**
+     * 为结果集的列布局生成映射器，不支持时返回 {@link #UNSUPPORTED}。
+     *
+     * @param configuration Configuration
+     * @param resultMap     ResultMap
+     * @param rsw           结果集
+     * @param autoMapping   是否进行自动映射
+     * @return 映射器
+     */
+    static FlatRowMapper create(Configuration configuration, ResultMap resultMap, ResultSetWrapper rsw, boolean autoMapping) throws SQLException {
+        Class<?> type = resultMap.getType();
+        if (!isSupported(configuration, resultMap, type)) {
+            return UNSUPPORTED;
+        }
+
+        Constructor<?> constructor;
+        try {
+            constructor = type.getDeclaredConstructor();
+        } catch (NoSuchMethodException e) {
+            // 通过构造方法进行自动映射
+            return UNSUPPORTED;
+        }
+
+        List<String> columnNames = rsw.getColumnNames();
+        List<Binding> bindings = new ArrayList<>();
+
+        if (autoMapping) {
+            TypeHandlerRegistry typeHandlerRegistry = configuration.getTypeHandlerRegistry();
+            MetaClass metaClass = MetaClass.forClass(type, configuration.getReflectorFactory());
+            for (String columnName : rsw.getUnmappedColumnNames(resultMap, null)) {
+                String property = metaClass.findProperty(columnName, configuration.isMapUnderscoreToCamelCase());
+                if (property == null || !metaClass.hasSetter(property) || resultMap.getMappedProperties().contains(property)) {
+                    continue;
+                }
+                Class<?> propertyType = metaClass.getSetterType(property);
+                if (!typeHandlerRegistry.hasTypeHandler(propertyType, rsw.getJdbcType(columnName))) {
+                    continue;
+                }
+                Binding binding = Binding.of(type, property, indexOf(columnNames, columnName), rsw.getTypeHandler(propertyType, columnName));
+                if (binding == null) {
+                    return UNSUPPORTED;
+                }
+                bindings.add(binding);
+            }
+            if (bindings.isEmpty() && FlexGlobalConfig.getDefaultConfig().getUnMappedColumnHandler() != null) {
+                // 未匹配列由 UnMappedColumnHandler 处理
+                return UNSUPPORTED;
+            }
+        }
+
+        Set<String> mappedColumnNames = new HashSet<>(rsw.getMappedColumnNames(resultMap, null));
+        for (ResultMapping propertyMapping : resultMap.getPropertyResultMappings()) {
+            if (propertyMapping.getNestedResultMapId() != null || propertyMapping.getNestedQueryId() != null
+                || propertyMapping.getResultSet() != null || propertyMapping.isCompositeResult()) {
+                return UNSUPPORTED;
+            }
+            String column = propertyMapping.getColumn();
+            if (column == null || propertyMapping.getProperty() == null
+                || !mappedColumnNames.contains(column.toUpperCase(Locale.ENGLISH))) {
+                continue;
+            }
+            Binding binding = Binding.of(type, propertyMapping.getProperty(), indexOf(columnNames, column), propertyMapping.getTypeHandler());
+            if (binding == null) {
+                return UNSUPPORTED;
+            }
+            bindings.add(binding);
+        }
+
+        int size = bindings.size();
+        int[] columnIndexes = new int[size];
+        TypeHandler<?>[] typeHandlers = new TypeHandler[size];
+        PropertyAccessor[] accessors = new PropertyAccessor[size];
+        String[] properties = new String[size];
+        boolean[] primitives = new boolean[size];
+        for (int i = 0; i < size; i++) {
+            Binding binding = bindings.get(i);
+            columnIndexes[i] = binding.columnIndex;
+            typeHandlers[i] = binding.typeHandler;
+            accessors[i] = binding.accessor;
+            properties[i] = binding.accessor.getProperty();
+            primitives[i] = binding.accessor.getSetterType().isPrimitive();
+        }
+
+        TableInfo tableInfo = null;
+        if (configuration.getObjectWrapperFactory() instanceof FlexWrapperFactory) {
+            tableInfo = TableInfoFactory.ofEntityClass(type);
+            if (tableInfo != null && !tableInfo.hasSetListener()) {
+                tableInfo = null;
+            }
+        }
+
+        return new FlatRowMapper(PropertyAccessor.createInstantiator(constructor), columnIndexes, typeHandlers, accessors
+            , properties, primitives, tableInfo, configuration.isCallSettersOnNulls(), configuration.isReturnInstanceForEmptyRow());
+    }
+
+
+    private static boolean isSupported(Configuration configuration, ResultMap resultMap, Class<?> type) {
+        if (resultMap.getDiscriminator() != null || resultMap.hasNestedResultMaps() || resultMap.hasNestedQueries()
+            || !resultMap.getConstructorResultMappings().isEmpty()) {
+            return false;
+        }
+        // 单列结果（例如 String、Long）由 TypeHandler 直接创建
+        if (configuration.getTypeHandlerRegistry().hasTypeHandler(type)) {
+            return false;
+        }
+        if (type.isInterface() || type.isArray() || type.isPrimitive() || type.isEnum()
+            || Modifier.isAbstract(type.getModifiers())
+            || Map.class.isAssignableFrom(type) || Collection.class.isAssignableFrom(type)) {
+            return false;
+        }
+        // 自定义的 ObjectFactory、ObjectWrapperFactory 可能改变实例化以及赋值的行为
+        if (configuration.getObjectFactory().getClass() != DefaultObjectFactory.class) {
+            return false;
+        }
+        ObjectWrapperFactory objectWrapperFactory = configuration.getObjectWrapperFactory();
+        if (objectWrapperFactory.getClass() != FlexWrapperFactory.class
+            && objectWrapperFactory.getClass() != DefaultObjectWrapperFactory.class) {
+            return false;
+        }
+        // 未知列的 WARNING、FAILING 行为需要在每次映射时触发
+        return configuration.getAutoMappingUnknownColumnBehavior() == AutoMappingUnknownColumnBehavior.NONE;
+    }
+
+
+    /**
+     * 与 {@link ResultSet#findColumn(String)} 一致，返回第一个名称相同（忽略大小写）的列。
+     */
+    private static int indexOf(List<String> columnNames, String column) {
+        for (int i = 0; i < columnNames.size(); i++) {
+            if (columnNames.get(i).equalsIgnoreCase(column)) {
+                return i + 1;
+            }
+        }
+        return -1;
+    }
+
+
+    static class Binding {
+
+        private final int columnIndex;
+        private final TypeHandler<?> typeHandler;
+        private final PropertyAccessor accessor;
+
+        private Binding(int columnIndex, TypeHandler<?> typeHandler, PropertyAccessor accessor) {
+            this.columnIndex = columnIndex;
+            this.typeHandler = typeHandler;
+            this.accessor = accessor;
+        }
+
+        static Binding of(Class<?> type, String property, int columnIndex, TypeHandler<?> typeHandler) {
+            // 嵌套属性（例如 user.name）需要 MetaObject 逐级创建对象
+            if (columnIndex < 1 || typeHandler == null || property.indexOf('.') >= 0) {
+                return null;
+            }
+            PropertyAccessor accessor = PropertyAccessor.of(type, property);
+            return accessor.hasSetter() ? new Binding(columnIndex, typeHandler, accessor) : null;
+        }
+    }
+
+
+    /**
+     * 映射器的缓存键：ResultMap 以及结果集的列名、列类型。
+     */
+    static class Layout {
+
+        private final ResultMap resultMap;
+        private final List<String> columnNames;
+        private final List<?> jdbcTypes;
+        private final List<String> classNames;
+        private final int hashCode;
+
+        Layout(ResultMap resultMap, ResultSetWrapper rsw) {
+            this.resultMap = resultMap;
+            this.columnNames = rsw.getColumnNames();
+            this.jdbcTypes = rsw.getJdbcTypes();
+            this.classNames = rsw.getClassNames();
+            this.hashCode = Objects.hash(System.identityHashCode(resultMap), columnNames, jdbcTypes, classNames);
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof Layout)) {
+                return false;
+            }
+            Layout layout = (Layout) o;
+            return resultMap == layout.resultMap
+                && hashCode == layout.hashCode
+                && columnNames.equals(layout.columnNames)
+                && jdbcTypes.equals(layout.jdbcTypes)
+                && classNames.equals(layout.classNames);
+        }
+
+        @Override
+        public int hashCode() {
+            return hashCode;
+        }
+    }
+
+}
@@ -17,12 +17,14 @@ package com.mybatisflex.core.mybatis;
 
 import com.mybatisflex.annotation.Table;
 import com.mybatisflex.core.FlexConsts;
+import com.mybatisflex.core.cache.EntityCacheManager;
 import com.mybatisflex.core.handler.CompositeEnumTypeHandler;
 import com.mybatisflex.core.keygen.MultiEntityKeyGenerator;
 import com.mybatisflex.core.keygen.MultiRowKeyGenerator;
 import com.mybatisflex.core.keygen.MybatisKeyGeneratorUtil;
 import com.mybatisflex.core.keygen.RowKeyGenerator;
 import com.mybatisflex.core.mybatis.binding.FlexMapperRegistry;
+import com.mybatisflex.core.mybatis.executor.EntityCacheExecutor;
 import com.mybatisflex.core.mybatis.executor.FlexBatchExecutor;
 import com.mybatisflex.core.mybatis.executor.FlexReuseExecutor;
 import com.mybatisflex.core.mybatis.executor.FlexSimpleExecutor;
@@ -38,6 +40,7 @@ import org.apache.ibatis.executor.keygen.NoKeyGenerator;
 import org.apache.ibatis.executor.keygen.SelectKeyGenerator;
 import org.apache.ibatis.executor.parameter.ParameterHandler;
 import org.apache.ibatis.executor.resultset.ResultSetHandler;
+import org.apache.ibatis.executor.resultset.ResultSetWrapper;
 import org.apache.ibatis.executor.statement.StatementHandler;
 import org.apache.ibatis.mapping.BoundSql;
 import org.apache.ibatis.mapping.Environment;
@@ -45,9 +48,11 @@ import org.apache.ibatis.mapping.MappedStatement;
 import org.apache.ibatis.mapping.ResultMap;
 import org.apache.ibatis.session.*;
 import org.apache.ibatis.transaction.Transaction;
+import org.apache.ibatis.type.TypeHandler;
 
 import java.lang.reflect.ParameterizedType;
 import java.lang.reflect.Type;
+import java.sql.SQLException;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
@@ -61,6 +66,8 @@ public class FlexConfiguration extends Configuration {
 
     private static final Map<String, MappedStatement> dynamicMappedStatementCache = new ConcurrentHashMap<>();
     private final MapperRegistry mapperRegistry = new FlexMapperRegistry(this);
+    private final Map<FlatRowMapper.Layout, FlatRowMapper> flatRowMapperCache = new ConcurrentHashMap<>();
+    private final Map<TypeHandler<?>, SqlArgsBindingPlan.ParameterBinder> parameterBinderCache = new ConcurrentHashMap<>();
 
     public FlexConfiguration() {
         setObjectWrapperFactory(new FlexWrapperFactory());
@@ -74,6 +81,29 @@ public class FlexConfiguration extends Configuration {
         setDefaultEnumTypeHandler(CompositeEnumTypeHandler.class);
     }
 
+    /**
+     * 获取结果集列布局对应的扁平映射器，不支持时返回 {@link FlatRowMapper#UNSUPPORTED}。
+     */
+    FlatRowMapper getFlatRowMapper(ResultMap resultMap, ResultSetWrapper rsw, boolean autoMapping) throws SQLException {
+        FlatRowMapper.Layout layout = new FlatRowMapper.Layout(resultMap, rsw);
+        FlatRowMapper mapper = flatRowMapperCache.get(layout);
+        if (mapper == null) {
+            mapper = FlatRowMapper.create(this, resultMap, rsw, autoMapping);
+            FlatRowMapper existing = flatRowMapperCache.putIfAbsent(layout, mapper);
+            if (existing != null) {
+                mapper = existing;
+            }
+        }
+        return mapper;
+    }
+
+    /**
+     * 获取参数处理器与绑定方式的缓存。
+     */
+    Map<TypeHandler<?>, SqlArgsBindingPlan.ParameterBinder> getParameterBinderCache() {
+        return parameterBinderCache;
+    }
+
     /**
      * 为原生 sql 设置参数
      */
@@ -133,6 +163,9 @@ public class FlexConfiguration extends Configuration {
         if (cacheEnabled) {
             executor = new CachingExecutor(executor);
         }
+        if (EntityCacheManager.isEnable()) {
+            executor = new EntityCacheExecutor(executor);
+        }
         executor = (Executor) interceptorChain.pluginAll(executor);
         return executor;
     }
@@ -16,6 +16,7 @@
 package com.mybatisflex.core.mybatis;
 
 import com.mybatisflex.core.FlexGlobalConfig;
+import com.mybatisflex.core.metrics.MetricsManager;
 import com.mybatisflex.core.util.MapUtil;
 import org.apache.ibatis.annotations.AutomapConstructor;
 import org.apache.ibatis.annotations.Param;
@@ -80,10 +81,14 @@ public class FlexDefaultResultSetHandler extends DefaultResultSetHandler {
     private final ReflectorFactory reflectorFactory;
 
     // nested resultmaps
-    private final Map<CacheKey, Object> nestedResultObjects = new HashMap<>();
+    private final Map<Object, Object> nestedResultObjects = new HashMap<>();
     private final Map<String, Object> ancestorObjects = new HashMap<>();
     private Object previousRowValue;
 
+    // primary key based row keys
+    private final Map<ResultMap, Map<String, RowKeyPlan>> rowKeyPlans = new HashMap<>();
+    private ResultSetWrapper rowKeyPlanResultSet;
+
     // multiple resultsets
     private final Map<String, ResultMapping> nextResultMaps = new HashMap<>();
     private final Map<CacheKey, List<PendingRelation>> pendingRelations = new HashMap<>();
@@ -178,6 +183,27 @@ public class FlexDefaultResultSetHandler extends DefaultResultSetHandler {
     //
     @Override
     public List<Object> handleResultSets(Statement stmt) throws SQLException {
+        if (!MetricsManager.isMetricsEnable()) {
+            return doHandleResultSets(stmt);
+        }
+        MetricsManager.mappingStarted();
+        List<Object> results = doHandleResultSets(stmt);
+        MetricsManager.resultsMapped(countRows(results));
+        return results;
+    }
+
+    private static long countRows(List<Object> results) {
+        if (results.size() <= 1 || !(results.get(0) instanceof List)) {
+            return results.size();
+        }
+        long rows = 0;
+        for (Object result : results) {
+            rows += result instanceof List ? ((List<?>) result).size() : 1;
+        }
+        return rows;
+    }
+
+    private List<Object> doHandleResultSets(Statement stmt) throws SQLException {
         ErrorContext.instance().activity("handling results").object(mappedStatement.getId());
 
         final List<Object> multipleResults = new ArrayList<>();
@@ -277,6 +303,8 @@ public class FlexDefaultResultSetHandler extends DefaultResultSetHandler {
 
     private void cleanUpAfterHandlingResultSet() {
         nestedResultObjects.clear();
+        rowKeyPlans.clear();
+        rowKeyPlanResultSet = null;
     }
 
     private void validateResultMapsCount(ResultSetWrapper rsw, int resultMapCount) {
@@ -362,13 +390,32 @@ public class FlexDefaultResultSetHandler extends DefaultResultSetHandler {
         DefaultResultContext<Object> resultContext = new DefaultResultContext<>();
         ResultSet resultSet = rsw.getResultSet();
         skipRows(resultSet, rowBounds);
+        FlatRowMapper flatRowMapper = getFlatRowMapper(rsw, resultMap, parentMapping);
         while (shouldProcessMoreRows(resultContext, rowBounds) && !resultSet.isClosed() && resultSet.next()) {
-            ResultMap discriminatedResultMap = resolveDiscriminatedResultMap(resultSet, resultMap, null);
-            Object rowValue = getRowValue(rsw, discriminatedResultMap, null);
+            Object rowValue;
+            if (flatRowMapper != null) {
+                rowValue = flatRowMapper.map(resultSet);
+            } else {
+                ResultMap discriminatedResultMap = resolveDiscriminatedResultMap(resultSet, resultMap, null);
+                rowValue = getRowValue(rsw, discriminatedResultMap, null);
+            }
             storeObject(resultHandler, resultContext, rowValue, parentMapping, resultSet);
         }
     }
 
+    /**
+     * 获取扁平结果映射器，不满足条件时返回 {@code null}，由 {@link #getRowValue(ResultSetWrapper, ResultMap, String)} 逐行映射。
+     */
+    private FlatRowMapper getFlatRowMapper(ResultSetWrapper rsw, ResultMap resultMap, ResultMapping parentMapping) throws SQLException {
+        if (parentMapping != null || !(configuration instanceof FlexConfiguration)
+            || !FlexGlobalConfig.getDefaultConfig().isFlatResultMappingEnable()) {
+            return null;
+        }
+        FlatRowMapper mapper = ((FlexConfiguration) configuration).getFlatRowMapper(resultMap, rsw
+            , shouldApplyAutomaticMappings(resultMap, false));
+        return mapper == FlatRowMapper.UNSUPPORTED ? null : mapper;
+    }
+
     private void storeObject(ResultHandler<?> resultHandler, DefaultResultContext<Object> resultContext, Object rowValue,
                              ResultMapping parentMapping, ResultSet rs) throws SQLException {
         if (parentMapping != null) {
@@ -427,7 +474,7 @@ public class FlexDefaultResultSetHandler extends DefaultResultSetHandler {
     // GET VALUE FROM ROW FOR NESTED RESULT MAP
     //
 
-    private Object getRowValue(ResultSetWrapper rsw, ResultMap resultMap, CacheKey combinedKey, String columnPrefix,
+    private Object getRowValue(ResultSetWrapper rsw, ResultMap resultMap, Object combinedKey, String columnPrefix,
                                Object partialObject) throws SQLException {
         final String resultMapId = resultMap.getId();
         Object rowValue = partialObject;
@@ -1058,7 +1105,7 @@ public class FlexDefaultResultSetHandler extends DefaultResultSetHandler {
         Object rowValue = previousRowValue;
         while (shouldProcessMoreRows(resultContext, rowBounds) && !resultSet.isClosed() && resultSet.next()) {
             final ResultMap discriminatedResultMap = resolveDiscriminatedResultMap(resultSet, resultMap, null);
-            final CacheKey rowKey = createRowKey(discriminatedResultMap, rsw, null);
+            final Object rowKey = createRowKey(discriminatedResultMap, rsw, null);
             Object partialObject = nestedResultObjects.get(rowKey);
             // issue #577 && #542
             if (mappedStatement.isResultOrdered()) {
@@ -1087,7 +1134,7 @@ public class FlexDefaultResultSetHandler extends DefaultResultSetHandler {
     //
 
     private boolean applyNestedResultMappings(ResultSetWrapper rsw, ResultMap resultMap, MetaObject metaObject,
-                                              String parentPrefix, CacheKey parentRowKey, boolean newObject) {
+                                              String parentPrefix, Object parentRowKey, boolean newObject) {
         boolean foundValues = false;
         for (ResultMapping resultMapping : resultMap.getPropertyResultMappings()) {
             final String nestedResultMapId = resultMapping.getNestedResultMapId();
@@ -1106,8 +1153,8 @@ public class FlexDefaultResultSetHandler extends DefaultResultSetHandler {
                             continue;
                         }
                     }
-                    final CacheKey rowKey = createRowKey(nestedResultMap, rsw, columnPrefix);
-                    final CacheKey combinedKey = combineKeys(rowKey, parentRowKey);
+                    final Object rowKey = createRowKey(nestedResultMap, rsw, columnPrefix);
+                    final Object combinedKey = combineKeys(rowKey, parentRowKey);
                     Object rowValue = nestedResultObjects.get(combinedKey);
                     boolean knownValue = rowValue != null;
                     instantiateCollectionPropertyIfAppropriate(resultMapping, metaObject); // mandatory
@@ -1172,7 +1219,11 @@ public class FlexDefaultResultSetHandler extends DefaultResultSetHandler {
     // UNIQUE RESULT KEY
     //
 
-    private CacheKey createRowKey(ResultMap resultMap, ResultSetWrapper rsw, String columnPrefix) throws SQLException {
+    private Object createRowKey(ResultMap resultMap, ResultSetWrapper rsw, String columnPrefix) throws SQLException {
+        RowKeyPlan rowKeyPlan = getRowKeyPlan(resultMap, rsw, columnPrefix);
+        if (rowKeyPlan != null) {
+            return rowKeyPlan.createRowKey(rsw.getResultSet(), configuration.isReturnInstanceForEmptyRow());
+        }
         final CacheKey cacheKey = new CacheKey();
         cacheKey.update(resultMap.getId());
         List<ResultMapping> resultMappings = getResultMappingsForRowKey(resultMap);
@@ -1191,11 +1242,17 @@ public class FlexDefaultResultSetHandler extends DefaultResultSetHandler {
         return cacheKey;
     }
 
-    private CacheKey combineKeys(CacheKey rowKey, CacheKey parentRowKey) {
-        if (rowKey.getUpdateCount() > 1 && parentRowKey.getUpdateCount() > 1) {
+    private Object combineKeys(Object rowKey, Object parentRowKey) {
+        if (rowKey == CacheKey.NULL_CACHE_KEY || parentRowKey == CacheKey.NULL_CACHE_KEY) {
+            return CacheKey.NULL_CACHE_KEY;
+        }
+        if (rowKey instanceof PkRowKey) {
+            return ((PkRowKey) rowKey).withParent(parentRowKey);
+        }
+        if (((CacheKey) rowKey).getUpdateCount() > 1) {
             CacheKey combinedKey;
             try {
-                combinedKey = rowKey.clone();
+                combinedKey = ((CacheKey) rowKey).clone();
             } catch (CloneNotSupportedException e) {
                 throw new ExecutorException("Error cloning cache key.  Cause: " + e, e);
             }
@@ -1205,6 +1262,23 @@ public class FlexDefaultResultSetHandler extends DefaultResultSetHandler {
         return CacheKey.NULL_CACHE_KEY;
     }
 
+    /**
+     * 获取 ResultMap 的主键行标识，ResultMap 没有主键（{@code <id>} 或者 {@code @Id}）映射时返回 {@code null}。
+     */
+    private RowKeyPlan getRowKeyPlan(ResultMap resultMap, ResultSetWrapper rsw, String columnPrefix) throws SQLException {
+        if (rowKeyPlanResultSet != rsw) {
+            rowKeyPlans.clear();
+            rowKeyPlanResultSet = rsw;
+        }
+        Map<String, RowKeyPlan> plans = rowKeyPlans.computeIfAbsent(resultMap, k -> new HashMap<>());
+        RowKeyPlan plan = plans.get(columnPrefix);
+        if (plan == null) {
+            plan = RowKeyPlan.create(resultMap, rsw, columnPrefix);
+            plans.put(columnPrefix, plan);
+        }
+        return plan == RowKeyPlan.NONE ? null : plan;
+    }
+
     private List<ResultMapping> getResultMappingsForRowKey(ResultMap resultMap) {
         List<ResultMapping> resultMappings = resultMap.getIdResultMappings();
         if (resultMappings.isEmpty()) {
@@ -16,6 +16,10 @@
 package com.mybatisflex.core.mybatis;
 
 import com.mybatisflex.core.audit.AuditManager;
+import com.mybatisflex.core.dialect.DialectFactory;
+import com.mybatisflex.core.metrics.DetectionScope;
+import com.mybatisflex.core.metrics.MetricsManager;
+import com.mybatisflex.core.metrics.QueryDetector;
 import org.apache.ibatis.cursor.Cursor;
 import org.apache.ibatis.executor.Executor;
 import org.apache.ibatis.executor.ExecutorException;
@@ -39,18 +43,27 @@ import java.util.List;
  * 主要作用：
  * 1、替换 PreparedStatementHandler 为 FlexPreparedStatementHandler
  * 2、进行数据审计
+ * 3、游标查询时，由方言配置流式读取
+ * 4、采集执行指标，检测慢查询与 N+1 查询
  */
 public class FlexStatementHandler implements StatementHandler {
 
     private final StatementHandler delegate;
     private final BoundSql boundSql;
     private final boolean auditEnable = AuditManager.isAuditEnable();
+    private final boolean metricsEnable = MetricsManager.isMetricsEnable();
+    private final DetectionScope detectionScope = QueryDetector.currentScope();
     private final Configuration configuration;
     private final String stmtId;
+    private final boolean fetchSizeConfigured;
 
     public FlexStatementHandler(Executor executor, MappedStatement ms, Object parameter, RowBounds rowBounds, ResultHandler resultHandler, BoundSql boundSql) {
+        if (metricsEnable) {
+            MetricsManager.statementCreated();
+        }
         configuration = ms.getConfiguration();
         stmtId = ms.getId();
+        fetchSizeConfigured = ms.getFetchSize() != null || configuration.getDefaultFetchSize() != null;
         switch (ms.getStatementType()) {
             case STATEMENT:
                 delegate = new SimpleStatementHandler(executor, ms, parameter, rowBounds, resultHandler, boundSql);
@@ -71,12 +84,31 @@ public class FlexStatementHandler implements StatementHandler {
 
     @Override
     public Statement prepare(Connection connection, Integer transactionTimeout) throws SQLException {
-        return delegate.prepare(connection, transactionTimeout);
+        try {
+            return delegate.prepare(connection, transactionTimeout);
+        } catch (SQLException | RuntimeException e) {
+            statementFailed();
+            throw e;
+        }
     }
 
     @Override
     public void parameterize(Statement statement) throws SQLException {
-        delegate.parameterize(statement);
+        try {
+            delegate.parameterize(statement);
+        } catch (SQLException | RuntimeException e) {
+            statementFailed();
+            throw e;
+        }
+    }
+
+    /**
+     * 预编译或者设置参数时失败（例如 SQL 语法错误），SQL 不会被执行，这里同样记录为一次失败的执行。
+     */
+    private void statementFailed() {
+        if (metricsEnable) {
+            MetricsManager.endStatement(MetricsManager.beginStatement(), stmtId, 0, false);
+        }
     }
 
     @Override
@@ -93,22 +125,66 @@ public class FlexStatementHandler implements StatementHandler {
 
     @Override
     public int update(Statement statement) throws SQLException {
+        return instrumented() ? instrument(() -> doUpdate(statement)) : doUpdate(statement);
+    }
+
+    private int doUpdate(Statement statement) throws SQLException {
         return auditEnable ? AuditManager.startAudit(() -> delegate.update(statement), stmtId, statement, boundSql, configuration)
             : delegate.update(statement);
     }
 
     @Override
     public <E> List<E> query(Statement statement, ResultHandler resultHandler) throws SQLException {
+        return instrumented() ? instrument(() -> doQuery(statement, resultHandler)) : doQuery(statement, resultHandler);
+    }
+
+    private <E> List<E> doQuery(Statement statement, ResultHandler resultHandler) throws SQLException {
         return auditEnable ? AuditManager.startAudit(() -> delegate.query(statement, resultHandler), stmtId, statement, boundSql, configuration)
             : delegate.query(statement, resultHandler);
     }
 
     @Override
     public <E> Cursor<E> queryCursor(Statement statement) throws SQLException {
+        if (!fetchSizeConfigured) {
+            DialectFactory.getDialect().prepareCursorStatement(statement);
+        }
+        // 游标的结果映射发生在遍历过程中，这里只记录执行阶段
+        return instrumented() ? instrument(() -> doQueryCursor(statement)) : doQueryCursor(statement);
+    }
+
+    private <E> Cursor<E> doQueryCursor(Statement statement) throws SQLException {
         return auditEnable ? AuditManager.startAudit(() -> delegate.queryCursor(statement), stmtId, statement, boundSql, configuration)
             : delegate.queryCursor(statement);
     }
 
+    private boolean instrumented() {
+        return metricsEnable || detectionScope != null;
+    }
+
+    /**
+     * 采集执行指标，并交给慢查询与 N+1 查询检测。
+     */
+    private <T> T instrument(AuditManager.AuditRunnable<T> runnable) throws SQLException {
+        boolean outermost = metricsEnable && MetricsManager.beginStatement();
+        long start = detectionScope != null ? System.nanoTime() : 0;
+        T result = null;
+        boolean success = false;
+        try {
+            result = runnable.execute();
+            success = true;
+            return result;
+        } finally {
+            if (detectionScope != null) {
+                detectionScope.record(stmtId, boundSql.getSql(), System.nanoTime() - start);
+            }
+            if (metricsEnable) {
+                // 更新为影响的行数，查询为映射的行数，游标查询不统计行数
+                long rows = result instanceof Integer ? (Integer) result : result instanceof Cursor ? 0 : -1;
+                MetricsManager.endStatement(outermost, stmtId, rows, success);
+            }
+        }
+    }
+
     @Override
     public BoundSql getBoundSql() {
         return delegate.getBoundSql();
@@ -0,0 +1,191 @@
+/*
+ *  Copyright (c) 2022-2025, Mybatis-Flex (fuhai999@gmail.com).
+ *  <p>
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *  <p>
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *  <p>
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package com.mybatisflex.core.mybatis;
+
+import com.mybatisflex.core.BaseMapper;
+import com.mybatisflex.core.dialect.DialectFactory;
+import com.mybatisflex.core.dialect.IDialect;
+import com.mybatisflex.core.dialect.OperateType;
+import com.mybatisflex.core.exception.FlexExceptions;
+import com.mybatisflex.core.query.QueryColumn;
+import com.mybatisflex.core.query.QueryWrapper;
+import com.mybatisflex.core.table.TableInfo;
+import com.mybatisflex.core.table.TableInfoFactory;
+import com.mybatisflex.core.util.ArrayUtil;
+import com.mybatisflex.core.util.ClassUtil;
+import com.mybatisflex.core.util.FieldWrapper;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 按需批量加载大字段（{@code @Column(isLarge = true)}）。
+ *
+ * <p>大字段默认不会被查询，该类根据实体的主键，通过 {@code SELECT pk, large_column FROM table WHERE pk IN (...)}
+ * 一次性查询同一批实体的大字段，并回填到原有的实体中。主键条件与 {@code selectListByIds} 相同（复合主键使用行值表达式等），
+ * 每条 SQL 的主键数量受 {@link IDialect#getMaxBindParameters()} 限制。
+ *
+ * @author michael
+ * @since 2026-10-19
+ */
+final class LargeColumnLoader {
+
+    private LargeColumnLoader() {
+    }
+
+    @SuppressWarnings("unchecked")
+    static <E> void load(BaseMapper<E> mapper, Collection<E> entities, String... properties) {
+        if (entities == null || entities.isEmpty()) {
+            return;
+        }
+
+        E first = null;
+        for (E entity : entities) {
+            if (entity != null) {
+                first = entity;
+                break;
+            }
+        }
+        if (first == null) {
+            return;
+        }
+
+        Class<E> entityClass = (Class<E>) ClassUtil.getUsefulClass(first.getClass());
+        TableInfo tableInfo = TableInfoFactory.ofEntityClass(entityClass);
+        String[] primaryColumns = tableInfo.getPrimaryColumns();
+        if (ArrayUtil.isEmpty(primaryColumns)) {
+            throw FlexExceptions.wrap("Can not load large columns of entity \"%s\", because it has no primary key.", entityClass.getName());
+        }
+
+        List<String> loadProperties = getLoadProperties(tableInfo, properties);
+        if (loadProperties.isEmpty()) {
+            return;
+        }
+
+        // 相同主键的实体（例如重复出现在列表中）都需要回填
+        Map<Object, List<E>> entitiesByKey = new LinkedHashMap<>();
+        for (E entity : entities) {
+            if (entity == null) {
+                continue;
+            }
+            Object key = toKey(tableInfo.getPkValue(entity));
+            if (key != null) {
+                entitiesByKey.computeIfAbsent(key, k -> new ArrayList<>(1)).add(entity);
+            }
+        }
+        if (entitiesByKey.isEmpty()) {
+            return;
+        }
+
+        List<QueryColumn> selectColumns = new ArrayList<>(primaryColumns.length + loadProperties.size());
+        for (int i = 0; i < primaryColumns.length; i++) {
+            selectColumns.add(tableInfo.getQueryColumnByProperty(tableInfo.getPrimaryKeyList().get(i).getProperty()));
+        }
+        FieldWrapper[] fieldWrappers = new FieldWrapper[loadProperties.size()];
+        for (int i = 0; i < loadProperties.size(); i++) {
+            selectColumns.add(tableInfo.getQueryColumnByProperty(loadProperties.get(i)));
+            fieldWrappers[i] = FieldWrapper.of(entityClass, loadProperties.get(i));
+        }
+
+        if (mapper == null) {
+            mapper = Mappers.ofEntityClass(entityClass);
+        }
+        IDialect dialect = DialectFactory.getDialect();
+        String table = tableInfo.getWrapSchemaAndTableName(dialect, OperateType.SELECT);
+        int batchSize = Math.max(1, dialect.getMaxBindParameters() / primaryColumns.length);
+        List<Object> keys = new ArrayList<>(entitiesByKey.keySet());
+        for (int from = 0; from < keys.size(); from += batchSize) {
+            List<Object> batchKeys = keys.subList(from, Math.min(from + batchSize, keys.size()));
+            QueryWrapper queryWrapper = QueryWrapper.create()
+                .select(selectColumns)
+                .where(dialect.forPrimaryKeysCondition(table, primaryColumns, batchKeys.size()), toParams(batchKeys));
+
+            List<E> loaded = mapper.selectListByQuery(queryWrapper);
+            for (E source : loaded) {
+                List<E> targets = entitiesByKey.get(toKey(tableInfo.getPkValue(source)));
+                if (targets == null) {
+                    continue;
+                }
+                for (FieldWrapper fieldWrapper : fieldWrappers) {
+                    Object value = fieldWrapper.get(source);
+                    for (E target : targets) {
+                        fieldWrapper.set(value, target);
+                    }
+                }
+            }
+        }
+    }
+
+    private static List<String> getLoadProperties(TableInfo tableInfo, String[] properties) {
+        Map<String, String> columnPropertyMapping = new HashMap<>();
+        tableInfo.getPropertyColumnMapping().forEach((property, column) -> columnPropertyMapping.put(column, property));
+
+        List<String> loadProperties = new ArrayList<>();
+        if (ArrayUtil.isEmpty(properties)) {
+            for (String largeColumn : tableInfo.getLargeColumns()) {
+                String property = columnPropertyMapping.get(largeColumn);
+                if (property != null) {
+                    loadProperties.add(property);
+                }
+            }
+        } else {
+            for (String property : properties) {
+                if (!tableInfo.getPropertyColumnMapping().containsKey(property)) {
+                    throw FlexExceptions.wrap("Can not find column of property \"%s\" in entity \"%s\".", property, tableInfo.getEntityClass().getName());
+                }
+                loadProperties.add(property);
+            }
+        }
+        return loadProperties;
+    }
+
+    /**
+     * 展开为与主键条件占位符顺序一致的参数，复合主键为 a, b, a, b ...
+     */
+    private static Object[] toParams(List<Object> keys) {
+        List<Object> params = new ArrayList<>(keys.size());
+        for (Object key : keys) {
+            if (key instanceof List) {
+                params.addAll((List<?>) key);
+            } else {
+                params.add(key);
+            }
+        }
+        return params.toArray();
+    }
+
+    /**
+     * 复合主键使用 List 作为 Map 的 key，任意主键为 {@code null} 的实体不会被加载。
+     */
+    private static Object toKey(Object pkValue) {
+        if (pkValue instanceof Object[]) {
+            Object[] values = (Object[]) pkValue;
+            for (Object value : values) {
+                if (value == null) {
+                    return null;
+                }
+            }
+            return Arrays.asList(values);
+        }
+        return pkValue;
+    }
+
+}
@@ -17,17 +17,22 @@ package com.mybatisflex.core.mybatis;
 
 import com.mybatisflex.core.BaseMapper;
 import com.mybatisflex.core.FlexGlobalConfig;
+import com.mybatisflex.core.exception.FlexAssert;
 import com.mybatisflex.core.exception.FlexExceptions;
+import com.mybatisflex.core.mybatis.binding.FlexMapperProxy;
 import com.mybatisflex.core.util.StringUtil;
 import org.apache.ibatis.reflection.ExceptionUtil;
+import org.apache.ibatis.session.Configuration;
 import org.apache.ibatis.session.ExecutorType;
 import org.apache.ibatis.session.SqlSession;
 import org.apache.ibatis.session.SqlSessionFactory;
+import org.apache.ibatis.session.defaults.DefaultSqlSessionFactory;
 import com.mybatisflex.core.util.MapUtil;
 
 import java.lang.reflect.InvocationHandler;
 import java.lang.reflect.Method;
 import java.lang.reflect.Proxy;
+import java.util.Collection;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
 
@@ -95,6 +100,66 @@ public class Mappers {
         return (M) mapperObject;
     }
 
+    /**
+     * 获取 {@link BaseMapper} 对象所在环境的 {@link SqlSessionFactory}，用于在 Mapper 所在的环境中打开新的会话。
+     * 无法识别 Mapper 对象时（例如被其他代理再次包装）返回默认环境的 {@link SqlSessionFactory}。
+     *
+     * @param mapper {@link BaseMapper} 对象
+     * @return {@link SqlSessionFactory}
+     */
+    public static SqlSessionFactory getSqlSessionFactory(Object mapper) {
+        if (mapper != null && Proxy.isProxyClass(mapper.getClass())) {
+            InvocationHandler handler = Proxy.getInvocationHandler(mapper);
+            if (handler instanceof MapperHandler) {
+                return ((MapperHandler) handler).sqlSessionFactory;
+            }
+        }
+        Configuration configuration = FlexMapperProxy.getConfiguration(mapper);
+        if (configuration == null) {
+            return FlexGlobalConfig.getDefaultConfig().getSqlSessionFactory();
+        }
+        FlexGlobalConfig globalConfig = FlexGlobalConfig.getConfig(configuration);
+        if (globalConfig != null && globalConfig.getConfiguration() == configuration) {
+            return globalConfig.getSqlSessionFactory();
+        }
+        // 相同环境 id 的配置已经被重新初始化，使用 Mapper 自身的 Configuration
+        return new DefaultSqlSessionFactory(configuration);
+    }
+
+    /**
+     * 批量加载实体的大字段（{@code @Column(isLarge = true)}）。
+     *
+     * <p>大字段默认不会被查询，该方法根据实体的主键，每批最多 500 个实体，通过一条
+     * {@code SELECT pk, large_column ... WHERE pk IN (...)} 查询大字段并回填到实体中，避免逐条查询。
+     *
+     * @param entities 同一个实体类的对象，通常为列表查询的结果
+     */
+    public static <E> void loadLargeColumns(Collection<E> entities) {
+        LargeColumnLoader.load(null, entities);
+    }
+
+    /**
+     * 批量加载实体的指定属性，可用于加载部分大字段，或者其他没有被查询的字段。
+     *
+     * @param entities   同一个实体类的对象，通常为列表查询的结果
+     * @param properties 需要加载的属性，为空时加载所有的大字段
+     */
+    public static <E> void loadLargeColumns(Collection<E> entities, String... properties) {
+        LargeColumnLoader.load(null, entities, properties);
+    }
+
+    /**
+     * 通过指定的 {@link BaseMapper}（例如其他环境的 Mapper）批量加载实体的大字段或指定属性。
+     *
+     * @param mapper     实体类对应的 {@link BaseMapper}
+     * @param entities   同一个实体类的对象，通常为列表查询的结果
+     * @param properties 需要加载的属性，为空时加载所有的大字段
+     */
+    public static <E> void loadLargeColumns(BaseMapper<E> mapper, Collection<E> entities, String... properties) {
+        FlexAssert.notNull(mapper, "mapper");
+        LargeColumnLoader.load(mapper, entities, properties);
+    }
+
     private static class MapperHandler implements InvocationHandler {
 
         private final Class<?> mapperClass;
@@ -0,0 +1,88 @@
+/*
+ *  Copyright (c) 2022-2025, Mybatis-Flex (fuhai999@gmail.com).
+ *  <p>
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *  <p>
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *  <p>
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package com.mybatisflex.core.mybatis;
+
+import org.apache.ibatis.reflection.ArrayUtil;
+
+import java.util.Arrays;
+
+/**
+ * 基于主键值的行标识，整数类型的主键直接保存为 {@code long}，避免装箱以及比较时的类型判断。
+ *
+ * @author michael
+ * @since 2026-10-19
+ */
+final class PkRowKey {
+
+    private final RowKeyPlan plan;
+    private final long number;
+    /**
+     * 非整数类型的主键值，复合主键时为 {@code Object[]}。
+     */
+    private final Object value;
+    /**
+     * 父级行标识，嵌套结果映射中同一个对象在不同的父级下是不同的行。
+     */
+    private final Object parent;
+    private final int hashCode;
+
+    PkRowKey(RowKeyPlan plan, long number, Object value, Object parent) {
+        this.plan = plan;
+        this.number = number;
+        this.value = value;
+        this.parent = parent;
+
+        int h = System.identityHashCode(plan);
+        h = 31 * h + Long.hashCode(number);
+        h = 31 * h + (value instanceof Object[] ? Arrays.deepHashCode((Object[]) value) : ArrayUtil.hashCode(value));
+        h = 31 * h + (parent == null ? 0 : parent.hashCode());
+        this.hashCode = h;
+    }
+
+    PkRowKey withParent(Object parent) {
+        return new PkRowKey(plan, number, value, parent);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof PkRowKey)) {
+            return false;
+        }
+        PkRowKey that = (PkRowKey) o;
+        if (hashCode != that.hashCode || plan != that.plan || number != that.number) {
+            return false;
+        }
+        boolean valueEquals = value instanceof Object[] && that.value instanceof Object[]
+            ? Arrays.deepEquals((Object[]) value, (Object[]) that.value)
+            : ArrayUtil.equals(value, that.value);
+        return valueEquals && (parent == null ? that.parent == null : parent.equals(that.parent));
+    }
+
+    @Override
+    public int hashCode() {
+        return hashCode;
+    }
+
+    @Override
+    public String toString() {
+        Object v = value == null ? number : value instanceof Object[] ? Arrays.deepToString((Object[]) value) : value;
+        return parent == null ? String.valueOf(v) : v + ":" + parent;
+    }
+
+}
@@ -0,0 +1,136 @@
+/*
+ *  Copyright (c) 2022-2025, Mybatis-Flex (fuhai999@gmail.com).
+ *  <p>
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *  <p>
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *  <p>
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package com.mybatisflex.core.mybatis;
+
+import org.apache.ibatis.cache.CacheKey;
+import org.apache.ibatis.executor.resultset.ResultSetWrapper;
+import org.apache.ibatis.mapping.ResultMap;
+import org.apache.ibatis.mapping.ResultMapping;
+import org.apache.ibatis.type.TypeHandler;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+
+/**
+ * 嵌套结果映射（join 查询）中基于主键的行标识。
+ *
+ * <p>ResultMap 含有主键映射（{@code <id>} 或者实体类的 {@code @Id}）时，按照 (ResultMap, 列前缀, 结果集) 确定一次主键列的下标以及
+ * TypeHandler，之后每一行只读取主键列并生成 {@link PkRowKey}，不再为每一行构建包含列名的 {@link CacheKey}。
+ *
+ * @author michael
+ * @since 2026-10-19
+ */
+class RowKeyPlan {
+
+    /**
+     * ResultMap 没有主键映射，使用 {@link CacheKey} 作为行标识。
+     */
+    static final RowKeyPlan NONE = new RowKeyPlan(new int[0], new TypeHandler[0]);
+
+    private final int[] columnIndexes;
+    private final TypeHandler<?>[] typeHandlers;
+
+    private RowKeyPlan(int[] columnIndexes, TypeHandler<?>[] typeHandlers) {
+        this.columnIndexes = columnIndexes;
+        this.typeHandlers = typeHandlers;
+    }
+
+
+    /**
+     * 生成当前行的行标识，与 {@code CacheKey} 一致：所有主键列都为 {@code null} 时返回 {@link CacheKey#NULL_CACHE_KEY}
+     * （除非开启了 returnInstanceForEmptyRow）。
+     */
+    Object createRowKey(ResultSet rs, boolean returnInstanceForEmptyRow) throws SQLException {
+        if (columnIndexes.length == 1) {
+            Object value = typeHandlers[0].getResult(rs, columnIndexes[0]);
+            if (value == null) {
+                // 与主键值为 0 的行区分
+                return returnInstanceForEmptyRow ? new PkRowKey(this, 0, new Object[1], null) : CacheKey.NULL_CACHE_KEY;
+            }
+            if (value instanceof Long || value instanceof Integer || value instanceof Short || value instanceof Byte) {
+                return new PkRowKey(this, ((Number) value).longValue(), null, null);
+            }
+            return new PkRowKey(this, 0, value, null);
+        }
+
+        Object[] values = new Object[columnIndexes.length];
+        boolean foundValues = returnInstanceForEmptyRow && values.length > 0;
+        for (int i = 0; i < values.length; i++) {
+            values[i] = typeHandlers[i].getResult(rs, columnIndexes[i]);
+            foundValues = foundValues || values[i] != null;
+        }
+        return foundValues ? new PkRowKey(this, 0, values, null) : CacheKey.NULL_CACHE_KEY;
+    }
+
+
+    /**
+     * 为结果集生成主键行标识，ResultMap 没有主键映射时返回 {@link #NONE}。
+     *
+     * @param resultMap    ResultMap
+     * @param rsw          结果集
+     * @param columnPrefix 列前缀
+     * @return RowKeyPlan
+     */
+    static RowKeyPlan create(ResultMap resultMap, ResultSetWrapper rsw, String columnPrefix) throws SQLException {
+        List<ResultMapping> idResultMappings = resultMap.getIdResultMappings();
+        if (idResultMappings.isEmpty()) {
+            return NONE;
+        }
+
+        Set<String> mappedColumnNames = rsw.getMappedColumnNames(resultMap, columnPrefix);
+        List<String> columnNames = rsw.getColumnNames();
+        List<Integer> columnIndexes = new ArrayList<>(idResultMappings.size());
+        List<TypeHandler<?>> typeHandlers = new ArrayList<>(idResultMappings.size());
+        for (ResultMapping resultMapping : idResultMappings) {
+            if (!resultMapping.isSimple()) {
+                continue;
+            }
+            String column = resultMapping.getColumn();
+            if (column != null && columnPrefix != null && !columnPrefix.isEmpty()) {
+                column = columnPrefix + column;
+            }
+            // Issue #114
+            if (column != null && mappedColumnNames.contains(column.toUpperCase(Locale.ENGLISH))) {
+                columnIndexes.add(indexOf(columnNames, column));
+                typeHandlers.add(resultMapping.getTypeHandler());
+            }
+        }
+
+        int[] indexes = new int[columnIndexes.size()];
+        for (int i = 0; i < indexes.length; i++) {
+            indexes[i] = columnIndexes.get(i);
+        }
+        return new RowKeyPlan(indexes, typeHandlers.toArray(new TypeHandler[0]));
+    }
+
+
+    /**
+     * 与 {@link ResultSet#findColumn(String)} 一致，返回第一个名称相同（忽略大小写）的列。
+     */
+    private static int indexOf(List<String> columnNames, String column) {
+        for (int i = 0; i < columnNames.size(); i++) {
+            if (columnNames.get(i).equalsIgnoreCase(column)) {
+                return i + 1;
+            }
+        }
+        throw new IllegalStateException("Column \"" + column + "\" not found in the result set.");
+    }
+
+}
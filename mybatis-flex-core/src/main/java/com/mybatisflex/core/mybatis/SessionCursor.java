@@ -0,0 +1,238 @@
+/*
+ *  Copyright (c) 2022-2025, Mybatis-Flex (fuhai999@gmail.com).
+ *  <p>
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *  <p>
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *  <p>
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package com.mybatisflex.core.mybatis;
+
+import com.mybatisflex.core.exception.FlexExceptions;
+import org.apache.ibatis.cursor.Cursor;
+import org.apache.ibatis.session.SqlSession;
+import org.apache.ibatis.session.SqlSessionFactory;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * 持有独立 {@link SqlSession} 的游标，关闭游标时同时关闭会话并释放数据库连接。
+ *
+ * <p>游标在独立的会话中打开，因此不需要在 Spring 事务中也能正常读取数据。在 Spring 事务或者
+ * {@code Db.tx()} 中使用时，会话使用的是当前事务的连接，关闭会话不会关闭事务连接。
+ * 游标读取完毕时也会自动关闭，但仍然建议通过 try-with-resources 使用：
+ *
+ * <pre>{@code
+ * try (Stream<Row> stream = Db.stream(queryWrapper)) {
+ *     stream.forEach(row -> ...);
+ * }
+ * }</pre>
+ *
+ * @param <T> 数据类型
+ * @author michael
+ * @since 2026-10-19
+ */
+public class SessionCursor<T> implements Cursor<T> {
+
+    /**
+     * 分批处理时默认的窗口大小
+     */
+    public static final int DEFAULT_WINDOW_SIZE = 1000;
+
+    /**
+     * 当前线程正在打开的游标是否与其他查询共用连接。
+     */
+    private static final ThreadLocal<Boolean> SHARED_CONNECTION = new ThreadLocal<>();
+
+    private final Cursor<T> delegate;
+    private final SqlSession sqlSession;
+    private boolean closed;
+
+    public SessionCursor(Cursor<T> delegate, SqlSession sqlSession) {
+        this.delegate = delegate;
+        this.sqlSession = sqlSession;
+    }
+
+    /**
+     * 打开一个新的会话，并通过 {@code function} 查询游标。查询失败时会话会被立即关闭。
+     *
+     * @param sqlSessionFactory 会话工厂
+     * @param function          查询游标
+     * @return 游标
+     */
+    public static <T> SessionCursor<T> open(SqlSessionFactory sqlSessionFactory, Function<SqlSession, Cursor<T>> function) {
+        return open(sqlSessionFactory, function, false);
+    }
+
+    /**
+     * 打开一个新的会话，并通过 {@code function} 查询游标。查询失败时会话会被立即关闭。
+     *
+     * <p>{@code sharedConnection} 为 {@code true} 表示读取游标期间还会在同一个连接上执行其他查询（例如在事务中按窗口查询关联数据），
+     * 此时不使用 MySQL 的逐行流式读取（流式读取期间同一个连接无法执行其他查询），而是由驱动缓冲游标的结果。
+     *
+     * @param sqlSessionFactory 会话工厂
+     * @param function          查询游标
+     * @param sharedConnection  是否与其他查询共用连接
+     * @return 游标
+     */
+    public static <T> SessionCursor<T> open(SqlSessionFactory sqlSessionFactory, Function<SqlSession, Cursor<T>> function, boolean sharedConnection) {
+        // 关闭自动提交，PostgreSQL 等数据库只有在事务中才会按照 fetchSize 分批读取
+        SqlSession sqlSession = sqlSessionFactory.openSession(false);
+        if (sharedConnection) {
+            SHARED_CONNECTION.set(Boolean.TRUE);
+        }
+        try {
+            return new SessionCursor<>(function.apply(sqlSession), sqlSession);
+        } catch (RuntimeException e) {
+            sqlSession.close();
+            throw e;
+        } finally {
+            if (sharedConnection) {
+                SHARED_CONNECTION.remove();
+            }
+        }
+    }
+
+    /**
+     * 当前线程正在打开的游标是否与其他查询共用连接，用于 {@link com.mybatisflex.core.dialect.IDialect#prepareCursorStatement} 选择读取方式。
+     *
+     * @return {@code true} 共用连接
+     */
+    public static boolean isSharedConnection() {
+        return Boolean.TRUE.equals(SHARED_CONNECTION.get());
+    }
+
+    /**
+     * 转换为 {@link Stream}，关闭 Stream 时关闭游标。
+     *
+     * @return Stream
+     */
+    public Stream<T> stream() {
+        Spliterator<T> spliterator = Spliterators.spliteratorUnknownSize(iterator(), Spliterator.ORDERED | Spliterator.NONNULL);
+        return StreamSupport.stream(spliterator, false).onClose(this::closeQuietly);
+    }
+
+    /**
+     * 转换为分批处理的 {@link Stream}：每次从游标中读取 {@code windowSize} 条数据，交给 {@code windowProcessor}
+     * 处理（例如查询关联数据）后再逐条返回，内存占用只与窗口大小有关。关闭 Stream 时关闭游标。
+     *
+     * @param windowSize      窗口大小
+     * @param windowProcessor 窗口处理器
+     * @return Stream
+     */
+    public Stream<T> stream(int windowSize, Consumer<List<T>> windowProcessor) {
+        if (windowSize <= 0) {
+            throw FlexExceptions.wrap("windowSize must be greater than 0.");
+        }
+        Iterator<T> iterator = iterator();
+        Iterator<T> windowIterator = new Iterator<T>() {
+            private List<T> window = new ArrayList<>(0);
+            private int index;
+
+            @Override
+            public boolean hasNext() {
+                if (index < window.size()) {
+                    return true;
+                }
+                if (!iterator.hasNext()) {
+                    return false;
+                }
+                window = new ArrayList<>(windowSize);
+                index = 0;
+                while (window.size() < windowSize && iterator.hasNext()) {
+                    window.add(iterator.next());
+                }
+                windowProcessor.accept(window);
+                return true;
+            }
+
+            @Override
+            public T next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                return window.get(index++);
+            }
+        };
+        Spliterator<T> spliterator = Spliterators.spliteratorUnknownSize(windowIterator, Spliterator.ORDERED | Spliterator.NONNULL);
+        return StreamSupport.stream(spliterator, false).onClose(this::closeQuietly);
+    }
+
+    @Override
+    public boolean isOpen() {
+        return delegate.isOpen();
+    }
+
+    @Override
+    public boolean isConsumed() {
+        return delegate.isConsumed();
+    }
+
+    @Override
+    public int getCurrentIndex() {
+        return delegate.getCurrentIndex();
+    }
+
+    @Override
+    public Iterator<T> iterator() {
+        Iterator<T> iterator = delegate.iterator();
+        return new Iterator<T>() {
+            @Override
+            public boolean hasNext() {
+                if (closed) {
+                    return false;
+                }
+                boolean hasNext = iterator.hasNext();
+                if (!hasNext) {
+                    // 读取完毕后立即释放连接
+                    closeQuietly();
+                }
+                return hasNext;
+            }
+
+            @Override
+            public T next() {
+                return iterator.next();
+            }
+        };
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        try {
+            delegate.close();
+        } finally {
+            sqlSession.close();
+        }
+    }
+
+    private void closeQuietly() {
+        try {
+            close();
+        } catch (IOException e) {
+            throw FlexExceptions.wrap(e);
+        }
+    }
+
+}
@@ -0,0 +1,188 @@
+/*
+ *  Copyright (c) 2022-2025, Mybatis-Flex (fuhai999@gmail.com).
+ *  <p>
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *  <p>
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *  <p>
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package com.mybatisflex.core.mybatis;
+
+import com.mybatisflex.core.util.MapUtil;
+import org.apache.ibatis.session.Configuration;
+import org.apache.ibatis.type.BigDecimalTypeHandler;
+import org.apache.ibatis.type.BooleanTypeHandler;
+import org.apache.ibatis.type.ByteTypeHandler;
+import org.apache.ibatis.type.DoubleTypeHandler;
+import org.apache.ibatis.type.FloatTypeHandler;
+import org.apache.ibatis.type.IntegerTypeHandler;
+import org.apache.ibatis.type.LocalDateTimeTypeHandler;
+import org.apache.ibatis.type.LocalDateTypeHandler;
+import org.apache.ibatis.type.LocalTimeTypeHandler;
+import org.apache.ibatis.type.LongTypeHandler;
+import org.apache.ibatis.type.OffsetDateTimeTypeHandler;
+import org.apache.ibatis.type.ShortTypeHandler;
+import org.apache.ibatis.type.StringTypeHandler;
+import org.apache.ibatis.type.TypeException;
+import org.apache.ibatis.type.TypeHandler;
+import org.apache.ibatis.type.TypeHandlerRegistry;
+
+import java.math.BigDecimal;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * SQL 参数的绑定计划。
+ *
+ * <p>按参数位置缓存上一次参数值的类型及其对应的绑定方式，同一个 SQL 多次执行（例如批量插入）时，
+ * 每个参数只需要比较一次类型，不再重复查询 {@link TypeHandlerRegistry}。使用 {@link FlexConfiguration} 时，
+ * 处理器与绑定方式的对应关系缓存在配置中，类型变化时仍然会从 {@link TypeHandlerRegistry} 查询处理器，
+ * 因此重新注册的 {@link TypeHandler} 会立即生效；对于 MyBatis 内置的基础类型、
+ * {@link String}、{@link BigDecimal} 及 java.time 类型的处理器，直接调用 {@link PreparedStatement} 对应的方法设置参数。
+ *
+ * <p>此类不是线程安全的，同一个计划只能在同一个线程中使用。
+ *
+ * @author michael
+ * @since 2026-10-19
+ */
+public class SqlArgsBindingPlan {
+
+    private static final ParameterBinder NULL_BINDER = (ps, index, value) -> ps.setObject(index, null);
+    private static final ParameterBinder TYPE_HANDLER_OBJECT_BINDER = (ps, index, value) -> ((TypeHandlerObject) value).setParameter(ps, index);
+
+    private final TypeHandlerRegistry typeHandlerRegistry;
+    private final Map<TypeHandler<?>, ParameterBinder> binderCache;
+    private Class<?>[] classes = new Class<?>[0];
+    private ParameterBinder[] binders = new ParameterBinder[0];
+
+    public SqlArgsBindingPlan(Configuration configuration) {
+        this.typeHandlerRegistry = configuration.getTypeHandlerRegistry();
+        this.binderCache = configuration instanceof FlexConfiguration
+            ? ((FlexConfiguration) configuration).getParameterBinderCache()
+            : new HashMap<>();
+    }
+
+    public SqlArgsBindingPlan(TypeHandlerRegistry typeHandlerRegistry) {
+        this.typeHandlerRegistry = typeHandlerRegistry;
+        this.binderCache = new HashMap<>();
+    }
+
+    /**
+     * 向 {@link PreparedStatement} 设置参数。
+     *
+     * @param ps      PreparedStatement
+     * @param sqlArgs 参数
+     * @throws SQLException 设置参数失败时抛出
+     */
+    public void bind(PreparedStatement ps, Object[] sqlArgs) throws SQLException {
+        if (classes.length < sqlArgs.length) {
+            classes = Arrays.copyOf(classes, sqlArgs.length);
+            binders = Arrays.copyOf(binders, sqlArgs.length);
+        }
+        for (int i = 0; i < sqlArgs.length; i++) {
+            Object value = sqlArgs[i];
+            if (value == null) {
+                // 此处不应该使用 setNull(index, Types.NULL)，通过 setObject 传入 null 值，有 jdbc 驱动自行验证类型即可
+                // 使用 setNull 在 db2 等数据库下，Types.NULL 并非其需要类型
+                NULL_BINDER.bind(ps, i + 1, null);
+                continue;
+            }
+            Class<?> valueClass = value.getClass();
+            ParameterBinder binder;
+            if (classes[i] == valueClass) {
+                binder = binders[i];
+            } else {
+                binder = getBinder(valueClass);
+                classes[i] = valueClass;
+                binders[i] = binder;
+            }
+            binder.bind(ps, i + 1, value);
+        }
+    }
+
+    private ParameterBinder getBinder(Class<?> valueClass) {
+        // 通过配置的 TypeHandler 去设置值
+        if (TypeHandlerObject.class.isAssignableFrom(valueClass)) {
+            return TYPE_HANDLER_OBJECT_BINDER;
+        }
+
+        // 以查询到的处理器实例作为 key，重新注册处理器后会查询到新的实例
+        TypeHandler<?> typeHandler = typeHandlerRegistry.getTypeHandler(valueClass);
+        if (typeHandler == null) {
+            typeHandler = typeHandlerRegistry.getUnknownTypeHandler();
+        }
+        ParameterBinder binder = binderCache.get(typeHandler);
+        if (binder == null) {
+            binder = MapUtil.computeIfAbsent(binderCache, typeHandler, SqlArgsBindingPlan::createBinder);
+        }
+        return binder;
+    }
+
+    @SuppressWarnings({"rawtypes", "unchecked"})
+    private static ParameterBinder createBinder(TypeHandler typeHandler) {
+        // 只有 MyBatis 内置的处理器才走快速路径，用户注册的处理器保持原有的行为
+        Class<?> handlerClass = typeHandler.getClass();
+        if (handlerClass == StringTypeHandler.class) {
+            return wrapTypeException((ps, index, value) -> ps.setString(index, (String) value));
+        } else if (handlerClass == IntegerTypeHandler.class) {
+            return wrapTypeException((ps, index, value) -> ps.setInt(index, (Integer) value));
+        } else if (handlerClass == LongTypeHandler.class) {
+            return wrapTypeException((ps, index, value) -> ps.setLong(index, (Long) value));
+        } else if (handlerClass == ShortTypeHandler.class) {
+            return wrapTypeException((ps, index, value) -> ps.setShort(index, (Short) value));
+        } else if (handlerClass == ByteTypeHandler.class) {
+            return wrapTypeException((ps, index, value) -> ps.setByte(index, (Byte) value));
+        } else if (handlerClass == BooleanTypeHandler.class) {
+            return wrapTypeException((ps, index, value) -> ps.setBoolean(index, (Boolean) value));
+        } else if (handlerClass == DoubleTypeHandler.class) {
+            return wrapTypeException((ps, index, value) -> ps.setDouble(index, (Double) value));
+        } else if (handlerClass == FloatTypeHandler.class) {
+            return wrapTypeException((ps, index, value) -> ps.setFloat(index, (Float) value));
+        } else if (handlerClass == BigDecimalTypeHandler.class) {
+            return wrapTypeException((ps, index, value) -> ps.setBigDecimal(index, (BigDecimal) value));
+        } else if (handlerClass == LocalDateTimeTypeHandler.class
+            || handlerClass == LocalDateTypeHandler.class
+            || handlerClass == LocalTimeTypeHandler.class
+            || handlerClass == OffsetDateTimeTypeHandler.class) {
+            return wrapTypeException(PreparedStatement::setObject);
+        }
+
+        // 此处的 jdbcType 可以为 null 的，原因是 value 不为 null，
+        // 只有 value 为 null 时， jdbcType 不允许为 null
+        TypeHandler handler = typeHandler;
+        return (ps, index, value) -> handler.setParameter(ps, index, value, null);
+    }
+
+    /**
+     * 与 {@link org.apache.ibatis.type.BaseTypeHandler#setParameter} 一致，将设置参数的异常包装为 {@link TypeException}。
+     */
+    private static ParameterBinder wrapTypeException(ParameterBinder binder) {
+        return (ps, index, value) -> {
+            try {
+                binder.bind(ps, index, value);
+            } catch (Exception e) {
+                throw new TypeException("Error setting non null for parameter #" + index + " with JdbcType null . "
+                    + "Try setting a different JdbcType for this parameter or a different configuration property. "
+                    + "Cause: " + e, e);
+            }
+        };
+    }
+
+    @FunctionalInterface
+    interface ParameterBinder {
+
+        void bind(PreparedStatement ps, int index, Object value) throws SQLException;
+
+    }
+
+}
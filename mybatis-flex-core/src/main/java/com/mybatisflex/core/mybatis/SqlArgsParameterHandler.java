@@ -21,8 +21,7 @@ import com.mybatisflex.core.util.EnumWrapper;
 import org.apache.ibatis.mapping.BoundSql;
 import org.apache.ibatis.mapping.MappedStatement;
 import org.apache.ibatis.scripting.defaults.DefaultParameterHandler;
-import org.apache.ibatis.type.TypeHandler;
-import org.apache.ibatis.type.TypeHandlerRegistry;
+import org.apache.ibatis.session.Configuration;
 
 import java.sql.PreparedStatement;
 import java.sql.SQLException;
@@ -36,11 +35,12 @@ import java.util.Map;
  */
 public class SqlArgsParameterHandler extends DefaultParameterHandler {
 
-    private final TypeHandlerRegistry typeHandlerRegistry;
+    private final Configuration configuration;
+    private SqlArgsBindingPlan bindingPlan;
 
     public SqlArgsParameterHandler(MappedStatement mappedStatement, Object parameterObject, BoundSql boundSql) {
         super(mappedStatement, parameterObject, boundSql);
-        this.typeHandlerRegistry = mappedStatement.getConfiguration().getTypeHandlerRegistry();
+        this.configuration = mappedStatement.getConfiguration();
     }
 
     @Override
@@ -52,7 +52,20 @@ public class SqlArgsParameterHandler extends DefaultParameterHandler {
         }
     }
 
-    @SuppressWarnings({"rawtypes", "unchecked"})
+    public SqlArgsBindingPlan getBindingPlan() {
+        return bindingPlan;
+    }
+
+    /**
+     * 设置参数绑定计划，同一个 SQL 多次设置参数时（例如批量执行）可以复用同一个计划。
+     *
+     * @param bindingPlan 绑定计划
+     */
+    public void setBindingPlan(SqlArgsBindingPlan bindingPlan) {
+        this.bindingPlan = bindingPlan;
+    }
+
+    @SuppressWarnings("rawtypes")
     private void doSetParameters(PreparedStatement ps) throws SQLException {
         Object[] sqlArgs;
         Map parameters = (Map) getParameterObject();
@@ -63,32 +76,10 @@ public class SqlArgsParameterHandler extends DefaultParameterHandler {
             return;
         }
 
-        int index = 1;
-        for (Object value : sqlArgs) {
-            // 设置 NULL 值
-            if (value == null) {
-                // ps.setNull(index++, Types.NULL);
-                // 此处不应该使用 setNull(index++, Types.NULL)，通过 setObject 传入 null 值，有 jdbc 驱动自行验证类型即可
-                // 使用 setNull 在 db2 等数据库下，Types.NULL 并非其需要类型
-                ps.setObject(index++, null);
-                continue;
-            }
-
-            // 通过配置的 TypeHandler 去设置值
-            if (value instanceof TypeHandlerObject) {
-                ((TypeHandlerObject) value).setParameter(ps, index++);
-                continue;
-            }
-
-            TypeHandler typeHandler = typeHandlerRegistry.getTypeHandler(value.getClass());
-            if (typeHandler == null) {
-                typeHandler = typeHandlerRegistry.getUnknownTypeHandler();
-            }
-
-            // 此处的 jdbcType 可以为 null 的，原因是 value 不为 null，
-            // 只有 value 为 null 时， jdbcType 不允许为 null
-            typeHandler.setParameter(ps, index++, value, null);
+        if (bindingPlan == null) {
+            bindingPlan = new SqlArgsBindingPlan(configuration);
         }
+        bindingPlan.bind(ps, sqlArgs);
     }
 
 }
@@ -0,0 +1,83 @@
+/*
+ *  Copyright (c) 2022-2025, Mybatis-Flex (fuhai999@gmail.com).
+ *  <p>
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *  <p>
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *  <p>
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package com.mybatisflex.core.mybatis.binding;
+
+import com.mybatisflex.core.exception.FlexExceptions;
+
+import java.lang.reflect.Method;
+
+/**
+ * APT 生成的 Mapper 实现类的父类。
+ *
+ * <p>生成的实现类（类名为 Mapper 接口名 + {@link FlexMapperProxyFactory#GENERATED_MAPPER_SUFFIX}）为每个方法分配一个下标，
+ * 调用时直接按下标取得预先解析的执行信息，不再经过 JDK 动态代理和 {@link Method} 查找。
+ * 数据源切换、方言、实体缓存等处理与 {@link FlexMapperProxy} 完全一致。
+ *
+ * @param <T> Mapper 接口类型
+ * @author michael
+ * @since 2026-10-19
+ */
+public abstract class AbstractFlexMapper<T> {
+
+    private final FlexMapperProxy<T> mapperProxy;
+    private final Method[] methods;
+    private final MapperMethodRoute[] routes;
+
+    protected AbstractFlexMapper(FlexMapperProxy<T> mapperProxy, Method[] methods, Object[] routes) {
+        this.mapperProxy = mapperProxy;
+        this.methods = methods;
+        this.routes = (MapperMethodRoute[]) routes;
+    }
+
+    FlexMapperProxy<T> getMapperProxy() {
+        return mapperProxy;
+    }
+
+    /**
+     * 执行第 {@code index} 个 Mapper 方法。
+     */
+    protected final Object invoke(int index, Object[] args) {
+        try {
+            MapperMethodRoute route = routes[index];
+            if (route == null) {
+                route = mapperProxy.createRoute(this, methods[index], index);
+                routes[index] = route;
+            }
+            return mapperProxy.invoke(this, route.getMethod(), args, route);
+        } catch (Throwable e) {
+            throw AbstractFlexMapper.<RuntimeException>sneakyThrow(e);
+        }
+    }
+
+    /**
+     * 执行第 {@code index} 个方法在 Mapper 接口中的 default 实现。
+     */
+    protected abstract Object invokeDefault(int index, Object[] args) throws Throwable;
+
+    protected static Method getMethod(Class<?> declaringClass, String name, Class<?>... parameterTypes) {
+        try {
+            return declaringClass.getMethod(name, parameterTypes);
+        } catch (NoSuchMethodException e) {
+            throw FlexExceptions.wrap(e);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <E extends Throwable> E sneakyThrow(Throwable e) throws E {
+        throw (E) e;
+    }
+
+}
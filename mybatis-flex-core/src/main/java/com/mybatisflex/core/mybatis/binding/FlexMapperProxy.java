@@ -16,23 +16,50 @@
 package com.mybatisflex.core.mybatis.binding;
 
 import com.mybatisflex.annotation.UseDataSource;
+import com.mybatisflex.core.BaseMapper;
 import com.mybatisflex.core.FlexGlobalConfig;
+import com.mybatisflex.core.cache.EntityCacheManager;
 import com.mybatisflex.core.datasource.DataSourceKey;
 import com.mybatisflex.core.datasource.FlexDataSource;
 import com.mybatisflex.core.dialect.DbType;
 import com.mybatisflex.core.dialect.DialectFactory;
+import com.mybatisflex.core.dialect.IDialect;
+import com.mybatisflex.core.metrics.MetricsManager;
 import com.mybatisflex.core.mybatis.FlexConfiguration;
 import com.mybatisflex.core.row.RowMapper;
+import com.mybatisflex.core.table.IdInfo;
 import com.mybatisflex.core.table.TableInfo;
 import com.mybatisflex.core.table.TableInfoFactory;
+import com.mybatisflex.core.transaction.TransactionContext;
+import com.mybatisflex.core.transaction.TransactionalManager;
+import com.mybatisflex.core.util.ArrayUtil;
+import com.mybatisflex.core.util.PropertyAccessor;
 import com.mybatisflex.core.util.StringUtil;
 import org.apache.ibatis.reflection.ExceptionUtil;
+import org.apache.ibatis.session.Configuration;
 import org.apache.ibatis.session.SqlSession;
+import org.apache.ibatis.session.defaults.DefaultSqlSession;
 
+import java.lang.reflect.InvocationHandler;
 import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
 public class FlexMapperProxy<T> extends MybatisMapperProxy<T> {
+    private static final String SELECT_ONE_BY_ID = "selectOneById";
+    private static final String SELECT_LIST_BY_IDS = "selectListByIds";
+    private static final String DELETE_BATCH_BY_IDS = "deleteBatchByIds";
+
     private final FlexDataSource dataSource;
 
     public FlexMapperProxy(SqlSession sqlSession, Class<T> mapperInterface, Map<Method, MapperMethodInvoker> methodCache,
@@ -47,9 +74,22 @@ public class FlexMapperProxy<T> extends MybatisMapperProxy<T> {
         if (Object.class.equals(method.getDeclaringClass())) {
             return method.invoke(this, args);
         }
+        return invoke(proxy, method, args, null);
+    }
+
 
+    /**
+     * 执行 Mapper 方法。route 为 {@code null} 时，数据源注解和 {@link MapperMethodInvoker} 在每次调用时解析；
+     * APT 生成的 Mapper 实现类会传入预先解析好的 route。
+     */
+    Object invoke(Object mapper, Method method, Object[] args, MapperMethodRoute route) throws Throwable {
         boolean needClearDsKey = false;
         boolean needClearDbType = false;
+        // 只有按阶段计时时才需要记录 Mapper 方法的开始时间（SQL 构建阶段）
+        boolean phaseTiming = MetricsManager.isMetricsEnable() && MetricsManager.isPhaseTimingEnable();
+        if (phaseTiming) {
+            MetricsManager.enterInvoke();
+        }
 
         //由用户指定的数据
         String userDsKey = DataSourceKey.get();
@@ -59,15 +99,15 @@ public class FlexMapperProxy<T> extends MybatisMapperProxy<T> {
         try {
             if (StringUtil.noText(finalDsKey)) {
                 // Mapper 方法上获取 UseDataSource的value值
-                finalDsKey = getMethodDsKey(method, proxy);
+                finalDsKey = route != null ? route.getDataSourceKey() : getMethodDsKey(method, mapper);
                 // 对数据源取值进行动态取值处理
                 if (StringUtil.hasText(finalDsKey)) {
-                    finalDsKey = DataSourceKey.processDataSourceKey(finalDsKey, proxy, method, args);
+                    finalDsKey = DataSourceKey.processDataSourceKey(finalDsKey, mapper, method, args);
                 }
             }
 
             // 通过自定义分配策略去获取最终的数据源
-            finalDsKey = DataSourceKey.getShardingDsKey(finalDsKey, proxy, method, args);
+            finalDsKey = DataSourceKey.getShardingDsKey(finalDsKey, mapper, method, args);
 
             if (StringUtil.hasText(finalDsKey) && !finalDsKey.equals(userDsKey)) {
                 needClearDsKey = true;
@@ -87,10 +127,21 @@ public class FlexMapperProxy<T> extends MybatisMapperProxy<T> {
                 needClearDbType = true;
                 DialectFactory.setHintDbType(hintDbType);
             }
-            return cachedInvoker(method).invoke(proxy, method, args, sqlSession);
+            MapperMethodInvoker invoker = route != null ? route.getInvoker() : cachedInvoker(method);
+            if (EntityCacheManager.isEnable() && (route != null ? route.isIdQuery() : isIdQueryMethod(method))) {
+                return invokeWithEntityCache(mapper, method, args, invoker);
+            }
+            int idsArgIndex = route != null ? route.getIdsArgIndex() : getIdsArgIndex(method);
+            if (idsArgIndex >= 0) {
+                return invokeByIds(mapper, method, args, idsArgIndex, invoker);
+            }
+            return invoker.invoke(mapper, method, args, sqlSession);
         } catch (Throwable e) {
             throw ExceptionUtil.unwrapThrowable(e);
         } finally {
+            if (phaseTiming) {
+                MetricsManager.exitInvoke();
+            }
             if (needClearDbType) {
                 DialectFactory.clearHintDbType();
             }
@@ -106,6 +157,270 @@ public class FlexMapperProxy<T> extends MybatisMapperProxy<T> {
     }
 
 
+    /**
+     * 为 APT 生成的 Mapper 实现类预先解析方法的执行信息。
+     */
+    MapperMethodRoute createRoute(AbstractFlexMapper<?> mapper, Method method, int index) throws Throwable {
+        MapperMethodInvoker invoker = method.isDefault()
+            ? (proxy, m, args, session) -> ((AbstractFlexMapper<?>) proxy).invokeDefault(index, args)
+            : cachedInvoker(method);
+        return new MapperMethodRoute(method, invoker, getMethodDsKey(method, mapper), isIdQueryMethod(method), getIdsArgIndex(method));
+    }
+
+
+    private static boolean isIdQueryMethod(Method method) {
+        return method.getDeclaringClass() == BaseMapper.class
+            && (SELECT_ONE_BY_ID.equals(method.getName()) || SELECT_LIST_BY_IDS.equals(method.getName()));
+    }
+
+
+    /**
+     * 获取根据多个主键执行的方法（{@link BaseMapper#selectListByIds}、{@link BaseMapper#deleteBatchByIds}
+     * 和 {@link RowMapper#deleteBatchByIds}）中主键集合参数的下标，其他方法返回 {@code -1}。
+     */
+    private static int getIdsArgIndex(Method method) {
+        if (method.isDefault()) {
+            return -1;
+        }
+        if (method.getDeclaringClass() == BaseMapper.class) {
+            return SELECT_LIST_BY_IDS.equals(method.getName()) || DELETE_BATCH_BY_IDS.equals(method.getName()) ? 0 : -1;
+        }
+        if (method.getDeclaringClass() == RowMapper.class) {
+            return DELETE_BATCH_BY_IDS.equals(method.getName()) ? 3 : -1;
+        }
+        return -1;
+    }
+
+
+    /**
+     * 根据多个主键执行查询或删除，主键数量超过方言的参数数量上限（{@link IDialect#getMaxBindParameters()}）时，
+     * 去除重复的主键后自动拆分为多条 SQL 执行，并合并查询结果或受影响的行数。
+     * 拆分后的多条删除 SQL 在未开启事务时会在一个新的事务中执行，保证原子性。
+     */
+    private Object invokeByIds(Object proxy, Method method, Object[] args, int idsArgIndex, MapperMethodInvoker invoker) throws Throwable {
+        Object idsArg = args[idsArgIndex];
+        IDialect dialect = DialectFactory.getDialect();
+        int maxBindParameters = dialect.getMaxBindParameters();
+        // 主键数量远小于参数上限时直接执行，无需计算租户等条件的参数数量
+        if (!(idsArg instanceof Collection) || ((Collection<?>) idsArg).size() <= maxBindParameters / 2) {
+            return invoker.invoke(proxy, method, args, sqlSession);
+        }
+
+        // 复合主键的值是按 a, b, a, b 展开的，拆分时不能把同一组主键值分开
+        int primaryKeyCount;
+        int reservedParameters = 0;
+        if (method.getDeclaringClass() == RowMapper.class) {
+            primaryKeyCount = args[2] instanceof String ? ((String) args[2]).split(",").length : 1;
+        } else {
+            TableInfo tableInfo = TableInfoFactory.ofMapperClass(proxy.getClass().getInterfaces()[0]);
+            primaryKeyCount = Math.max(1, tableInfo.getPrimaryKeyList().size());
+            // 租户条件的参数
+            Object[] tenantIdArgs = tableInfo.buildTenantIdArgs();
+            reservedParameters = ArrayUtil.isNotEmpty(tenantIdArgs) ? tenantIdArgs.length : 0;
+        }
+
+        Collection<?> ids = (Collection<?>) idsArg;
+        int chunkSize = Math.max(1, (maxBindParameters - reservedParameters) / primaryKeyCount) * primaryKeyCount;
+        if (ids.size() <= chunkSize) {
+            return invoker.invoke(proxy, method, args, sqlSession);
+        }
+
+        // 同一个主键在多条 SQL 中会被重复查询或删除，与一条 SQL 的结果不一致
+        List<?> idList = distinctIds(ids, primaryKeyCount);
+        if (idList.size() <= chunkSize) {
+            Object[] distinctArgs = args.clone();
+            distinctArgs[idsArgIndex] = idList;
+            return invoker.invoke(proxy, method, distinctArgs, sqlSession);
+        }
+
+        boolean isSelect = method.getReturnType() != int.class;
+        if (isSelect || TransactionContext.isTransactionActive()) {
+            return invokeByChunks(proxy, method, args, idsArgIndex, invoker, idList, chunkSize, isSelect);
+        }
+        return deleteByChunksInTransaction(proxy, method, args, idsArgIndex, invoker, idList, chunkSize);
+    }
+
+
+    /**
+     * 未开启事务时，拆分后的多条删除 SQL 在一个事务中执行。SqlSession 独占连接时（例如 Db、Mappers）在该连接上提交，
+     * 否则（例如 Spring 的 SqlSessionTemplate 每条 SQL 使用不同的 SqlSession）开启一个新的事务。
+     */
+    private Object deleteByChunksInTransaction(Object proxy, Method method, Object[] args, int idsArgIndex, MapperMethodInvoker invoker
+        , List<?> idList, int chunkSize) throws Throwable {
+        if (sqlSession instanceof DefaultSqlSession) {
+            Connection connection = sqlSession.getConnection();
+            // SqlSession 没有开启自动提交时，由 SqlSession 提交
+            if (!connection.getAutoCommit()) {
+                return invokeByChunks(proxy, method, args, idsArgIndex, invoker, idList, chunkSize, false);
+            }
+            connection.setAutoCommit(false);
+            try {
+                Object rows = invokeByChunks(proxy, method, args, idsArgIndex, invoker, idList, chunkSize, false);
+                connection.commit();
+                return rows;
+            } catch (Throwable e) {
+                try {
+                    connection.rollback();
+                } catch (SQLException rollbackException) {
+                    e.addSuppressed(rollbackException);
+                }
+                throw e;
+            } finally {
+                connection.setAutoCommit(true);
+            }
+        }
+
+        String xid = TransactionalManager.startTransactional();
+        try {
+            Object rows = invokeByChunks(proxy, method, args, idsArgIndex, invoker, idList, chunkSize, false);
+            TransactionalManager.commit(xid);
+            return rows;
+        } catch (Throwable e) {
+            TransactionalManager.rollback(xid);
+            throw e;
+        }
+    }
+
+
+    private Object invokeByChunks(Object proxy, Method method, Object[] args, int idsArgIndex, MapperMethodInvoker invoker
+        , List<?> idList, int chunkSize, boolean isSelect) throws Throwable {
+        List<Object> entities = isSelect ? new ArrayList<>() : null;
+        int rows = 0;
+        for (int from = 0; from < idList.size(); from += chunkSize) {
+            Object[] chunkArgs = args.clone();
+            chunkArgs[idsArgIndex] = new ArrayList<>(idList.subList(from, Math.min(from + chunkSize, idList.size())));
+            Object result = invoker.invoke(proxy, method, chunkArgs, sqlSession);
+            if (isSelect) {
+                entities.addAll((List<?>) result);
+            } else {
+                rows += (Integer) result;
+            }
+        }
+        return isSelect ? entities : rows;
+    }
+
+
+    /**
+     * 去除重复的主键，复合主键按照每组主键值去重。
+     */
+    private static List<Object> distinctIds(Collection<?> ids, int primaryKeyCount) {
+        List<Object> result = new ArrayList<>(ids.size());
+        if (primaryKeyCount == 1) {
+            result.addAll(new LinkedHashSet<>(ids));
+            return result;
+        }
+        List<?> idList = ids instanceof List ? (List<?>) ids : new ArrayList<>(ids);
+        Set<List<?>> keys = new HashSet<>();
+        int i = 0;
+        for (; i + primaryKeyCount <= idList.size(); i += primaryKeyCount) {
+            List<?> key = idList.subList(i, i + primaryKeyCount);
+            if (keys.add(key)) {
+                result.addAll(key);
+            }
+        }
+        result.addAll(idList.subList(i, idList.size()));
+        return result;
+    }
+
+
+    /**
+     * 通过实体缓存执行 selectOneById 和 selectListByIds，只有未命中缓存的主键才会查询数据库。
+     */
+    private Object invokeWithEntityCache(Object proxy, Method method, Object[] args, MapperMethodInvoker invoker) throws Throwable {
+        TableInfo tableInfo = TableInfoFactory.ofMapperClass(proxy.getClass().getInterfaces()[0]);
+        if (!EntityCacheManager.isCacheable(tableInfo) || EntityCacheManager.isBypass()) {
+            return SELECT_ONE_BY_ID.equals(method.getName())
+                ? invoker.invoke(proxy, method, args, sqlSession) : invokeByIds(proxy, method, args, 0, invoker);
+        }
+
+        long version = EntityCacheManager.getVersion(EntityCacheManager.getRegion(tableInfo.getTableName()));
+
+        if (SELECT_ONE_BY_ID.equals(method.getName())) {
+            Object id = args[0];
+            if (!EntityCacheManager.isCacheableId(tableInfo, id)) {
+                return invoker.invoke(proxy, method, args, sqlSession);
+            }
+            String key = EntityCacheManager.buildIdKey(tableInfo, id);
+            Object entity = EntityCacheManager.getEntity(tableInfo, key);
+            if (entity == null) {
+                entity = invoker.invoke(proxy, method, args, sqlSession);
+                if (entity != null) {
+                    EntityCacheManager.putEntity(tableInfo, key, entity, version);
+                }
+            }
+            return entity;
+        }
+
+        Collection<?> ids = (Collection<?>) args[0];
+        if (ids == null || ids.isEmpty()) {
+            return invokeByIds(proxy, method, args, 0, invoker);
+        }
+
+        Map<Object, Object> entities = new LinkedHashMap<>(ids.size());
+        List<Object> missIds = new ArrayList<>();
+        for (Object id : ids) {
+            if (!EntityCacheManager.isCacheableId(tableInfo, id)) {
+                return invokeByIds(proxy, method, args, 0, invoker);
+            }
+            if (entities.containsKey(id)) {
+                continue;
+            }
+            Object entity = EntityCacheManager.getEntity(tableInfo, EntityCacheManager.buildIdKey(tableInfo, id));
+            entities.put(id, entity);
+            if (entity == null) {
+                missIds.add(id);
+            }
+        }
+
+        if (!missIds.isEmpty()) {
+            List<?> loaded = (List<?>) invokeByIds(proxy, method, new Object[]{missIds}, 0, invoker);
+            IdInfo idInfo = tableInfo.getPrimaryKeyList().get(0);
+            PropertyAccessor idAccessor = PropertyAccessor.of(tableInfo.getEntityClass(), idInfo.getProperty());
+            Map<String, Object> missKeys = new HashMap<>(missIds.size());
+            for (Object missId : missIds) {
+                missKeys.put(String.valueOf(missId), missId);
+            }
+            for (Object entity : loaded) {
+                Object id = idAccessor.get(entity);
+                // 数据库返回的主键类型可能与传入的不一致（例如传入 String，实体为 Long）
+                Object missId = missKeys.get(String.valueOf(id));
+                if (missId != null) {
+                    entities.put(missId, entity);
+                    EntityCacheManager.putEntity(tableInfo, EntityCacheManager.buildIdKey(tableInfo, missId), entity, version);
+                }
+            }
+        }
+
+        List<Object> result = new ArrayList<>(entities.size());
+        for (Object entity : entities.values()) {
+            if (entity != null) {
+                result.add(entity);
+            }
+        }
+        return result;
+    }
+
+
+    /**
+     * 获取 Mapper 对象（JDK 动态代理或者 APT 生成的实现类）所在的 {@link Configuration}。
+     *
+     * @param mapper Mapper 对象
+     * @return Configuration，无法识别时返回 {@code null}
+     */
+    public static Configuration getConfiguration(Object mapper) {
+        MybatisMapperProxy<?> mapperProxy = null;
+        if (mapper instanceof AbstractFlexMapper) {
+            mapperProxy = ((AbstractFlexMapper<?>) mapper).getMapperProxy();
+        } else if (mapper != null && Proxy.isProxyClass(mapper.getClass())) {
+            InvocationHandler handler = Proxy.getInvocationHandler(mapper);
+            if (handler instanceof MybatisMapperProxy) {
+                mapperProxy = (MybatisMapperProxy<?>) handler;
+            }
+        }
+        return mapperProxy == null ? null : mapperProxy.sqlSession.getConfiguration();
+    }
+
+
     private static String getMethodDsKey(Method method, Object proxy) {
         UseDataSource methodAnno = method.getAnnotation(UseDataSource.class);
         if (methodAnno != null && StringUtil.hasText(methodAnno.value())) {
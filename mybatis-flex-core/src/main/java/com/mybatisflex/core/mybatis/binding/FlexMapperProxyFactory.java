@@ -15,9 +15,12 @@
  */
 package com.mybatisflex.core.mybatis.binding;
 
+import com.mybatisflex.core.exception.FlexExceptions;
 import com.mybatisflex.core.mybatis.FlexConfiguration;
 import org.apache.ibatis.session.SqlSession;
 
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
 import java.lang.reflect.Method;
 import java.lang.reflect.Proxy;
 import java.util.Map;
@@ -29,11 +32,52 @@ import java.util.concurrent.ConcurrentHashMap;
  */
 public class FlexMapperProxyFactory<T> {
 
+    /**
+     * APT 生成的 Mapper 实现类的类名后缀。
+     */
+    public static final String GENERATED_MAPPER_SUFFIX = "$$FlexImpl";
+
     private final Class<T> mapperInterface;
     private final Map<Method, MybatisMapperProxy.MapperMethodInvoker> methodCache = new ConcurrentHashMap<>();
 
+    private final Constructor<?> generatedConstructor;
+    private final MapperMethodRoute[] routes;
+
     public FlexMapperProxyFactory(Class<T> mapperInterface) {
         this.mapperInterface = mapperInterface;
+
+        Class<?> generatedClass = getGeneratedMapperClass(mapperInterface);
+        if (generatedClass != null) {
+            try {
+                Field methodsField = generatedClass.getDeclaredField("METHODS");
+                methodsField.setAccessible(true);
+                this.routes = new MapperMethodRoute[((Method[]) methodsField.get(null)).length];
+                this.generatedConstructor = generatedClass.getDeclaredConstructor(FlexMapperProxy.class, Object[].class);
+                this.generatedConstructor.setAccessible(true);
+            } catch (Exception e) {
+                throw FlexExceptions.wrap(e, "Can not use generated mapper: %s", generatedClass.getName());
+            }
+        } else {
+            this.generatedConstructor = null;
+            this.routes = null;
+        }
+    }
+
+    /**
+     * 获取 APT 为 Mapper 接口生成的实现类。
+     *
+     * @return 实现类，未生成时返回 {@code null}
+     */
+    public static Class<?> getGeneratedMapperClass(Class<?> mapperInterface) {
+        try {
+            Class<?> generatedClass = Class.forName(mapperInterface.getName() + GENERATED_MAPPER_SUFFIX, false, mapperInterface.getClassLoader());
+            if (mapperInterface.isAssignableFrom(generatedClass) && AbstractFlexMapper.class.isAssignableFrom(generatedClass)) {
+                return generatedClass;
+            }
+        } catch (ClassNotFoundException | LinkageError e) {
+            // do nothing here.
+        }
+        return null;
     }
 
     public Class<T> getMapperInterface() {
@@ -49,8 +93,16 @@ public class FlexMapperProxyFactory<T> {
         return (T) Proxy.newProxyInstance(mapperInterface.getClassLoader(), new Class[]{mapperInterface}, mapperProxy);
     }
 
+    @SuppressWarnings("unchecked")
     public T newInstance(SqlSession sqlSession, FlexConfiguration configuration) {
         final FlexMapperProxy<T> mapperProxy = new FlexMapperProxy<>(sqlSession, mapperInterface, methodCache, configuration);
+        if (generatedConstructor != null) {
+            try {
+                return (T) generatedConstructor.newInstance(mapperProxy, routes);
+            } catch (Exception e) {
+                throw FlexExceptions.wrap(e);
+            }
+        }
         return newInstance(mapperProxy);
     }
 
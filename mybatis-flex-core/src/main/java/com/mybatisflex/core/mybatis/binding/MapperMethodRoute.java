@@ -0,0 +1,68 @@
+/*
+ *  Copyright (c) 2022-2025, Mybatis-Flex (fuhai999@gmail.com).
+ *  <p>
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *  <p>
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *  <p>
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package com.mybatisflex.core.mybatis.binding;
+
+import java.lang.reflect.Method;
+
+/**
+ * 预先解析好的 Mapper 方法执行信息，供 APT 生成的 Mapper 实现类按下标直接使用，避免每次调用时按 {@link Method} 查找。
+ *
+ * @author michael
+ * @since 2026-10-19
+ */
+final class MapperMethodRoute {
+
+    private final Method method;
+    private final MybatisMapperProxy.MapperMethodInvoker invoker;
+    private final String dataSourceKey;
+    private final boolean idQuery;
+    private final int idsArgIndex;
+
+    MapperMethodRoute(Method method, MybatisMapperProxy.MapperMethodInvoker invoker, String dataSourceKey, boolean idQuery, int idsArgIndex) {
+        this.method = method;
+        this.invoker = invoker;
+        this.dataSourceKey = dataSourceKey;
+        this.idQuery = idQuery;
+        this.idsArgIndex = idsArgIndex;
+    }
+
+    Method getMethod() {
+        return method;
+    }
+
+    MybatisMapperProxy.MapperMethodInvoker getInvoker() {
+        return invoker;
+    }
+
+    /**
+     * 通过 {@code @UseDataSource} 或 {@code @Table(dataSource)} 静态配置的数据源。
+     */
+    String getDataSourceKey() {
+        return dataSourceKey;
+    }
+
+    boolean isIdQuery() {
+        return idQuery;
+    }
+
+    /**
+     * 主键集合参数的下标，{@code -1} 表示该方法不是根据多个主键执行的方法。
+     */
+    int getIdsArgIndex() {
+        return idsArgIndex;
+    }
+
+}
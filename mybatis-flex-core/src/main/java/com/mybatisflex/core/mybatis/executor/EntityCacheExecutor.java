@@ -0,0 +1,306 @@
+/*
+ *  Copyright (c) 2022-2025, Mybatis-Flex (fuhai999@gmail.com).
+ *  <p>
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *  <p>
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *  <p>
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package com.mybatisflex.core.mybatis.executor;
+
+import com.mybatisflex.core.BaseMapper;
+import com.mybatisflex.core.FlexConsts;
+import com.mybatisflex.core.cache.EntityCacheManager;
+import com.mybatisflex.core.query.CPI;
+import com.mybatisflex.core.query.QueryTable;
+import com.mybatisflex.core.query.QueryWrapper;
+import com.mybatisflex.core.row.RowMapper;
+import com.mybatisflex.core.table.TableInfo;
+import com.mybatisflex.core.table.TableInfoFactory;
+import com.mybatisflex.core.transaction.TransactionContext;
+import com.mybatisflex.core.util.ClassUtil;
+import com.mybatisflex.core.util.CollectionUtil;
+import com.mybatisflex.core.util.MapUtil;
+import com.mybatisflex.core.util.StringUtil;
+import org.apache.ibatis.cache.CacheKey;
+import org.apache.ibatis.cursor.Cursor;
+import org.apache.ibatis.executor.BatchResult;
+import org.apache.ibatis.executor.Executor;
+import org.apache.ibatis.io.Resources;
+import org.apache.ibatis.mapping.BoundSql;
+import org.apache.ibatis.mapping.MappedStatement;
+import org.apache.ibatis.reflection.MetaObject;
+import org.apache.ibatis.session.ResultHandler;
+import org.apache.ibatis.session.RowBounds;
+import org.apache.ibatis.transaction.Transaction;
+
+import java.lang.reflect.Method;
+import java.sql.SQLException;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 实体缓存的 {@link Executor} 包装：执行 insert、update、delete 后清除对应表的缓存，并缓存单表的
+ * {@code selectListByQuery} 查询结果。只有开启了 {@link EntityCacheManager} 时才会使用。
+ *
+ * @author michael
+ * @since 2026-10-19
+ */
+public class EntityCacheExecutor implements Executor {
+
+    private static final String SELECT_LIST_BY_QUERY = ".selectListByQuery";
+
+    private static final Map<String, Object> namespaceTables = new ConcurrentHashMap<>();
+    private static final Object NONE = new Object();
+    private static final Set<String> baseMapperMethods = new HashSet<>();
+
+    static {
+        for (Method method : BaseMapper.class.getMethods()) {
+            baseMapperMethods.add(method.getName());
+        }
+    }
+
+    private final Executor delegate;
+
+    public EntityCacheExecutor(Executor delegate) {
+        this.delegate = delegate;
+    }
+
+    @Override
+    public int update(MappedStatement ms, Object parameter) throws SQLException {
+        try {
+            return delegate.update(ms, parameter);
+        } finally {
+            invalidate(ms, parameter);
+        }
+    }
+
+    @Override
+    public <E> List<E> query(MappedStatement ms, Object parameter, RowBounds rowBounds, ResultHandler resultHandler) throws SQLException {
+        BoundSql boundSql = ms.getBoundSql(parameter);
+        CacheKey key = createCacheKey(ms, parameter, rowBounds, boundSql);
+        return query(ms, parameter, rowBounds, resultHandler, key, boundSql);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <E> List<E> query(MappedStatement ms, Object parameter, RowBounds rowBounds, ResultHandler resultHandler, CacheKey cacheKey, BoundSql boundSql) throws SQLException {
+        TableInfo tableInfo = getQueryCacheTableInfo(ms, parameter, rowBounds, resultHandler);
+        if (tableInfo == null) {
+            return delegate.query(ms, parameter, rowBounds, resultHandler, cacheKey, boundSql);
+        }
+
+        String key = EntityCacheManager.buildQueryKey(ms.getId(), boundSql.getSql(), (Object[]) ((Map<?, ?>) parameter).get(FlexConsts.SQL_ARGS));
+        List<Object> cached = EntityCacheManager.getList(tableInfo, key);
+        if (cached != null) {
+            return (List<E>) cached;
+        }
+
+        long version = EntityCacheManager.getVersion(EntityCacheManager.getRegion(tableInfo.getTableName()));
+        List<E> list = delegate.query(ms, parameter, rowBounds, resultHandler, cacheKey, boundSql);
+        EntityCacheManager.putList(tableInfo, key, list, version);
+        return list;
+    }
+
+    @Override
+    public <E> Cursor<E> queryCursor(MappedStatement ms, Object parameter, RowBounds rowBounds) throws SQLException {
+        return delegate.queryCursor(ms, parameter, rowBounds);
+    }
+
+    @Override
+    public List<BatchResult> flushStatements() throws SQLException {
+        return delegate.flushStatements();
+    }
+
+    @Override
+    public void commit(boolean required) throws SQLException {
+        try {
+            delegate.commit(required);
+        } finally {
+            afterTransaction();
+        }
+    }
+
+    @Override
+    public void rollback(boolean required) throws SQLException {
+        try {
+            delegate.rollback(required);
+        } finally {
+            afterTransaction();
+        }
+    }
+
+    @Override
+    public CacheKey createCacheKey(MappedStatement ms, Object parameterObject, RowBounds rowBounds, BoundSql boundSql) {
+        return delegate.createCacheKey(ms, parameterObject, rowBounds, boundSql);
+    }
+
+    @Override
+    public boolean isCached(MappedStatement ms, CacheKey key) {
+        return delegate.isCached(ms, key);
+    }
+
+    @Override
+    public void clearLocalCache() {
+        delegate.clearLocalCache();
+    }
+
+    @Override
+    public void deferLoad(MappedStatement ms, MetaObject resultObject, String property, CacheKey key, Class<?> targetType) {
+        delegate.deferLoad(ms, resultObject, property, key, targetType);
+    }
+
+    @Override
+    public Transaction getTransaction() {
+        return delegate.getTransaction();
+    }
+
+    @Override
+    public void close(boolean forceRollback) {
+        try {
+            delegate.close(forceRollback);
+        } finally {
+            afterTransaction();
+        }
+    }
+
+    @Override
+    public boolean isClosed() {
+        return delegate.isClosed();
+    }
+
+    @Override
+    public void setExecutorWrapper(Executor executor) {
+        delegate.setExecutorWrapper(executor);
+    }
+
+
+    /**
+     * 在 MyBatis-Flex 的事务中，由 TransactionalManager 在事务结束时清除；在 Spring 管理的事务中，
+     * SqlSession 在提交之前就已经关闭，由事务完成后的回调清除。
+     */
+    private static void afterTransaction() {
+        if (StringUtil.hasText(TransactionContext.getXID())) {
+            return;
+        }
+        if (TransactionContext.isTransactionActive() && EntityCacheManager.deferAfterTransaction()) {
+            return;
+        }
+        EntityCacheManager.afterTransaction();
+    }
+
+
+    private static void invalidate(MappedStatement ms, Object parameter) {
+        if (parameter instanceof Map) {
+            Map<?, ?> params = (Map<?, ?>) parameter;
+            // Db、RowMapper 的操作
+            Object tableName = params.containsKey(FlexConsts.TABLE_NAME) ? params.get(FlexConsts.TABLE_NAME) : null;
+            if (tableName instanceof String && StringUtil.hasText((String) tableName)) {
+                EntityCacheManager.invalidate((String) tableName);
+                return;
+            }
+            // RowMapper.updateEntity
+            Object entity = params.containsKey(FlexConsts.ENTITY) ? params.get(FlexConsts.ENTITY) : null;
+            if (entity != null && isRowMapperStatement(ms)) {
+                TableInfo tableInfo = TableInfoFactory.ofEntityClass(ClassUtil.getUsefulClass(entity.getClass()));
+                if (tableInfo != null) {
+                    EntityCacheManager.invalidate(tableInfo.getTableName());
+                    return;
+                }
+            }
+        }
+
+        // BaseMapper 的操作
+        TableInfo tableInfo = getTableInfo(ms);
+        if (tableInfo != null && isBaseMapperMethod(ms)) {
+            EntityCacheManager.invalidate(tableInfo.getTableName());
+            return;
+        }
+
+        // 原生 SQL、自定义的 XML 等无法确定修改了哪些表
+        EntityCacheManager.invalidateAll();
+    }
+
+
+    private static TableInfo getQueryCacheTableInfo(MappedStatement ms, Object parameter, RowBounds rowBounds, ResultHandler<?> resultHandler) {
+        if (!EntityCacheManager.isQueryCacheEnable()
+            || resultHandler != null
+            || rowBounds != RowBounds.DEFAULT
+            || !ms.getId().endsWith(SELECT_LIST_BY_QUERY)
+            || !(parameter instanceof Map)
+            || EntityCacheManager.isBypass()) {
+            return null;
+        }
+
+        TableInfo tableInfo = getTableInfo(ms);
+        if (!EntityCacheManager.isCacheable(tableInfo)) {
+            return null;
+        }
+
+        Map<?, ?> params = (Map<?, ?>) parameter;
+        Object query = params.containsKey(FlexConsts.QUERY) ? params.get(FlexConsts.QUERY) : null;
+        if (!(query instanceof QueryWrapper) || !params.containsKey(FlexConsts.SQL_ARGS)) {
+            return null;
+        }
+
+        // 只缓存单表查询，多表查询无法在其他表变化时清除
+        QueryWrapper queryWrapper = (QueryWrapper) query;
+        List<QueryTable> queryTables = CPI.getQueryTables(queryWrapper);
+        if (queryTables == null || queryTables.size() != 1
+            || CollectionUtil.isNotEmpty(CPI.getJoins(queryWrapper))
+            || CollectionUtil.isNotEmpty(CPI.getUnions(queryWrapper))
+            || CollectionUtil.isNotEmpty(CPI.getChildSelect(queryWrapper))
+            || CPI.getWith(queryWrapper) != null) {
+            return null;
+        }
+        String tableName = queryTables.get(0).getName();
+        if (tableName == null || !EntityCacheManager.getRegion(tableName).equals(EntityCacheManager.getRegion(tableInfo.getTableName()))) {
+            return null;
+        }
+        return tableInfo;
+    }
+
+
+    private static TableInfo getTableInfo(MappedStatement ms) {
+        String namespace = getNamespace(ms);
+        Object tableInfo = MapUtil.computeIfAbsent(namespaceTables, namespace, key -> {
+            try {
+                Class<?> mapperClass = Resources.classForName(key);
+                if (BaseMapper.class.isAssignableFrom(mapperClass)) {
+                    TableInfo info = TableInfoFactory.ofMapperClass(mapperClass);
+                    return info != null ? info : NONE;
+                }
+            } catch (ClassNotFoundException e) {
+                // ignore
+            }
+            return NONE;
+        });
+        return tableInfo == NONE ? null : (TableInfo) tableInfo;
+    }
+
+    private static boolean isRowMapperStatement(MappedStatement ms) {
+        return RowMapper.class.getName().equals(getNamespace(ms));
+    }
+
+    private static boolean isBaseMapperMethod(MappedStatement ms) {
+        String id = ms.getId();
+        return baseMapperMethods.contains(id.substring(id.lastIndexOf('.') + 1));
+    }
+
+    private static String getNamespace(MappedStatement ms) {
+        String id = ms.getId();
+        int index = id.lastIndexOf('.');
+        return index > 0 ? id.substring(0, index) : id;
+    }
+
+}
@@ -16,6 +16,9 @@
 package com.mybatisflex.core.mybatis.executor;
 
 import com.mybatisflex.core.keygen.RowKeyGenerator;
+import com.mybatisflex.core.metrics.MetricsManager;
+import com.mybatisflex.core.mybatis.SqlArgsBindingPlan;
+import com.mybatisflex.core.mybatis.SqlArgsParameterHandler;
 import org.apache.ibatis.cache.CacheKey;
 import org.apache.ibatis.executor.BatchExecutor;
 import org.apache.ibatis.executor.BatchExecutorException;
@@ -23,6 +26,7 @@ import org.apache.ibatis.executor.BatchResult;
 import org.apache.ibatis.executor.keygen.Jdbc3KeyGenerator;
 import org.apache.ibatis.executor.keygen.KeyGenerator;
 import org.apache.ibatis.executor.keygen.NoKeyGenerator;
+import org.apache.ibatis.executor.parameter.ParameterHandler;
 import org.apache.ibatis.executor.statement.StatementHandler;
 import org.apache.ibatis.mapping.BoundSql;
 import org.apache.ibatis.mapping.MappedStatement;
@@ -44,6 +48,7 @@ public class FlexBatchExecutor extends BatchExecutor implements CacheKeyBuilder
     private final List<BatchResult> batchResultList = new ArrayList<>();
     private String currentSql;
     private MappedStatement currentStatement;
+    private SqlArgsBindingPlan currentBindingPlan;
 
 
     public FlexBatchExecutor(Configuration configuration, Transaction transaction) {
@@ -66,12 +71,14 @@ public class FlexBatchExecutor extends BatchExecutor implements CacheKeyBuilder
             int last = statementList.size() - 1;
             stmt = statementList.get(last);
             applyTransactionTimeout(stmt);
+            applyBindingPlan(handler, false);
             handler.parameterize(stmt);// fix Issues 322
             BatchResult batchResult = batchResultList.get(last);
             batchResult.addParameterObject(parameterObject);
         } else {
             Connection connection = getConnection(ms.getStatementLog());
             stmt = handler.prepare(connection, transaction.getTimeout());
+            applyBindingPlan(handler, true);
             handler.parameterize(stmt);    // fix Issues 322
             currentSql = sql;
             currentStatement = ms;
@@ -83,6 +90,22 @@ public class FlexBatchExecutor extends BatchExecutor implements CacheKeyBuilder
     }
 
 
+    /**
+     * 同一个 SQL 的多次 addBatch 复用同一个参数绑定计划，避免每一行都重新解析参数的 TypeHandler。
+     */
+    private void applyBindingPlan(StatementHandler handler, boolean newStatement) {
+        ParameterHandler parameterHandler = handler.getParameterHandler();
+        if (!(parameterHandler instanceof SqlArgsParameterHandler)) {
+            currentBindingPlan = null;
+            return;
+        }
+        if (newStatement || currentBindingPlan == null) {
+            currentBindingPlan = new SqlArgsBindingPlan(configuration);
+        }
+        ((SqlArgsParameterHandler) parameterHandler).setBindingPlan(currentBindingPlan);
+    }
+
+
     @Override
     public List<BatchResult> doFlushStatements(boolean isRollback) throws SQLException {
         try {
@@ -95,7 +118,19 @@ public class FlexBatchExecutor extends BatchExecutor implements CacheKeyBuilder
                 applyTransactionTimeout(stmt);
                 BatchResult batchResult = batchResultList.get(i);
                 try {
-                    batchResult.setUpdateCounts(stmt.executeBatch());
+                    boolean metricsEnable = MetricsManager.isMetricsEnable();
+                    long start = metricsEnable ? System.nanoTime() : 0;
+                    try {
+                        batchResult.setUpdateCounts(stmt.executeBatch());
+                    } catch (SQLException | RuntimeException e) {
+                        if (metricsEnable) {
+                            MetricsManager.recordBatch(batchResult.getMappedStatement().getId(), start, 0, false);
+                        }
+                        throw e;
+                    }
+                    if (metricsEnable) {
+                        MetricsManager.recordBatch(batchResult.getMappedStatement().getId(), start, sumUpdateCounts(batchResult.getUpdateCounts()), true);
+                    }
                     MappedStatement ms = batchResult.getMappedStatement();
                     List<Object> parameterObjects = batchResult.getParameterObjects();
                     KeyGenerator keyGenerator = ms.getKeyGenerator();
@@ -139,9 +174,20 @@ public class FlexBatchExecutor extends BatchExecutor implements CacheKeyBuilder
                 closeStatement(stmt);
             }
             currentSql = null;
+            currentBindingPlan = null;
             statementList.clear();
             batchResultList.clear();
         }
     }
 
+
+    private static long sumUpdateCounts(int[] updateCounts) {
+        long rows = 0;
+        for (int updateCount : updateCounts) {
+            // Statement.SUCCESS_NO_INFO 为 -2
+            rows += updateCount >= 0 ? updateCount : 1;
+        }
+        return rows;
+    }
+
 }
@@ -0,0 +1,59 @@
+/*
+ *  Copyright (c) 2022-2025, Mybatis-Flex (fuhai999@gmail.com).
+ *  <p>
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *  <p>
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *  <p>
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package com.mybatisflex.core.optimisticlock;
+
+import com.mybatisflex.core.exception.MybatisFlexException;
+
+import java.util.List;
+
+/**
+ * 批量更新时，部分数据因乐观锁（或者数据已被删除）没有更新成功。
+ *
+ * <p>其他数据已经更新，是否回滚由调用方的事务决定。
+ *
+ * @author michael
+ * @since 2026-10-19
+ */
+public class OptimisticLockException extends MybatisFlexException {
+
+    private static final long serialVersionUID = 1L;
+
+    private final transient List<Object> ids;
+    private final int updatedRows;
+
+    public OptimisticLockException(List<Object> ids, int updatedRows) {
+        super("Optimistic lock failed, " + ids.size() + " entities were not updated, ids: " + ids);
+        this.ids = ids;
+        this.updatedRows = updatedRows;
+    }
+
+    /**
+     * 没有更新成功的主键，复合主键为主键值的数组。
+     *
+     * <p>同一批数据在查询版本号之后被其他事务修改时，整批数据的主键都会包含在内，其中部分数据可能已经更新。
+     */
+    public List<Object> getIds() {
+        return ids;
+    }
+
+    /**
+     * 已经更新成功的行数。
+     */
+    public int getUpdatedRows() {
+        return updatedRows;
+    }
+
+}
@@ -247,6 +247,36 @@ public class EntitySqlProvider {
     }
 
 
+    /**
+     * updateEntitiesById 的 SQL 构建。
+     *
+     * @param params  方法参数
+     * @param context 上下文对象
+     * @return SQL 语句
+     * @see com.mybatisflex.core.BaseMapper#updateEntitiesById(Collection, boolean)
+     */
+    public static String updateEntitiesById(Map params, ProviderContext context) {
+        List<Object> entities = new ArrayList<>(ProviderUtil.getEntities(params));
+
+        FlexAssert.notEmpty(entities, "entities");
+
+        boolean ignoreNulls = ProviderUtil.isIgnoreNulls(params);
+
+        TableInfo tableInfo = ProviderUtil.getTableInfo(context);
+        for (Object entity : entities) {
+            //执行 onUpdate 监听器
+            tableInfo.invokeOnUpdateListener(entity);
+
+            FlexAssert.assertAreNotNull(tableInfo.buildPkSqlArgs(entity), "The value of primary key must not be null for execute update an entity, entity[%s]", entity);
+        }
+
+        List<Object> sqlArgs = new ArrayList<>();
+        String sql = DialectFactory.getDialect().forUpdateEntityBatchById(tableInfo, entities, ignoreNulls, sqlArgs);
+        ProviderUtil.setSqlArgs(params, sqlArgs.toArray());
+        return sql;
+    }
+
+
     /**
      * updateByQuery 的 SQL 构建。
      *
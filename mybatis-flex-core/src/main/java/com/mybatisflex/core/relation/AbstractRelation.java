@@ -388,9 +388,7 @@ public abstract class AbstractRelation<SelfEntity> {
             queryWrapper.where(conditionColumn.eq(targetValues.iterator().next()));
         }
 
-        if (StringUtil.hasText(extraConditionSql)) {
-            queryWrapper.and(extraConditionSql, RelationManager.getExtraConditionParams(extraConditionParamKeys));
-        }
+        appendExtraCondition(queryWrapper);
 
         customizeQueryWrapper(queryWrapper);
 
@@ -398,6 +396,18 @@ public abstract class AbstractRelation<SelfEntity> {
     }
 
 
+    /**
+     * 追加注解中配置的附加条件（extraCondition）
+     *
+     * @param queryWrapper 查询条件
+     */
+    protected void appendExtraCondition(QueryWrapper queryWrapper) {
+        if (StringUtil.hasText(extraConditionSql)) {
+            queryWrapper.and(extraConditionSql, RelationManager.getExtraConditionParams(extraConditionParamKeys));
+        }
+    }
+
+
     /**
      * 方便子类追加自定义的条件
      *
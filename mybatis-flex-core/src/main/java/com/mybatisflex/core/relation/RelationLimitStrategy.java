@@ -0,0 +1,166 @@
+/*
+ *  Copyright (c) 2022-2025, Mybatis-Flex (fuhai999@gmail.com).
+ *  <p>
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *  <p>
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *  <p>
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package com.mybatisflex.core.relation;
+
+import com.mybatisflex.core.dialect.DbType;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.DatabaseMetaData;
+import java.sql.SQLException;
+import java.util.Collections;
+import java.util.Locale;
+import java.util.Map;
+import java.util.WeakHashMap;
+
+/**
+ * 一对多关联查询配置了 {@code limit} 时，限制每个父对象关联数据量的方式。
+ *
+ * @author michael
+ * @since 2026-10-19
+ */
+public enum RelationLimitStrategy {
+
+    /**
+     * 自动选择：只有确定数据库支持窗口函数时才使用 {@link #WINDOW}，否则使用 {@link #UNION_ALL}。
+     *
+     * <p>Oracle、PostgreSQL、SQL Server、DB2 等所有版本都支持窗口函数的数据库直接使用 {@link #WINDOW}；
+     * MySQL、MariaDB、SQLite、H2 通过 {@link DatabaseMetaData} 读取数据库版本判断（MySQL 8.0、MariaDB 10.2、
+     * SQLite 3.25、H2 1.4.198 开始支持），无法获取版本时使用 {@link #UNION_ALL}。
+     */
+    AUTO,
+
+    /**
+     * 通过 {@code ROW_NUMBER() OVER (PARTITION BY 关联字段 ORDER BY ...)} 为每个父对象取前 N 条数据。
+     */
+    WINDOW,
+
+    /**
+     * 为每个父对象生成一个带 {@code ORDER BY ... LIMIT N} 的子查询，并通过 {@code UNION ALL} 合并为一次查询，
+     * 适用于不支持窗口函数的数据库（例如 MySQL 5.7）。
+     */
+    UNION_ALL,
+
+    /**
+     * 对合并后的查询整体使用一次 {@code LIMIT N}（旧版本的行为）。
+     */
+    GLOBAL;
+
+
+    /**
+     * 通过数据库版本判断是否支持窗口函数的结果，key 为数据源。
+     */
+    private static final Map<DataSource, Boolean> windowFunctionSupports = Collections.synchronizedMap(new WeakHashMap<>());
+
+
+    /**
+     * 获取在指定数据库类型下实际使用的方式，{@link #AUTO} 只在数据库的所有版本都支持窗口函数时使用 {@link #WINDOW}。
+     *
+     * @param dbType 数据库类型，可能为 {@code null}
+     * @return 实际使用的方式，不会返回 {@link #AUTO}
+     */
+    public RelationLimitStrategy resolve(DbType dbType) {
+        return resolve(dbType, null);
+    }
+
+    /**
+     * 获取在指定数据库类型和数据源下实际使用的方式，{@link #AUTO} 会根据数据源的数据库版本判断是否支持窗口函数。
+     *
+     * @param dbType     数据库类型，可能为 {@code null}
+     * @param dataSource 查询使用的数据源，可能为 {@code null}
+     * @return 实际使用的方式，不会返回 {@link #AUTO}
+     */
+    public RelationLimitStrategy resolve(DbType dbType, DataSource dataSource) {
+        if (this != AUTO) {
+            return this;
+        }
+        if (dbType == null) {
+            return UNION_ALL;
+        }
+        switch (dbType) {
+            case ORACLE:
+            case ORACLE_12C:
+            case POSTGRE_SQL:
+            case SQLSERVER:
+            case SQLSERVER_2005:
+            case DB2:
+            case DB2_1005:
+                return WINDOW;
+            case MYSQL:
+            case MARIADB:
+            case SQLITE:
+            case H2:
+                return dataSource != null && isWindowFunctionSupported(dataSource) ? WINDOW : UNION_ALL;
+            default:
+                return UNION_ALL;
+        }
+    }
+
+
+    private static boolean isWindowFunctionSupported(DataSource dataSource) {
+        Boolean supported = windowFunctionSupports.get(dataSource);
+        if (supported == null) {
+            try (Connection connection = dataSource.getConnection()) {
+                DatabaseMetaData metaData = connection.getMetaData();
+                supported = isWindowFunctionSupported(metaData.getDatabaseProductName(), metaData.getDatabaseProductVersion());
+            } catch (SQLException e) {
+                // 无法获取数据库版本时不缓存，下次重新判断
+                return false;
+            }
+            windowFunctionSupports.put(dataSource, supported);
+        }
+        return supported;
+    }
+
+    /**
+     * 根据数据库的产品名称和版本，判断是否支持窗口函数。
+     *
+     * @param productName    {@link DatabaseMetaData#getDatabaseProductName()}
+     * @param productVersion {@link DatabaseMetaData#getDatabaseProductVersion()}
+     * @return {@code true} 支持窗口函数
+     */
+    public static boolean isWindowFunctionSupported(String productName, String productVersion) {
+        if (productName == null || productVersion == null) {
+            return false;
+        }
+        String name = productName.toLowerCase(Locale.ROOT);
+        String version = productVersion.toLowerCase(Locale.ROOT);
+        // 使用 MySQL 驱动连接 MariaDB 时，版本号为 5.5.5-10.x.x-MariaDB
+        if (name.contains("mariadb") || version.contains("mariadb")) {
+            int index = version.indexOf("5.5.5-");
+            return compareVersion(index >= 0 ? version.substring(index + 6) : version, 10, 2, 0) >= 0;
+        } else if (name.contains("mysql")) {
+            return compareVersion(version, 8, 0, 0) >= 0;
+        } else if (name.contains("sqlite")) {
+            return compareVersion(version, 3, 25, 0) >= 0;
+        } else if (name.equals("h2")) {
+            return compareVersion(version, 1, 4, 198) >= 0;
+        }
+        return false;
+    }
+
+    private static int compareVersion(String version, int... expected) {
+        String[] parts = version.trim().split("[^0-9]+", expected.length + 1);
+        for (int i = 0; i < expected.length; i++) {
+            int value = i < parts.length && !parts[i].isEmpty() ? Integer.parseInt(parts[i]) : 0;
+            if (value != expected[i]) {
+                return value - expected[i];
+            }
+        }
+        return 0;
+    }
+
+}
@@ -22,7 +22,9 @@ import com.mybatisflex.annotation.RelationOneToOne;
 import com.mybatisflex.core.BaseMapper;
 import com.mybatisflex.core.FlexConsts;
 import com.mybatisflex.core.FlexGlobalConfig;
+import com.mybatisflex.core.context.FlexContext;
 import com.mybatisflex.core.datasource.DataSourceKey;
+import com.mybatisflex.core.metrics.MetricsManager;
 import com.mybatisflex.core.query.QueryWrapper;
 import com.mybatisflex.core.row.Row;
 import com.mybatisflex.core.util.ClassUtil;
@@ -35,7 +37,6 @@ import com.mybatisflex.core.util.StringUtil;
 import java.lang.reflect.Field;
 import java.util.ArrayList;
 import java.util.Arrays;
-import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
@@ -61,33 +62,18 @@ public class RelationManager {
     private static int defaultQueryDepth = FlexGlobalConfig.getDefaultConfig().getDefaultRelationQueryDepth();
 
     /**
-     * 递归查询深度，默认为 2，在一些特殊场景下可以修改这个值
+     * 一对多关联配置了 limit 时，限制每个父对象关联数据量的方式
      */
-    private static ThreadLocal<Integer> depthThreadLocal = ThreadLocal.withInitial(() -> defaultQueryDepth);
-
-    /**
-     * 附加条件的查询参数
-     */
-    private static ThreadLocal<Map<String, Object>> extraConditionParams = new ThreadLocal<>();
-
-
-    /**
-     * 查询时，可忽略某些已经添加 Relation 注解的属性
-     */
-    private static ThreadLocal<Set<String>> ignoreRelations = new ThreadLocal<>();
+    private static RelationLimitStrategy limitStrategy = RelationLimitStrategy.AUTO;
 
 
-    /**
-     * 查询时，仅查询这个配置的 Relations
-     */
-    private static ThreadLocal<Set<String>> onlyQueryRelations = new ThreadLocal<>();
-
-
-    /**
-     * 每次查询是否自动清除 depth  extraConditionParams ignoreRelations 的配置
-     */
-    private static ThreadLocal<Boolean> autoClearConfig = ThreadLocal.withInitial(() -> true);
+    public static RelationLimitStrategy getLimitStrategy() {
+        return limitStrategy;
+    }
 
+    public static void setLimitStrategy(RelationLimitStrategy limitStrategy) {
+        RelationManager.limitStrategy = limitStrategy == null ? RelationLimitStrategy.AUTO : limitStrategy;
+    }
 
     public static int getDefaultQueryDepth() {
         return defaultQueryDepth;
@@ -97,127 +83,134 @@ public class RelationManager {
         RelationManager.defaultQueryDepth = defaultQueryDepth;
     }
 
+    /**
+     * 设置当前线程关联查询的深度，默认为 {@link #getDefaultQueryDepth()}，在一些特殊场景下可以修改这个值。
+     */
     public static void setMaxDepth(int maxDepth) {
-        depthThreadLocal.set(maxDepth);
+        FlexContext.setCurrent(FlexContext.current().withRelationQueryDepth(maxDepth));
     }
 
     public static int getMaxDepth() {
-        return depthThreadLocal.get();
+        Integer depth = FlexContext.current().getRelationQueryDepth();
+        return depth != null ? depth : defaultQueryDepth;
     }
 
     public static void clearMaxDepth() {
-        depthThreadLocal.remove();
+        FlexContext.setCurrent(FlexContext.current().withRelationQueryDepth(null));
     }
 
 
+    /**
+     * 设置附加条件的查询参数。
+     */
     public static void setExtraConditionParams(Map<String, Object> params) {
-        extraConditionParams.set(params);
+        FlexContext.setCurrent(FlexContext.current().withRelationExtraConditionParams(params));
     }
 
     public static void addExtraConditionParam(String key, Object value) {
-        Map<String, Object> params = extraConditionParams.get();
-        if (params == null) {
-            params = new HashMap<>();
-            extraConditionParams.set(params);
-        }
-        params.put(key, value);
+        FlexContext.setCurrent(FlexContext.current().withRelationExtraConditionParam(key, value));
     }
 
     public static Map<String, Object> getExtraConditionParams() {
-        return extraConditionParams.get();
+        return FlexContext.current().getRelationExtraConditionParams();
     }
 
     public static void clearExtraConditionParams() {
-        extraConditionParams.remove();
+        FlexContext.setCurrent(FlexContext.current().withRelationExtraConditionParams(null));
     }
 
 
     //////ignore relations //////
+
+    /**
+     * 查询时，可忽略某些已经添加 Relation 注解的属性。
+     */
     public static Set<String> getIgnoreRelations() {
-        return ignoreRelations.get();
+        return FlexContext.current().getIgnoreRelations();
     }
 
     public static void setIgnoreRelations(Set<String> ignoreRelations) {
-        RelationManager.ignoreRelations.set(ignoreRelations);
+        FlexContext.setCurrent(FlexContext.current().withIgnoreRelations(ignoreRelations));
     }
 
 
     public static <T> void addIgnoreRelations(LambdaGetter<T>... ignoreRelations) {
-        Set<String> relations = RelationManager.ignoreRelations.get();
-        if (relations == null) {
-            relations = new HashSet<>();
-            setIgnoreRelations(relations);
-        }
-        for (LambdaGetter<T> lambdaGetter : ignoreRelations) {
-            Class<?> implClass = LambdaUtil.getImplClass(lambdaGetter);
-            String fieldName = LambdaUtil.getFieldName(lambdaGetter);
-            relations.add(implClass.getSimpleName() + "." + fieldName);
-        }
+        setIgnoreRelations(addRelations(getIgnoreRelations(), ignoreRelations));
     }
 
     public static void addIgnoreRelations(String... ignoreRelations) {
-        Set<String> relations = RelationManager.ignoreRelations.get();
-        if (relations == null) {
-            relations = new HashSet<>();
-            setIgnoreRelations(relations);
-        }
-        relations.addAll(Arrays.asList(ignoreRelations));
+        setIgnoreRelations(addRelations(getIgnoreRelations(), ignoreRelations));
     }
 
 
     public static void clearIgnoreRelations() {
-        ignoreRelations.remove();
+        setIgnoreRelations(null);
     }
 
 
     //////query relations //////
+
+    /**
+     * 查询时，仅查询这个配置的 Relations。
+     */
     public static Set<String> getQueryRelations() {
-        return onlyQueryRelations.get();
+        return FlexContext.current().getQueryRelations();
     }
 
     public static void setQueryRelations(Set<String> queryRelations) {
-        RelationManager.onlyQueryRelations.set(queryRelations);
+        FlexContext.setCurrent(FlexContext.current().withQueryRelations(queryRelations));
     }
 
 
     public static <T> void addQueryRelations(LambdaGetter<T>... queryRelations) {
-        Set<String> relations = RelationManager.onlyQueryRelations.get();
-        if (relations == null) {
-            relations = new HashSet<>();
-            setQueryRelations(relations);
-        }
-        for (LambdaGetter<T> lambdaGetter : queryRelations) {
-            Class<?> implClass = LambdaUtil.getImplClass(lambdaGetter);
-            String fieldName = LambdaUtil.getFieldName(lambdaGetter);
-            relations.add(implClass.getSimpleName() + "." + fieldName);
-        }
+        setQueryRelations(addRelations(getQueryRelations(), queryRelations));
     }
 
     public static void addQueryRelations(String... queryRelations) {
-        Set<String> relations = RelationManager.onlyQueryRelations.get();
-        if (relations == null) {
-            relations = new HashSet<>();
-            setQueryRelations(relations);
-        }
-        relations.addAll(Arrays.asList(queryRelations));
+        setQueryRelations(addRelations(getQueryRelations(), queryRelations));
     }
 
 
     public static void clearQueryRelations() {
-        onlyQueryRelations.remove();
+        setQueryRelations(null);
     }
 
 
+    /**
+     * 每次查询是否自动清除 depth  extraConditionParams ignoreRelations 的配置
+     */
     public static void setAutoClearConfig(boolean enable) {
-        autoClearConfig.set(enable);
+        FlexContext.setCurrent(FlexContext.current().withRelationAutoClearConfig(enable));
     }
 
     public static boolean getAutoClearConfig() {
-        return autoClearConfig.get();
+        return FlexContext.current().isRelationAutoClearConfig();
     }
 
     public static void clearAutoClearConfig() {
-        autoClearConfig.remove();
+        setAutoClearConfig(true);
+    }
+
+
+    /**
+     * 复制后添加（写时复制），已被捕获的上下文（{@link FlexContext#capture()}）中的集合不会被修改。
+     * 返回的集合可以修改，{@link #getIgnoreRelations()}、{@link #getQueryRelations()} 的调用方可以继续向其中添加。
+     */
+    @SafeVarargs
+    private static <T> Set<String> addRelations(Set<String> relations, LambdaGetter<T>... lambdaGetters) {
+        Set<String> newRelations = relations == null ? new HashSet<>() : new HashSet<>(relations);
+        for (LambdaGetter<T> lambdaGetter : lambdaGetters) {
+            Class<?> implClass = LambdaUtil.getImplClass(lambdaGetter);
+            String fieldName = LambdaUtil.getFieldName(lambdaGetter);
+            newRelations.add(implClass.getSimpleName() + "." + fieldName);
+        }
+        return newRelations;
+    }
+
+    private static Set<String> addRelations(Set<String> relations, String... names) {
+        Set<String> newRelations = relations == null ? new HashSet<>() : new HashSet<>(relations);
+        newRelations.addAll(Arrays.asList(names));
+        return newRelations;
     }
 
 
@@ -225,7 +218,7 @@ public class RelationManager {
         if (keys == null || keys.isEmpty()) {
             return FlexConsts.EMPTY_ARRAY;
         }
-        Map<String, Object> paramMap = extraConditionParams.get();
+        Map<String, Object> paramMap = getExtraConditionParams();
         if (paramMap == null || paramMap.isEmpty()) {
             return new Object[keys.size()];
         }
@@ -272,10 +265,20 @@ public class RelationManager {
 
 
     public static <Entity> void queryRelations(BaseMapper<?> mapper, List<Entity> entities) {
+        boolean metricsEnable = MetricsManager.isMetricsEnable();
+        long start = metricsEnable ? System.nanoTime() : 0;
+        boolean success = false;
         try {
-            doQueryRelations(mapper, entities, 0, depthThreadLocal.get(), ignoreRelations.get(), onlyQueryRelations.get());
+            FlexContext context = FlexContext.current();
+            Integer depth = context.getRelationQueryDepth();
+            doQueryRelations(mapper, entities, 0, depth != null ? depth : defaultQueryDepth
+                , context.getIgnoreRelations(), context.getQueryRelations());
+            success = true;
         } finally {
             clearConfigIfNecessary();
+            if (metricsEnable) {
+                MetricsManager.recordRelations(mapper.getClass(), start, entities == null ? 0 : entities.size(), success);
+            }
         }
     }
 
@@ -283,12 +286,9 @@ public class RelationManager {
      * 清除查询配置
      */
     public static void clearConfigIfNecessary() {
-        Boolean autoClearEnable = autoClearConfig.get();
-        if (autoClearEnable != null && autoClearEnable) {
-            depthThreadLocal.remove();
-            extraConditionParams.remove();
-            onlyQueryRelations.remove();
-            ignoreRelations.remove();
+        FlexContext context = FlexContext.current();
+        if (context.isRelationAutoClearConfig()) {
+            FlexContext.setCurrent(context.clearRelationConfig());
         }
     }
 
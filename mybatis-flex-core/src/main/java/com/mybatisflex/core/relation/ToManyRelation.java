@@ -15,16 +15,35 @@
  */
 package com.mybatisflex.core.relation;
 
+import com.mybatisflex.core.FlexGlobalConfig;
+import com.mybatisflex.core.datasource.DataSourceKey;
+import com.mybatisflex.core.datasource.FlexDataSource;
+import com.mybatisflex.core.dialect.DialectFactory;
 import com.mybatisflex.core.exception.FlexExceptions;
+import com.mybatisflex.core.query.QueryColumn;
 import com.mybatisflex.core.query.QueryWrapper;
+import com.mybatisflex.core.query.RawQueryColumn;
 import com.mybatisflex.core.row.Row;
 import com.mybatisflex.core.util.*;
 
+import javax.sql.DataSource;
 import java.lang.reflect.Field;
 import java.util.*;
 
+import static com.mybatisflex.core.query.QueryMethods.column;
+
 public class ToManyRelation<SelfEntity> extends AbstractRelation<SelfEntity> {
 
+    /**
+     * 按父对象分组限制数据量时，行号列的别名
+     */
+    protected static final String ROW_NUMBER_COLUMN = "flex_relation_rn";
+
+    /**
+     * 按父对象分组限制数据量时，子查询的别名
+     */
+    protected static final String SUB_QUERY_ALIAS = "flex_relation_t";
+
     protected String mapKeyField;
 
     protected FieldWrapper mapKeyFieldWrapper;
@@ -80,9 +99,139 @@ public class ToManyRelation<SelfEntity> extends AbstractRelation<SelfEntity> {
             }
             targetValues = newTargetValues;
         }
+
+        //多个父对象时，limit 需要作用在每个父对象上，而不是整个查询结果上
+        if (isPerParentLimit(targetValues)) {
+            RelationLimitStrategy strategy = RelationManager.getLimitStrategy().resolve(ObjectUtil.requireNonNullElse(
+                DialectFactory.getHintDbType(), FlexGlobalConfig.getDefaultConfig().getDbType()), getTargetDataSource());
+            if (strategy == RelationLimitStrategy.WINDOW) {
+                String[] columns = getPerParentSelectColumns();
+                //无法确定查询列时，不能使用 "*, ROW_NUMBER() OVER ..."，改为使用 UNION ALL
+                if (columns != null) {
+                    return buildWindowQueryWrapper(targetValues, columns);
+                }
+                strategy = RelationLimitStrategy.UNION_ALL;
+            }
+            if (strategy == RelationLimitStrategy.UNION_ALL) {
+                return buildUnionAllQueryWrapper(targetValues);
+            }
+        }
+
         return super.buildQueryWrapper(targetValues);
     }
 
+
+    /**
+     * 关联查询使用的数据源，用于判断数据库版本是否支持窗口函数，无法确定时返回 {@code null}。
+     */
+    protected DataSource getTargetDataSource() {
+        FlexGlobalConfig globalConfig = FlexGlobalConfig.getDefaultConfig();
+        if (globalConfig.getConfiguration() == null || globalConfig.getConfiguration().getEnvironment() == null) {
+            return null;
+        }
+        FlexDataSource flexDataSource = globalConfig.getDataSource();
+        String dataSourceKey = DataSourceKey.get();
+        return flexDataSource.getDataSourceMap().get(StringUtil.hasText(dataSourceKey)
+            ? dataSourceKey : flexDataSource.getDefaultDataSourceKey());
+    }
+
+
+    /**
+     * 是否需要为每个父对象分别限制数据量。通过中间表关联或者配置了 selfValueSplitBy 时，
+     * 无法通过目标表的关联字段区分父对象，依然对整个查询使用 limit。
+     *
+     * @param targetValues 条件的值
+     * @return {@code true} 需要按父对象限制
+     */
+    protected boolean isPerParentLimit(Set<Object> targetValues) {
+        return limit > 0
+            && targetValues.size() > 1
+            && !isRelationByMiddleTable()
+            && StringUtil.noText(selfValueSplitBy);
+    }
+
+
+    /**
+     * 按父对象分组限制数据量时需要查询的列，无法确定时返回 {@code null}。
+     */
+    protected String[] getPerParentSelectColumns() {
+        if (ArrayUtil.isNotEmpty(selectColumns)) {
+            return selectColumns;
+        }
+        return targetTableInfo != null ? targetTableInfo.getAllColumns() : null;
+    }
+
+
+    /**
+     * 通过窗口函数为每个父对象查询前 limit 条数据：
+     * <pre>
+     * SELECT ... FROM (
+     *     SELECT ..., ROW_NUMBER() OVER (PARTITION BY target_field ORDER BY ...) AS flex_relation_rn
+     *     FROM target_table WHERE target_field IN (...)
+     * ) flex_relation_t
+     * WHERE flex_relation_rn <= limit
+     * ORDER BY flex_relation_rn
+     * </pre>
+     *
+     * @param targetValues 条件的值
+     * @param columns      查询的列
+     * @return QueryWrapper
+     */
+    protected QueryWrapper buildWindowQueryWrapper(Set<Object> targetValues, String[] columns) {
+        String partitionColumn = conditionColumn.getName();
+        String rowNumber = "ROW_NUMBER() OVER (PARTITION BY " + partitionColumn
+            + " ORDER BY " + (StringUtil.hasText(orderBy) ? orderBy : partitionColumn) + ") AS " + ROW_NUMBER_COLUMN;
+
+        QueryWrapper windowQuery = QueryWrapper.create()
+            .select(columns)
+            //别名不使用方言包裹，与外层的条件保持一致
+            .select(new RawQueryColumn(rowNumber))
+            .from(getTargetTableWithSchema())
+            .where(conditionColumn.in(targetValues));
+        appendExtraCondition(windowQuery);
+
+        QueryColumn rowNumberColumn = column(ROW_NUMBER_COLUMN);
+        return QueryWrapper.create()
+            .select(columns)
+            .from(windowQuery).as(SUB_QUERY_ALIAS)
+            .where(rowNumberColumn.le(limit))
+            //join 时按照父对象分组，按行号排序即可保持每个父对象内部的顺序
+            .orderBy(rowNumberColumn.asc());
+    }
+
+
+    /**
+     * 为每个父对象生成一个 {@code ORDER BY ... LIMIT N} 的子查询，并通过 UNION ALL 合并为一次查询，
+     * 用于不支持窗口函数的数据库。
+     *
+     * @param targetValues 条件的值
+     * @return QueryWrapper
+     */
+    protected QueryWrapper buildUnionAllQueryWrapper(Set<Object> targetValues) {
+        QueryWrapper unionQuery = null;
+        int index = 0;
+        for (Object targetValue : targetValues) {
+            QueryWrapper limitQuery = QueryWrapper.create();
+            if (ArrayUtil.isNotEmpty(selectColumns)) {
+                limitQuery.select(selectColumns);
+            }
+            limitQuery.from(getTargetTableWithSchema())
+                .where(conditionColumn.eq(targetValue));
+            appendExtraCondition(limitQuery);
+            customizeQueryWrapper(limitQuery);
+
+            //每个分支都包装为子查询，避免第一个分支的 limit 作用在整个 UNION 的结果上
+            QueryWrapper branch = QueryWrapper.create()
+                .from(limitQuery).as(SUB_QUERY_ALIAS + index++);
+            if (unionQuery == null) {
+                unionQuery = branch;
+            } else {
+                unionQuery.unionAll(branch);
+            }
+        }
+        return unionQuery;
+    }
+
     @Override
     public void customizeQueryWrapper(QueryWrapper queryWrapper) {
         if (StringUtil.hasText(orderBy)) {
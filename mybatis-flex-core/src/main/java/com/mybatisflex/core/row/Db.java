@@ -16,7 +16,9 @@
 package com.mybatisflex.core.row;
 
 import com.mybatisflex.core.FlexGlobalConfig;
+import com.mybatisflex.core.async.AsyncQueryManager;
 import com.mybatisflex.core.exception.FlexExceptions;
+import com.mybatisflex.core.mybatis.SessionCursor;
 import com.mybatisflex.core.paginate.Page;
 import com.mybatisflex.core.query.CPI;
 import com.mybatisflex.core.query.QueryCondition;
@@ -32,9 +34,11 @@ import java.util.Arrays;
 import java.util.Collection;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.BiConsumer;
 import java.util.function.Supplier;
+import java.util.stream.Stream;
 
 /**
  * 针对 RowMapper 的静态方法进行封装
@@ -162,6 +166,29 @@ public class Db {
         return invoker().insertBatchWithFirstRowColumns(null, tableName, rows);
     }
 
+    /**
+     * 使用数据库的批量导入方式（例如 PostgreSQL 的 COPY、MySQL 的 LOAD DATA）导入大量数据，根据第一条内容来构建导入的字段
+     *
+     * @param schema    模式
+     * @param tableName 表名
+     * @param rows      数据
+     * @return 导入的行数
+     */
+    public static long bulkLoad(String schema, String tableName, Iterable<Row> rows) {
+        return invoker().bulkLoad(schema, tableName, rows);
+    }
+
+    /**
+     * 使用数据库的批量导入方式导入大量数据，根据第一条内容来构建导入的字段
+     *
+     * @param tableName 表名
+     * @param rows      数据
+     * @return 导入的行数
+     */
+    public static long bulkLoad(String tableName, Iterable<Row> rows) {
+        return invoker().bulkLoad(null, tableName, rows);
+    }
+
     /**
      * 编写 delete sql 来删除数据
      *
@@ -790,6 +817,97 @@ public class Db {
         return invoker().selectListByQuery(null, null, queryWrapper);
     }
 
+    /**
+     * 通过 sql 以游标的方式查询数据，数据库连接在游标关闭（或读取完毕）时释放，建议通过 try-with-resources 使用
+     *
+     * @param sql  sql 语句
+     * @param args sql 参数
+     */
+    public static SessionCursor<Row> selectCursorBySql(String sql, Object... args) {
+        return invoker().selectCursorBySql(sql, args);
+    }
+
+
+    /**
+     * 通过 query 以游标的方式查询数据，数据库连接在游标关闭（或读取完毕）时释放，建议通过 try-with-resources 使用
+     *
+     * @param schema       模式
+     * @param tableName    表名
+     * @param queryWrapper query 条件
+     */
+    public static SessionCursor<Row> selectCursorByQuery(String schema, String tableName, QueryWrapper queryWrapper) {
+        return invoker().selectCursorByQuery(schema, tableName, queryWrapper);
+    }
+
+
+    /**
+     * 通过 query 以游标的方式查询数据，数据库连接在游标关闭（或读取完毕）时释放，建议通过 try-with-resources 使用
+     *
+     * @param tableName    表名
+     * @param queryWrapper query 条件
+     */
+    public static SessionCursor<Row> selectCursorByQuery(String tableName, QueryWrapper queryWrapper) {
+        return invoker().selectCursorByQuery(null, tableName, queryWrapper);
+    }
+
+
+    /**
+     * 通过 query 以游标的方式查询数据，数据库连接在游标关闭（或读取完毕）时释放，建议通过 try-with-resources 使用
+     *
+     * @param queryWrapper 必须带有 from 的 queryWrapper
+     */
+    public static SessionCursor<Row> selectCursorByQuery(QueryWrapper queryWrapper) {
+        List<QueryTable> queryTables = CPI.getQueryTables(queryWrapper);
+        if (queryTables == null || queryTables.isEmpty()) {
+            throw FlexExceptions.wrap("table must not be null or empty in Db.selectCursorByQuery");
+        }
+        return invoker().selectCursorByQuery(null, null, queryWrapper);
+    }
+
+
+    /**
+     * 通过 sql 流式查询数据，关闭 Stream 时释放数据库连接，需要通过 try-with-resources 使用
+     *
+     * @param sql  sql 语句
+     * @param args sql 参数
+     */
+    public static Stream<Row> streamBySql(String sql, Object... args) {
+        return selectCursorBySql(sql, args).stream();
+    }
+
+
+    /**
+     * 通过 query 流式查询数据，关闭 Stream 时释放数据库连接，需要通过 try-with-resources 使用
+     *
+     * @param schema       模式
+     * @param tableName    表名
+     * @param queryWrapper query 条件
+     */
+    public static Stream<Row> stream(String schema, String tableName, QueryWrapper queryWrapper) {
+        return selectCursorByQuery(schema, tableName, queryWrapper).stream();
+    }
+
+
+    /**
+     * 通过 query 流式查询数据，关闭 Stream 时释放数据库连接，需要通过 try-with-resources 使用
+     *
+     * @param tableName    表名
+     * @param queryWrapper query 条件
+     */
+    public static Stream<Row> stream(String tableName, QueryWrapper queryWrapper) {
+        return selectCursorByQuery(tableName, queryWrapper).stream();
+    }
+
+
+    /**
+     * 通过 query 流式查询数据，关闭 Stream 时释放数据库连接，需要通过 try-with-resources 使用
+     *
+     * @param queryWrapper 必须带有 from 的 queryWrapper
+     */
+    public static Stream<Row> stream(QueryWrapper queryWrapper) {
+        return selectCursorByQuery(queryWrapper).stream();
+    }
+
     /**
      * 查询某张表的所有数据
      *
@@ -1147,6 +1265,61 @@ public class Db {
     }
 
 
+    /**
+     * 异步通过 query 来查询数据列表，查询通过 {@link AsyncQueryManager} 执行
+     *
+     * @param tableName    表名
+     * @param queryWrapper query 条件
+     */
+    public static CompletableFuture<List<Row>> selectListByQueryAsync(String tableName, QueryWrapper queryWrapper) {
+        return AsyncQueryManager.supplyAsync(() -> selectListByQuery(tableName, queryWrapper));
+    }
+
+
+    /**
+     * 异步通过 query 来查询数据列表
+     *
+     * @param queryWrapper 必须带有 from 的 queryWrapper
+     */
+    public static CompletableFuture<List<Row>> selectListByQueryAsync(QueryWrapper queryWrapper) {
+        return AsyncQueryManager.supplyAsync(() -> selectListByQuery(queryWrapper));
+    }
+
+
+    /**
+     * 异步通过 query 来查询一条数据
+     *
+     * @param tableName    表名
+     * @param queryWrapper query 条件
+     */
+    public static CompletableFuture<Row> selectOneByQueryAsync(String tableName, QueryWrapper queryWrapper) {
+        return AsyncQueryManager.supplyAsync(() -> selectOneByQuery(tableName, queryWrapper));
+    }
+
+
+    /**
+     * 异步通过 query 来查询数据量
+     *
+     * @param tableName    表名
+     * @param queryWrapper query 条件
+     */
+    public static CompletableFuture<Long> selectCountByQueryAsync(String tableName, QueryWrapper queryWrapper) {
+        return AsyncQueryManager.supplyAsync(() -> selectCountByQuery(tableName, queryWrapper));
+    }
+
+
+    /**
+     * 异步分页查询
+     *
+     * @param tableName    表名
+     * @param page         page 对象，若 page 有 totalCount 值，则不会再去查询分类的数据总量
+     * @param queryWrapper 条件
+     */
+    public static CompletableFuture<Page<Row>> paginateAsync(String tableName, Page<Row> page, QueryWrapper queryWrapper) {
+        return AsyncQueryManager.supplyAsync(() -> paginate(tableName, page, queryWrapper));
+    }
+
+
     /**
      * 进行事务操作，返回 null 或者 false 或者 抛出异常，事务回滚
      */
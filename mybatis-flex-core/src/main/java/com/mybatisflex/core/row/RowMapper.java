@@ -16,6 +16,7 @@
 package com.mybatisflex.core.row;
 
 import com.mybatisflex.core.FlexConsts;
+import com.mybatisflex.core.dialect.bulk.BulkLoadExecutor;
 import com.mybatisflex.core.exception.FlexExceptions;
 import com.mybatisflex.core.paginate.Page;
 import com.mybatisflex.core.provider.RowSqlProvider;
@@ -26,6 +27,7 @@ import com.mybatisflex.core.util.CollectionUtil;
 import com.mybatisflex.core.util.MapperUtil;
 import com.mybatisflex.core.util.StringUtil;
 import org.apache.ibatis.annotations.*;
+import org.apache.ibatis.cursor.Cursor;
 import org.apache.ibatis.exceptions.TooManyResultsException;
 
 import java.util.Collection;
@@ -80,6 +82,20 @@ public interface RowMapper {
     int insertBatchWithFirstRowColumns(@Param(FlexConsts.SCHEMA_NAME) String schema, @Param(FlexConsts.TABLE_NAME) String tableName, @Param(FlexConsts.ROWS) List<Row> rows);
 
 
+    /**
+     * 使用数据库的批量导入方式导入 rows，只会根据第一条 row 数据来构建导入的字段
+     *
+     * @param schema    模式
+     * @param tableName 表名
+     * @param rows      数据内容
+     * @return 导入的行数
+     * @see com.mybatisflex.core.dialect.IDialect#getBulkLoader()
+     */
+    default long bulkLoad(String schema, String tableName, Iterable<Row> rows) {
+        return BulkLoadExecutor.loadRows(this, schema, tableName, rows.iterator());
+    }
+
+
     /////// delete /////
 
     /**
@@ -304,6 +320,30 @@ public interface RowMapper {
     List<Row> selectListByQuery(@Param(FlexConsts.SCHEMA_NAME) String schema, @Param(FlexConsts.TABLE_NAME) String tableName, @Param(FlexConsts.QUERY) QueryWrapper queryWrapper);
 
 
+    /**
+     * 通过自定义 sql 以游标的方式查询 Row，使用完毕后需要关闭游标
+     *
+     * @param sql  自定义的 sql
+     * @param args sql 参数
+     * @return row 游标
+     */
+    @SelectProvider(value = RowSqlProvider.class, method = RowSqlProvider.METHOD_RAW_SQL)
+    Cursor<Row> selectCursorBySql(@Param(FlexConsts.SQL) String sql, @Param(FlexConsts.SQL_ARGS) Object... args);
+
+
+    /**
+     * 根据 queryWrapper 以游标的方式查询 Row，使用完毕后需要关闭游标
+     *
+     * @param schema       模式
+     * @param tableName    表名
+     * @param queryWrapper queryWrapper
+     * @return row 游标
+     * @see RowSqlProvider#selectListByQuery(Map)
+     */
+    @SelectProvider(value = RowSqlProvider.class, method = "selectListByQuery")
+    Cursor<Row> selectCursorByQuery(@Param(FlexConsts.SCHEMA_NAME) String schema, @Param(FlexConsts.TABLE_NAME) String tableName, @Param(FlexConsts.QUERY) QueryWrapper queryWrapper);
+
+
     /**
      * 查询某张表的全部数据
      *
@@ -16,8 +16,10 @@
 package com.mybatisflex.core.row;
 
 import com.mybatisflex.core.mybatis.MappedStatementTypes;
+import com.mybatisflex.core.mybatis.SessionCursor;
 import com.mybatisflex.core.paginate.Page;
 import com.mybatisflex.core.query.QueryWrapper;
+import org.apache.ibatis.cursor.Cursor;
 import org.apache.ibatis.executor.BatchResult;
 import org.apache.ibatis.session.ExecutorType;
 import org.apache.ibatis.session.SqlSession;
@@ -55,6 +57,23 @@ public class RowMapperInvoker {
         }
     }
 
+    /**
+     * 在独立的会话中打开游标，会话在游标关闭时才会关闭。
+     */
+    protected SessionCursor<Row> openCursor(Function<RowMapper, Cursor<Row>> function) {
+        Class<?> currentType = MappedStatementTypes.getCurrentType();
+        if (currentType != null) {
+            MappedStatementTypes.clear();
+        }
+        try {
+            return SessionCursor.open(sqlSessionFactory, sqlSession -> function.apply(sqlSession.getMapper(RowMapper.class)));
+        } finally {
+            if (currentType != null) {
+                MappedStatementTypes.setCurrentType(currentType);
+            }
+        }
+    }
+
     public int insert(String schema, String tableName, Row row) {
         return execute(mapper -> mapper.insert(schema, tableName, row));
     }
@@ -68,6 +87,10 @@ public class RowMapperInvoker {
         return execute(mapper -> mapper.insertBatchWithFirstRowColumns(schema, tableName, rows));
     }
 
+    public long bulkLoad(String schema, String tableName, Iterable<Row> rows) {
+        return execute(mapper -> mapper.bulkLoad(schema, tableName, rows));
+    }
+
     public int deleteBySql(String sql, Object... args) {
         return execute(mapper -> mapper.deleteBySql(sql, args));
     }
@@ -197,6 +220,14 @@ public class RowMapperInvoker {
         return execute(mapper -> mapper.selectListByQuery(schema, tableName, queryWrapper));
     }
 
+    public SessionCursor<Row> selectCursorBySql(String sql, Object... args) {
+        return openCursor(mapper -> mapper.selectCursorBySql(sql, args));
+    }
+
+    public SessionCursor<Row> selectCursorByQuery(String schema, String tableName, QueryWrapper queryWrapper) {
+        return openCursor(mapper -> mapper.selectCursorByQuery(schema, tableName, queryWrapper));
+    }
+
     public List<Row> selectAll(String schema, String tableName) {
         return execute(mapper -> mapper.selectAll(schema, tableName));
     }
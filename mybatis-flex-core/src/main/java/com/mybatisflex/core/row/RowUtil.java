@@ -21,11 +21,13 @@ import com.mybatisflex.core.util.ClassUtil;
 import com.mybatisflex.core.util.ConvertUtil;
 import com.mybatisflex.core.util.StringUtil;
 import com.mybatisflex.core.util.MapUtil;
+import com.mybatisflex.core.util.PropertyAccessor;
 
 import java.lang.reflect.Method;
 import java.lang.reflect.Modifier;
 import java.util.*;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.BiConsumer;
 
 public class RowUtil {
 
@@ -36,6 +38,8 @@ public class RowUtil {
 
     private static final Map<Class<?>, Map<String, Method>> classSettersCache = new ConcurrentHashMap<>();
 
+    private static final Map<Method, BiConsumer<Object, Object>> settersCache = new ConcurrentHashMap<>();
+
     public static <T> T toObject(Row row, Class<T> objectClass) {
         return toObject(row, objectClass, 0);
     }
@@ -52,7 +56,7 @@ public class RowUtil {
                         if (property.equalsIgnoreCase(rowKey)) {
                             Object rowValue = row.get(rowKey);
                             Object value = ConvertUtil.convert(rowValue, setter.getParameterTypes()[0], true);
-                            setter.invoke(instance, value);
+                            getSetter(setter).accept(instance, value);
                         }
                     }
                 } else {
@@ -63,7 +67,7 @@ public class RowUtil {
                             if (newProperty.equalsIgnoreCase(rowKey)) {
                                 Object rowValue = row.get(rowKey);
                                 Object value = ConvertUtil.convert(rowValue, setter.getParameterTypes()[0], true);
-                                setter.invoke(instance, value);
+                                getSetter(setter).accept(instance, value);
                                 fillValue = true;
                                 break;
                             }
@@ -208,6 +212,11 @@ public class RowUtil {
     }
 
 
+    private static BiConsumer<Object, Object> getSetter(Method method) {
+        return MapUtil.computeIfAbsent(settersCache, method, PropertyAccessor::createSetter);
+    }
+
+
     private static Map<String, Method> getSetterMethods(Class<?> aClass) {
         return MapUtil.computeIfAbsent(classSettersCache, aClass, aClass1 -> {
             Map<String, Method> columnSetterMapping = new HashMap<>();
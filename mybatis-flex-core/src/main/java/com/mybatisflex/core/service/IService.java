@@ -16,6 +16,7 @@
 package com.mybatisflex.core.service;
 
 import com.mybatisflex.core.BaseMapper;
+import com.mybatisflex.core.async.AsyncQueryManager;
 import com.mybatisflex.core.exception.FlexExceptions;
 import com.mybatisflex.core.paginate.Page;
 import com.mybatisflex.core.query.*;
@@ -30,6 +31,7 @@ import java.util.Collection;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
 
 
 /**
@@ -315,6 +317,32 @@ public interface IService<T> {
         Class<BaseMapper<T>> usefulClass = (Class<BaseMapper<T>>) ClassUtil.getUsefulClass(getMapper().getClass());
         return SqlUtil.toBool(Db.executeBatch(entities, batchSize, usefulClass, (mapper, entity) -> mapper.update(entity, ignoreNulls)));
     }
+
+    /**
+     * <p>根据数据主键批量更新数据，每批数据只执行一条 SQL。
+     *
+     * @param entities 实体类对象集合
+     * @return {@code true} 更新成功，{@code false} 更新失败。
+     * @apiNote 若实体类属性数据为 {@code null}，该属性不会新到数据库。
+     * @see BaseMapper#updateBatchById(Collection, boolean)
+     */
+    default boolean updateBatchById(Collection<T> entities) {
+        return updateBatchById(entities, true);
+    }
+
+    /**
+     * <p>根据数据主键批量更新数据，每批数据只执行一条 SQL。
+     *
+     * @param entities    实体类对象集合
+     * @param ignoreNulls 是否忽略空字段
+     *                    {@code true} 表示忽略实体类中为 {@code null} 的字段，不更新这些字段。
+     *                    {@code false} 表示不忽略空字段，允许将对应字段更新为 {@code null}。
+     * @return {@code true} 更新成功，{@code false} 更新失败。
+     * @see BaseMapper#updateBatchById(Collection, boolean)
+     */
+    default boolean updateBatchById(Collection<T> entities, boolean ignoreNulls) {
+        return SqlUtil.toBool(getMapper().updateBatchById(entities, ignoreNulls));
+    }
     //endregion ===== 更新（改）操作 =====
 
     //region ===== 查询（查）操作 =====
@@ -658,6 +686,80 @@ public interface IService<T> {
     }
     //endregion ===== 分页查询操作 =====
 
+    //region ===== 异步查询操作 =====
+
+    /**
+     * <p>异步根据数据主键查询一条数据。
+     *
+     * @param id 数据主键
+     * @return 查询结果数据
+     * @apiNote 查询通过 {@link AsyncQueryManager} 执行，在事务中调用时会在当前线程中同步执行。
+     */
+    default CompletableFuture<T> getByIdAsync(Serializable id) {
+        return AsyncQueryManager.supplyAsync(() -> getById(id));
+    }
+
+    /**
+     * <p>异步根据查询条件查询一条数据。
+     *
+     * @param query 查询条件
+     * @return 查询结果数据
+     */
+    default CompletableFuture<T> getOneAsync(QueryWrapper query) {
+        return AsyncQueryManager.supplyAsync(() -> getOne(query));
+    }
+
+    /**
+     * <p>异步查询所有数据。
+     *
+     * @return 所有数据
+     */
+    default CompletableFuture<List<T>> listAsync() {
+        return AsyncQueryManager.supplyAsync(this::list);
+    }
+
+    /**
+     * <p>异步根据查询条件查询数据集合。
+     *
+     * @param query 查询条件
+     * @return 数据集合
+     */
+    default CompletableFuture<List<T>> listAsync(QueryWrapper query) {
+        return AsyncQueryManager.supplyAsync(() -> list(query));
+    }
+
+    /**
+     * <p>异步根据数据主键查询数据集合。
+     *
+     * @param ids 数据主键
+     * @return 数据集合
+     */
+    default CompletableFuture<List<T>> listByIdsAsync(Collection<? extends Serializable> ids) {
+        return AsyncQueryManager.supplyAsync(() -> listByIds(ids));
+    }
+
+    /**
+     * <p>异步根据查询条件查询数据数量。
+     *
+     * @param query 查询条件
+     * @return 数据数量
+     */
+    default CompletableFuture<Long> countAsync(QueryWrapper query) {
+        return AsyncQueryManager.supplyAsync(() -> count(query));
+    }
+
+    /**
+     * <p>异步根据查询条件分页查询数据。
+     *
+     * @param page  分页对象
+     * @param query 查询条件
+     * @return 分页对象
+     */
+    default CompletableFuture<Page<T>> pageAsync(Page<T> page, QueryWrapper query) {
+        return AsyncQueryManager.supplyAsync(() -> page(page, query));
+    }
+    //endregion ===== 异步查询操作 =====
+
     //region ===== 查询包装器操作 =====
 
     /**
@@ -19,6 +19,7 @@ import com.mybatisflex.core.FlexGlobalConfig;
 import com.mybatisflex.core.mask.CompositeMaskTypeHandler;
 import com.mybatisflex.core.mask.MaskTypeHandler;
 import com.mybatisflex.core.util.ArrayUtil;
+import com.mybatisflex.core.util.PropertyAccessor;
 import com.mybatisflex.core.util.StringUtil;
 import org.apache.ibatis.session.Configuration;
 import org.apache.ibatis.type.*;
@@ -88,6 +89,11 @@ public class ColumnInfo {
      */
     protected boolean ignore;
 
+    /**
+     * 属性访问器，首次使用时初始化。
+     */
+    protected PropertyAccessor propertyAccessor;
+
 
     public String getColumn() {
         return column;
@@ -191,4 +197,13 @@ public class ColumnInfo {
     public void setIgnore(boolean ignore) {
         this.ignore = ignore;
     }
+
+    public PropertyAccessor getPropertyAccessor() {
+        return propertyAccessor;
+    }
+
+    public void setPropertyAccessor(PropertyAccessor propertyAccessor) {
+        this.propertyAccessor = propertyAccessor;
+    }
+
 }
@@ -0,0 +1,286 @@
+/*
+ *  Copyright (c) 2022-2025, Mybatis-Flex (fuhai999@gmail.com).
+ *  <p>
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *  <p>
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *  <p>
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package com.mybatisflex.core.table;
+
+import com.mybatisflex.annotation.KeyType;
+import org.apache.ibatis.type.JdbcType;
+import org.apache.ibatis.type.TypeHandler;
+import org.apache.ibatis.type.UnknownTypeHandler;
+
+import java.lang.reflect.Field;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+
+/**
+ * 实体类属性的元数据描述，内容与 {@code @Id}、{@code @Column}、{@code @ColumnAlias}、{@code @ColumnMask} 注解一一对应。
+ *
+ * <p>运行时通过反射解析实体类时，会把每个字段转换为 {@link ColumnMeta}；APT 生成的 {@link TableInfoProvider}
+ * 则在编译期直接构建好这些内容，从而跳过启动时的字段扫描和注解解析。
+ *
+ * @author michael
+ * @since 2026-10-19
+ */
+public class ColumnMeta {
+
+    /**
+     * 属性名称。
+     */
+    private final String property;
+
+    /**
+     * 属性类型，为 {@code null} 时（例如泛型属性）在运行时通过反射获取。
+     */
+    private Class<?> propertyType;
+
+    /**
+     * 集合属性的泛型类型，为 {@code null} 时在运行时通过反射获取。
+     */
+    private Class<?> genericType;
+
+    private String column = "";
+    private boolean ignore;
+    private String onInsertValue = "";
+    private String onUpdateValue = "";
+    private boolean large;
+    private boolean logicDelete;
+    private boolean version;
+    private boolean tenantId;
+    private JdbcType jdbcType = JdbcType.UNDEFINED;
+    private Class<? extends TypeHandler> typeHandler = UnknownTypeHandler.class;
+    // 没有 @Column 注解时为 null，与反射解析时保持一致
+    private String comment;
+
+    private String[] alias;
+    private String maskType;
+
+    // 主键配置
+    private boolean primaryKey;
+    private KeyType keyType = KeyType.None;
+    private String keyValue = "";
+    private boolean keyBefore = true;
+    private String keyComment = "";
+
+    // 属性访问器
+    private Function<Object, Object> getter;
+    private BiConsumer<Object, Object> setter;
+
+    // 通过反射解析时对应的字段
+    private Field field;
+
+    public ColumnMeta(String property) {
+        this.property = property;
+    }
+
+    public static ColumnMeta of(String property, Class<?> propertyType) {
+        return new ColumnMeta(property).propertyType(propertyType);
+    }
+
+    public ColumnMeta propertyType(Class<?> propertyType) {
+        this.propertyType = propertyType;
+        return this;
+    }
+
+    public ColumnMeta genericType(Class<?> genericType) {
+        this.genericType = genericType;
+        return this;
+    }
+
+    public ColumnMeta column(String column) {
+        this.column = column;
+        return this;
+    }
+
+    public ColumnMeta ignore(boolean ignore) {
+        this.ignore = ignore;
+        return this;
+    }
+
+    public ColumnMeta onInsertValue(String onInsertValue) {
+        this.onInsertValue = onInsertValue;
+        return this;
+    }
+
+    public ColumnMeta onUpdateValue(String onUpdateValue) {
+        this.onUpdateValue = onUpdateValue;
+        return this;
+    }
+
+    public ColumnMeta large(boolean large) {
+        this.large = large;
+        return this;
+    }
+
+    public ColumnMeta logicDelete(boolean logicDelete) {
+        this.logicDelete = logicDelete;
+        return this;
+    }
+
+    public ColumnMeta version(boolean version) {
+        this.version = version;
+        return this;
+    }
+
+    public ColumnMeta tenantId(boolean tenantId) {
+        this.tenantId = tenantId;
+        return this;
+    }
+
+    public ColumnMeta jdbcType(JdbcType jdbcType) {
+        this.jdbcType = jdbcType;
+        return this;
+    }
+
+    public ColumnMeta typeHandler(Class<? extends TypeHandler> typeHandler) {
+        this.typeHandler = typeHandler;
+        return this;
+    }
+
+    public ColumnMeta comment(String comment) {
+        this.comment = comment;
+        return this;
+    }
+
+    public ColumnMeta alias(String... alias) {
+        this.alias = alias;
+        return this;
+    }
+
+    public ColumnMeta maskType(String maskType) {
+        this.maskType = maskType;
+        return this;
+    }
+
+    public ColumnMeta id(KeyType keyType, String value, boolean before, String comment) {
+        this.primaryKey = true;
+        this.keyType = keyType;
+        this.keyValue = value;
+        this.keyBefore = before;
+        this.keyComment = comment;
+        return this;
+    }
+
+    public ColumnMeta getter(Function<Object, Object> getter) {
+        this.getter = getter;
+        return this;
+    }
+
+    public ColumnMeta setter(BiConsumer<Object, Object> setter) {
+        this.setter = setter;
+        return this;
+    }
+
+    ColumnMeta field(Field field) {
+        this.field = field;
+        return this;
+    }
+
+    public String getProperty() {
+        return property;
+    }
+
+    public Class<?> getPropertyType() {
+        return propertyType;
+    }
+
+    public Class<?> getGenericType() {
+        return genericType;
+    }
+
+    public String getColumn() {
+        return column;
+    }
+
+    public boolean isIgnore() {
+        return ignore;
+    }
+
+    public String getOnInsertValue() {
+        return onInsertValue;
+    }
+
+    public String getOnUpdateValue() {
+        return onUpdateValue;
+    }
+
+    public boolean isLarge() {
+        return large;
+    }
+
+    public boolean isLogicDelete() {
+        return logicDelete;
+    }
+
+    public boolean isVersion() {
+        return version;
+    }
+
+    public boolean isTenantId() {
+        return tenantId;
+    }
+
+    public JdbcType getJdbcType() {
+        return jdbcType;
+    }
+
+    public Class<? extends TypeHandler> getTypeHandler() {
+        return typeHandler;
+    }
+
+    public String getComment() {
+        return comment;
+    }
+
+    public String[] getAlias() {
+        return alias;
+    }
+
+    public String getMaskType() {
+        return maskType;
+    }
+
+    public boolean isPrimaryKey() {
+        return primaryKey;
+    }
+
+    public KeyType getKeyType() {
+        return keyType;
+    }
+
+    public String getKeyValue() {
+        return keyValue;
+    }
+
+    public boolean isKeyBefore() {
+        return keyBefore;
+    }
+
+    public String getKeyComment() {
+        return keyComment;
+    }
+
+    public Function<Object, Object> getGetter() {
+        return getter;
+    }
+
+    public BiConsumer<Object, Object> getSetter() {
+        return setter;
+    }
+
+    Field getField() {
+        return field;
+    }
+
+}
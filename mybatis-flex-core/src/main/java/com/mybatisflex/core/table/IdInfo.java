@@ -54,6 +54,15 @@ public class IdInfo extends ColumnInfo {
         initDefaultKeyType();
     }
 
+    public IdInfo(ColumnMeta columnMeta) {
+        this.keyType = columnMeta.getKeyType();
+        this.value = columnMeta.getKeyValue();
+        this.before = columnMeta.isKeyBefore();
+        this.comment = columnMeta.getKeyComment();
+
+        initDefaultKeyType();
+    }
+
     /**
      * 用户未配置 keyType 是，配置默认的 key Type
      */
@@ -55,6 +55,8 @@ import com.mybatisflex.core.util.EnumWrapper;
 import com.mybatisflex.core.util.FieldWrapper;
 import com.mybatisflex.core.util.MapUtil;
 import com.mybatisflex.core.util.ObjectUtil;
+import com.mybatisflex.core.util.PropertyAccessor;
+import com.mybatisflex.core.util.Reflectors;
 import com.mybatisflex.core.util.SqlUtil;
 import com.mybatisflex.core.util.StringUtil;
 import org.apache.ibatis.mapping.ResultFlag;
@@ -292,6 +294,10 @@ public class TableInfo {
     }
 
     public Reflector getReflector() {
+        // 使用 APT 生成的元数据时，延迟到第一次使用时再初始化
+        if (reflector == null) {
+            reflector = Reflectors.of(entityClass);
+        }
         return reflector;
     }
 
@@ -463,7 +469,6 @@ public class TableInfo {
      * @return 数组
      */
     public Object[] buildInsertSqlArgs(Object entity, boolean ignoreNulls) {
-        MetaObject metaObject = EntityMetaObject.forObject(entity, reflectorFactory);
         String[] insertColumns = obtainInsertColumns(entity, ignoreNulls);
 
         Map<String, RawValue> rawValueMap = obtainUpdateRawValueMap(entity);
@@ -475,7 +480,7 @@ public class TableInfo {
                     values.addAll(Arrays.asList(rawValueMap.remove(insertColumn).getParams()));
                     continue;
                 }
-                Object value = buildColumnSqlArg(metaObject, insertColumn);
+                Object value = buildColumnSqlArg(entity, insertColumn);
                 if (ignoreNulls && value == null) {
                     continue;
                 }
@@ -502,13 +507,12 @@ public class TableInfo {
         }
         // 忽略 null 字段，
         else {
-            MetaObject metaObject = EntityMetaObject.forObject(entity, reflectorFactory);
             List<String> retColumns = new ArrayList<>();
             for (String insertColumn : allColumns) {
                 if (onInsertColumns != null && onInsertColumns.containsKey(insertColumn)) {
                     retColumns.add(insertColumn);
                 } else {
-                    Object value = buildColumnSqlArg(metaObject, insertColumn);
+                    Object value = buildColumnSqlArg(entity, insertColumn);
                     if (value == null) {
                         continue;
                     }
@@ -521,13 +525,12 @@ public class TableInfo {
 
 
     public Object[] buildInsertSqlArgsWithPk(Object entity, boolean ignoreNulls) {
-        MetaObject metaObject = EntityMetaObject.forObject(entity, reflectorFactory);
         String[] insertColumns = obtainInsertColumnsWithPk(entity, ignoreNulls);
 
         List<Object> values = new ArrayList<>(insertColumns.length);
         for (String insertColumn : insertColumns) {
             if (onInsertColumns == null || !onInsertColumns.containsKey(insertColumn)) {
-                Object value = buildColumnSqlArg(metaObject, insertColumn);
+                Object value = buildColumnSqlArg(entity, insertColumn);
                 if (ignoreNulls && value == null) {
                     continue;
                 }
@@ -549,10 +552,9 @@ public class TableInfo {
         if (!ignoreNulls) {
             return allColumns;
         } else {
-            MetaObject metaObject = EntityMetaObject.forObject(entity, reflectorFactory);
             List<String> retColumns = new ArrayList<>();
             for (String primaryKey : primaryColumns) {
-                Object value = buildColumnSqlArg(metaObject, primaryKey);
+                Object value = buildColumnSqlArg(entity, primaryKey);
                 if (value == null) {
                     throw new IllegalArgumentException("Entity Primary Key value must not be null.");
                 }
@@ -562,7 +564,7 @@ public class TableInfo {
                 if (onInsertColumns != null && onInsertColumns.containsKey(insertColumn)) {
                     retColumns.add(insertColumn);
                 } else {
-                    Object value = buildColumnSqlArg(metaObject, insertColumn);
+                    Object value = buildColumnSqlArg(entity, insertColumn);
                     if (value == null) {
                         continue;
                     }
@@ -603,7 +605,6 @@ public class TableInfo {
      * @param ignoreNulls
      */
     public Set<String> obtainUpdateColumns(Object entity, boolean ignoreNulls, boolean includePrimary) {
-        MetaObject metaObject = EntityMetaObject.forObject(entity, reflectorFactory);
         Set<String> columns = new LinkedHashSet<>(); // 需使用 LinkedHashSet 保证 columns 的顺序
         boolean isIgnoreTenantCondition = TenantManager.isIgnoreTenantCondition();
         if (entity instanceof UpdateWrapper) {
@@ -633,12 +634,7 @@ public class TableInfo {
                     continue;
                 }
 
-//                Object value = updates.get(property);
                 // ModifyAttrsRecord 忽略 ignoreNulls 的设置
-                // Object value = getPropertyValue(metaObject, property);
-                // if (ignoreNulls && value == null) {
-                //     continue;
-                // }
                 columns.add(column);
             }
         }
@@ -659,7 +655,7 @@ public class TableInfo {
                     continue;
                 }
 
-                Object value = buildColumnSqlArg(metaObject, column);
+                Object value = buildColumnSqlArg(entity, column);
                 if (ignoreNulls && value == null) {
                     continue;
                 }
@@ -738,8 +734,6 @@ public class TableInfo {
         }
         // normal entity. not ModifyAttrsRecord
         else {
-            MetaObject metaObject = EntityMetaObject.forObject(entity, reflectorFactory);
-
             for (String column : this.columns) {
                 if (onUpdateColumns != null && onUpdateColumns.containsKey(column)) {
                     continue;
@@ -760,7 +754,7 @@ public class TableInfo {
                 // if (includePrimary) {
                 // }
 
-                Object value = buildColumnSqlArg(metaObject, column);
+                Object value = buildColumnSqlArg(entity, column);
                 if (ignoreNulls && value == null) {
                     continue;
                 }
@@ -773,16 +767,43 @@ public class TableInfo {
     }
 
 
+    /**
+     * 获取要修改的字段及其 sql 参数，与 {@link #obtainUpdateColumns(Object, boolean, boolean)} 的字段保持一致，
+     * {@link RawValue} 不展开参数，原样返回
+     *
+     * @param entity      实体对象
+     * @param ignoreNulls 是否忽略 null 值
+     * @return 字段和参数，保持字段顺序
+     */
+    public Map<String, Object> obtainUpdateValues(Object entity, boolean ignoreNulls) {
+        Set<String> updateColumns = obtainUpdateColumns(entity, ignoreNulls, false);
+        Object[] updateArgs = buildUpdateSqlArgs(entity, ignoreNulls, false);
+        Map<String, RawValue> rawValueMap = obtainUpdateRawValueMap(entity);
+
+        Map<String, Object> values = new LinkedHashMap<>(updateColumns.size());
+        int index = 0;
+        for (String column : updateColumns) {
+            RawValue rawValue = rawValueMap.get(column);
+            if (rawValue != null) {
+                values.put(column, rawValue);
+                index += rawValue.getParams().length;
+            } else {
+                values.put(column, updateArgs[index++]);
+            }
+        }
+        return values;
+    }
+
+
     /**
      * 构建主键的 sql 参数数据
      *
      * @param entity
      */
     public Object[] buildPkSqlArgs(Object entity) {
-        MetaObject metaObject = EntityMetaObject.forObject(entity, reflectorFactory);
         Object[] values = new Object[primaryColumns.length];
         for (int i = 0; i < primaryColumns.length; i++) {
-            values[i] = buildColumnSqlArg(metaObject, primaryColumns[i]);
+            values[i] = buildColumnSqlArg(entity, primaryColumns[i]);
         }
         return values;
     }
@@ -801,17 +822,15 @@ public class TableInfo {
     public Object getPkValue(Object entity) {
         // 绝大多数情况为 1 个主键
         if (primaryColumns.length == 1) {
-            MetaObject metaObject = EntityMetaObject.forObject(entity, reflectorFactory);
             ColumnInfo columnInfo = columnInfoMapping.get(primaryColumns[0]);
-            return getPropertyValue(metaObject, columnInfo.property);
+            return getPropertyAccessor(columnInfo).get(entity);
         }
         // 多个主键
         else if (primaryColumns.length > 1) {
-            MetaObject metaObject = EntityMetaObject.forObject(entity, reflectorFactory);
             Object[] values = new Object[primaryColumns.length];
             for (int i = 0; i < primaryColumns.length; i++) {
                 ColumnInfo columnInfo = columnInfoMapping.get(primaryColumns[i]);
-                values[i] = getPropertyValue(metaObject, columnInfo.property);
+                values[i] = getPropertyAccessor(columnInfo).get(entity);
             }
             return values;
         }
@@ -1016,12 +1035,11 @@ public class TableInfo {
         String tableNameWithSchema = getTableNameWithSchema();
         queryWrapper.select(queryColumns).from(tableNameWithSchema);
 
-        MetaObject metaObject = EntityMetaObject.forObject(entity, reflectorFactory);
         propertyColumnMapping.forEach((property, column) -> {
             if (column.equals(logicDeleteColumn)) {
                 return;
             }
-            Object value = metaObject.getValue(property);
+            Object value = getPropertyAccessor(columnInfoMapping.get(column)).get(entity);
             if (value != null && !"".equals(value)) {
                 QueryColumn queryColumn = Arrays.stream(queryColumns)
                     .filter(e -> e.getName().equals(column))
@@ -1290,9 +1308,9 @@ public class TableInfo {
     }
 
 
-    private Object buildColumnSqlArg(MetaObject metaObject, String column) {
+    public Object buildColumnSqlArg(Object entityObject, String column) {
         ColumnInfo columnInfo = columnInfoMapping.get(column);
-        Object value = getPropertyValue(metaObject, columnInfo.property);
+        Object value = getPropertyAccessor(columnInfo).get(entityObject);
         if (value != null) {
             TypeHandler<?> typeHandler = columnInfo.buildTypeHandler(null);
             if (typeHandler != null) {
@@ -1303,17 +1321,37 @@ public class TableInfo {
     }
 
 
-    public Object buildColumnSqlArg(Object entityObject, String column) {
-        MetaObject metaObject = EntityMetaObject.forObject(entityObject, reflectorFactory);
-        return buildColumnSqlArg(metaObject, column);
+    /**
+     * @deprecated 内部已经不再使用 {@link MetaObject}，实体的属性值通过 {@link PropertyAccessor} 读取。
+     */
+    @Deprecated
+    public Object getPropertyValue(MetaObject metaObject, String property) {
+        if (property == null) {
+            return null;
+        }
+        String column = propertyColumnMapping.get(property);
+        ColumnInfo columnInfo = column != null ? columnInfoMapping.get(column) : null;
+        Object object = metaObject.getOriginalObject();
+        if (columnInfo != null && entityClass.isInstance(object)) {
+            return getPropertyAccessor(columnInfo).get(object);
+        }
+        return metaObject.hasGetter(property) ? metaObject.getValue(property) : null;
     }
 
 
-    public Object getPropertyValue(MetaObject metaObject, String property) {
-        if (property != null && metaObject.hasGetter(property)) {
-            return metaObject.getValue(property);
+    /**
+     * 获取字段对应的属性访问器，首次获取后缓存在 {@link ColumnInfo} 中。
+     *
+     * @param columnInfo 字段信息
+     * @return 属性访问器
+     */
+    private PropertyAccessor getPropertyAccessor(ColumnInfo columnInfo) {
+        PropertyAccessor propertyAccessor = columnInfo.propertyAccessor;
+        if (propertyAccessor == null) {
+            propertyAccessor = PropertyAccessor.of(entityClass, columnInfo.property);
+            columnInfo.propertyAccessor = propertyAccessor;
         }
-        return null;
+        return propertyAccessor;
     }
 
 
@@ -1324,7 +1362,6 @@ public class TableInfo {
      */
     public <T> T newInstanceByRow(Row row, int index) {
         Object instance = ClassUtil.newInstance(entityClass);
-        MetaObject metaObject = EntityMetaObject.forObject(instance, reflectorFactory);
         Set<String> rowKeys = row.keySet();
         columnInfoMapping.forEach((column, columnInfo) -> {
             if (index <= 0) {
@@ -1332,7 +1369,7 @@ public class TableInfo {
                 for (String rowKey : rowKeys) {
                     // 修复: 开启 mapUnderscoreToCamelCase = true 时， row 无法转换 entity 的问题
                     if (rowKey.equalsIgnoreCase(column) || rowKey.equalsIgnoreCase(replace)) {
-                        setInstancePropertyValue(row, instance, metaObject, columnInfo, rowKey);
+                        setInstancePropertyValue(row, instance, columnInfo, rowKey);
                     }
                 }
             } else {
@@ -1343,7 +1380,7 @@ public class TableInfo {
                     for (String rowKey : rowKeys) {
                         // 修复: 开启 mapUnderscoreToCamelCase = true 时， row 无法转换 entity 的问题
                         if (rowKey.equalsIgnoreCase(newColumn) || rowKey.equalsIgnoreCase(replace)) {
-                            setInstancePropertyValue(row, instance, metaObject, columnInfo, rowKey);
+                            setInstancePropertyValue(row, instance, columnInfo, rowKey);
                             fillValue = true;
                             break;
                         }
@@ -1359,7 +1396,7 @@ public class TableInfo {
     }
 
 
-    private void setInstancePropertyValue(Row row, Object instance, MetaObject metaObject, ColumnInfo columnInfo, String rowKey) {
+    private void setInstancePropertyValue(Row row, Object instance, ColumnInfo columnInfo, String rowKey) {
         Object rowValue = row.get(rowKey);
         TypeHandler<?> typeHandler = columnInfo.buildTypeHandler(null);
         if (typeHandler != null) {
@@ -1370,11 +1407,13 @@ public class TableInfo {
                 // ignore
             }
         }
-        if (rowValue != null && !metaObject.getSetterType(columnInfo.property).isAssignableFrom(rowValue.getClass())) {
-            rowValue = ConvertUtil.convert(rowValue, metaObject.getSetterType(columnInfo.property), true);
+        PropertyAccessor propertyAccessor = getPropertyAccessor(columnInfo);
+        Class<?> setterType = propertyAccessor.getSetterType();
+        if (rowValue != null && setterType != null && !setterType.isAssignableFrom(rowValue.getClass())) {
+            rowValue = ConvertUtil.convert(rowValue, setterType, true);
         }
         rowValue = invokeOnSetListener(instance, columnInfo.property, rowValue);
-        metaObject.setValue(columnInfo.property, rowValue);
+        propertyAccessor.set(instance, rowValue);
     }
 
 
@@ -1394,12 +1433,11 @@ public class TableInfo {
             return;
         }
 
-        MetaObject metaObject = EntityMetaObject.forObject(entityObject, reflectorFactory);
-        Object columnValue = getPropertyValue(metaObject, columnInfoMapping.get(versionColumn).property);
+        PropertyAccessor propertyAccessor = getPropertyAccessor(columnInfoMapping.get(versionColumn));
+        Object columnValue = propertyAccessor.get(entityObject);
         if (columnValue == null) {
-            String name = columnInfoMapping.get(versionColumn).property;
-            Class<?> clazz = metaObject.getSetterType(name);
-            metaObject.setValue(name, ConvertUtil.convert(0L, clazz));
+            Class<?> clazz = propertyAccessor.getSetterType();
+            propertyAccessor.set(entityObject, ConvertUtil.convert(0L, clazz));
         }
     }
 
@@ -1413,13 +1451,12 @@ public class TableInfo {
             return;
         }
 
-        MetaObject metaObject = EntityMetaObject.forObject(entityObject, reflectorFactory);
+        PropertyAccessor propertyAccessor = getPropertyAccessor(columnInfoMapping.get(tenantIdColumn));
 
         // 如果租户字段有值，则不覆盖。
         // https://gitee.com/mybatis-flex/mybatis-flex/issues/I7OWYD
         // https://gitee.com/mybatis-flex/mybatis-flex/issues/I920DK
-        String property = columnInfoMapping.get(tenantIdColumn).property;
-        if (metaObject.getValue(property) != null) {
+        if (propertyAccessor.get(entityObject) != null) {
             return;
         }
 
@@ -1431,8 +1468,8 @@ public class TableInfo {
         // 默认使用第一个作为插入的租户ID
         Object tenantId = tenantIds[0];
         if (tenantId != null) {
-            Class<?> setterType = metaObject.getSetterType(property);
-            metaObject.setValue(property, ConvertUtil.convert(tenantId, setterType));
+            Class<?> setterType = propertyAccessor.getSetterType();
+            propertyAccessor.set(entityObject, ConvertUtil.convert(tenantId, setterType));
         }
     }
 
@@ -1446,15 +1483,13 @@ public class TableInfo {
             return;
         }
 
-        MetaObject metaObject = EntityMetaObject.forObject(entityObject, reflectorFactory);
-        ColumnInfo logicDeleteColumn = columnInfoMapping.get(this.logicDeleteColumn);
-        Object columnValue = getPropertyValue(metaObject, logicDeleteColumn.property);
+        PropertyAccessor propertyAccessor = getPropertyAccessor(columnInfoMapping.get(this.logicDeleteColumn));
+        Object columnValue = propertyAccessor.get(entityObject);
         if (columnValue == null) {
             Object normalValueOfLogicDelete = LogicDeleteManager.getProcessor().getLogicNormalValue();
             if (normalValueOfLogicDelete != null) {
-                String property = logicDeleteColumn.property;
-                Class<?> setterType = metaObject.getSetterType(property);
-                metaObject.setValue(property, ConvertUtil.convert(normalValueOfLogicDelete, setterType));
+                Class<?> setterType = propertyAccessor.getSetterType();
+                propertyAccessor.set(entityObject, ConvertUtil.convert(normalValueOfLogicDelete, setterType));
             }
         }
     }
@@ -1491,17 +1526,29 @@ public class TableInfo {
     private static final Map<Class<?>, List<SetListener>> setListenerCache = new ConcurrentHashMap<>();
 
     public Object invokeOnSetListener(Object entity, String property, Object value) {
-        List<SetListener> listeners = MapUtil.computeIfAbsent(setListenerCache, entityClass, aClass -> {
+        for (SetListener setListener : getAllSetListeners()) {
+            value = setListener.onSet(entity, property, value);
+        }
+        return value;
+    }
+
+    /**
+     * 是否存在 SetListener（包括全局配置的 SetListener）。
+     *
+     * @return {@code true} 存在
+     */
+    public boolean hasSetListener() {
+        return !getAllSetListeners().isEmpty();
+    }
+
+    private List<SetListener> getAllSetListeners() {
+        return MapUtil.computeIfAbsent(setListenerCache, entityClass, aClass -> {
             List<SetListener> globalListeners = FlexGlobalConfig.getDefaultConfig()
                 .getSupportedSetListener(entityClass);
             List<SetListener> allListeners = CollectionUtil.merge(onSetListeners, globalListeners);
             Collections.sort(allListeners);
             return allListeners;
         });
-        for (SetListener setListener : listeners) {
-            value = setListener.onSet(entity, property, value);
-        }
-        return value;
     }
 
     public QueryColumn getQueryColumnByProperty(String property) {
@@ -28,6 +28,9 @@ import com.mybatisflex.annotation.UpdateListener;
 import com.mybatisflex.core.BaseMapper;
 import com.mybatisflex.core.FlexGlobalConfig;
 import com.mybatisflex.core.exception.FlexExceptions;
+import com.mybatisflex.core.handler.BaseJsonTypeHandler;
+import com.mybatisflex.core.handler.LazyJson;
+import com.mybatisflex.core.handler.LazyJsonTypeHandler;
 import com.mybatisflex.core.query.QueryChain;
 import com.mybatisflex.core.query.QueryColumn;
 import com.mybatisflex.core.query.QueryCondition;
@@ -35,9 +38,10 @@ import com.mybatisflex.core.query.QueryWrapper;
 import com.mybatisflex.core.util.ClassUtil;
 import com.mybatisflex.core.util.CollectionUtil;
 import com.mybatisflex.core.util.MapUtil;
-import com.mybatisflex.core.util.Reflectors;
+import com.mybatisflex.core.util.PropertyAccessor;
 import com.mybatisflex.core.util.StringUtil;
 import org.apache.ibatis.io.ResolverUtil;
+import org.apache.ibatis.logging.LogFactory;
 import org.apache.ibatis.reflection.Reflector;
 import org.apache.ibatis.reflection.TypeParameterResolver;
 import org.apache.ibatis.type.JdbcType;
@@ -74,10 +78,13 @@ import java.util.Collection;
 import java.util.Date;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.Iterator;
 import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.ServiceConfigurationError;
+import java.util.ServiceLoader;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Collectors;
@@ -111,6 +118,7 @@ public class TableInfoFactory {
     private static final Map<Class<?>, TableInfo> entityTableMap = new ConcurrentHashMap<>();
     private static final Map<String, TableInfo> tableInfoMap = new ConcurrentHashMap<>();
     private static final Set<String> initializedPackageNames = new HashSet<>();
+    private static volatile Map<Class<?>, TableInfoProvider> tableInfoProviders;
 
 
     /**
@@ -229,11 +237,16 @@ public class TableInfoFactory {
 
 
     private static TableInfo createTableInfo(Class<?> entityClass) {
+        return createTableInfo(entityClass, getTableInfoProvider(entityClass));
+    }
+
+    /**
+     * 构建实体类的 {@link TableInfo}，tableInfoProvider 为 {@code null} 时通过反射解析字段。
+     */
+    static TableInfo createTableInfo(Class<?> entityClass, TableInfoProvider tableInfoProvider) {
 
         TableInfo tableInfo = new TableInfo();
         tableInfo.setEntityClass(entityClass);
-        Reflector reflector = Reflectors.of(entityClass);
-        tableInfo.setReflector(reflector);
 
         FlexGlobalConfig config = FlexGlobalConfig.getDefaultConfig();
 
@@ -321,16 +334,22 @@ public class TableInfoFactory {
         // 默认查询列
         Set<String> defaultQueryColumns = new LinkedHashSet<>();
 
-        List<Field> entityFields = getColumnFields(entityClass);
-
         TypeHandlerRegistry typeHandlerRegistry = null;
         if (config.getConfiguration() != null) {
             typeHandlerRegistry = config.getConfiguration().getTypeHandlerRegistry();
         }
 
-        for (Field field : entityFields) {
+        // 优先使用 APT 生成的元数据，没有时再通过反射解析字段
+        List<ColumnMeta> columnMetas = tableInfoProvider != null
+            ? tableInfoProvider.getColumnMetas()
+            : getColumnMetas(entityClass, tableInfo.getReflector());
 
-            Class<?> fieldType = reflector.getGetterType(field.getName());
+        for (ColumnMeta columnMeta : columnMetas) {
+
+            Class<?> fieldType = columnMeta.getPropertyType();
+            if (fieldType == null) {
+                fieldType = tableInfo.getReflector().getGetterType(columnMeta.getProperty());
+            }
 
             // 移除默认的忽略字段
             boolean isIgnoreField = false;
@@ -345,8 +364,6 @@ public class TableInfoFactory {
                 continue;
             }
 
-            Column columnAnnotation = field.getAnnotation(Column.class);
-
             /*
              * 满足以下 4 种情况，不支持该类型的属性自动映射为字段
              * 1、注解上未配置 TypeHandler
@@ -354,40 +371,37 @@ public class TableInfoFactory {
              * 3、默认的自动类型不包含该类型
              * 4、没有全局 TypeHandler
              */
-            if ((columnAnnotation == null || columnAnnotation.typeHandler() == UnknownTypeHandler.class)
+            if (columnMeta.getTypeHandler() == UnknownTypeHandler.class
                 && !fieldType.isEnum()
                 && !defaultSupportColumnTypes.contains(fieldType)
                 && (typeHandlerRegistry == null || !typeHandlerRegistry.hasTypeHandler(fieldType))
             ) {
                 // 忽略 集合 实体类 解析
-                if (columnAnnotation != null && columnAnnotation.ignore()) {
+                if (columnMeta.isIgnore()) {
                     continue;
                 }
                 // 集合嵌套
                 if (Collection.class.isAssignableFrom(fieldType)) {
-                    Type genericType = TypeParameterResolver.resolveFieldType(field, entityClass);
-                    if (genericType instanceof ParameterizedType) {
-                        Type actualTypeArgument = ((ParameterizedType) genericType).getActualTypeArguments()[0];
-                        if (actualTypeArgument instanceof Class) {
-                            tableInfo.addCollectionType(field, (Class<?>) actualTypeArgument);
-                        }
+                    Field field = getField(entityClass, columnMeta);
+                    Class<?> genericClass = getGenericClass(entityClass, field, columnMeta);
+                    if (genericClass != null) {
+                        tableInfo.addCollectionType(field, genericClass);
                     }
                 }
                 // 实体类嵌套
                 else if (!Map.class.isAssignableFrom(fieldType)
                     && !fieldType.isArray()) {
-                    tableInfo.addAssociationType(field.getName(), fieldType);
+                    tableInfo.addAssociationType(columnMeta.getProperty(), fieldType);
                 }
                 // 不支持的类型直接跳过
                 continue;
             }
 
             // 列名
-            String columnName = getColumnName(tableInfo.isCamelToUnderline(), field, columnAnnotation);
+            String columnName = getColumnName(tableInfo.isCamelToUnderline(), columnMeta.getProperty(), columnMeta.getColumn());
 
             // 逻辑删除字段
-            if ((columnAnnotation != null && columnAnnotation.isLogicDelete())
-                || columnName.equals(config.getLogicDeleteColumn())) {
+            if (columnMeta.isLogicDelete() || columnName.equals(config.getLogicDeleteColumn())) {
                 if (logicDeleteColumn == null) {
                     logicDeleteColumn = columnName;
                 } else {
@@ -396,8 +410,7 @@ public class TableInfoFactory {
             }
 
             // 乐观锁版本字段
-            if ((columnAnnotation != null && columnAnnotation.version())
-                || columnName.equals(config.getVersionColumn())) {
+            if (columnMeta.isVersion() || columnName.equals(config.getVersionColumn())) {
                 if (versionColumn == null) {
                     versionColumn = columnName;
                 } else {
@@ -406,8 +419,7 @@ public class TableInfoFactory {
             }
 
             // 租户ID 字段
-            if ((columnAnnotation != null && columnAnnotation.tenantId())
-                || columnName.equals(config.getTenantColumn())) {
+            if (columnMeta.isTenantId() || columnName.equals(config.getTenantColumn())) {
                 if (tenantIdColumn == null) {
                     tenantIdColumn = columnName;
                 } else {
@@ -416,79 +428,78 @@ public class TableInfoFactory {
             }
 
 
-            if (columnAnnotation != null && StringUtil.hasText(columnAnnotation.onInsertValue())) {
-                onInsertColumns.put(columnName, columnAnnotation.onInsertValue().trim());
+            if (StringUtil.hasText(columnMeta.getOnInsertValue())) {
+                onInsertColumns.put(columnName, columnMeta.getOnInsertValue().trim());
             }
 
 
-            if (columnAnnotation != null && StringUtil.hasText(columnAnnotation.onUpdateValue())) {
-                onUpdateColumns.put(columnName, columnAnnotation.onUpdateValue().trim());
+            if (StringUtil.hasText(columnMeta.getOnUpdateValue())) {
+                onUpdateColumns.put(columnName, columnMeta.getOnUpdateValue().trim());
             }
 
 
-            if (columnAnnotation != null && columnAnnotation.isLarge()) {
+            if (columnMeta.isLarge()) {
                 largeColumns.add(columnName);
             }
 
             // 主键配置
-            Id id = field.getAnnotation(Id.class);
             ColumnInfo columnInfo;
-            if (id != null) {
-                columnInfo = new IdInfo(id);
+            if (columnMeta.isPrimaryKey()) {
+                columnInfo = new IdInfo(columnMeta);
                 idInfos.add((IdInfo) columnInfo);
             } else {
                 columnInfo = new ColumnInfo();
                 columnInfoList.add(columnInfo);
             }
 
-            ColumnAlias columnAlias = null;
-
-            // 属性上没有别名，查找 getter 方法上有没有别名
-            Method getterMethod = ClassUtil.getFirstMethod(entityClass, m -> ClassUtil.isGetterMethod(m, field.getName()));
-            if (getterMethod != null) {
-                columnAlias = getterMethod.getAnnotation(ColumnAlias.class);
-            }
-
-            if (columnAlias == null) {
-                columnAlias = field.getAnnotation(ColumnAlias.class);
-            }
-
-            if (columnAlias != null) {
-                columnInfo.setAlias(columnAlias.value());
+            if (columnMeta.getAlias() != null) {
+                columnInfo.setAlias(columnMeta.getAlias());
             }
 
             columnInfo.setColumn(columnName);
-            columnInfo.setProperty(field.getName());
+            columnInfo.setProperty(columnMeta.getProperty());
             columnInfo.setPropertyType(fieldType);
-            columnInfo.setIgnore(columnAnnotation != null && columnAnnotation.ignore());
+            columnInfo.setIgnore(columnMeta.isIgnore());
 
-            if (columnAnnotation != null) {
-                columnInfo.setComment(columnAnnotation.comment());
+            // APT 生成的访问器直接注册，无需再通过反射解析
+            if (columnMeta.getGetter() != null && columnMeta.getSetter() != null) {
+                PropertyAccessor.register(entityClass, columnMeta.getProperty(), fieldType, columnMeta.getGetter(), columnMeta.getSetter());
             }
 
+            columnInfo.setComment(columnMeta.getComment());
+
 
             // 默认查询列 没有忽略且不是大字段
-            if (columnAnnotation == null || (!columnAnnotation.isLarge() && !columnAnnotation.ignore())) {
+            if (!columnMeta.isLarge() && !columnMeta.isIgnore()) {
                 defaultQueryColumns.add(columnName);
             }
 
 
             // typeHandler 配置
-            if (columnAnnotation != null && columnAnnotation.typeHandler() != UnknownTypeHandler.class) {
+            if (columnMeta.getTypeHandler() != UnknownTypeHandler.class) {
                 TypeHandler<?> typeHandler = null;
 
+                // 延迟解析的 JSON 类型
+                if (LazyJson.class == fieldType) {
+                    typeHandler = createLazyJsonTypeHandler(entityClass, getField(entityClass, columnMeta), columnMeta.getTypeHandler());
+                }
+
                 // 集合类型，支持泛型
                 // fixed https://gitee.com/mybatis-flex/mybatis-flex/issues/I7S2YE
-                if (Collection.class.isAssignableFrom(fieldType)) {
-                    typeHandler = createCollectionTypeHandler(entityClass, field, columnAnnotation.typeHandler(), fieldType);
+                else if (Collection.class.isAssignableFrom(fieldType)) {
+                    Class<?> genericClass = columnMeta.getGenericType();
+                    if (genericClass == null) {
+                        genericClass = getGenericClass(entityClass, getField(entityClass, columnMeta), columnMeta);
+                    }
+                    typeHandler = createCollectionTypeHandler(genericClass, columnMeta.getTypeHandler(), fieldType);
                 }
 
                 // 非集合类型
                 else {
-                    Class<?> typeHandlerClass = columnAnnotation.typeHandler();
+                    Class<?> typeHandlerClass = columnMeta.getTypeHandler();
                     if (typeHandlerRegistry != null) {
                         Class<?> propertyType = columnInfo.getPropertyType();
-                        JdbcType jdbcType = columnAnnotation.jdbcType();
+                        JdbcType jdbcType = columnMeta.getJdbcType();
                         if (jdbcType != JdbcType.UNDEFINED) {
                             typeHandler = typeHandlerRegistry.getTypeHandler(propertyType, jdbcType);
                         }
@@ -502,17 +513,16 @@ public class TableInfoFactory {
             }
 
             // 数据脱敏配置
-            ColumnMask columnMask = field.getAnnotation(ColumnMask.class);
-            if (columnMask != null && StringUtil.hasText(columnMask.value())) {
+            if (StringUtil.hasText(columnMeta.getMaskType())) {
                 if (String.class != fieldType) {
-                    throw new IllegalStateException("@ColumnMask() only support for string type field. error: " + entityClass.getName() + "." + field.getName());
+                    throw new IllegalStateException("@ColumnMask() only support for string type field. error: " + entityClass.getName() + "." + columnMeta.getProperty());
                 }
-                columnInfo.setMaskType(columnMask.value().trim());
+                columnInfo.setMaskType(columnMeta.getMaskType().trim());
             }
 
             // jdbcType 配置
-            if (columnAnnotation != null && columnAnnotation.jdbcType() != JdbcType.UNDEFINED) {
-                columnInfo.setJdbcType(columnAnnotation.jdbcType());
+            if (columnMeta.getJdbcType() != JdbcType.UNDEFINED) {
+                columnInfo.setJdbcType(columnMeta.getJdbcType());
             }
 
         }
@@ -548,24 +558,136 @@ public class TableInfoFactory {
     }
 
     /**
-     * 创建 typeHandler
-     * 参考 {@link TypeHandlerRegistry#getInstance(Class, Class)}
+     * 获取实体类对应的 APT 元数据，未生成时返回 {@code null}。
      *
-     * @param entityClass
-     * @param field
-     * @param typeHandlerClass
-     * @param fieldType
+     * @param entityClass 实体类
      */
-    private static TypeHandler<?> createCollectionTypeHandler(Class<?> entityClass, Field field, Class<?> typeHandlerClass, Class<?> fieldType) {
-        Class<?> genericClass = null;
+    static TableInfoProvider getTableInfoProvider(Class<?> entityClass) {
+        Map<Class<?>, TableInfoProvider> providers = tableInfoProviders;
+        if (providers == null) {
+            synchronized (TableInfoFactory.class) {
+                providers = tableInfoProviders;
+                if (providers == null) {
+                    providers = loadTableInfoProviders();
+                    tableInfoProviders = providers;
+                }
+            }
+        }
+        return providers.get(entityClass);
+    }
+
+
+    private static Map<Class<?>, TableInfoProvider> loadTableInfoProviders() {
+        Map<Class<?>, TableInfoProvider> providers = new HashMap<>();
+        Iterator<TableInfoProvider> iterator = ServiceLoader.load(TableInfoProvider.class).iterator();
+        while (true) {
+            try {
+                if (!iterator.hasNext()) {
+                    break;
+                }
+                TableInfoProvider provider = iterator.next();
+                providers.put(provider.getEntityClass(), provider);
+            } catch (ServiceConfigurationError | LinkageError e) {
+                // 增量编译后残留的 provider 或者类加载器不一致时，回退为反射解析
+                LogFactory.getLog(TableInfoFactory.class).warn("Can not load TableInfoProvider: " + e.getMessage());
+            }
+        }
+        return providers;
+    }
+
+
+    /**
+     * 通过反射获取实体类所有属性的元数据。
+     */
+    private static List<ColumnMeta> getColumnMetas(Class<?> entityClass, Reflector reflector) {
+        List<Field> entityFields = getColumnFields(entityClass);
+        List<ColumnMeta> columnMetas = new ArrayList<>(entityFields.size());
+        for (Field field : entityFields) {
+            ColumnMeta columnMeta = new ColumnMeta(field.getName())
+                .propertyType(reflector.getGetterType(field.getName()))
+                .field(field);
+
+            Column column = field.getAnnotation(Column.class);
+            if (column != null) {
+                columnMeta.column(column.value())
+                    .ignore(column.ignore())
+                    .onInsertValue(column.onInsertValue())
+                    .onUpdateValue(column.onUpdateValue())
+                    .large(column.isLarge())
+                    .logicDelete(column.isLogicDelete())
+                    .version(column.version())
+                    .tenantId(column.tenantId())
+                    .jdbcType(column.jdbcType())
+                    .typeHandler(column.typeHandler())
+                    .comment(column.comment());
+            }
+
+            Id id = field.getAnnotation(Id.class);
+            if (id != null) {
+                columnMeta.id(id.keyType(), id.value(), id.before(), id.comment());
+            }
+
+            ColumnAlias columnAlias = null;
+
+            // 属性上没有别名，查找 getter 方法上有没有别名
+            Method getterMethod = ClassUtil.getFirstMethod(entityClass, m -> ClassUtil.isGetterMethod(m, field.getName()));
+            if (getterMethod != null) {
+                columnAlias = getterMethod.getAnnotation(ColumnAlias.class);
+            }
+
+            if (columnAlias == null) {
+                columnAlias = field.getAnnotation(ColumnAlias.class);
+            }
+
+            if (columnAlias != null) {
+                columnMeta.alias(columnAlias.value());
+            }
+
+            ColumnMask columnMask = field.getAnnotation(ColumnMask.class);
+            if (columnMask != null) {
+                columnMeta.maskType(columnMask.value());
+            }
+
+            columnMetas.add(columnMeta);
+        }
+        return columnMetas;
+    }
+
+
+    private static Field getField(Class<?> entityClass, ColumnMeta columnMeta) {
+        Field field = columnMeta.getField();
+        if (field == null) {
+            field = ClassUtil.getFirstField(entityClass, f -> f.getName().equals(columnMeta.getProperty()));
+            columnMeta.field(field);
+        }
+        return field;
+    }
+
+
+    private static Class<?> getGenericClass(Class<?> entityClass, Field field, ColumnMeta columnMeta) {
+        if (columnMeta.getGenericType() != null) {
+            return columnMeta.getGenericType();
+        }
         Type genericType = TypeParameterResolver.resolveFieldType(field, entityClass);
         if (genericType instanceof ParameterizedType) {
             Type actualTypeArgument = ((ParameterizedType) genericType).getActualTypeArguments()[0];
             if (actualTypeArgument instanceof Class) {
-                genericClass = (Class<?>) actualTypeArgument;
+                return (Class<?>) actualTypeArgument;
             }
         }
+        return null;
+    }
 
+
+    /**
+     * 创建 typeHandler
+     * 参考 {@link TypeHandlerRegistry#getInstance(Class, Class)}
+     *
+     * @param genericClass
+     * @param typeHandlerClass
+     * @param fieldType
+     */
+    private static TypeHandler<?> createCollectionTypeHandler(Class<?> genericClass, Class<?> typeHandlerClass, Class<?> fieldType) {
         try {
             Constructor<?> constructor = typeHandlerClass.getConstructor(Class.class, Class.class);
             return (TypeHandler<?>) constructor.newInstance(fieldType, genericClass);
@@ -589,14 +711,63 @@ public class TableInfoFactory {
     }
 
 
+    /**
+     * 创建 {@link LazyJson} 属性的 typeHandler，实际的 JSON 处理器按照 {@code LazyJson<T>} 中的 {@code T} 创建。
+     *
+     * @param entityClass      实体类
+     * @param field            属性
+     * @param typeHandlerClass 注解上配置的 JSON 处理器
+     */
+    private static TypeHandler<?> createLazyJsonTypeHandler(Class<?> entityClass, Field field, Class<?> typeHandlerClass) {
+        Class<?> valueClass = Object.class;
+        Class<?> elementClass = null;
+
+        Type genericType = TypeParameterResolver.resolveFieldType(field, entityClass);
+        if (genericType instanceof ParameterizedType) {
+            Type valueType = ((ParameterizedType) genericType).getActualTypeArguments()[0];
+            if (valueType instanceof Class) {
+                valueClass = (Class<?>) valueType;
+            } else if (valueType instanceof ParameterizedType) {
+                valueClass = (Class<?>) ((ParameterizedType) valueType).getRawType();
+                Type elementType = ((ParameterizedType) valueType).getActualTypeArguments()[0];
+                if (Collection.class.isAssignableFrom(valueClass) && elementType instanceof Class) {
+                    elementClass = (Class<?>) elementType;
+                }
+            }
+        }
+
+        TypeHandler<?> typeHandler;
+        if (elementClass != null) {
+            typeHandler = createCollectionTypeHandler(elementClass, typeHandlerClass, valueClass);
+        } else {
+            try {
+                typeHandler = (TypeHandler<?>) typeHandlerClass.getConstructor(Class.class).newInstance(valueClass);
+            } catch (Exception e) {
+                throw new TypeException("Failed invoking constructor for handler " + typeHandlerClass, e);
+            }
+        }
+
+        if (!(typeHandler instanceof BaseJsonTypeHandler)) {
+            throw FlexExceptions.wrap("The typeHandler of LazyJson property \"%s\" in entity[%s] must be a BaseJsonTypeHandler."
+                , field.getName(), entityClass.getName());
+        }
+        return new LazyJsonTypeHandler((BaseJsonTypeHandler<?>) typeHandler);
+    }
+
+
     static String getColumnName(boolean isCamelToUnderline, Field field, Column column) {
-        if (column != null && StringUtil.hasText(column.value())) {
-            return column.value();
+        return getColumnName(isCamelToUnderline, field.getName(), column != null ? column.value() : null);
+    }
+
+
+    static String getColumnName(boolean isCamelToUnderline, String property, String column) {
+        if (StringUtil.hasText(column)) {
+            return column;
         }
         if (isCamelToUnderline) {
-            return StringUtil.camelToUnderline(field.getName());
+            return StringUtil.camelToUnderline(property);
         }
-        return field.getName();
+        return property;
     }
 
 
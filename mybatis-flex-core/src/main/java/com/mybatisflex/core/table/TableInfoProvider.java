@@ -0,0 +1,45 @@
+/*
+ *  Copyright (c) 2022-2025, Mybatis-Flex (fuhai999@gmail.com).
+ *  <p>
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *  <p>
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *  <p>
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package com.mybatisflex.core.table;
+
+import java.util.List;
+
+/**
+ * 预先计算好的实体类元数据，一般由 APT 在编译期生成，并通过 {@link java.util.ServiceLoader} 加载。
+ *
+ * <p>{@link TableInfoFactory} 在构建 {@link TableInfo} 时会优先使用此元数据，只有没有对应
+ * {@link TableInfoProvider} 的实体类才会通过反射解析字段和注解。
+ *
+ * @author michael
+ * @since 2026-10-19
+ */
+public interface TableInfoProvider {
+
+    /**
+     * 元数据对应的实体类。
+     *
+     * @return 实体类
+     */
+    Class<?> getEntityClass();
+
+    /**
+     * 实体类所有的属性（包含父类属性，子类在前），顺序与反射解析时保持一致。
+     *
+     * @return 属性元数据
+     */
+    List<ColumnMeta> getColumnMetas();
+
+}
@@ -15,6 +15,8 @@
  */
 package com.mybatisflex.core.tenant;
 
+import com.mybatisflex.core.context.FlexContext;
+
 import java.util.function.Supplier;
 
 public class TenantManager {
@@ -22,8 +24,6 @@ public class TenantManager {
     private TenantManager() {
     }
 
-    private static final ThreadLocal<Boolean> ignoreFlags = new ThreadLocal<>();
-
     private static TenantFactory tenantFactory;
 
     public static TenantFactory getTenantFactory() {
@@ -63,21 +63,21 @@ public class TenantManager {
      * 忽略 tenant 条件
      */
     public static void ignoreTenantCondition() {
-        ignoreFlags.set(Boolean.TRUE);
+        FlexContext.setCurrent(FlexContext.current().withIgnoreTenantCondition(true));
     }
 
     /**
      * 是否忽略 tenant 条件
      */
     public static boolean isIgnoreTenantCondition() {
-        return Boolean.TRUE.equals(ignoreFlags.get());
+        return FlexContext.current().isIgnoreTenantCondition();
     }
 
     /**
      * 恢复 tenant 条件
      */
     public static void restoreTenantCondition() {
-        ignoreFlags.remove();
+        FlexContext.setCurrent(FlexContext.current().withIgnoreTenantCondition(false));
     }
 
     /**
@@ -16,9 +16,12 @@
 package com.mybatisflex.core.transaction;
 
 
+import com.mybatisflex.core.util.StringUtil;
 import org.apache.ibatis.cursor.Cursor;
 
 import java.io.IOException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
 
 /**
  * @author michael
@@ -32,10 +35,98 @@ public class TransactionContext {
     private static final ThreadLocal<String> XID_HOLDER = new ThreadLocal<>();
     private static final ThreadLocal<Cursor<?>> CURSOR_HOLDER = new ThreadLocal<>();
 
+    private static final String SPRING_SYNCHRONIZATION_MANAGER = "org.springframework.transaction.support.TransactionSynchronizationManager";
+    private static final String SPRING_SYNCHRONIZATION = "org.springframework.transaction.support.TransactionSynchronization";
+
+    /**
+     * Spring 的 {@code TransactionSynchronizationManager.isActualTransactionActive()}，不存在 Spring 时为 {@code null}。
+     */
+    private static final Method SPRING_TRANSACTION_ACTIVE = getSpringMethod("isActualTransactionActive");
+    private static final Method SPRING_SYNCHRONIZATION_ACTIVE = getSpringMethod("isSynchronizationActive");
+    private static final Class<?> SPRING_SYNCHRONIZATION_CLASS = getSpringClass(SPRING_SYNCHRONIZATION);
+    private static final Method SPRING_REGISTER_SYNCHRONIZATION = SPRING_SYNCHRONIZATION_CLASS == null ? null
+        : getSpringMethod("registerSynchronization", SPRING_SYNCHRONIZATION_CLASS);
+
     public static String getXID() {
         return XID_HOLDER.get();
     }
 
+    /**
+     * 当前线程是否处于事务中：{@code Db.tx()} 开启的事务（xid），或者 Spring 管理的事务（例如 {@code @Transactional}）。
+     *
+     * @return {@code true} 处于事务中
+     */
+    public static boolean isTransactionActive() {
+        if (StringUtil.hasText(getXID())) {
+            return true;
+        }
+        if (SPRING_TRANSACTION_ACTIVE != null) {
+            try {
+                return Boolean.TRUE.equals(SPRING_TRANSACTION_ACTIVE.invoke(null));
+            } catch (ReflectiveOperationException e) {
+                return false;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * 在 Spring 管理的事务中，注册事务提交或者回滚之后执行的回调。
+     *
+     * @param action 事务完成后执行的操作
+     * @return {@code false} 不存在 Spring 或者当前线程没有开启事务同步，回调没有注册
+     */
+    public static boolean registerAfterCompletion(Runnable action) {
+        if (SPRING_REGISTER_SYNCHRONIZATION == null || SPRING_SYNCHRONIZATION_ACTIVE == null) {
+            return false;
+        }
+        try {
+            if (!Boolean.TRUE.equals(SPRING_SYNCHRONIZATION_ACTIVE.invoke(null))) {
+                return false;
+            }
+            Object synchronization = Proxy.newProxyInstance(SPRING_SYNCHRONIZATION_CLASS.getClassLoader()
+                , new Class[]{SPRING_SYNCHRONIZATION_CLASS}, (proxy, method, args) -> {
+                    switch (method.getName()) {
+                        case "afterCompletion":
+                            action.run();
+                            return null;
+                        case "getOrder":
+                            // Ordered.LOWEST_PRECEDENCE
+                            return Integer.MAX_VALUE;
+                        case "equals":
+                            return proxy == args[0];
+                        case "hashCode":
+                            return System.identityHashCode(proxy);
+                        case "toString":
+                            return "AfterCompletionSynchronization(" + action + ")";
+                        default:
+                            return null;
+                    }
+                });
+            SPRING_REGISTER_SYNCHRONIZATION.invoke(null, synchronization);
+            return true;
+        } catch (ReflectiveOperationException e) {
+            return false;
+        }
+    }
+
+    private static Class<?> getSpringClass(String className) {
+        try {
+            return Class.forName(className, false, TransactionContext.class.getClassLoader());
+        } catch (ClassNotFoundException | LinkageError e) {
+            return null;
+        }
+    }
+
+    private static Method getSpringMethod(String name, Class<?>... parameterTypes) {
+        Class<?> clazz = getSpringClass(SPRING_SYNCHRONIZATION_MANAGER);
+        try {
+            return clazz == null ? null : clazz.getMethod(name, parameterTypes);
+        } catch (NoSuchMethodException | LinkageError e) {
+            return null;
+        }
+    }
+
     public static void release() {
         XID_HOLDER.remove();
         closeCursor();
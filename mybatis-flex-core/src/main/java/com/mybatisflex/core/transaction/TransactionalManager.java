@@ -15,6 +15,7 @@
  */
 package com.mybatisflex.core.transaction;
 
+import com.mybatisflex.core.cache.EntityCacheManager;
 import org.apache.ibatis.logging.Log;
 import org.apache.ibatis.logging.LogFactory;
 
@@ -203,6 +204,8 @@ public class TransactionalManager {
 
             if (holdMap.isEmpty()) {
                 CONNECTION_HOLDER.remove();
+                // 事务结束后再次清除事务中修改过的表的缓存
+                EntityCacheManager.afterTransaction();
             }
             if (exception != null) {
                 log.error("TransactionalManager.release() is error. Cause: " + exception.getMessage(), exception);
@@ -16,6 +16,7 @@
 package com.mybatisflex.core.util;
 
 
+import com.mybatisflex.core.mybatis.binding.AbstractFlexMapper;
 import org.apache.ibatis.javassist.util.proxy.ProxyObject;
 
 import java.lang.annotation.Annotation;
@@ -78,6 +79,11 @@ public class ClassUtil {
             return getJdkProxySuperClass(clazz);
         }
 
+        // APT 生成的 Mapper 实现类
+        if (AbstractFlexMapper.class.isAssignableFrom(clazz)) {
+            return (Class<T>) clazz.getInterfaces()[0];
+        }
+
         //ControllerTest$ServiceTest$$EnhancerByGuice$$40471411#hello   -------> Guice
         //com.demo.blog.Blog$$EnhancerByCGLIB$$69a17158  ----> CGLIB
         //io.jboot.test.app.TestAppListener_$$_jvstb9f_0 ------> javassist
@@ -22,6 +22,8 @@ import java.lang.reflect.*;
 import java.util.Collection;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
 
 public class FieldWrapper {
 
@@ -34,6 +36,8 @@ public class FieldWrapper {
     private Class<?> keyType;
     private Method getterMethod;
     private Method setterMethod;
+    private Function<Object, Object> getter;
+    private BiConsumer<Object, Object> setter;
 
     public static FieldWrapper of(Class<?> clazz, String fieldName) {
         Map<String, FieldWrapper> wrapperMap = cache.get(clazz);
@@ -74,11 +78,17 @@ public class FieldWrapper {
                     }
 
                     fieldWrapper.setterMethod = setter;
+                    if (setter != null) {
+                        fieldWrapper.setter = PropertyAccessor.createSetter(setter);
+                    }
 
                     String[] getterNames = new String[]{"get" + StringUtil.firstCharToUpperCase(findField.getName()), "is" + StringUtil.firstCharToUpperCase(findField.getName())};
                     fieldWrapper.getterMethod = ClassUtil.getFirstMethod(clazz, method -> method.getParameterCount() == 0
                         && Modifier.isPublic(method.getModifiers())
                         && ArrayUtil.contains(getterNames, method.getName()));
+                    if (fieldWrapper.getterMethod != null) {
+                        fieldWrapper.getter = PropertyAccessor.createGetter(fieldWrapper.getterMethod);
+                    }
 
                     wrapperMap.put(fieldName, fieldWrapper);
                 }
@@ -126,7 +136,7 @@ public class FieldWrapper {
             if (setterMethod == null) {
                 throw new IllegalStateException("Can not find method \"set" + StringUtil.firstCharToUpperCase(field.getName()) + "\" in class: " + to.getClass().getName());
             }
-            setterMethod.invoke(to, value);
+            setter.accept(to, value);
         } catch (Exception e) {
             throw new RuntimeException(e);
         }
@@ -138,7 +148,7 @@ public class FieldWrapper {
                 throw new IllegalStateException("Can not find method \"get" + StringUtil.firstCharToUpperCase(field.getName()) + ", is"
                     + StringUtil.firstCharToUpperCase(field.getName()) + "\" in class: " + target.getClass().getName());
             }
-            return getterMethod.invoke(target);
+            return getter.apply(target);
         } catch (Exception e) {
             throw new RuntimeException(e);
         }
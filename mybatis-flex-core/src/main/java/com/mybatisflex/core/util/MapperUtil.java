@@ -20,19 +20,33 @@ import com.mybatisflex.core.FlexGlobalConfig;
 import com.mybatisflex.core.constant.SqlConsts;
 import com.mybatisflex.core.dialect.DbType;
 import com.mybatisflex.core.dialect.DialectFactory;
+import com.mybatisflex.core.dialect.IDialect;
+import com.mybatisflex.core.dialect.OperateType;
+import com.mybatisflex.core.exception.FlexAssert;
 import com.mybatisflex.core.exception.FlexExceptions;
 import com.mybatisflex.core.field.FieldQuery;
 import com.mybatisflex.core.field.FieldQueryBuilder;
 import com.mybatisflex.core.field.FieldQueryManager;
+import com.mybatisflex.core.mybatis.MappedStatementTypes;
+import com.mybatisflex.core.mybatis.Mappers;
+import com.mybatisflex.core.mybatis.SessionCursor;
+import com.mybatisflex.core.optimisticlock.OptimisticLockException;
 import com.mybatisflex.core.paginate.Page;
 import com.mybatisflex.core.query.*;
 import com.mybatisflex.core.relation.RelationManager;
+import com.mybatisflex.core.table.IdInfo;
 import com.mybatisflex.core.table.TableInfo;
 import com.mybatisflex.core.table.TableInfoFactory;
+import com.mybatisflex.core.transaction.TransactionContext;
+import org.apache.ibatis.cursor.Cursor;
 import org.apache.ibatis.exceptions.TooManyResultsException;
+import org.apache.ibatis.session.ExecutorType;
+import org.apache.ibatis.session.SqlSession;
+import org.apache.ibatis.session.SqlSessionFactory;
 import org.apache.ibatis.session.defaults.DefaultSqlSession;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
@@ -40,7 +54,9 @@ import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.function.BiConsumer;
 import java.util.function.Consumer;
+import java.util.stream.Stream;
 
 import static com.mybatisflex.core.query.QueryMethods.count;
 
@@ -274,6 +290,111 @@ public class MapperUtil {
     }
 
 
+    /**
+     * 在独立的会话中通过 {@link BaseMapper#selectCursorByQuery(QueryWrapper)} 打开游标，会话在游标关闭时才会关闭。
+     *
+     * @param mapper       Mapper
+     * @param queryWrapper 条件
+     * @param asType       接收的数据类型，为 {@code null} 时使用实体类
+     * @return 游标
+     */
+    public static <R> SessionCursor<R> openCursor(BaseMapper<?> mapper, QueryWrapper queryWrapper, Class<?> asType) {
+        return openCursor(mapper, queryWrapper, asType, false);
+    }
+
+    /**
+     * 在独立的会话中通过 {@link BaseMapper#selectCursorByQuery(QueryWrapper)} 打开游标，会话在游标关闭时才会关闭。
+     *
+     * @param mapper           Mapper
+     * @param queryWrapper     条件
+     * @param asType           接收的数据类型，为 {@code null} 时使用实体类
+     * @param sharedConnection 读取游标期间是否还会在同一个连接上执行其他查询，参考 {@link SessionCursor#isSharedConnection()}
+     * @return 游标
+     */
+    @SuppressWarnings("unchecked")
+    public static <R> SessionCursor<R> openCursor(BaseMapper<?> mapper, QueryWrapper queryWrapper, Class<?> asType, boolean sharedConnection) {
+        Class<?> mapperClass = ClassUtil.getUsefulClass(mapper.getClass());
+        return SessionCursor.open(Mappers.getSqlSessionFactory(mapper), sqlSession -> {
+            BaseMapper<?> sessionMapper = (BaseMapper<?>) sqlSession.getMapper(mapperClass);
+            if (asType == null) {
+                return (Cursor<R>) sessionMapper.selectCursorByQuery(queryWrapper);
+            }
+            try {
+                MappedStatementTypes.setCurrentType(asType);
+                return (Cursor<R>) sessionMapper.selectCursorByQuery(queryWrapper);
+            } finally {
+                MappedStatementTypes.clear();
+            }
+        }, sharedConnection);
+    }
+
+
+    /**
+     * 流式查询数据，并按窗口分批查询 Relations 注解的关联数据。
+     *
+     * <p>Stream 是在读取时才执行关联查询的，因此在创建时就获取当前线程的关联查询配置（深度、附加条件参数、忽略或者仅查询的属性），
+     * 之后每个窗口都使用相同的配置。关联查询不使用游标所在的会话，避免 MySQL 等数据库在流式读取时无法在同一个连接上执行其他查询。
+     * 在事务中（{@code Db.tx()} 或者 Spring 事务）两者只能共用事务连接，此时 MySQL 不使用逐行流式读取，而是由驱动缓冲游标的结果，
+     * 关联数据仍然按窗口查询。
+     *
+     * @param mapper       Mapper
+     * @param queryWrapper 条件
+     * @param asType       接收的数据类型，为 {@code null} 时使用实体类
+     * @param windowSize   窗口大小
+     * @return 数据流
+     */
+    public static <R> Stream<R> streamWithRelations(BaseMapper<?> mapper, QueryWrapper queryWrapper, Class<?> asType, int windowSize) {
+        int maxDepth = RelationManager.getMaxDepth();
+        Map<String, Object> extraConditionParams = RelationManager.getExtraConditionParams();
+        Set<String> ignoreRelations = RelationManager.getIgnoreRelations();
+        Set<String> queryRelations = RelationManager.getQueryRelations();
+        RelationManager.clearConfigIfNecessary();
+
+        SessionCursor<R> cursor = openCursor(mapper, queryWrapper, asType, TransactionContext.isTransactionActive());
+        return cursor.stream(windowSize, windowProcessor(mapper, (windowMapper, window) -> {
+            RelationManager.setMaxDepth(maxDepth);
+            RelationManager.setExtraConditionParams(extraConditionParams);
+            RelationManager.setIgnoreRelations(ignoreRelations);
+            RelationManager.setQueryRelations(queryRelations);
+            RelationManager.queryRelations(windowMapper, window);
+        }));
+    }
+
+
+    /**
+     * 流式查询数据，并按窗口分批进行字段查询。
+     *
+     * @param mapper       Mapper
+     * @param queryWrapper 条件
+     * @param windowSize   窗口大小
+     * @param consumers    字段查询
+     * @return 数据流
+     */
+    public static <R> Stream<R> streamWithFields(BaseMapper<?> mapper, QueryWrapper queryWrapper, int windowSize, Consumer<FieldQueryBuilder<R>>[] consumers) {
+        if (ArrayUtil.isEmpty(consumers) || consumers[0] == null) {
+            return MapperUtil.<R>openCursor(mapper, queryWrapper, null).stream();
+        }
+        SessionCursor<R> cursor = openCursor(mapper, queryWrapper, null, TransactionContext.isTransactionActive());
+        return cursor.stream(windowSize, windowProcessor(mapper, (windowMapper, window) -> queryFields(windowMapper, window, consumers)));
+    }
+
+
+    /**
+     * 流式读取时，当前 Mapper 可能绑定在已经关闭的会话上（例如 {@link Mappers} 创建的 Mapper），
+     * 因此每个窗口的查询都在 Mapper 所在环境的新会话中执行。
+     */
+    private static <R> Consumer<List<R>> windowProcessor(BaseMapper<?> mapper, BiConsumer<BaseMapper<?>, List<R>> processor) {
+        Class<?> mapperClass = ClassUtil.getUsefulClass(mapper.getClass());
+        SqlSessionFactory sqlSessionFactory = Mappers.getSqlSessionFactory(mapper);
+        ExecutorType executorType = sqlSessionFactory.getConfiguration().getDefaultExecutorType();
+        return window -> {
+            try (SqlSession sqlSession = sqlSessionFactory.openSession(executorType, true)) {
+                processor.accept((BaseMapper<?>) sqlSession.getMapper(mapperClass), window);
+            }
+        };
+    }
+
+
     public static <E> E queryRelations(BaseMapper<?> mapper, E entity) {
         if (entity != null) {
             queryRelations(mapper, Collections.singletonList(entity));
@@ -333,6 +454,107 @@ public class MapperUtil {
     }
 
 
+    /**
+     * 根据主键批量更新，按照方言的参数数量上限切分，每批使用一条 SQL 更新。
+     * 存在乐观锁字段时，版本号已经过期的数据不会更新，并通过 {@link OptimisticLockException} 报告。
+     */
+    public static <T> int updateBatchById(BaseMapper<T> mapper, Collection<T> entities, boolean ignoreNulls) {
+        FlexAssert.notEmpty(entities, "entities");
+
+        TableInfo tableInfo = TableInfoFactory.ofMapperClass(ClassUtil.getUsefulClass(mapper.getClass()));
+        List<T> entityList = entities instanceof List ? (List<T>) entities : new ArrayList<>(entities);
+
+        // 每条数据的参数数量：每个字段的 WHEN ? THEN ?、主键条件以及乐观锁条件
+        int primaryKeyCount = Math.max(1, tableInfo.getPrimaryColumns().length);
+        int paramsPerEntity = (primaryKeyCount + 1) * (tableInfo.getColumns().length + 2);
+        int size = Math.max(1, Math.min(BaseMapper.DEFAULT_BATCH_SIZE, DialectFactory.getDialect().getMaxBindParameters() / paramsPerEntity));
+
+        boolean checkVersion = StringUtil.hasText(tableInfo.getOptimisticLockColumnOrSkip());
+        List<Object> failedIds = new ArrayList<>();
+        int sum = 0;
+        for (int from = 0; from < entityList.size(); from += size) {
+            List<T> list = entityList.subList(from, Math.min(from + size, entityList.size()));
+            if (checkVersion) {
+                // 一条 SQL 无法得知每条数据的更新结果，因此先排除版本号已经过期的数据
+                Map<Object, Object> versions = selectVersions(mapper, tableInfo, list);
+                List<T> current = new ArrayList<>(list.size());
+                for (T entity : list) {
+                    Object pkValue = tableInfo.getPkValue(entity);
+                    Object version = tableInfo.buildColumnSqlArg(entity, tableInfo.getVersionColumn());
+                    if (isVersionEquals(versions.get(toPkKey(pkValue)), version)) {
+                        current.add(entity);
+                    } else {
+                        failedIds.add(pkValue);
+                    }
+                }
+                list = current;
+                if (list.isEmpty()) {
+                    continue;
+                }
+            }
+
+            int updated = mapper.updateEntitiesById(list, ignoreNulls);
+            sum += updated;
+
+            // 查询与更新之间有数据被其他事务修改。被修改的数据与本次更新的数据版本号都可能是当前版本号 + 1，
+            // 无法区分哪些数据没有更新，因此这一批数据都作为失败报告
+            if (checkVersion && updated < list.size()) {
+                for (T entity : list) {
+                    failedIds.add(tableInfo.getPkValue(entity));
+                }
+            }
+        }
+
+        if (!failedIds.isEmpty()) {
+            throw new OptimisticLockException(failedIds, sum);
+        }
+        return sum;
+    }
+
+    /**
+     * 查询数据库中的版本号，只查询主键和乐观锁字段。
+     */
+    private static <T> Map<Object, Object> selectVersions(BaseMapper<T> mapper, TableInfo tableInfo, List<T> entities) {
+        String[] primaryColumns = tableInfo.getPrimaryColumns();
+        List<Object> params = new ArrayList<>(entities.size() * primaryColumns.length);
+        for (T entity : entities) {
+            Object pkValue = tableInfo.getPkValue(entity);
+            if (pkValue instanceof Object[]) {
+                params.addAll(Arrays.asList((Object[]) pkValue));
+            } else {
+                params.add(pkValue);
+            }
+        }
+
+        List<QueryColumn> selectColumns = new ArrayList<>(primaryColumns.length + 1);
+        for (IdInfo idInfo : tableInfo.getPrimaryKeyList()) {
+            selectColumns.add(tableInfo.getQueryColumnByProperty(idInfo.getProperty()));
+        }
+        selectColumns.add(new QueryColumn(tableInfo.getSchema(), tableInfo.getTableName(), tableInfo.getVersionColumn()));
+
+        IDialect dialect = DialectFactory.getDialect();
+        String table = tableInfo.getWrapSchemaAndTableName(dialect, OperateType.SELECT);
+        QueryWrapper queryWrapper = QueryWrapper.create()
+            .select(selectColumns)
+            .where(dialect.forPrimaryKeysCondition(table, primaryColumns, entities.size()), params.toArray());
+
+        Map<Object, Object> versions = new HashMap<>();
+        for (T row : mapper.selectListByQuery(queryWrapper)) {
+            versions.put(toPkKey(tableInfo.getPkValue(row)), tableInfo.buildColumnSqlArg(row, tableInfo.getVersionColumn()));
+        }
+        return versions;
+    }
+
+    private static boolean isVersionEquals(Object dbVersion, Object version) {
+        return dbVersion instanceof Number && version instanceof Number
+            && ((Number) dbVersion).longValue() == ((Number) version).longValue();
+    }
+
+    private static Object toPkKey(Object pkValue) {
+        return pkValue instanceof Object[] ? Arrays.asList((Object[]) pkValue) : pkValue;
+    }
+
+
     public static Map<String, Object> preparedParams(BaseMapper<?> baseMapper, Page<?> page, QueryWrapper queryWrapper, Map<String, Object> params) {
         Map<String, Object> newParams = new HashMap<>();
 
@@ -0,0 +1,412 @@
+/*
+ *  Copyright (c) 2022-2025, Mybatis-Flex (fuhai999@gmail.com).
+ *  <p>
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *  <p>
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *  <p>
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package com.mybatisflex.core.util;
+
+import org.apache.ibatis.logging.Log;
+import org.apache.ibatis.logging.LogFactory;
+import org.apache.ibatis.reflection.ReflectionException;
+import org.apache.ibatis.reflection.Reflector;
+import org.apache.ibatis.reflection.invoker.Invoker;
+import org.apache.ibatis.reflection.property.PropertyNamer;
+
+import java.lang.invoke.CallSite;
+import java.lang.invoke.LambdaMetafactory;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * 实体类属性访问器。
+ *
+ * <p>每个属性的 getter/setter 只解析一次，并通过 {@link LambdaMetafactory} 生成等价于直接方法调用的
+ * {@link Function}/{@link BiConsumer}，从而避免 {@code MetaObject} 和 {@link Method#invoke} 在每一行、
+ * 每一个属性上的反射开销。无法生成 lambda 时（例如 Java 8 下的非 public 类）回退到 MyBatis 的 {@link Invoker}。
+ *
+ * @author michael
+ * @since 2026-10-19
+ */
+public class PropertyAccessor {
+
+    private static final Log log = LogFactory.getLog(PropertyAccessor.class);
+
+    private static final Object[] NO_ARGUMENTS = new Object[0];
+
+    private static final Set<Class<?>> fallbackClasses = ConcurrentHashMap.newKeySet();
+
+    private static final Map<Class<?>, Map<String, PropertyAccessor>> cache = new ConcurrentHashMap<>();
+
+    private static final Method PRIVATE_LOOKUP_IN = getPrivateLookupIn();
+
+    private final Class<?> targetClass;
+    private final String property;
+    private final Class<?> getterType;
+    private final Class<?> setterType;
+    private final Function<Object, Object> getter;
+    private final BiConsumer<Object, Object> setter;
+
+    private PropertyAccessor(Class<?> targetClass, String property, Class<?> getterType, Class<?> setterType
+        , Function<Object, Object> getter, BiConsumer<Object, Object> setter) {
+        this.targetClass = targetClass;
+        this.property = property;
+        this.getterType = getterType;
+        this.setterType = setterType;
+        this.getter = getter;
+        this.setter = setter;
+    }
+
+
+    /**
+     * 获取类的属性访问器，结果会被缓存。
+     *
+     * @param clazz    类
+     * @param property 属性名称
+     * @return 属性访问器
+     */
+    public static PropertyAccessor of(Class<?> clazz, String property) {
+        Map<String, PropertyAccessor> accessors = MapUtil.computeIfAbsent(cache, clazz, key -> new ConcurrentHashMap<>());
+        return MapUtil.computeIfAbsent(accessors, property, key -> create(clazz, key));
+    }
+
+
+    /**
+     * 注册预先生成好的属性访问器（例如 APT 生成的 getter/setter），注册后不会再通过反射解析该属性。
+     *
+     * @param clazz    类
+     * @param property 属性名称
+     * @param type     属性类型
+     * @param getter   getter
+     * @param setter   setter
+     */
+    public static void register(Class<?> clazz, String property, Class<?> type
+        , Function<Object, Object> getter, BiConsumer<Object, Object> setter) {
+        Map<String, PropertyAccessor> accessors = MapUtil.computeIfAbsent(cache, clazz, key -> new ConcurrentHashMap<>());
+        accessors.put(property, new PropertyAccessor(clazz, property, type, type, getter, setter));
+    }
+
+
+    /**
+     * 读取属性值，没有 getter 时返回 {@code null}。
+     *
+     * @param target 对象
+     * @return 属性值
+     */
+    public Object get(Object target) {
+        return getter == null ? null : getter.apply(target);
+    }
+
+
+    /**
+     * 设置属性值，当属性为基础类型并且值为 {@code null} 时抛出异常，与 {@code MetaObject#setValue} 保持一致。
+     *
+     * @param target 对象
+     * @param value  属性值
+     */
+    public void set(Object target, Object value) {
+        if (setter == null) {
+            throw new ReflectionException("There is no setter for property named '" + property + "' in '" + targetClass + "'");
+        }
+        if (value == null && setterType.isPrimitive()) {
+            throw new ReflectionException("Could not set property '" + property + "' of '" + targetClass
+                + "' with value 'null', because the property type is primitive " + setterType.getName());
+        }
+        setter.accept(target, value);
+    }
+
+    public String getProperty() {
+        return property;
+    }
+
+    public boolean hasGetter() {
+        return getter != null;
+    }
+
+    public boolean hasSetter() {
+        return setter != null;
+    }
+
+    public Class<?> getGetterType() {
+        return getterType;
+    }
+
+    public Class<?> getSetterType() {
+        return setterType;
+    }
+
+
+    /**
+     * 为 getter 方法生成直接调用的 {@link Function}，无法生成时回退到反射调用。
+     *
+     * @param method getter 方法
+     * @return getter
+     */
+    @SuppressWarnings("unchecked")
+    public static Function<Object, Object> createGetter(Method method) {
+        Throwable cause = null;
+        try {
+            MethodHandles.Lookup lookup = lookup(method.getDeclaringClass());
+            if (lookup != null) {
+                MethodHandle handle = lookup.unreflect(method);
+                CallSite callSite = LambdaMetafactory.metafactory(lookup, "apply"
+                    , MethodType.methodType(Function.class)
+                    , MethodType.methodType(Object.class, Object.class)
+                    , handle
+                    , MethodType.methodType(wrap(method.getReturnType()), method.getDeclaringClass()));
+                return (Function<Object, Object>) callSite.getTarget().invokeExact();
+            }
+        } catch (Throwable e) {
+            cause = e;
+        }
+        logFallback(method.getDeclaringClass(), cause);
+        return target -> {
+            try {
+                return method.invoke(target);
+            } catch (IllegalAccessException | InvocationTargetException e) {
+                throw new ReflectionException("Could not invoke method: " + method + ". Cause: " + e, unwrap(e));
+            }
+        };
+    }
+
+
+    /**
+     * 为 setter 方法生成直接调用的 {@link BiConsumer}，无法生成时回退到反射调用。
+     *
+     * @param method setter 方法
+     * @return setter
+     */
+    @SuppressWarnings("unchecked")
+    public static BiConsumer<Object, Object> createSetter(Method method) {
+        Throwable cause = null;
+        try {
+            MethodHandles.Lookup lookup = lookup(method.getDeclaringClass());
+            if (lookup != null) {
+                MethodHandle handle = lookup.unreflect(method);
+                CallSite callSite = LambdaMetafactory.metafactory(lookup, "accept"
+                    , MethodType.methodType(BiConsumer.class)
+                    , MethodType.methodType(void.class, Object.class, Object.class)
+                    , handle
+                    , MethodType.methodType(void.class, method.getDeclaringClass(), wrap(method.getParameterTypes()[0])));
+                return (BiConsumer<Object, Object>) callSite.getTarget().invokeExact();
+            }
+        } catch (Throwable e) {
+            cause = e;
+        }
+        logFallback(method.getDeclaringClass(), cause);
+        return (target, value) -> {
+            try {
+                method.invoke(target, value);
+            } catch (IllegalAccessException | InvocationTargetException e) {
+                throw new ReflectionException("Could not invoke method: " + method + ". Cause: " + e, unwrap(e));
+            }
+        };
+    }
+
+
+    /**
+     * 为无参构造方法生成直接调用的 {@link Supplier}，无法生成时回退到反射调用。
+     *
+     * @param constructor 无参构造方法
+     * @return 实例化方法
+     */
+    @SuppressWarnings("unchecked")
+    public static Supplier<Object> createInstantiator(Constructor<?> constructor) {
+        Throwable cause = null;
+        try {
+            MethodHandles.Lookup lookup = lookup(constructor.getDeclaringClass());
+            if (lookup != null) {
+                MethodHandle handle = lookup.unreflectConstructor(constructor);
+                CallSite callSite = LambdaMetafactory.metafactory(lookup, "get"
+                    , MethodType.methodType(Supplier.class)
+                    , MethodType.methodType(Object.class)
+                    , handle
+                    , MethodType.methodType(constructor.getDeclaringClass()));
+                return (Supplier<Object>) callSite.getTarget().invokeExact();
+            }
+        } catch (Throwable e) {
+            cause = e;
+        }
+        logFallback(constructor.getDeclaringClass(), cause);
+        constructor.setAccessible(true);
+        return () -> {
+            try {
+                return constructor.newInstance();
+            } catch (InstantiationException | IllegalAccessException | InvocationTargetException e) {
+                throw new ReflectionException("Could not instantiate " + constructor.getDeclaringClass() + ". Cause: " + e, unwrap(e));
+            }
+        };
+    }
+
+
+    private static PropertyAccessor create(Class<?> clazz, String property) {
+        Reflector reflector = Reflectors.of(clazz);
+
+        Class<?> getterType = null;
+        Function<Object, Object> getter = null;
+        if (reflector.hasGetter(property)) {
+            getterType = reflector.getGetterType(property);
+            Method method = findAccessorMethod(clazz, property, getterType, true);
+            if (method != null) {
+                getter = createGetter(method);
+            } else {
+                logFallback(clazz, null);
+                getter = invokerGetter(reflector.getGetInvoker(property), clazz, property);
+            }
+        }
+
+        Class<?> setterType = null;
+        BiConsumer<Object, Object> setter = null;
+        if (reflector.hasSetter(property)) {
+            setterType = reflector.getSetterType(property);
+            Method method = findAccessorMethod(clazz, property, setterType, false);
+            if (method != null) {
+                setter = createSetter(method);
+            } else {
+                logFallback(clazz, null);
+                setter = invokerSetter(reflector.getSetInvoker(property), clazz, property);
+            }
+        }
+
+        return new PropertyAccessor(clazz, property, getterType, setterType, getter, setter);
+    }
+
+
+    private static Method findAccessorMethod(Class<?> clazz, String property, Class<?> type, boolean isGetter) {
+        for (Method method : clazz.getMethods()) {
+            if (Modifier.isStatic(method.getModifiers()) || method.isBridge()) {
+                continue;
+            }
+            String name = method.getName();
+            if (isGetter) {
+                if (method.getParameterCount() == 0 && PropertyNamer.isGetter(name)
+                    && method.getReturnType() == type && property.equals(PropertyNamer.methodToProperty(name))) {
+                    return method;
+                }
+            } else {
+                if (method.getParameterCount() == 1 && PropertyNamer.isSetter(name)
+                    && method.getParameterTypes()[0] == type && property.equals(PropertyNamer.methodToProperty(name))) {
+                    return method;
+                }
+            }
+        }
+        return null;
+    }
+
+
+    private static Function<Object, Object> invokerGetter(Invoker invoker, Class<?> clazz, String property) {
+        return target -> {
+            try {
+                return invoker.invoke(target, NO_ARGUMENTS);
+            } catch (IllegalAccessException | InvocationTargetException e) {
+                throw new ReflectionException("Could not get property '" + property + "' from " + clazz + ". Cause: " + e, unwrap(e));
+            }
+        };
+    }
+
+
+    private static BiConsumer<Object, Object> invokerSetter(Invoker invoker, Class<?> clazz, String property) {
+        return (target, value) -> {
+            try {
+                invoker.invoke(target, new Object[]{value});
+            } catch (IllegalAccessException | InvocationTargetException e) {
+                throw new ReflectionException("Could not set property '" + property + "' of '" + clazz + "' with value '" + value + "'. Cause: " + e, unwrap(e));
+            }
+        };
+    }
+
+
+    /**
+     * 回退到反射调用时，每个类只在 debug 级别记录一次，便于确认是否使用了直接调用。
+     */
+    private static void logFallback(Class<?> clazz, Throwable cause) {
+        if (log.isDebugEnabled() && fallbackClasses.add(clazz)) {
+            log.debug("Can not generate lambda accessors for " + clazz.getName() + ", fall back to reflection."
+                + (cause != null ? " Cause: " + cause : ""));
+        }
+    }
+
+
+    private static Throwable unwrap(Throwable e) {
+        return e instanceof InvocationTargetException && e.getCause() != null ? e.getCause() : e;
+    }
+
+
+    /**
+     * 获取可以访问目标类的 {@link MethodHandles.Lookup}。Java 9+ 通过 {@code MethodHandles.privateLookupIn}
+     * 获取，Java 8 下只能访问当前类加载器可见的 public 类。
+     */
+    private static MethodHandles.Lookup lookup(Class<?> targetClass) throws Exception {
+        if (PRIVATE_LOOKUP_IN != null) {
+            return (MethodHandles.Lookup) PRIVATE_LOOKUP_IN.invoke(null, targetClass, MethodHandles.lookup());
+        }
+        if (Modifier.isPublic(targetClass.getModifiers()) && isVisible(targetClass)) {
+            return MethodHandles.lookup();
+        }
+        return null;
+    }
+
+
+    private static boolean isVisible(Class<?> targetClass) {
+        try {
+            return Class.forName(targetClass.getName(), false, PropertyAccessor.class.getClassLoader()) == targetClass;
+        } catch (ClassNotFoundException e) {
+            return false;
+        }
+    }
+
+
+    private static Method getPrivateLookupIn() {
+        try {
+            return MethodHandles.class.getMethod("privateLookupIn", Class.class, MethodHandles.Lookup.class);
+        } catch (NoSuchMethodException e) {
+            return null;
+        }
+    }
+
+
+    private static Class<?> wrap(Class<?> type) {
+        if (!type.isPrimitive()) {
+            return type;
+        }
+        if (type == int.class) {
+            return Integer.class;
+        } else if (type == long.class) {
+            return Long.class;
+        } else if (type == boolean.class) {
+            return Boolean.class;
+        } else if (type == double.class) {
+            return Double.class;
+        } else if (type == float.class) {
+            return Float.class;
+        } else if (type == short.class) {
+            return Short.class;
+        } else if (type == byte.class) {
+            return Byte.class;
+        } else if (type == char.class) {
+            return Character.class;
+        }
+        return Void.class;
+    }
+
+}
@@ -0,0 +1,101 @@
+/*
+ *  Copyright (c) 2022-2025, Mybatis-Flex (fuhai999@gmail.com).
+ *  <p>
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *  <p>
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *  <p>
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package com.mybatisflex.core.dialect.bulk;
+
+import com.mybatisflex.core.dialect.impl.CommonsDialectImpl;
+import org.apache.ibatis.session.Configuration;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+
+/**
+ * COPY、LOAD DATA 文本格式编码的测试。
+ */
+public class TextRowInputStreamTest {
+
+    private static final BulkLoadTarget TARGET = new BulkLoadTarget(new CommonsDialectImpl(), new Configuration()
+        , null, "tb_test", new String[]{"c1", "c2", "c3", "c4", "c5"}, null);
+
+    @Test
+    public void testPostgresText() throws IOException {
+        Object[] row = {"a\tb\nc\\d\re", null, true, new byte[]{0x01, (byte) 0xAB, '\\'}, new BigDecimal("1E+3")};
+        byte[] bytes = readAll(new PostgresCopyBulkLoader.PostgresTextInputStream(TARGET, rows(row)));
+        Assert.assertEquals("a\\tb\\nc\\\\d\\re\t\\N\tt\t\\\\x01ab5c\t1000\n", new String(bytes, StandardCharsets.UTF_8));
+
+        Object[] falseRow = {"中文", "", false, new byte[0], 1};
+        bytes = readAll(new PostgresCopyBulkLoader.PostgresTextInputStream(TARGET, rows(falseRow)));
+        Assert.assertEquals("中文\t\tf\t\\\\x\t1\n", new String(bytes, StandardCharsets.UTF_8));
+    }
+
+    @Test
+    public void testMysqlText() throws IOException {
+        Object[] row = {"a\tb\nc\\d\re", null, true, new byte[]{0x01, '\\', '\t', 0, (byte) 0xFF}, false};
+        byte[] bytes = readAll(new MysqlLoadDataBulkLoader.MysqlTextInputStream(TARGET, rows(row)));
+
+        ByteArrayOutputStream expected = new ByteArrayOutputStream();
+        byte[] text = "a\\tb\\nc\\\\d\\re\t\\N\t1\t".getBytes(StandardCharsets.UTF_8);
+        expected.write(text, 0, text.length);
+        byte[] binary = {0x01, '\\', '\\', '\\', 't', '\\', '0', (byte) 0xFF, '\t', '0', '\n'};
+        expected.write(binary, 0, binary.length);
+        Assert.assertArrayEquals(expected.toByteArray(), bytes);
+    }
+
+    @Test
+    public void testMultipleFills() throws IOException {
+        List<Object[]> rows = new ArrayList<>();
+        StringBuilder expected = new StringBuilder();
+        for (int i = 0; i < 200; i++) {
+            rows.add(new Object[]{i, "row " + i, i % 2 == 0, null, null});
+            expected.append(i).append("\trow ").append(i).append('\t').append(i % 2 == 0 ? 't' : 'f')
+                .append("\t\\N\t\\N\n");
+        }
+
+        // 逐字节读取，跨越多次编码
+        TextRowInputStream in = new PostgresCopyBulkLoader.PostgresTextInputStream(TARGET, rows.iterator());
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        int b;
+        while ((b = in.read()) != -1) {
+            out.write(b);
+        }
+        Assert.assertEquals(expected.toString(), new String(out.toByteArray(), StandardCharsets.UTF_8));
+        Assert.assertEquals(-1, in.read(new byte[8], 0, 8));
+        Assert.assertEquals(200, in.getRowCount());
+    }
+
+    private static Iterator<Object[]> rows(Object[]... rows) {
+        return Arrays.asList(rows).iterator();
+    }
+
+    private static byte[] readAll(InputStream in) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        byte[] buffer = new byte[7];
+        int n;
+        while ((n = in.read(buffer, 0, buffer.length)) != -1) {
+            out.write(buffer, 0, n);
+        }
+        return out.toByteArray();
+    }
+
+}
@@ -18,6 +18,7 @@ package com.mybatisflex.coretest;
 
 import com.github.vertical_blank.sqlformatter.SqlFormatter;
 import com.mybatisflex.core.constant.SqlOperator;
+import com.mybatisflex.core.dialect.DbType;
 import com.mybatisflex.core.dialect.IDialect;
 import com.mybatisflex.core.dialect.KeywordWrap;
 import com.mybatisflex.core.dialect.LimitOffsetProcessor;
@@ -37,8 +38,10 @@ import org.junit.Assert;
 import org.junit.Test;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Date;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 
 import static com.mybatisflex.core.query.QueryMethods.avg;
@@ -650,6 +653,55 @@ public class AccountSqlTester {
     }
 
 
+    @Test
+    public void testUpdateBatchByIdSql() {
+        TableInfo tableInfo = TableInfoFactory.ofEntityClass(Account.class);
+        Account account1 = new Account();
+        account1.setId(1L);
+        account1.setAge(18);
+        Account account2 = new Account();
+        account2.setId(2L);
+        account2.setAge(20);
+        account2.setUserName("michael");
+
+        CommonsDialectImpl dialect = new CommonsDialectImpl();
+        List<Object> sqlArgs = new ArrayList<>();
+        String sql = dialect.forUpdateEntityBatchById(tableInfo, Arrays.asList(account1, account2), true, sqlArgs);
+        System.out.println(sql);
+        Assert.assertEquals("UPDATE `tb_account` SET `user_name` = CASE `id` WHEN ? THEN ? ELSE `user_name` END" +
+            ", `sex` = CASE `id` WHEN ? THEN ? WHEN ? THEN ? END, `age` = CASE `id` WHEN ? THEN ? WHEN ? THEN ? END" +
+            ", `is_normal` = CASE `id` WHEN ? THEN ? WHEN ? THEN ? END" +
+            " WHERE `id` IN (?, ?) AND `is_delete` = 0", sql);
+        Assert.assertEquals(Arrays.asList(2L, "michael", 1L, 0, 2L, 0, 1L, 18, 2L, 20, 1L, false, 2L, false, 1L, 2L), sqlArgs);
+
+        CommonsDialectImpl postgresDialect = new CommonsDialectImpl(KeywordWrap.DOUBLE_QUOTATION, LimitOffsetProcessor.POSTGRESQL);
+        postgresDialect.setDbType(DbType.POSTGRE_SQL);
+        sqlArgs.clear();
+        sql = postgresDialect.forUpdateEntityBatchById(tableInfo, Arrays.asList(account1, account2), false, sqlArgs);
+        System.out.println(sql);
+        // PostgreSQL 使用 CASE，并总是添加 ELSE 使参数按照字段的类型推断
+        Assert.assertTrue(sql.startsWith("UPDATE \"tb_account\" SET \"user_name\" = CASE \"id\" WHEN ? THEN ? WHEN ? THEN ? ELSE \"user_name\" END" +
+            ", \"birthday\" = CASE \"id\" WHEN ? THEN ? WHEN ? THEN ? ELSE \"birthday\" END"));
+        Assert.assertTrue(sql.endsWith(" WHERE \"id\" IN (?, ?) AND \"is_delete\" = 0"));
+
+        CommonsDialectImpl sqlServerDialect = new CommonsDialectImpl(KeywordWrap.SQUARE_BRACKETS, LimitOffsetProcessor.SQLSERVER);
+        sqlServerDialect.setDbType(DbType.SQLSERVER);
+        sqlArgs.clear();
+        sql = sqlServerDialect.forUpdateEntityBatchById(tableInfo, Arrays.asList(account1, account2), false, sqlArgs);
+        System.out.println(sql);
+        Assert.assertTrue(sql.contains(" FROM [tb_account], (VALUES (?, ?, ?, ?, ?, ?, ?), (?, ?, ?, ?, ?, ?, ?)) AS flex_values (flex_values_0"));
+        Assert.assertTrue(sql.contains(" WHERE [tb_account].[id] = flex_values.flex_values_0 AND [is_delete] = 0"));
+
+        CommonsDialectImpl mysqlDialect = new CommonsDialectImpl();
+        mysqlDialect.setDbType(DbType.MYSQL);
+        sqlArgs.clear();
+        sql = mysqlDialect.forUpdateEntityBatchById(tableInfo, Arrays.asList(account1, account2), false, sqlArgs);
+        System.out.println(sql);
+        Assert.assertTrue(sql.startsWith("UPDATE `tb_account`, (SELECT ? AS flex_values_0, "));
+        Assert.assertTrue(sql.contains(" UNION ALL SELECT ?, ?, "));
+        Assert.assertEquals(14, sqlArgs.size());
+    }
+
     /**
      * test https://gitee.com/mybatis-flex/mybatis-flex/issues/I8ASWS
      */
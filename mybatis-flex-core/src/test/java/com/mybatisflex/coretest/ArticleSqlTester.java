@@ -16,6 +16,8 @@
 
 package com.mybatisflex.coretest;
 
+import com.mybatisflex.core.dialect.DbType;
+import com.mybatisflex.core.dialect.DialectFactory;
 import com.mybatisflex.core.dialect.IDialect;
 import com.mybatisflex.core.dialect.impl.CommonsDialectImpl;
 import com.mybatisflex.core.query.QueryWrapper;
@@ -110,6 +112,42 @@ public class ArticleSqlTester {
         assertEquals("UPDATE `tb_article` SET `is_delete` = 1 WHERE ((`id` = ?  AND `uuid` = ? )) AND `is_delete` = 0", sql);
     }
 
+    @Test
+    public void testDeleteByIdsSqlWithDbType() {
+        TableInfo tableInfo = TableInfoFactory.ofEntityClass(Article.class);
+        try {
+            DialectFactory.setHintDbType(DbType.MYSQL);
+            String sql = DialectFactory.getDialect().forDeleteEntityBatchByIds(tableInfo, new Object[]{1, 2, 3, 4});
+            System.out.println(sql);
+            assertEquals("UPDATE `tb_article` SET `is_delete` = 1 WHERE (`id`, `uuid`) IN ((?, ?), (?, ?)) AND `is_delete` = 0", sql);
+
+            DialectFactory.setHintDbType(DbType.POSTGRE_SQL);
+            sql = DialectFactory.getDialect().forSelectEntityListByIds(tableInfo, new Object[]{1, 2, 3, 4});
+            System.out.println(sql);
+            assertEquals("SELECT \"id\", \"uuid\", \"account_id\", \"title\", \"created\", \"modified\", \"is_delete\", \"version\" FROM \"tb_article\"" +
+                " WHERE (\"id\", \"uuid\") IN (VALUES (?, ?), (?, ?)) AND \"is_delete\" = 0", sql);
+
+            DialectFactory.setHintDbType(DbType.SQLSERVER);
+            sql = DialectFactory.getDialect().forDeleteBatchByIds(null, "tb_article", new String[]{"id", "uuid"}, new Object[]{1, 2, 3, 4});
+            System.out.println(sql);
+            assertEquals("DELETE FROM [tb_article] WHERE EXISTS (SELECT 1 FROM (VALUES (?, ?), (?, ?)) AS flex_values (flex_values_0, flex_values_1)" +
+                " WHERE [tb_article].[id] = flex_values.flex_values_0 AND [tb_article].[uuid] = flex_values.flex_values_1)", sql);
+
+            sql = DialectFactory.getDialect().forDeleteBatchByIds(null, "tb_article", new String[]{"id"}, new Object[]{1, 2, 3});
+            System.out.println(sql);
+            assertEquals("DELETE FROM [tb_article] WHERE [id] IN (?, ?, ?)", sql);
+
+            // 大字段加载等场景直接使用主键条件
+            DialectFactory.setHintDbType(DbType.MYSQL);
+            String condition = DialectFactory.getDialect().forPrimaryKeysCondition("`tb_article`", new String[]{"id", "uuid"}, 2);
+            assertEquals("(`id`, `uuid`) IN ((?, ?), (?, ?))", condition);
+            sql = QueryWrapper.create().select("id", "uuid", "content").from("tb_article").where(condition, 1, "a", 2, "b").toSQL();
+            assertEquals("SELECT id, uuid, content FROM `tb_article` WHERE  (`id`, `uuid`) IN ((1, 'a'), (2, 'b')) ", sql);
+        } finally {
+            DialectFactory.clearHintDbType();
+        }
+    }
+
 
     @Test
     public void testUpdateSql() {
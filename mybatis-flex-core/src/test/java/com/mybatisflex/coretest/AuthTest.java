@@ -81,7 +81,7 @@ public class AuthTest {
         assert "UPDATE `tb_project` SET `is_delete` = 1 WHERE `id` = ?  AND `is_delete` = 0 AND `insert_user_id` = 1"
             .equals(dialect.forDeleteEntityById(TableInfoFactory.ofEntityClass(Project.class)));
         // 9.批量删除
-        assert "UPDATE `tb_project` SET `is_delete` = 1 WHERE (`id` = ? ) AND `is_delete` = 0 AND `insert_user_id` = 1"
+        assert "UPDATE `tb_project` SET `is_delete` = 1 WHERE `id` = ?  AND `is_delete` = 0 AND `insert_user_id` = 1"
             .equals(dialect.forDeleteEntityBatchByIds(TableInfoFactory.ofEntityClass(Project.class), new String[]{PROJECT.ID.getName()}));
         // 10.query删除
         assert "UPDATE `tb_project` SET `is_delete` = 1 WHERE `id` = ? AND `insert_user_id` = ? AND `insert_user_id` = ?"
@@ -98,7 +98,7 @@ public class AuthTest {
         assert "SELECT * FROM `tb_project` WHERE `id` = ?  AND `is_delete` = 0 AND `insert_user_id` = 1"
             .equals(dialect.forSelectOneEntityById(TableInfoFactory.ofEntityClass(Project.class)));
         // 14.查询
-        assert "SELECT `id`, `name`, `insert_user_id`, `is_delete` FROM `tb_project` WHERE (`id` = ? ) AND `is_delete` = 0 AND `insert_user_id` = 1"
+        assert "SELECT `id`, `name`, `insert_user_id`, `is_delete` FROM `tb_project` WHERE `id` = ?  AND `is_delete` = 0 AND `insert_user_id` = 1"
             .equals(dialect.forSelectEntityListByIds(TableInfoFactory.ofEntityClass(Project.class), new String[]{PROJECT.ID.getName()}));
     }
 
@@ -0,0 +1,160 @@
+/*
+ *  Copyright (c) 2022-2025, Mybatis-Flex (fuhai999@gmail.com).
+ *  <p>
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *  <p>
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *  <p>
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package com.mybatisflex.coretest;
+
+import com.mybatisflex.core.context.ContextCarrier;
+import com.mybatisflex.core.context.FlexContext;
+import com.mybatisflex.core.datasource.DataSourceKey;
+import com.mybatisflex.core.dialect.DbType;
+import com.mybatisflex.core.dialect.DialectFactory;
+import com.mybatisflex.core.relation.RelationManager;
+import com.mybatisflex.core.tenant.TenantManager;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.Deque;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * @author michael
+ * @since 2026-10-19
+ */
+public class FlexContextTest {
+
+    @After
+    public void clear() {
+        FlexContext.setCurrent(FlexContext.EMPTY);
+    }
+
+    @Test
+    public void testDataSourceKeyStack() {
+        DataSourceKey.use("ds1");
+        DataSourceKey.use("ds2");
+        Assert.assertEquals("ds2", DataSourceKey.get());
+
+        DataSourceKey.clear();
+        Assert.assertEquals("ds1", DataSourceKey.get());
+
+        DataSourceKey.clear();
+        Assert.assertNull(DataSourceKey.get());
+        Assert.assertSame(FlexContext.EMPTY, FlexContext.current());
+    }
+
+    @Test
+    public void testCaptureIsImmutable() {
+        DataSourceKey.use("ds1");
+        TenantManager.ignoreTenantCondition();
+        RelationManager.addIgnoreRelations("Account.books");
+        FlexContext context = FlexContext.capture();
+
+        DataSourceKey.clear();
+        TenantManager.restoreTenantCondition();
+        RelationManager.addIgnoreRelations("Account.roles");
+
+        Assert.assertEquals("ds1", context.getDataSourceKey());
+        Assert.assertTrue(context.isIgnoreTenantCondition());
+        Assert.assertEquals(1, context.getIgnoreRelations().size());
+        Assert.assertNull(DataSourceKey.get());
+        Assert.assertEquals(2, RelationManager.getIgnoreRelations().size());
+    }
+
+    @Test
+    public void testRelationsAreModifiable() {
+        try {
+            RelationManager.addIgnoreRelations("Account.books");
+            RelationManager.getIgnoreRelations().add("Account.roles");
+            Assert.assertEquals(2, RelationManager.getIgnoreRelations().size());
+
+            // 设置之后对集合的修改同样生效
+            Set<String> queryRelations = new HashSet<>();
+            RelationManager.setQueryRelations(queryRelations);
+            queryRelations.add("Account.books");
+            Assert.assertTrue(RelationManager.getQueryRelations().contains("Account.books"));
+        } finally {
+            RelationManager.clearIgnoreRelations();
+            RelationManager.clearQueryRelations();
+        }
+    }
+
+    @Test
+    @SuppressWarnings("deprecation")
+    public void testSetThreadLocal() throws Exception {
+        ContextCarrier carrier = FlexContext.getCarrier();
+        InheritableThreadLocal<Deque<String>> threadLocal = new InheritableThreadLocal<>();
+        try {
+            DataSourceKey.setThreadLocal(threadLocal);
+            DataSourceKey.use("ds1");
+            // ThreadLocal 中保存的仍然是 Deque<String>
+            Assert.assertEquals("ds1", threadLocal.get().peek());
+
+            // 使用调用方传入的 ThreadLocal 保存，子线程可以继承
+            CompletableFuture<String> future = new CompletableFuture<>();
+            Thread thread = new Thread(() -> future.complete(DataSourceKey.get()));
+            thread.start();
+            Assert.assertEquals("ds1", future.get());
+        } finally {
+            DataSourceKey.forceClear();
+            FlexContext.setCarrier(carrier);
+        }
+    }
+
+    @Test
+    public void testRunWith() {
+        DataSourceKey.use("ds1");
+        FlexContext context = FlexContext.capture();
+        DataSourceKey.forceClear();
+        DialectFactory.setHintDbType(DbType.ORACLE);
+
+        String dataSourceKey = context.callWith(() -> {
+            Assert.assertNull(DialectFactory.getHintDbType());
+            return DataSourceKey.get();
+        });
+
+        Assert.assertEquals("ds1", dataSourceKey);
+        Assert.assertNull(DataSourceKey.get());
+        Assert.assertEquals(DbType.ORACLE, DialectFactory.getHintDbType());
+    }
+
+    @Test
+    public void testPropagateToExecutor() throws Exception {
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            DataSourceKey.use("ds1");
+            TenantManager.ignoreTenantCondition();
+
+            String key = CompletableFuture.supplyAsync(FlexContext.capture().wrap(() ->
+                DataSourceKey.get() + ":" + TenantManager.isIgnoreTenantCondition()), executor).get();
+            Assert.assertEquals("ds1:true", key);
+
+            String notPropagated = CompletableFuture.supplyAsync(DataSourceKey::get, executor).get();
+            Assert.assertNull(notPropagated);
+
+            String propagated = CompletableFuture.supplyAsync(DataSourceKey::get, FlexContext.propagating(executor)).get();
+            Assert.assertEquals("ds1", propagated);
+
+            // 执行完成后，线程池中的线程不会残留上下文
+            Assert.assertSame(FlexContext.EMPTY, CompletableFuture.supplyAsync(FlexContext::current, executor).get());
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+}
@@ -19,10 +19,16 @@ package com.mybatisflex.coretest;
 import com.mybatisflex.core.keygen.IKeyGenerator;
 import com.mybatisflex.core.keygen.KeyGeneratorFactory;
 import com.mybatisflex.core.keygen.KeyGenerators;
+import com.mybatisflex.core.keygen.impl.SnowFlakeIDKeyGenerator;
 import org.junit.Assert;
 import org.junit.Test;
 
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import java.util.stream.LongStream;
 
 /**
@@ -33,6 +39,11 @@ import java.util.stream.LongStream;
  */
 public class IdGenTest {
 
+    /**
+     * 并发测试中每个线程生成的 ID 数量。
+     */
+    private static final int IDS_PER_THREAD = 5_0000;
+
     @Test
     public void snowFlakeID() {
         int size = 10_0000;
@@ -44,6 +55,62 @@ public class IdGenTest {
         Assert.assertEquals(size, LongStream.of(ids).distinct().count());
     }
 
+    @Test
+    public void snowFlakeIDConcurrent() throws Exception {
+        SnowFlakeIDKeyGenerator keyGenerator = new SnowFlakeIDKeyGenerator(1, 1);
+        int threads = 8;
+        int size = IDS_PER_THREAD;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            List<Future<long[]>> futures = new ArrayList<>();
+            for (int t = 0; t < threads; t++) {
+                futures.add(executor.submit(() -> {
+                    long[] ids = new long[size];
+                    for (int i = 0; i < size; i++) {
+                        ids[i] = keyGenerator.nextId();
+                    }
+                    return ids;
+                }));
+            }
+            LongStream all = LongStream.empty();
+            for (Future<long[]> future : futures) {
+                all = LongStream.concat(all, LongStream.of(future.get()));
+            }
+            Assert.assertEquals((long) threads * size, all.distinct().count());
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    public void snowFlakeIDBlock() {
+        SnowFlakeIDKeyGenerator keyGenerator = new SnowFlakeIDKeyGenerator(1, 1);
+        long first = keyGenerator.nextId();
+        long[] ids = keyGenerator.nextIds(10_000);
+        Assert.assertEquals(10_000, LongStream.of(ids).distinct().count());
+        Assert.assertTrue(ids[0] > first);
+        for (int i = 1; i < ids.length; i++) {
+            Assert.assertTrue(ids[i] > ids[i - 1]);
+        }
+        Assert.assertTrue(keyGenerator.nextId() > ids[ids.length - 1]);
+    }
+
+    @Test
+    public void snowFlakeIDBorrow() {
+        SnowFlakeIDKeyGenerator.setMaxBorrowMillis(10);
+        try {
+            SnowFlakeIDKeyGenerator keyGenerator = new SnowFlakeIDKeyGenerator(1, 1);
+            // 模拟小幅度的时钟回拨，在允许领先的范围内不阻塞
+            keyGenerator.setLastTimeMillis(System.currentTimeMillis() + 3);
+            long last = keyGenerator.getLastTimeMillis();
+            long id = keyGenerator.nextId();
+            Assert.assertEquals(last, keyGenerator.getLastTimeMillis());
+            Assert.assertTrue(keyGenerator.nextId() > id);
+        } finally {
+            SnowFlakeIDKeyGenerator.setMaxBorrowMillis(0);
+        }
+    }
+
     @Test
     public void flexID() {
         int size = 100_0000;
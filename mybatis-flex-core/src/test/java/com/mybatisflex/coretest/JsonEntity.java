@@ -0,0 +1,51 @@
+/*
+ *  Copyright (c) 2022-2025, Mybatis-Flex (fuhai999@gmail.com).
+ *  <p>
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *  <p>
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *  <p>
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package com.mybatisflex.coretest;
+
+import com.mybatisflex.annotation.Column;
+import com.mybatisflex.annotation.Id;
+import com.mybatisflex.annotation.Table;
+import com.mybatisflex.core.handler.JacksonTypeHandler;
+import com.mybatisflex.core.handler.LazyJson;
+
+import java.util.List;
+import java.util.Map;
+
+@Table("tb_json_entity")
+public class JsonEntity {
+
+    @Id
+    private Long id;
+
+    @Column(typeHandler = JacksonTypeHandler.class)
+    private LazyJson<List<Map<String, Object>>> options;
+
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public LazyJson<List<Map<String, Object>>> getOptions() {
+        return options;
+    }
+
+    public void setOptions(LazyJson<List<Map<String, Object>>> options) {
+        this.options = options;
+    }
+}
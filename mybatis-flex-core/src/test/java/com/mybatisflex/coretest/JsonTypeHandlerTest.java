@@ -0,0 +1,164 @@
+/*
+ *  Copyright (c) 2022-2025, Mybatis-Flex (fuhai999@gmail.com).
+ *  <p>
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *  <p>
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *  <p>
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package com.mybatisflex.coretest;
+
+import com.mybatisflex.core.handler.BaseJsonTypeHandler;
+import com.mybatisflex.core.handler.Fastjson2TypeHandler;
+import com.mybatisflex.core.handler.GsonTypeHandler;
+import com.mybatisflex.core.handler.JacksonTypeHandler;
+import com.mybatisflex.core.handler.LazyJson;
+import com.mybatisflex.core.handler.LazyJsonTypeHandler;
+import com.mybatisflex.core.table.ColumnInfo;
+import com.mybatisflex.core.table.TableInfoFactory;
+import org.apache.ibatis.type.JdbcType;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.Reader;
+import java.io.StringReader;
+import java.lang.reflect.Proxy;
+import java.nio.charset.StandardCharsets;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * @author michael
+ * @since 2026-10-19
+ */
+public class JsonTypeHandlerTest {
+
+    private static final String JSON = "  [{\"name\":\"michael\"},{\"name\":\"flex\"}]";
+
+    @After
+    public void reset() {
+        BaseJsonTypeHandler.setDefaultStreamMode(BaseJsonTypeHandler.StreamMode.STRING);
+    }
+
+    private static ResultSet resultSet(String json) {
+        return (ResultSet) Proxy.newProxyInstance(JsonTypeHandlerTest.class.getClassLoader(), new Class[]{ResultSet.class}, (proxy, method, args) -> {
+            switch (method.getName()) {
+                case "getString":
+                    return json;
+                case "getCharacterStream":
+                    return json == null ? null : new StringReader(json);
+                case "getBinaryStream":
+                    return json == null ? null : new ByteArrayInputStream(json.getBytes(StandardCharsets.UTF_8));
+                case "wasNull":
+                    return json == null;
+                default:
+                    return null;
+            }
+        });
+    }
+
+    @Test
+    public void testStreamMode() throws Exception {
+        for (BaseJsonTypeHandler.StreamMode mode : BaseJsonTypeHandler.StreamMode.values()) {
+            BaseJsonTypeHandler.setDefaultStreamMode(mode);
+            List<BaseJsonTypeHandler<Object>> handlers = Arrays.asList(
+                new JacksonTypeHandler(List.class, Map.class)
+                , new GsonTypeHandler(List.class, Map.class)
+                , new Fastjson2TypeHandler(List.class, Map.class)
+            );
+            for (BaseJsonTypeHandler<Object> handler : handlers) {
+                List<?> list = (List<?>) handler.getResult(resultSet(JSON), "options");
+                Assert.assertEquals(mode + " " + handler.getClass().getSimpleName(), 2, list.size());
+                Assert.assertEquals("flex", ((Map<?, ?>) list.get(1)).get("name"));
+
+                Assert.assertNull(handler.getResult(resultSet("   "), "options"));
+                Assert.assertNull(handler.getResult(resultSet(null), "options"));
+            }
+        }
+    }
+
+    @Test
+    public void testSetParameter() throws Exception {
+        List<String> calls = new ArrayList<>();
+        PreparedStatement ps = (PreparedStatement) Proxy.newProxyInstance(JsonTypeHandlerTest.class.getClassLoader(), new Class[]{PreparedStatement.class}, (proxy, method, args) -> {
+            if ("isWrapperFor".equals(method.getName())) {
+                return false;
+            }
+            calls.add(method.getName());
+            return null;
+        });
+        JacksonTypeHandler handler = new JacksonTypeHandler(Map.class);
+        Map<String, String> value = Collections.singletonMap("name", "flex");
+
+        // 非 PostgreSQL 驱动时，jdbcType = OTHER 与未配置 jdbcType 的行为一致
+        handler.setParameter(ps, 1, value, JdbcType.OTHER);
+        Assert.assertEquals(Arrays.asList("setString"), calls);
+
+        BaseJsonTypeHandler.setDefaultStreamMode(BaseJsonTypeHandler.StreamMode.BINARY);
+        calls.clear();
+        handler.setParameter(ps, 1, value, null);
+        Assert.assertEquals(Arrays.asList("setString"), calls);
+
+        calls.clear();
+        handler.setParameter(ps, 1, value, JdbcType.BLOB);
+        Assert.assertEquals(Arrays.asList("setBytes"), calls);
+    }
+
+    @Test
+    public void testWriteCharacterStream() throws Exception {
+        BaseJsonTypeHandler.setDefaultStreamMode(BaseJsonTypeHandler.StreamMode.CHARACTER);
+        List<BaseJsonTypeHandler<Object>> handlers = Arrays.asList(
+            new JacksonTypeHandler(Map.class)
+            , new GsonTypeHandler(Map.class)
+            , new Fastjson2TypeHandler(Map.class)
+        );
+        for (BaseJsonTypeHandler<Object> handler : handlers) {
+            StringBuilder written = new StringBuilder();
+            PreparedStatement ps = (PreparedStatement) Proxy.newProxyInstance(JsonTypeHandlerTest.class.getClassLoader(), new Class[]{PreparedStatement.class}, (proxy, method, args) -> {
+                if ("setCharacterStream".equals(method.getName())) {
+                    Reader reader = (Reader) args[1];
+                    int c;
+                    while ((c = reader.read()) != -1) {
+                        written.append((char) c);
+                    }
+                    Assert.assertEquals(written.length(), ((Number) args[2]).intValue());
+                }
+                return false;
+            });
+            handler.setParameter(ps, 1, Collections.singletonMap("name", "flex"), null);
+            // Fastjson2TypeHandler 默认会输出 @type
+            Assert.assertTrue(handler.getClass().getSimpleName(), written.toString().endsWith("\"name\":\"flex\"}"));
+        }
+    }
+
+    @Test
+    public void testLazyJson() throws Exception {
+        ColumnInfo columnInfo = TableInfoFactory.ofEntityClass(JsonEntity.class).getColumnInfoList().stream()
+            .filter(c -> "options".equals(c.getProperty()))
+            .findFirst()
+            .orElseThrow(IllegalStateException::new);
+        LazyJsonTypeHandler handler = (LazyJsonTypeHandler) columnInfo.buildTypeHandler(null);
+
+        LazyJson<?> lazyJson = handler.getResult(resultSet(JSON), "options");
+        Assert.assertFalse(lazyJson.isParsed());
+        Assert.assertEquals(2, ((List<?>) lazyJson.get()).size());
+        Assert.assertTrue(lazyJson.isParsed());
+
+        Assert.assertNull(handler.getResult(resultSet(null), "options"));
+    }
+
+}
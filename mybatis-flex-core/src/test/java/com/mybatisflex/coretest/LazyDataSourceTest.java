@@ -0,0 +1,194 @@
+/*
+ *  Copyright (c) 2022-2025, Mybatis-Flex (fuhai999@gmail.com).
+ *  <p>
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *  <p>
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *  <p>
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package com.mybatisflex.coretest;
+
+import com.mybatisflex.core.datasource.AbstractDataSource;
+import com.mybatisflex.core.datasource.DataSourceInitializer;
+import com.mybatisflex.core.datasource.FlexDataSource;
+import com.mybatisflex.core.datasource.LazyDataSource;
+import com.mybatisflex.core.dialect.DbType;
+import com.mybatisflex.core.dialect.DbTypeUtil;
+import org.apache.ibatis.datasource.unpooled.UnpooledDataSource;
+import org.junit.Assert;
+import org.junit.Test;
+
+import javax.sql.DataSource;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * @author michael
+ * @since 2026-10-19
+ */
+public class LazyDataSourceTest {
+
+    @Test
+    public void testCreateOnFirstUseAndEvict() {
+        AtomicInteger created = new AtomicInteger();
+        AtomicInteger closed = new AtomicInteger();
+        LazyDataSource lazyDataSource = new LazyDataSource("tenant1", () -> {
+            created.incrementAndGet();
+            return new ClosableDataSource(closed);
+        }, "jdbc:mysql://127.0.0.1:3306/tenant1", false);
+
+        FlexDataSource flexDataSource = new FlexDataSource("master", new ClosableDataSource(closed), DbType.MYSQL, false);
+        flexDataSource.addLazyDataSource(lazyDataSource, null);
+
+        Assert.assertEquals(DbType.MYSQL, flexDataSource.getDbType("tenant1"));
+        Assert.assertFalse(lazyDataSource.isInitialized());
+        Assert.assertEquals(0, created.get());
+
+        lazyDataSource.getTargetDataSource();
+        lazyDataSource.getTargetDataSource();
+        Assert.assertEquals(1, created.get());
+
+        Assert.assertEquals(0, flexDataSource.evictIdleDataSources(60_000));
+        Assert.assertEquals(1, flexDataSource.evictIdleDataSources(0));
+        Assert.assertEquals(1, closed.get());
+        Assert.assertFalse(lazyDataSource.isInitialized());
+
+        lazyDataSource.getTargetDataSource();
+        Assert.assertEquals(2, created.get());
+    }
+
+    @Test
+    public void testNotEvictWhenConnectionBorrowed() throws Exception {
+        AtomicInteger closed = new AtomicInteger();
+        LazyDataSource lazyDataSource = new LazyDataSource("tenant1", () -> new ClosableDataSource(closed), null, false);
+
+        Connection connection = lazyDataSource.getConnection();
+        Assert.assertEquals(1, lazyDataSource.getBorrowedConnections());
+        Assert.assertFalse(lazyDataSource.evictIfIdle(0));
+
+        connection.close();
+        connection.close();
+        Assert.assertEquals(0, lazyDataSource.getBorrowedConnections());
+        Assert.assertTrue(lazyDataSource.evictIfIdle(0));
+        Assert.assertEquals(1, closed.get());
+    }
+
+    @Test
+    public void testEvictWrappedDataSource() {
+        AtomicInteger closed = new AtomicInteger();
+        ClosableDataSource pool = new ClosableDataSource(closed);
+        LazyDataSource wrapped = new LazyDataSource("tenant1", () -> new ProxyDataSource(pool), null, false);
+        wrapped.getTargetDataSource();
+        Assert.assertTrue(wrapped.evictIfIdle(0));
+        Assert.assertEquals(1, closed.get());
+
+        // 无法找到连接池时不会释放，避免连接池泄漏
+        LazyDataSource notCloseable = new LazyDataSource("tenant2", () -> new ProxyDataSource(null), null, false);
+        notCloseable.getTargetDataSource();
+        Assert.assertFalse(notCloseable.evictIfIdle(0));
+        Assert.assertTrue(notCloseable.isInitialized());
+    }
+
+    @Test
+    public void testDbTypeMustBeDeclared() {
+        FlexDataSource flexDataSource = new FlexDataSource("master", new ClosableDataSource(new AtomicInteger()), DbType.MYSQL, false);
+        Assert.assertThrows(IllegalArgumentException.class
+            , () -> flexDataSource.addLazyDataSource("tenant1", () -> null, null));
+    }
+
+    @Test
+    public void testParallelInitialize() {
+        List<String> keys = Arrays.asList("ds1", "ds2", "ds3", "ds4", "ds5");
+        Set<String> threads = ConcurrentHashMap.newKeySet();
+        Map<String, String> results = DataSourceInitializer.initialize(keys, key -> {
+            threads.add(Thread.currentThread().getName());
+            return key.toUpperCase();
+        }, 3);
+
+        Assert.assertEquals(keys, new ArrayList<>(results.keySet()));
+        Assert.assertEquals("DS3", results.get("ds3"));
+        Assert.assertFalse(threads.contains(Thread.currentThread().getName()));
+
+        Assert.assertThrows(IllegalStateException.class, () -> DataSourceInitializer.initialize(keys, key -> {
+            throw new IllegalStateException(key);
+        }, 3));
+    }
+
+    @Test
+    public void testDbTypeByUrl() {
+        UnpooledDataSource dataSource = new UnpooledDataSource();
+        dataSource.setUrl("jdbc:postgresql://127.0.0.1:5432/tenant1");
+        // 不会连接数据库
+        Assert.assertEquals(DbType.POSTGRE_SQL, DbTypeUtil.getDbTypeByUrl(dataSource));
+        Assert.assertNull(DbTypeUtil.getDbTypeByUrl(new UnpooledDataSource()));
+    }
+
+    static class ClosableDataSource extends AbstractDataSource implements AutoCloseable {
+
+        private final AtomicInteger closed;
+
+        ClosableDataSource(AtomicInteger closed) {
+            this.closed = closed;
+        }
+
+        @Override
+        public Connection getConnection() {
+            return (Connection) Proxy.newProxyInstance(getClass().getClassLoader(), new Class[]{Connection.class}
+                , (proxy, method, args) -> "isClosed".equals(method.getName()) ? false : null);
+        }
+
+        @Override
+        public Connection getConnection(String username, String password) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public void close() {
+            closed.incrementAndGet();
+        }
+
+    }
+
+    /**
+     * 模拟 Seata 的 DataSourceProxy：本身不是 AutoCloseable，通过 getTargetDataSource() 获取连接池。
+     */
+    public static class ProxyDataSource extends AbstractDataSource {
+
+        private final DataSource targetDataSource;
+
+        ProxyDataSource(DataSource targetDataSource) {
+            this.targetDataSource = targetDataSource;
+        }
+
+        public DataSource getTargetDataSource() {
+            return targetDataSource;
+        }
+
+        @Override
+        public Connection getConnection() throws SQLException {
+            return targetDataSource.getConnection();
+        }
+
+        @Override
+        public Connection getConnection(String username, String password) throws SQLException {
+            return targetDataSource.getConnection(username, password);
+        }
+
+    }
+
+}
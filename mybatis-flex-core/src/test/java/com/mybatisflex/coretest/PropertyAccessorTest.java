@@ -0,0 +1,96 @@
+/*
+ *  Copyright (c) 2022-2025, Mybatis-Flex (fuhai999@gmail.com).
+ *  <p>
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *  <p>
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *  <p>
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package com.mybatisflex.coretest;
+
+import com.mybatisflex.core.row.Row;
+import com.mybatisflex.core.table.TableInfo;
+import com.mybatisflex.core.table.TableInfoFactory;
+import com.mybatisflex.core.util.PropertyAccessor;
+import org.apache.ibatis.reflection.ReflectionException;
+import org.apache.ibatis.reflection.SystemMetaObject;
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * @author michael
+ * @since 2026-10-19
+ */
+public class PropertyAccessorTest {
+
+    static class Hidden {
+        private String name;
+
+        public String getName() {
+            return name;
+        }
+
+        public void setName(String name) {
+            this.name = name;
+        }
+    }
+
+    @Test
+    public void testGetAndSet() {
+        Account account = new Account();
+        PropertyAccessor userName = PropertyAccessor.of(Account.class, "userName");
+        userName.set(account, "michael");
+        Assert.assertEquals("michael", account.getUserName());
+        Assert.assertEquals("michael", userName.get(account));
+        Assert.assertSame(userName, PropertyAccessor.of(Account.class, "userName"));
+
+        PropertyAccessor sex = PropertyAccessor.of(Account.class, "sex");
+        sex.set(account, 1);
+        Assert.assertThrows(ReflectionException.class, () -> sex.set(account, null));
+        Assert.assertEquals(1, sex.get(account));
+        Assert.assertEquals(int.class, sex.getSetterType());
+    }
+
+    @Test
+    public void testNonPublicClass() {
+        Hidden hidden = new Hidden();
+        PropertyAccessor accessor = PropertyAccessor.of(Hidden.class, "name");
+        accessor.set(hidden, "flex");
+        Assert.assertEquals("flex", accessor.get(hidden));
+    }
+
+    @Test
+    public void testTableInfo() {
+        TableInfo tableInfo = TableInfoFactory.ofEntityClass(Account.class);
+
+        Row row = new Row();
+        row.set("id", 1L);
+        row.set("user_name", "michael");
+        row.set("age", 18);
+        Account account = tableInfo.newInstanceByRow(row, 0);
+
+        Assert.assertEquals(Long.valueOf(1L), account.getId());
+        Assert.assertEquals("michael", account.getUserName());
+        Assert.assertEquals(1L, tableInfo.getPkValue(account));
+        Assert.assertArrayEquals(new Object[]{1L}, tableInfo.buildPkSqlArgs(account));
+    }
+
+    @Test
+    @SuppressWarnings("deprecation")
+    public void testDeprecatedGetPropertyValue() {
+        TableInfo tableInfo = TableInfoFactory.ofEntityClass(Account.class);
+        Account account = new Account();
+        account.setUserName("michael");
+
+        Assert.assertEquals("michael", tableInfo.getPropertyValue(SystemMetaObject.forObject(account), "userName"));
+        Assert.assertNull(tableInfo.getPropertyValue(SystemMetaObject.forObject(account), "notExists"));
+    }
+
+}
@@ -0,0 +1,117 @@
+/*
+ *  Copyright (c) 2022-2025, Mybatis-Flex (fuhai999@gmail.com).
+ *  <p>
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *  <p>
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *  <p>
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package com.mybatisflex.coretest;
+
+import com.mybatisflex.core.exception.MybatisFlexException;
+import com.mybatisflex.core.metrics.DetectionScope;
+import com.mybatisflex.core.metrics.QueryDetector;
+import com.mybatisflex.core.metrics.QueryIssue;
+import com.mybatisflex.core.metrics.QueryIssueReporter;
+import com.mybatisflex.core.metrics.SqlFingerprint;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * @author michael
+ * @since 2026-10-19
+ */
+public class QueryDetectorTest {
+
+    private QueryIssueReporter reporter;
+
+    @Before
+    public void setUp() {
+        reporter = QueryDetector.getIssueReporter();
+        QueryDetector.setDetectorEnable(true);
+        QueryDetector.setRepeatThreshold(3);
+        QueryDetector.setIssueReporter(null);
+    }
+
+    @After
+    public void tearDown() {
+        QueryDetector.setIssueReporter(reporter);
+        QueryDetector.setDetectorEnable(false);
+        QueryDetector.setStrict(false);
+        QueryDetector.setRepeatThreshold(10);
+        QueryDetector.setSampleRate(1.0);
+    }
+
+    @Test
+    public void testFingerprint() {
+        Assert.assertEquals("SELECT * FROM tb_account WHERE id IN (?) AND name = ? AND t1.age > ?",
+            SqlFingerprint.of("SELECT *  FROM tb_account\n WHERE id IN (?, ?,?) AND name = 'it''s' AND t1.age > 18"));
+        Assert.assertEquals("INSERT INTO tb_account(id, name) VALUES (?)",
+            SqlFingerprint.of("INSERT INTO tb_account(id, name) VALUES (?, ?), (?, ?)"));
+        Assert.assertEquals(SqlFingerprint.of("SELECT * FROM tb_account WHERE id = 1"),
+            SqlFingerprint.of("SELECT * FROM tb_account WHERE id = 2.5"));
+    }
+
+    @Test
+    public void testRepeatAndSlowQuery() {
+        List<QueryIssue> issues;
+        try (DetectionScope scope = QueryDetector.open()) {
+            for (int i = 0; i < 5; i++) {
+                scope.record("AccountMapper.selectOneById", "SELECT * FROM tb_account WHERE id = ?", 1000);
+            }
+            scope.record("AccountMapper.selectListByQuery", "SELECT * FROM tb_account", TimeUnit.SECONDS.toNanos(2));
+            issues = scope.getIssues();
+            Assert.assertEquals(6, scope.getStatementCount());
+            Assert.assertSame(QueryDetector.currentScope(), scope);
+        }
+        Assert.assertNull(QueryDetector.currentScope());
+
+        Assert.assertEquals(2, issues.size());
+        QueryIssue repeat = issues.get(0);
+        Assert.assertEquals(QueryIssue.Type.N_PLUS_ONE, repeat.getType());
+        Assert.assertEquals("AccountMapper.selectOneById", repeat.getStatementId());
+        Assert.assertEquals(5, repeat.getCount());
+        Assert.assertEquals(QueryDetectorTest.class.getName(), repeat.getStackTrace()[0].getClassName());
+        Assert.assertEquals(QueryIssue.Type.SLOW_QUERY, issues.get(1).getType());
+    }
+
+    @Test
+    public void testStrictAndNested() {
+        QueryDetector.setStrict(true);
+        MybatisFlexException exception = null;
+        try (DetectionScope scope = QueryDetector.open()) {
+            try (DetectionScope nested = QueryDetector.open()) {
+                Assert.assertNotSame(scope, nested);
+                Assert.assertSame(scope, QueryDetector.currentScope());
+            }
+            for (int i = 0; i < 3; i++) {
+                QueryDetector.currentScope().record("AccountMapper.selectOneById", "SELECT * FROM tb_account WHERE id = ?", 1000);
+            }
+        } catch (MybatisFlexException e) {
+            exception = e;
+        }
+        Assert.assertNotNull("strict mode should fail on close", exception);
+        Assert.assertTrue(exception.getMessage().contains("N+1 query: AccountMapper.selectOneById executed 3 times"));
+    }
+
+    @Test
+    public void testSampling() {
+        QueryDetector.setSampleRate(0);
+        try (DetectionScope ignored = QueryDetector.open()) {
+            Assert.assertNull(QueryDetector.currentScope());
+        }
+    }
+
+}
@@ -0,0 +1,112 @@
+/*
+ *  Copyright (c) 2022-2025, Mybatis-Flex (fuhai999@gmail.com).
+ *  <p>
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *  <p>
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *  <p>
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package com.mybatisflex.coretest;
+
+import com.mybatisflex.core.dialect.DbType;
+import com.mybatisflex.core.dialect.DialectFactory;
+import com.mybatisflex.core.query.QueryWrapper;
+import com.mybatisflex.core.relation.AbstractRelation;
+import com.mybatisflex.core.relation.RelationLimitStrategy;
+import com.mybatisflex.core.relation.RelationManager;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.LinkedHashSet;
+import java.util.Set;
+
+/**
+ * @author michael
+ * @since 2026-10-19
+ */
+public class RelationLimitTest {
+
+    private AbstractRelation<?> relation;
+
+    @Before
+    public void init() {
+        relation = RelationManager.getRelations(RelationAccount.class).get(0);
+        DialectFactory.setHintDbType(DbType.MYSQL);
+    }
+
+    @After
+    public void clear() {
+        RelationManager.setLimitStrategy(null);
+        DialectFactory.clearHintDbType();
+    }
+
+    private String buildSql(Object... values) {
+        Set<Object> targetValues = new LinkedHashSet<>(Arrays.asList(values));
+        QueryWrapper queryWrapper = relation.buildQueryWrapper(targetValues);
+        return queryWrapper.toSQL();
+    }
+
+    @Test
+    public void testWindow() {
+        RelationManager.setLimitStrategy(RelationLimitStrategy.WINDOW);
+        String sql = buildSql(1L, 2L);
+        Assert.assertTrue(sql.contains("ROW_NUMBER() OVER (PARTITION BY account_id ORDER BY id desc) AS flex_relation_rn FROM"));
+        Assert.assertTrue(sql.contains("WHERE flex_relation_rn <= 2 ORDER BY flex_relation_rn ASC"));
+        Assert.assertFalse(sql.contains("LIMIT"));
+    }
+
+    @Test
+    public void testUnionAll() {
+        RelationManager.setLimitStrategy(RelationLimitStrategy.UNION_ALL);
+        String sql = buildSql(1L, 2L);
+        Assert.assertTrue(sql.contains("UNION ALL"));
+        Assert.assertEquals(2, sql.split("LIMIT 2").length - 1);
+    }
+
+    @Test
+    public void testAuto() {
+        // 无法确定 MySQL 的版本时不使用窗口函数
+        Assert.assertTrue(buildSql(1L, 2L).contains("UNION ALL"));
+        Assert.assertEquals(RelationLimitStrategy.UNION_ALL, RelationLimitStrategy.AUTO.resolve(null));
+        Assert.assertEquals(RelationLimitStrategy.UNION_ALL, RelationLimitStrategy.AUTO.resolve(DbType.MYSQL));
+        Assert.assertEquals(RelationLimitStrategy.WINDOW, RelationLimitStrategy.AUTO.resolve(DbType.POSTGRE_SQL));
+        Assert.assertEquals(RelationLimitStrategy.WINDOW, RelationLimitStrategy.AUTO.resolve(DbType.ORACLE));
+    }
+
+    @Test
+    public void testWindowFunctionVersion() {
+        Assert.assertFalse(RelationLimitStrategy.isWindowFunctionSupported("MySQL", "5.7.44-log"));
+        Assert.assertTrue(RelationLimitStrategy.isWindowFunctionSupported("MySQL", "8.0.33"));
+        Assert.assertFalse(RelationLimitStrategy.isWindowFunctionSupported("MySQL", "5.5.5-10.1.48-MariaDB"));
+        Assert.assertTrue(RelationLimitStrategy.isWindowFunctionSupported("MySQL", "5.5.5-10.6.12-MariaDB"));
+        Assert.assertTrue(RelationLimitStrategy.isWindowFunctionSupported("MariaDB", "10.2.0-MariaDB"));
+        Assert.assertFalse(RelationLimitStrategy.isWindowFunctionSupported("SQLite", "3.24.0"));
+        Assert.assertTrue(RelationLimitStrategy.isWindowFunctionSupported("SQLite", "3.41.2"));
+        Assert.assertFalse(RelationLimitStrategy.isWindowFunctionSupported("H2", "1.4.197 (2018-03-18)"));
+        Assert.assertTrue(RelationLimitStrategy.isWindowFunctionSupported("H2", "2.1.214 (2022-06-13)"));
+    }
+
+    @Test
+    public void testGlobal() {
+        RelationManager.setLimitStrategy(RelationLimitStrategy.GLOBAL);
+        String sql = buildSql(1L, 2L);
+        Assert.assertTrue(sql.endsWith("ORDER BY id desc LIMIT 2"));
+    }
+
+    @Test
+    public void testSingleParent() {
+        String sql = buildSql(1L);
+        Assert.assertTrue(sql.endsWith("WHERE `account_id` = 1 ORDER BY id desc LIMIT 2"));
+    }
+
+}
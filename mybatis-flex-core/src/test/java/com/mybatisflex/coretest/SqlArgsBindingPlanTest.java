@@ -0,0 +1,165 @@
+/*
+ *  Copyright (c) 2022-2025, Mybatis-Flex (fuhai999@gmail.com).
+ *  <p>
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *  <p>
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *  <p>
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package com.mybatisflex.coretest;
+
+import com.mybatisflex.core.mybatis.FlexConfiguration;
+import com.mybatisflex.core.mybatis.SqlArgsBindingPlan;
+import com.mybatisflex.core.mybatis.TypeHandlerObject;
+import org.apache.ibatis.type.BaseTypeHandler;
+import org.apache.ibatis.type.JdbcType;
+import org.apache.ibatis.type.TypeException;
+import org.apache.ibatis.type.TypeHandlerRegistry;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.lang.reflect.Proxy;
+import java.math.BigDecimal;
+import java.sql.CallableStatement;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * @author michael
+ * @since 2026-10-19
+ */
+public class SqlArgsBindingPlanTest {
+
+    private static PreparedStatement recordingStatement(List<String> calls) {
+        return (PreparedStatement) Proxy.newProxyInstance(SqlArgsBindingPlanTest.class.getClassLoader()
+            , new Class[]{PreparedStatement.class}
+            , (proxy, method, args) -> {
+                calls.add(method.getName() + ":" + args[0] + ":" + args[1]);
+                return null;
+            });
+    }
+
+    @Test
+    public void testBind() throws SQLException {
+        List<String> calls = new ArrayList<>();
+        PreparedStatement ps = recordingStatement(calls);
+        LocalDateTime now = LocalDateTime.of(2026, 10, 19, 0, 0);
+
+        SqlArgsBindingPlan plan = new SqlArgsBindingPlan(new TypeHandlerRegistry());
+        plan.bind(ps, new Object[]{"michael", 18, 1L, new BigDecimal("1.5"), now, null});
+        // 同一个位置的类型变化
+        plan.bind(ps, new Object[]{18, "michael"});
+
+        Assert.assertEquals("setString:1:michael", calls.get(0));
+        Assert.assertEquals("setInt:2:18", calls.get(1));
+        Assert.assertEquals("setLong:3:1", calls.get(2));
+        Assert.assertEquals("setBigDecimal:4:1.5", calls.get(3));
+        Assert.assertEquals("setObject:5:" + now, calls.get(4));
+        Assert.assertEquals("setObject:6:null", calls.get(5));
+        Assert.assertEquals("setInt:1:18", calls.get(6));
+        Assert.assertEquals("setString:2:michael", calls.get(7));
+    }
+
+    @Test
+    public void testCustomTypeHandler() throws SQLException {
+        List<String> calls = new ArrayList<>();
+        PreparedStatement ps = recordingStatement(calls);
+
+        TypeHandlerRegistry registry = new TypeHandlerRegistry();
+        registry.register(String.class, new UpperCaseTypeHandler());
+
+        SqlArgsBindingPlan plan = new SqlArgsBindingPlan(registry);
+        plan.bind(ps, new Object[]{"michael", new TypeHandlerObject(new UpperCaseTypeHandler(), "flex", null)});
+
+        Assert.assertEquals("setString:1:MICHAEL", calls.get(0));
+        Assert.assertEquals("setString:2:FLEX", calls.get(1));
+    }
+
+    @Test
+    public void testRegisterTypeHandlerAfterBind() throws SQLException {
+        List<String> calls = new ArrayList<>();
+        PreparedStatement ps = recordingStatement(calls);
+
+        FlexConfiguration configuration = new FlexConfiguration();
+        new SqlArgsBindingPlan(configuration).bind(ps, new Object[]{"michael"});
+        configuration.getTypeHandlerRegistry().register(String.class, new UpperCaseTypeHandler());
+        new SqlArgsBindingPlan(configuration).bind(ps, new Object[]{"michael"});
+
+        Assert.assertEquals("setString:1:michael", calls.get(0));
+        Assert.assertEquals("setString:1:MICHAEL", calls.get(1));
+
+        // 重新注册同一个类的处理器，已注册的处理器数量不变
+        configuration.getTypeHandlerRegistry().register(String.class, new PrefixTypeHandler("a:"));
+        new SqlArgsBindingPlan(configuration).bind(ps, new Object[]{"michael"});
+        configuration.getTypeHandlerRegistry().register(String.class, new PrefixTypeHandler("b:"));
+        new SqlArgsBindingPlan(configuration).bind(ps, new Object[]{"michael"});
+
+        Assert.assertEquals("setString:1:a:michael", calls.get(2));
+        Assert.assertEquals("setString:1:b:michael", calls.get(3));
+    }
+
+    @Test
+    public void testTypeException() {
+        PreparedStatement ps = (PreparedStatement) Proxy.newProxyInstance(SqlArgsBindingPlanTest.class.getClassLoader()
+            , new Class[]{PreparedStatement.class}
+            , (proxy, method, args) -> {
+                throw new SQLException("invalid column index");
+            });
+
+        SqlArgsBindingPlan plan = new SqlArgsBindingPlan(new TypeHandlerRegistry());
+        TypeException exception = Assert.assertThrows(TypeException.class, () -> plan.bind(ps, new Object[]{"michael", 18}));
+        Assert.assertTrue(exception.getMessage().startsWith("Error setting non null for parameter #1"));
+        Assert.assertTrue(exception.getCause() instanceof SQLException);
+    }
+
+    public static class PrefixTypeHandler extends UpperCaseTypeHandler {
+
+        private final String prefix;
+
+        public PrefixTypeHandler(String prefix) {
+            this.prefix = prefix;
+        }
+
+        @Override
+        public void setNonNullParameter(PreparedStatement ps, int i, String parameter, JdbcType jdbcType) throws SQLException {
+            ps.setString(i, prefix + parameter);
+        }
+
+    }
+
+    public static class UpperCaseTypeHandler extends BaseTypeHandler<String> {
+
+        @Override
+        public void setNonNullParameter(PreparedStatement ps, int i, String parameter, JdbcType jdbcType) throws SQLException {
+            ps.setString(i, parameter.toUpperCase());
+        }
+
+        @Override
+        public String getNullableResult(ResultSet rs, String columnName) {
+            return null;
+        }
+
+        @Override
+        public String getNullableResult(ResultSet rs, int columnIndex) {
+            return null;
+        }
+
+        @Override
+        public String getNullableResult(CallableStatement cs, int columnIndex) {
+            return null;
+        }
+
+    }
+
+}
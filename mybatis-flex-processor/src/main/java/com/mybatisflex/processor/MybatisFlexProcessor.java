@@ -18,6 +18,9 @@ package com.mybatisflex.processor;
 
 import com.mybatisflex.annotation.Column;
 import com.mybatisflex.annotation.ColumnAlias;
+import com.mybatisflex.annotation.ColumnMask;
+import com.mybatisflex.annotation.Id;
+import com.mybatisflex.annotation.KeyType;
 import com.mybatisflex.annotation.Table;
 import com.mybatisflex.processor.builder.ContentBuilder;
 import com.mybatisflex.processor.config.ConfigurationKey;
@@ -33,13 +36,22 @@ import javax.annotation.processing.ProcessingEnvironment;
 import javax.annotation.processing.RoundEnvironment;
 import javax.lang.model.SourceVersion;
 import javax.lang.model.element.*;
+import javax.lang.model.type.ArrayType;
 import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.ExecutableType;
+import javax.lang.model.type.IntersectionType;
+import javax.lang.model.type.MirroredTypeException;
+import javax.lang.model.type.PrimitiveType;
 import javax.lang.model.type.TypeKind;
 import javax.lang.model.type.TypeMirror;
+import javax.lang.model.type.TypeVariable;
 import javax.lang.model.util.Elements;
 import javax.lang.model.util.Types;
+import javax.tools.FileObject;
 import javax.tools.JavaFileObject;
+import javax.tools.StandardLocation;
 import java.io.*;
+import java.nio.charset.StandardCharsets;
 import java.math.BigDecimal;
 import java.math.BigInteger;
 import java.sql.Time;
@@ -72,6 +84,21 @@ public class MybatisFlexProcessor extends AbstractProcessor {
         char.class.getName(), String.class.getName(), Character.class.getName()
     );
 
+    private static final String TABLE_INFO_PROVIDER_CLASS = "com.mybatisflex.core.table.TableInfoProvider";
+    private static final String BASE_MAPPER_CLASS = "com.mybatisflex.core.BaseMapper";
+    private static final String MAPPER_IMPL_SUFFIX = "$$FlexImpl";
+    private static final String TABLE_INFO_PROVIDER_SERVICE = "META-INF/services/" + TABLE_INFO_PROVIDER_CLASS;
+
+    /**
+     * 已生成的 TableInfoProvider 类名，编译结束时写入 ServiceLoader 配置文件。
+     */
+    private final Set<String> tableInfoProviders = new TreeSet<>();
+
+    /**
+     * 已生成实现类的 Mapper 接口，避免在后续轮次中重复生成。
+     */
+    private final Set<String> generatedMapperImpls = new HashSet<>();
+
     private Filer filer;
     private Types typeUtils;
     private Elements elementUtils;
@@ -131,6 +158,9 @@ public class MybatisFlexProcessor extends AbstractProcessor {
             String tableDefPropertiesNameStyle = configuration.get(ConfigurationKey.TABLE_DEF_PROPERTIES_NAME_STYLE);
             String[] tableDefIgnoreEntitySuffixes = configuration.get(ConfigurationKey.TABLE_DEF_IGNORE_ENTITY_SUFFIXES).split(",");
 
+            // tableInfoProvider 配置
+            boolean tableInfoProviderGenerateEnable = "true".equalsIgnoreCase(configuration.get(ConfigurationKey.TABLE_INFO_PROVIDER_GENERATE_ENABLE));
+
             // 如果不指定 Tables 生成包，那么 Tables 文件就会和最后一个 entity 文件在同一个包
             String entityClassReference = null;
 
@@ -204,6 +234,17 @@ public class MybatisFlexProcessor extends AbstractProcessor {
                     // 生成的 Mapper 依赖于此 Element。
                     processGenClass(genPath, realMapperPackage, mapperClassName, mapperClassContent, entityClassElement);
                 }
+
+                // 是否生成 TableInfoProvider 文件
+                String providerPackage = elementUtils.getPackageOf(entityClassElement).getQualifiedName().toString();
+                if (tableInfoProviderGenerateEnable && isAccessible((TypeElement) entityClassElement, providerPackage)) {
+                    String providerClassName = buildTableInfoProviderClassName((TypeElement) entityClassElement, providerPackage);
+                    List<String> columnMetas = buildColumnMetas((TypeElement) entityClassElement, providerPackage);
+                    String providerContent = ContentBuilder.buildTableInfoProvider(providerPackage, providerClassName
+                        , ((TypeElement) entityClassElement).getQualifiedName().toString(), columnMetas);
+                    processGenClass(genPath, providerPackage, providerClassName, providerContent, entityClassElement);
+                    tableInfoProviders.add(providerPackage.isEmpty() ? providerClassName : providerPackage + "." + providerClassName);
+                }
             }
             // 确定了要生成 Tables 类，且拥有至少一个被 Table 注解的类时再生成 Tables 类。
             if (allInTablesEnable && entityClassReference != null) {
@@ -213,6 +254,19 @@ public class MybatisFlexProcessor extends AbstractProcessor {
                 String tablesContent = ContentBuilder.buildTables(importBuilder, fieldBuilder, realTablesPackage, allInTablesClassName);
                 processGenClass(genPath, realTablesPackage, realTablesClassName, tablesContent, elementsAnnotatedWith.toArray(new Element[0]));
             }
+
+            // 是否生成 Mapper 实现类
+            if (isMapperImplGenerateEnable()) {
+                TypeElement baseMapperElement = elementUtils.getTypeElement(BASE_MAPPER_CLASS);
+                if (baseMapperElement != null) {
+                    for (Element rootElement : roundEnv.getRootElements()) {
+                        generateMapperImpls(genPath, rootElement, typeUtils.erasure(baseMapperElement.asType()));
+                    }
+                }
+            }
+        } else if (!tableInfoProviders.isEmpty()) {
+            // 所有的 TableInfoProvider 都生成完成后，统一写入 ServiceLoader 配置文件
+            writeTableInfoProviderService();
         }
         return false;
     }
@@ -220,10 +274,21 @@ public class MybatisFlexProcessor extends AbstractProcessor {
     @Override
     public Set<String> getSupportedAnnotationTypes() {
         Set<String> supportedAnnotationTypes = new HashSet<>();
-        supportedAnnotationTypes.add(Table.class.getCanonicalName());
+        // Mapper 接口上不一定有注解，生成 Mapper 实现类时需要处理所有的类
+        if (isMapperImplGenerateEnable()) {
+            supportedAnnotationTypes.add("*");
+        } else {
+            supportedAnnotationTypes.add(Table.class.getCanonicalName());
+        }
         return supportedAnnotationTypes;
     }
 
+    private boolean isMapperImplGenerateEnable() {
+        return configuration != null
+            && !"false".equalsIgnoreCase(configuration.get(ConfigurationKey.ENABLE))
+            && "true".equalsIgnoreCase(configuration.get(ConfigurationKey.MAPPER_IMPL_GENERATE_ENABLE));
+    }
+
     @Override
     public SourceVersion getSupportedSourceVersion() {
         return SourceVersion.latestSupported();
@@ -321,6 +386,455 @@ public class MybatisFlexProcessor extends AbstractProcessor {
     }
 
 
+    /**
+     * 为继承 BaseMapper 的 Mapper 接口（包括内部接口）生成实现类，无法生成的接口在运行时仍然使用 JDK 动态代理。
+     */
+    private void generateMapperImpls(String genPath, Element element, TypeMirror baseMapperType) {
+        if (!(element instanceof TypeElement)) {
+            return;
+        }
+        TypeElement typeElement = (TypeElement) element;
+        for (Element enclosedElement : typeElement.getEnclosedElements()) {
+            generateMapperImpls(genPath, enclosedElement, baseMapperType);
+        }
+
+        if (typeElement.getKind() != ElementKind.INTERFACE
+            || !typeElement.getTypeParameters().isEmpty()
+            || !typeUtils.isSubtype(typeUtils.erasure(typeElement.asType()), baseMapperType)) {
+            return;
+        }
+
+        String mapperPackage = elementUtils.getPackageOf(typeElement).getQualifiedName().toString();
+        String binaryName = elementUtils.getBinaryName(typeElement).toString();
+        if (!isAccessible(typeElement, mapperPackage) || !generatedMapperImpls.add(binaryName)) {
+            return;
+        }
+
+        String mapperClass = typeElement.getQualifiedName().toString();
+        DeclaredType mapperType = (DeclaredType) typeElement.asType();
+
+        List<String> methods = new ArrayList<>();
+        List<String> methodRefs = new ArrayList<>();
+        List<String> methodBodies = new ArrayList<>();
+        Map<Integer, String> defaultInvokes = new LinkedHashMap<>();
+        Set<String> signatures = new HashSet<>();
+
+        for (Element member : elementUtils.getAllMembers(typeElement)) {
+            if (member.getKind() != ElementKind.METHOD
+                || member.getEnclosingElement().getKind() != ElementKind.INTERFACE) {
+                continue;
+            }
+            ExecutableElement method = (ExecutableElement) member;
+            Set<Modifier> modifiers = method.getModifiers();
+            if (modifiers.contains(Modifier.STATIC) || modifiers.contains(Modifier.PRIVATE) || isObjectMethod(method)) {
+                continue;
+            }
+
+            TypeElement declaringElement = (TypeElement) method.getEnclosingElement();
+            if (!isAccessible(declaringElement, mapperPackage)) {
+                // 无法在生成的类中引用该接口，使用 JDK 动态代理
+                return;
+            }
+
+            ExecutableType methodType = (ExecutableType) typeUtils.asMemberOf(mapperType, method);
+            List<? extends TypeMirror> parameterTypes = methodType.getParameterTypes();
+
+            StringBuilder methodRef = new StringBuilder("getMethod(")
+                .append(declaringElement.getQualifiedName()).append(".class, \"").append(method.getSimpleName()).append("\"");
+            StringBuilder signature = new StringBuilder(method.getSimpleName());
+            for (VariableElement parameter : method.getParameters()) {
+                String erasedType = typeUtils.erasure(parameter.asType()).toString();
+                methodRef.append(", ").append(erasedType).append(".class");
+                signature.append(",").append(erasedType);
+            }
+            methodRef.append(")");
+            if (!signatures.add(signature.toString())) {
+                continue;
+            }
+
+            int index = methodRefs.size();
+            StringBuilder declaration = new StringBuilder();
+            List<? extends TypeVariable> typeVariables = methodType.getTypeVariables();
+            if (!typeVariables.isEmpty()) {
+                StringJoiner joiner = new StringJoiner(", ", "<", "> ");
+                for (TypeVariable typeVariable : typeVariables) {
+                    joiner.add(buildTypeVariableDeclaration(typeVariable));
+                }
+                declaration.append(joiner);
+            }
+            TypeMirror returnType = methodType.getReturnType();
+            declaration.append(returnType).append(" ").append(method.getSimpleName()).append("(");
+
+            StringJoiner args = new StringJoiner(", ");
+            StringJoiner castArgs = new StringJoiner(", ");
+            for (int i = 0; i < parameterTypes.size(); i++) {
+                TypeMirror parameterType = parameterTypes.get(i);
+                if (i > 0) {
+                    declaration.append(", ");
+                }
+                if (method.isVarArgs() && i == parameterTypes.size() - 1) {
+                    declaration.append(((ArrayType) parameterType).getComponentType()).append("...");
+                } else {
+                    declaration.append(parameterType);
+                }
+                declaration.append(" arg").append(i);
+                args.add("arg" + i);
+                castArgs.add("(" + getCastType(parameterType, false) + ") args[" + i + "]");
+            }
+            declaration.append(")");
+            List<? extends TypeMirror> thrownTypes = methodType.getThrownTypes();
+            if (!thrownTypes.isEmpty()) {
+                StringJoiner joiner = new StringJoiner(", ", " throws ", "");
+                for (TypeMirror thrownType : thrownTypes) {
+                    joiner.add(thrownType.toString());
+                }
+                declaration.append(joiner);
+            }
+
+            String invoke = "invoke(" + index + ", " + (parameterTypes.isEmpty() ? "null" : "new Object[]{" + args + "}") + ");";
+            String body;
+            if (returnType.getKind() == TypeKind.VOID) {
+                body = invoke;
+            } else {
+                body = "return (" + getCastType(returnType, true) + ") " + invoke;
+            }
+
+            if (method.isDefault()) {
+                String superInvoke = mapperClass + ".super." + method.getSimpleName() + "(" + castArgs + ");\n";
+                if (returnType.getKind() == TypeKind.VOID) {
+                    defaultInvokes.put(index, "                " + superInvoke + "                return null;\n");
+                } else {
+                    defaultInvokes.put(index, "                return " + superInvoke);
+                }
+            }
+
+            methods.add(declaration.toString());
+            methodRefs.add(methodRef.toString());
+            methodBodies.add(body);
+        }
+
+        String implClassName = (mapperPackage.isEmpty() ? binaryName : binaryName.substring(mapperPackage.length() + 1)) + MAPPER_IMPL_SUFFIX;
+        String content = ContentBuilder.buildMapperImpl(mapperPackage, implClassName, mapperClass
+            , isPublic(typeElement), methods, methodRefs, methodBodies, defaultInvokes);
+        processGenClass(genPath, mapperPackage, implClassName, content, typeElement);
+    }
+
+    private boolean isObjectMethod(ExecutableElement method) {
+        String name = method.getSimpleName().toString();
+        int parameterCount = method.getParameters().size();
+        return (parameterCount == 0 && ("toString".equals(name) || "hashCode".equals(name)))
+            || (parameterCount == 1 && "equals".equals(name));
+    }
+
+    private boolean isPublic(TypeElement typeElement) {
+        Element element = typeElement;
+        while (element instanceof TypeElement) {
+            if (!element.getModifiers().contains(Modifier.PUBLIC)) {
+                return false;
+            }
+            element = element.getEnclosingElement();
+        }
+        return true;
+    }
+
+    private String buildTypeVariableDeclaration(TypeVariable typeVariable) {
+        TypeMirror upperBound = typeVariable.getUpperBound();
+        if (upperBound.getKind() == TypeKind.INTERSECTION) {
+            StringJoiner joiner = new StringJoiner(" & ", typeVariable + " extends ", "");
+            for (TypeMirror bound : ((IntersectionType) upperBound).getBounds()) {
+                joiner.add(bound.toString());
+            }
+            return joiner.toString();
+        }
+        if (Object.class.getName().equals(upperBound.toString())) {
+            return typeVariable.toString();
+        }
+        return typeVariable + " extends " + upperBound;
+    }
+
+    /**
+     * 将 Object 强制转换为指定类型时使用的类型，基本类型使用其包装类型，泛型使用其擦除后的类型。
+     *
+     * @param keepTypeVariable 方法的类型变量是否可用（在 invokeDefault 中不可用）
+     */
+    private String getCastType(TypeMirror typeMirror, boolean keepTypeVariable) {
+        if (typeMirror.getKind().isPrimitive()) {
+            return typeUtils.boxedClass((PrimitiveType) typeMirror).getQualifiedName().toString();
+        }
+        if (keepTypeVariable && typeMirror.getKind() == TypeKind.TYPEVAR) {
+            return typeMirror.toString();
+        }
+        return typeMirror.getKind() == TypeKind.DECLARED && ((DeclaredType) typeMirror).getTypeArguments().isEmpty()
+            ? typeMirror.toString() : typeUtils.erasure(typeMirror).toString();
+    }
+
+
+    /**
+     * 构建 TableInfoProvider 中每个属性对应的 ColumnMeta 创建代码，属性顺序与 TableInfoFactory 反射解析时保持一致。
+     */
+    private List<String> buildColumnMetas(TypeElement entityElement, String providerPackage) {
+        List<String> columnMetas = new ArrayList<>();
+        Set<String> existProperties = new HashSet<>();
+        DeclaredType entityType = (DeclaredType) entityElement.asType();
+        String entityClass = entityElement.getQualifiedName().toString();
+
+        TypeElement classElement = entityElement;
+        while (classElement != null && !Object.class.getName().equals(classElement.getQualifiedName().toString())) {
+            for (Element fieldElement : classElement.getEnclosedElements()) {
+                if (ElementKind.FIELD != fieldElement.getKind()) {
+                    continue;
+                }
+                Set<Modifier> modifiers = fieldElement.getModifiers();
+                if (modifiers.contains(Modifier.STATIC) || modifiers.contains(Modifier.TRANSIENT)) {
+                    continue;
+                }
+                String property = fieldElement.getSimpleName().toString();
+                if (!existProperties.add(property.toLowerCase(Locale.ROOT))) {
+                    continue;
+                }
+
+                TypeMirror fieldType = fieldElement.asType();
+                try {
+                    fieldType = typeUtils.asMemberOf(entityType, fieldElement);
+                } catch (IllegalArgumentException ignored) {
+                    // 无法解析泛型时使用字段定义的类型
+                }
+
+                StringBuilder columnMeta = new StringBuilder("ColumnMeta.of(")
+                    .append(StrUtil.toStringLiteral(property)).append(", ");
+                String propertyType = getClassLiteral(fieldType, providerPackage);
+                columnMeta.append(propertyType != null ? propertyType : "null").append(")");
+
+                if (fieldType.getKind() == TypeKind.DECLARED) {
+                    List<? extends TypeMirror> typeArguments = ((DeclaredType) fieldType).getTypeArguments();
+                    if (!typeArguments.isEmpty() && typeArguments.get(0).getKind() == TypeKind.DECLARED) {
+                        String genericType = getClassLiteral(typeArguments.get(0), providerPackage);
+                        if (genericType != null) {
+                            columnMeta.append(".genericType(").append(genericType).append(")");
+                        }
+                    }
+                }
+
+                Column column = fieldElement.getAnnotation(Column.class);
+                if (column != null) {
+                    appendIf(columnMeta, !column.value().isEmpty(), "column", StrUtil.toStringLiteral(column.value()));
+                    appendIf(columnMeta, column.ignore(), "ignore", "true");
+                    appendIf(columnMeta, !column.onInsertValue().isEmpty(), "onInsertValue", StrUtil.toStringLiteral(column.onInsertValue()));
+                    appendIf(columnMeta, !column.onUpdateValue().isEmpty(), "onUpdateValue", StrUtil.toStringLiteral(column.onUpdateValue()));
+                    appendIf(columnMeta, column.isLarge(), "large", "true");
+                    appendIf(columnMeta, column.isLogicDelete(), "logicDelete", "true");
+                    appendIf(columnMeta, column.version(), "version", "true");
+                    appendIf(columnMeta, column.tenantId(), "tenantId", "true");
+                    appendIf(columnMeta, !"UNDEFINED".equals(column.jdbcType().name()), "jdbcType"
+                        , "org.apache.ibatis.type.JdbcType." + column.jdbcType().name());
+                    // 与反射解析保持一致，有 @Column 注解时注释为空字符串而不是 null
+                    columnMeta.append(".comment(").append(StrUtil.toStringLiteral(column.comment())).append(")");
+                    String typeHandler = getTypeHandlerClassLiteral(column);
+                    appendIf(columnMeta, typeHandler != null, "typeHandler", typeHandler);
+                }
+
+                Id id = fieldElement.getAnnotation(Id.class);
+                if (id != null) {
+                    columnMeta.append(".id(").append(KeyType.class.getName()).append('.').append(id.keyType().name())
+                        .append(", ").append(StrUtil.toStringLiteral(id.value()))
+                        .append(", ").append(id.before())
+                        .append(", ").append(StrUtil.toStringLiteral(id.comment())).append(")");
+                }
+
+                String[] alias = getColumnAliasByGetterMethod(entityElement, property);
+                if (alias == null || alias.length == 0) {
+                    ColumnAlias columnAlias = fieldElement.getAnnotation(ColumnAlias.class);
+                    if (columnAlias != null) {
+                        alias = columnAlias.value();
+                    }
+                }
+                if (alias != null && alias.length > 0) {
+                    StringJoiner aliasJoiner = new StringJoiner(", ", ".alias(", ")");
+                    for (String a : alias) {
+                        aliasJoiner.add(StrUtil.toStringLiteral(a));
+                    }
+                    columnMeta.append(aliasJoiner);
+                }
+
+                ColumnMask columnMask = fieldElement.getAnnotation(ColumnMask.class);
+                if (columnMask != null) {
+                    columnMeta.append(".maskType(").append(StrUtil.toStringLiteral(columnMask.value())).append(")");
+                }
+
+                // 直接调用 getter/setter 的访问器，无法访问时运行期回退为反射
+                String entityCast = "((" + entityClass + ") e)";
+                ExecutableElement getter = findAccessor(entityElement, property, true, providerPackage);
+                if (getter != null) {
+                    columnMeta.append(".getter(e -> ").append(entityCast).append('.')
+                        .append(getter.getSimpleName()).append("())");
+                }
+                ExecutableElement setter = findAccessor(entityElement, property, false, providerPackage);
+                if (setter != null) {
+                    TypeMirror parameterType = setter.getParameters().get(0).asType();
+                    try {
+                        parameterType = ((ExecutableType) typeUtils.asMemberOf(entityType, setter)).getParameterTypes().get(0);
+                    } catch (IllegalArgumentException ignored) {
+                        // 无法解析泛型时使用方法定义的类型
+                    }
+                    String parameterClass = getTypeName(typeUtils.erasure(parameterType), providerPackage);
+                    if (parameterClass != null) {
+                        columnMeta.append(".setter((e, v) -> ").append(entityCast).append('.')
+                            .append(setter.getSimpleName()).append("((").append(parameterClass).append(") v))");
+                    }
+                }
+
+                columnMetas.add(columnMeta.toString());
+            }
+            classElement = (TypeElement) typeUtils.asElement(classElement.getSuperclass());
+        }
+        return columnMetas;
+    }
+
+
+    private static void appendIf(StringBuilder columnMeta, boolean condition, String method, String value) {
+        if (condition) {
+            columnMeta.append('.').append(method).append('(').append(value).append(')');
+        }
+    }
+
+
+    private String getTypeHandlerClassLiteral(Column column) {
+        TypeMirror typeHandler;
+        try {
+            column.typeHandler();
+            return null;
+        } catch (MirroredTypeException e) {
+            typeHandler = e.getTypeMirror();
+        }
+        String literal = getClassLiteral(typeHandler, null);
+        return literal == null || "org.apache.ibatis.type.UnknownTypeHandler.class".equals(literal) ? null : literal;
+    }
+
+
+    /**
+     * 获取类型的 class 字面量，类型无法在生成的代码中访问（例如泛型变量）时返回 {@code null}。
+     */
+    private String getClassLiteral(TypeMirror typeMirror, String providerPackage) {
+        String typeName = getTypeName(typeMirror, providerPackage);
+        return typeName != null ? typeName + ".class" : null;
+    }
+
+
+    private String getTypeName(TypeMirror typeMirror, String providerPackage) {
+        if (typeMirror.getKind().isPrimitive()) {
+            return typeUtils.getPrimitiveType(typeMirror.getKind()).toString();
+        }
+        if (typeMirror.getKind() == TypeKind.ARRAY) {
+            String componentType = getTypeName(((ArrayType) typeMirror).getComponentType(), providerPackage);
+            return componentType != null ? componentType + "[]" : null;
+        }
+        if (typeMirror.getKind() == TypeKind.DECLARED) {
+            TypeElement typeElement = (TypeElement) ((DeclaredType) typeMirror).asElement();
+            if (!isAccessible(typeElement, providerPackage)) {
+                return null;
+            }
+            return typeElement.getQualifiedName().toString();
+        }
+        return null;
+    }
+
+
+    /**
+     * 类型（包含外部类）在生成的代码中是否可以访问：非 private，且为 public 或者与生成的类同包。
+     */
+    private boolean isAccessible(TypeElement typeElement, String providerPackage) {
+        boolean samePackage = providerPackage != null
+            && providerPackage.contentEquals(elementUtils.getPackageOf(typeElement).getQualifiedName());
+        Element element = typeElement;
+        while (element instanceof TypeElement) {
+            Set<Modifier> modifiers = element.getModifiers();
+            if (modifiers.contains(Modifier.PRIVATE) || (!modifiers.contains(Modifier.PUBLIC) && !samePackage)) {
+                return false;
+            }
+            element = element.getEnclosingElement();
+        }
+        return true;
+    }
+
+
+    /**
+     * 查找属性的 getter 或者 setter 方法，生成的类与 entity 同包，因此非 private 的同包方法也可以直接调用。
+     */
+    private ExecutableElement findAccessor(TypeElement entityElement, String property, boolean getter, String providerPackage) {
+        String upperProperty = StrUtil.firstCharToUpperCase(property);
+        TypeElement classElement = entityElement;
+        while (classElement != null && !Object.class.getName().equals(classElement.getQualifiedName().toString())) {
+            for (Element enclosedElement : classElement.getEnclosedElements()) {
+                if (ElementKind.METHOD != enclosedElement.getKind()) {
+                    continue;
+                }
+                ExecutableElement method = (ExecutableElement) enclosedElement;
+                Set<Modifier> modifiers = method.getModifiers();
+                if (modifiers.contains(Modifier.STATIC) || modifiers.contains(Modifier.PRIVATE)) {
+                    continue;
+                }
+                if (!modifiers.contains(Modifier.PUBLIC)
+                    && !providerPackage.contentEquals(elementUtils.getPackageOf(method).getQualifiedName())) {
+                    continue;
+                }
+                String methodName = method.getSimpleName().toString();
+                if (getter) {
+                    if (method.getParameters().isEmpty() && method.getReturnType().getKind() != TypeKind.VOID
+                        && (methodName.equals("get" + upperProperty) || (methodName.equals("is" + upperProperty)
+                        && method.getReturnType().getKind() == TypeKind.BOOLEAN))) {
+                        return method;
+                    }
+                } else if (method.getParameters().size() == 1 && methodName.equals("set" + upperProperty)) {
+                    return method;
+                }
+            }
+            classElement = (TypeElement) typeUtils.asElement(classElement.getSuperclass());
+        }
+        return null;
+    }
+
+
+    private String buildTableInfoProviderClassName(TypeElement entityElement, String providerPackage) {
+        String binaryName = elementUtils.getBinaryName(entityElement).toString();
+        String simpleName = providerPackage.isEmpty() ? binaryName : binaryName.substring(providerPackage.length() + 1);
+        return simpleName.replace('$', '_') + "TableInfoProvider";
+    }
+
+
+    /**
+     * 写入 TableInfoProvider 的 ServiceLoader 配置文件，并合并增量编译时已经存在的内容。
+     */
+    private void writeTableInfoProviderService() {
+        Set<String> providers = new TreeSet<>(tableInfoProviders);
+        try {
+            FileObject existing = filer.getResource(StandardLocation.CLASS_OUTPUT, "", TABLE_INFO_PROVIDER_SERVICE);
+            try (BufferedReader reader = new BufferedReader(new InputStreamReader(existing.openInputStream(), StandardCharsets.UTF_8))) {
+                String line;
+                while ((line = reader.readLine()) != null) {
+                    line = line.trim();
+                    if (!line.isEmpty() && !line.startsWith("#")) {
+                        providers.add(line);
+                    }
+                }
+            }
+        } catch (IOException ignored) {
+            // 首次编译时文件不存在
+        }
+
+        try {
+            FileObject resource = filer.createResource(StandardLocation.CLASS_OUTPUT, "", TABLE_INFO_PROVIDER_SERVICE);
+            try (Writer writer = new OutputStreamWriter(resource.openOutputStream(), StandardCharsets.UTF_8)) {
+                for (String provider : providers) {
+                    writer.write(provider);
+                    writer.write("\n");
+                }
+            }
+        } catch (IOException e) {
+            e.printStackTrace();
+        }
+    }
+
+
     private String[] getColumnAliasByGetterMethod(TypeElement baseElement, String property) {
         if (baseElement == null) {
             return null;
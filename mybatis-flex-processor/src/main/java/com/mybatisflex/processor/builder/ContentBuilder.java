@@ -22,6 +22,7 @@ import com.mybatisflex.processor.util.StrUtil;
 
 import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.StringJoiner;
 
 /**
@@ -149,6 +150,91 @@ public class ContentBuilder {
         return content.toString();
     }
 
+    /**
+     * 构建 TableInfoProvider 文件内容。
+     */
+    public static String buildTableInfoProvider(String providerPackage, String providerClassName,
+                                                String entityClass, List<String> columnMetas) {
+        StringBuilder content = new StringBuilder("package ");
+        content.append(providerPackage).append(";\n\n");
+        content.append("import com.mybatisflex.core.table.ColumnMeta;\n");
+        content.append("import com.mybatisflex.core.table.TableInfoProvider;\n\n");
+        content.append("import java.util.ArrayList;\n");
+        content.append("import java.util.List;\n\n");
+        content.append("// Auto generate by mybatis-flex, do not modify it.\n");
+        content.append("@SuppressWarnings({\"rawtypes\", \"unchecked\"})\n");
+        content.append("public class ").append(providerClassName).append(" implements TableInfoProvider {\n\n");
+        content.append("    @Override\n")
+            .append("    public Class<?> getEntityClass() {\n")
+            .append("        return ").append(entityClass).append(".class;\n")
+            .append("    }\n\n");
+        content.append("    @Override\n")
+            .append("    public List<ColumnMeta> getColumnMetas() {\n")
+            .append("        List<ColumnMeta> columnMetas = new ArrayList<>(").append(columnMetas.size()).append(");\n");
+        for (String columnMeta : columnMetas) {
+            content.append("        columnMetas.add(").append(columnMeta).append(");\n");
+        }
+        content.append("        return columnMetas;\n")
+            .append("    }\n\n}\n");
+        return content.toString();
+    }
+
+    /**
+     * 构建 Mapper 实现类文件内容。
+     *
+     * @param methods        方法声明，与 {@code methodRefs} 一一对应
+     * @param methodRefs     获取 {@link java.lang.reflect.Method} 的代码
+     * @param methodBodies   方法体
+     * @param defaultInvokes 调用 default 方法的代码，key 为方法下标
+     */
+    public static String buildMapperImpl(String mapperPackage, String implClassName, String mapperClass, boolean publicClass,
+                                         List<String> methods, List<String> methodRefs, List<String> methodBodies,
+                                         Map<Integer, String> defaultInvokes) {
+        StringBuilder content = new StringBuilder();
+        if (!mapperPackage.isEmpty()) {
+            content.append("package ").append(mapperPackage).append(";\n\n");
+        }
+        content.append("// Auto generate by mybatis-flex, do not modify it.\n");
+        content.append("@SuppressWarnings({\"rawtypes\", \"unchecked\"})\n");
+        if (publicClass) {
+            content.append("public ");
+        }
+        content.append("class ").append(implClassName)
+            .append(" extends com.mybatisflex.core.mybatis.binding.AbstractFlexMapper<").append(mapperClass).append(">")
+            .append(" implements ").append(mapperClass).append(" {\n\n");
+
+        content.append("    static final java.lang.reflect.Method[] METHODS = new java.lang.reflect.Method[]{\n");
+        for (int i = 0; i < methodRefs.size(); i++) {
+            content.append("        ").append(methodRefs.get(i)).append(i < methodRefs.size() - 1 ? ",\n" : "\n");
+        }
+        content.append("    };\n\n");
+
+        content.append("    public ").append(implClassName).append("(com.mybatisflex.core.mybatis.binding.FlexMapperProxy<")
+            .append(mapperClass).append("> mapperProxy, Object[] routes) {\n")
+            .append("        super(mapperProxy, METHODS, routes);\n")
+            .append("    }\n\n");
+
+        for (int i = 0; i < methods.size(); i++) {
+            content.append("    @Override\n")
+                .append("    public ").append(methods.get(i)).append(" {\n")
+                .append("        ").append(methodBodies.get(i)).append("\n")
+                .append("    }\n\n");
+        }
+
+        content.append("    @Override\n")
+            .append("    protected Object invokeDefault(int index, Object[] args) throws Throwable {\n")
+            .append("        switch (index) {\n");
+        for (Map.Entry<Integer, String> entry : defaultInvokes.entrySet()) {
+            content.append("            case ").append(entry.getKey()).append(":\n")
+                .append(entry.getValue());
+        }
+        content.append("            default:\n")
+            .append("                throw new IllegalStateException(\"Unknown default method index: \" + index);\n")
+            .append("        }\n")
+            .append("    }\n\n}\n");
+        return content.toString();
+    }
+
     /**
      * 构建 Tables 文件内容。
      */
@@ -77,6 +77,18 @@ public enum ConfigurationKey {
     MAPPER_PACKAGE("processor.mapper.package", null),
 
 
+    /**
+     * 开启 Mapper 实现类自动生成，用于替代运行时的 JDK 动态代理。
+     */
+    MAPPER_IMPL_GENERATE_ENABLE("processor.mapperImpl.generateEnable", "false"),
+
+
+    /**
+     * 开启 TableInfoProvider 自动生成，用于跳过启动时的实体类反射解析。
+     */
+    TABLE_INFO_PROVIDER_GENERATE_ENABLE("processor.tableInfoProvider.generateEnable", "false"),
+
+
     /**
      * 自定义 Class 生成的包名。
      */
@@ -155,6 +155,39 @@ public class StrUtil {
     }
 
 
+    /**
+     * 转换为 Java 字符串字面量（包含双引号）。
+     */
+    public static String toStringLiteral(String str) {
+        if (str == null) {
+            return "null";
+        }
+        StringBuilder sb = new StringBuilder(str.length() + 2).append('"');
+        for (int i = 0; i < str.length(); i++) {
+            char c = str.charAt(i);
+            switch (c) {
+                case '"':
+                    sb.append("\\\"");
+                    break;
+                case '\\':
+                    sb.append("\\\\");
+                    break;
+                case '\n':
+                    sb.append("\\n");
+                    break;
+                case '\r':
+                    sb.append("\\r");
+                    break;
+                case '\t':
+                    sb.append("\\t");
+                    break;
+                default:
+                    sb.append(c);
+            }
+        }
+        return sb.append('"').toString();
+    }
+
     public static boolean isGetterMethod(String methodName, String property) {
         if (methodName.startsWith("get") && methodName.length() > 3) {
             return firstCharToUpperCase(property).concat("()").equals(methodName.substring(3));
@@ -1,6 +1,7 @@
 package com.mybatisflex.solon.aot;
 
 import com.mybatisflex.core.mybatis.FlexConfiguration;
+import com.mybatisflex.core.mybatis.binding.FlexMapperProxyFactory;
 import com.mybatisflex.solon.MybatisFlexProperties;
 import org.apache.ibatis.cache.decorators.FifoCache;
 import org.apache.ibatis.cache.decorators.LruCache;
@@ -122,7 +123,13 @@ public class MybatisRuntimeNativeRegistrar implements RuntimeNativeRegistrar {
         if (flexConfiguration != null) {
             //注册 mapper 代理
             for (Class<?> clz : flexConfiguration.getMapperRegistry().getMappers()) {
-                metadata.registerJdkProxy(clz);
+                // APT 生成了 Mapper 实现类时不再需要 JDK 代理
+                Class<?> generatedClass = FlexMapperProxyFactory.getGeneratedMapperClass(clz);
+                if (generatedClass != null) {
+                    metadata.registerReflection(generatedClass, MemberCategory.DECLARED_FIELDS, MemberCategory.INVOKE_DECLARED_CONSTRUCTORS);
+                } else {
+                    metadata.registerJdkProxy(clz);
+                }
                 metadata.registerReflection(clz, MemberCategory.INTROSPECT_PUBLIC_METHODS);
                 Method[] declaredMethods = clz.getDeclaredMethods();
                 for (Method method : declaredMethods) {
@@ -0,0 +1,147 @@
+/*
+ *  Copyright (c) 2022-2025, Mybatis-Flex (fuhai999@gmail.com).
+ *  <p>
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *  <p>
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *  <p>
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package com.mybatisflex.spring.boot;
+
+import com.mybatisflex.core.metrics.MetricsCollector;
+import com.mybatisflex.core.metrics.MetricsManager;
+import com.mybatisflex.core.metrics.StatementMetrics;
+import com.mybatisflex.core.util.MapUtil;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+import java.util.EnumMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 把执行指标发布到 Micrometer，引入 Actuator 后可以通过 {@code /actuator/metrics} 查看。
+ *
+ * <ul>
+ *     <li>{@code mybatis.flex.statement}：SQL 执行耗时，标签 {@code statement}、{@code datasource}、
+ *     {@code outcome}（success、error）、{@code phase}（total、build、acquire、execute、mapping）。</li>
+ *     <li>{@code mybatis.flex.relation}：关联查询耗时。</li>
+ *     <li>{@code mybatis.flex.batch}：批量刷新耗时。</li>
+ *     <li>{@code *.rows}：对应的行数分布。</li>
+ * </ul>
+ *
+ * @author michael
+ * @since 2026-10-19
+ */
+public class MicrometerMetricsCollector implements MetricsCollector {
+
+    private static final String METRIC_PREFIX = "mybatis.flex.";
+    private static final String NO_DATA_SOURCE = "none";
+    private static final String OUTCOME_SUCCESS = "success";
+    private static final String OUTCOME_ERROR = "error";
+
+    private final MeterRegistry registry;
+    private final MetricsCollector delegate;
+    private final Map<StatementMetrics.Kind, Map<String, Map<String, Meters[]>>> metersMap = new EnumMap<>(StatementMetrics.Kind.class);
+
+    /**
+     * @param registry MeterRegistry
+     * @param delegate 同时需要记录的收集器（例如默认的内存收集器），可以为 {@code null}
+     */
+    public MicrometerMetricsCollector(MeterRegistry registry, MetricsCollector delegate) {
+        this.registry = registry;
+        this.delegate = delegate;
+        for (StatementMetrics.Kind kind : StatementMetrics.Kind.values()) {
+            metersMap.put(kind, new ConcurrentHashMap<>());
+        }
+    }
+
+    public MetricsCollector getDelegate() {
+        return delegate;
+    }
+
+    @Override
+    public void record(StatementMetrics metrics) {
+        StatementMetrics.Kind kind = metrics.getKind();
+        String name = metrics.getName();
+        String dataSourceKey = metrics.getDataSourceKey() == null ? NO_DATA_SOURCE : metrics.getDataSourceKey();
+        Map<String, Meters[]> dsMeters = MapUtil.computeIfAbsent(metersMap.get(kind), name, key -> new ConcurrentHashMap<>());
+        // 下标 0 为成功，1 为失败，失败的 Meter 在第一次失败时才注册
+        Meters[] outcomes = MapUtil.computeIfAbsent(dsMeters, dataSourceKey, key -> new Meters[2]);
+        int index = metrics.isSuccess() ? 0 : 1;
+        Meters meters = outcomes[index];
+        if (meters == null) {
+            meters = new Meters(registry, kind, name, dataSourceKey, index == 0 ? OUTCOME_SUCCESS : OUTCOME_ERROR);
+            outcomes[index] = meters;
+        }
+        meters.record(metrics);
+
+        if (delegate != null) {
+            delegate.record(metrics);
+        }
+    }
+
+
+    static class Meters {
+
+        private final Timer total;
+        private final Timer build;
+        private final Timer acquire;
+        private final Timer execute;
+        private final Timer mapping;
+        private final DistributionSummary rows;
+
+        Meters(MeterRegistry registry, StatementMetrics.Kind kind, String name, String dataSourceKey, String outcome) {
+            String metricName = METRIC_PREFIX + kind.name().toLowerCase(Locale.ROOT);
+            this.total = timer(registry, metricName, name, dataSourceKey, outcome, "total");
+            if (kind == StatementMetrics.Kind.STATEMENT) {
+                this.build = timer(registry, metricName, name, dataSourceKey, outcome, "build");
+                this.acquire = timer(registry, metricName, name, dataSourceKey, outcome, "acquire");
+                this.execute = timer(registry, metricName, name, dataSourceKey, outcome, "execute");
+                this.mapping = timer(registry, metricName, name, dataSourceKey, outcome, "mapping");
+            } else {
+                this.build = null;
+                this.acquire = null;
+                this.execute = null;
+                this.mapping = null;
+            }
+            this.rows = DistributionSummary.builder(metricName + ".rows")
+                .tag("statement", name)
+                .tag("datasource", dataSourceKey)
+                .tag("outcome", outcome)
+                .register(registry);
+        }
+
+        private static Timer timer(MeterRegistry registry, String metricName, String name, String dataSourceKey, String outcome, String phase) {
+            return Timer.builder(metricName)
+                .tag("statement", name)
+                .tag("datasource", dataSourceKey)
+                .tag("outcome", outcome)
+                .tag("phase", phase)
+                .register(registry);
+        }
+
+        void record(StatementMetrics metrics) {
+            total.record(metrics.getTotalNanos(), TimeUnit.NANOSECONDS);
+            // 未按阶段计时时各阶段耗时没有意义，不记录
+            if (build != null && MetricsManager.isPhaseTimingEnable()) {
+                build.record(metrics.getBuildNanos(), TimeUnit.NANOSECONDS);
+                acquire.record(metrics.getAcquireNanos(), TimeUnit.NANOSECONDS);
+                execute.record(metrics.getExecuteNanos(), TimeUnit.NANOSECONDS);
+                mapping.record(metrics.getMappingNanos(), TimeUnit.NANOSECONDS);
+            }
+            rows.record(metrics.getRows());
+        }
+    }
+
+}
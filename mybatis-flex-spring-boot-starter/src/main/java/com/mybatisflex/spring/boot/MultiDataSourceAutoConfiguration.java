@@ -17,12 +17,16 @@ package com.mybatisflex.spring.boot;
 
 import com.mybatisflex.core.datasource.DataSourceBuilder;
 import com.mybatisflex.core.datasource.DataSourceDecipher;
+import com.mybatisflex.core.datasource.DataSourceIdleEvictor;
+import com.mybatisflex.core.datasource.DataSourceInitializer;
 import com.mybatisflex.core.datasource.DataSourceManager;
 import com.mybatisflex.core.datasource.FlexDataSource;
+import com.mybatisflex.core.datasource.LazyDataSource;
 import com.mybatisflex.core.dialect.DbType;
 import com.mybatisflex.core.dialect.DbTypeUtil;
 import com.mybatisflex.core.exception.FlexExceptions;
 import com.mybatisflex.core.util.MapUtil;
+import com.mybatisflex.spring.boot.MybatisFlexProperties.DatasourceInitConfig;
 import com.mybatisflex.spring.boot.MybatisFlexProperties.SeataConfig;
 import com.mybatisflex.spring.datasource.DataSourceAdvice;
 import io.seata.rm.datasource.DataSourceProxy;
@@ -34,6 +38,7 @@ import org.springframework.beans.factory.config.BeanDefinition;
 import org.springframework.boot.autoconfigure.AutoConfigureBefore;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.boot.autoconfigure.jdbc.DataSourceAutoConfiguration;
 import org.springframework.boot.autoconfigure.jdbc.DataSourceTransactionManagerAutoConfiguration;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
@@ -42,6 +47,9 @@ import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.Role;
 
 import javax.sql.DataSource;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 
@@ -66,6 +74,8 @@ public class MultiDataSourceAutoConfiguration {
 
     private final SeataConfig seataConfig;
 
+    private final DatasourceInitConfig datasourceInit;
+
     // 数据源解密器
     protected final DataSourceDecipher dataSourceDecipher;
 
@@ -77,6 +87,7 @@ public class MultiDataSourceAutoConfiguration {
         dataSourceDecipher = dataSourceDecipherProvider.getIfAvailable();
         seataConfig = properties.getSeataConfig();
         master = properties.getDefaultDatasourceKey();
+        datasourceInit = Optional.ofNullable(properties.getDatasourceInit()).orElseGet(DatasourceInitConfig::new);
     }
 
     @Bean
@@ -91,51 +102,105 @@ public class MultiDataSourceAutoConfiguration {
                 DataSourceManager.setDecipher(dataSourceDecipher);
             }
 
+            List<String> keys = new ArrayList<>(dataSourceProperties.keySet());
             if (master != null) {
-                Map<String, String> map = dataSourceProperties.remove(master);
-                if (map != null) {
-                    // 这里创建master时，flexDataSource一定是null
-                    flexDataSource = addDataSource(MapUtil.entry(master, map), null);
-                } else {
+                if (!keys.remove(master)) {
                     throw FlexExceptions.wrap("没有找到默认数据源 \"%s\" 对应的配置，请检查您的多数据源配置。", master);
                 }
+                keys.add(0, master);
             }
 
-            for (Map.Entry<String, Map<String, String>> entry : dataSourceProperties.entrySet()) {
-                flexDataSource = addDataSource(entry, flexDataSource);
+            // 默认数据源总是立即创建
+            String defaultKey = keys.remove(0);
+            Map.Entry<DataSource, DbType> defaultEntry = createDataSource(dataSourceProperties.get(defaultKey));
+            flexDataSource = new FlexDataSource(defaultKey, defaultEntry.getKey(), defaultEntry.getValue(), false);
+
+            if (datasourceInit.isLazy()) {
+                for (String key : keys) {
+                    Map<String, String> properties = dataSourceProperties.get(key);
+                    LazyDataSource lazyDataSource = new LazyDataSource(key, () -> createDataSource(properties).getKey(), getJdbcUrl(properties), false);
+                    flexDataSource.addLazyDataSource(lazyDataSource, getDeclaredDbType(properties));
+                }
+                if (datasourceInit.isWarmUp()) {
+                    warmUp(flexDataSource);
+                }
+            } else {
+                Map<String, Map.Entry<DataSource, DbType>> dataSources = DataSourceInitializer.initialize(keys
+                    , key -> createDataSource(dataSourceProperties.get(key)), datasourceInit.getParallelism());
+                for (Map.Entry<String, Map.Entry<DataSource, DbType>> entry : dataSources.entrySet()) {
+                    flexDataSource.addDataSource(entry.getKey(), entry.getValue().getKey(), entry.getValue().getValue(), false);
+                }
             }
         }
 
         return flexDataSource;
     }
 
-    private FlexDataSource addDataSource(Map.Entry<String, Map<String, String>> entry, FlexDataSource flexDataSource) {
-        DataSource dataSource = new DataSourceBuilder(entry.getValue()).build();
+    /**
+     * 定时关闭长时间未使用的延迟数据源的连接池。
+     */
+    @Bean
+    @ConditionalOnMissingBean
+    @ConditionalOnProperty(prefix = "mybatis-flex.datasource-init", name = "idle-timeout")
+    public DataSourceIdleEvictor dataSourceIdleEvictor(DataSource dataSource) throws SQLException {
+        if (datasourceInit.getIdleTimeout() <= 0 || !dataSource.isWrapperFor(FlexDataSource.class)) {
+            return null;
+        }
+        DataSourceIdleEvictor evictor = new DataSourceIdleEvictor(dataSource.unwrap(FlexDataSource.class)
+            , datasourceInit.getIdleTimeout(), datasourceInit.getEvictInterval());
+        evictor.start();
+        return evictor;
+    }
+
+    private Map.Entry<DataSource, DbType> createDataSource(Map<String, String> properties) {
+        DataSource dataSource = new DataSourceBuilder(properties).build();
         DataSourceManager.decryptDataSource(dataSource);
 
         // 数据库类型
-        DbType dbType = null;
+        DbType dbType = getDeclaredDbType(properties);
         if (seataConfig != null && seataConfig.isEnable()) {
             if (seataConfig.getSeataMode() == MybatisFlexProperties.SeataMode.XA) {
                 DataSourceProxyXA sourceProxyXa = new DataSourceProxyXA(dataSource);
-                dbType = DbType.findByName(sourceProxyXa.getDbType());
+                dbType = Optional.ofNullable(dbType).orElseGet(() -> DbType.findByName(sourceProxyXa.getDbType()));
                 dataSource = sourceProxyXa;
             } else {
                 DataSourceProxy dataSourceProxy = new DataSourceProxy(dataSource);
-                dbType = DbType.findByName(dataSourceProxy.getDbType());
+                dbType = Optional.ofNullable(dbType).orElseGet(() -> DbType.findByName(dataSourceProxy.getDbType()));
                 dataSource = dataSourceProxy;
             }
         }
 
+        // 只通过 URL 解析，避免获取数据库连接
+        if (dbType == null && datasourceInit.isDbTypeFromUrl()) {
+            dbType = DbTypeUtil.getDbTypeByUrl(dataSource);
+        }
+
         // 如果没有构建成功dbType，需要自解析
         final DataSource lambdaInnerDataSource = dataSource;
         dbType = Optional.ofNullable(dbType).orElseGet(() -> DbTypeUtil.getDbType(lambdaInnerDataSource));
-        if (flexDataSource == null) {
-            flexDataSource = new FlexDataSource(entry.getKey(), dataSource, dbType, false);
-        } else {
-            flexDataSource.addDataSource(entry.getKey(), dataSource, dbType, false);
+        return MapUtil.entry(dataSource, dbType);
+    }
+
+    private static DbType getDeclaredDbType(Map<String, String> properties) {
+        String dbType = properties.get("db-type");
+        return DbType.findByName(dbType != null ? dbType : properties.get("dbType"));
+    }
+
+    private static String getJdbcUrl(Map<String, String> properties) {
+        for (String name : new String[]{"url", "jdbc-url", "jdbcUrl"}) {
+            String url = properties.get(name);
+            if (url != null) {
+                return url;
+            }
         }
-        return flexDataSource;
+        return null;
+    }
+
+    private void warmUp(FlexDataSource flexDataSource) {
+        Thread thread = new Thread(() -> flexDataSource.warmUpLazyDataSources(datasourceInit.getParallelism())
+            , "flex-datasource-warm-up");
+        thread.setDaemon(true);
+        thread.start();
     }
 
 
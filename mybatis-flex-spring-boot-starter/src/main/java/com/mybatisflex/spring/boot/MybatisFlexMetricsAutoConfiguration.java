@@ -0,0 +1,79 @@
+/*
+ *  Copyright (c) 2022-2025, Mybatis-Flex (fuhai999@gmail.com).
+ *  <p>
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *  <p>
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *  <p>
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package com.mybatisflex.spring.boot;
+
+import com.mybatisflex.core.metrics.MetricsCollector;
+import com.mybatisflex.core.metrics.MetricsManager;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.AutoConfigureAfter;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * 执行指标自动配置，通过 {@code mybatis-flex.metrics.enable=true} 开启，
+ * {@code mybatis-flex.metrics.phase-timing-enable=true} 开启按阶段计时。
+ *
+ * <p>存在 {@link MetricsCollector} Bean 时使用该收集器；否则存在 Micrometer 的 {@code MeterRegistry} 时，
+ * 把指标发布到 Micrometer（同时保留默认的内存收集器）。
+ *
+ * @author michael
+ * @since 2026-10-19
+ */
+@Configuration(proxyBeanMethods = false)
+@AutoConfigureAfter(value = MybatisFlexAutoConfiguration.class
+    , name = "org.springframework.boot.actuate.autoconfigure.metrics.CompositeMeterRegistryAutoConfiguration")
+@ConditionalOnProperty(prefix = "mybatis-flex.metrics", name = "enable", havingValue = "true")
+@EnableConfigurationProperties(MybatisFlexProperties.class)
+public class MybatisFlexMetricsAutoConfiguration implements InitializingBean {
+
+    private final MybatisFlexProperties properties;
+    private final ObjectProvider<MetricsCollector> metricsCollector;
+
+    public MybatisFlexMetricsAutoConfiguration(MybatisFlexProperties properties, ObjectProvider<MetricsCollector> metricsCollector) {
+        this.properties = properties;
+        this.metricsCollector = metricsCollector;
+    }
+
+    @Override
+    public void afterPropertiesSet() {
+        metricsCollector.ifAvailable(MetricsManager::setMetricsCollector);
+        MybatisFlexProperties.MetricsConfig metricsConfig = properties.getMetrics();
+        MetricsManager.setPhaseTimingEnable(metricsConfig != null && metricsConfig.isPhaseTimingEnable());
+        MetricsManager.setMetricsEnable(true);
+    }
+
+
+    @Configuration(proxyBeanMethods = false)
+    @ConditionalOnClass(name = "io.micrometer.core.instrument.MeterRegistry")
+    @ConditionalOnBean(type = "io.micrometer.core.instrument.MeterRegistry")
+    static class MicrometerMetricsConfiguration {
+
+        @Bean
+        @ConditionalOnMissingBean(MetricsCollector.class)
+        public MicrometerMetricsCollector micrometerMetricsCollector(MeterRegistry meterRegistry) {
+            return new MicrometerMetricsCollector(meterRegistry, MetricsManager.getMetricsCollector());
+        }
+
+    }
+
+}
@@ -67,6 +67,11 @@ public class MybatisFlexProperties {
      */
     private Map<String, Map<String, String>> datasource;
 
+    /**
+     * 多数据源的初始化配置。
+     */
+    private DatasourceInitConfig datasourceInit;
+
     /**
      * 全局配置。
      */
@@ -77,6 +82,11 @@ public class MybatisFlexProperties {
      */
     private AdminConfig adminConfig;
 
+    /**
+     * 执行指标配置。
+     */
+    private MetricsConfig metrics;
+
     /**
      * Location of MyBatis xml config file.
      */
@@ -150,6 +160,14 @@ public class MybatisFlexProperties {
         this.datasource = datasource;
     }
 
+    public DatasourceInitConfig getDatasourceInit() {
+        return datasourceInit;
+    }
+
+    public void setDatasourceInit(DatasourceInitConfig datasourceInit) {
+        this.datasourceInit = datasourceInit;
+    }
+
     public GlobalConfig getGlobalConfig() {
         return globalConfig;
     }
@@ -166,6 +184,14 @@ public class MybatisFlexProperties {
         this.adminConfig = adminConfig;
     }
 
+    public MetricsConfig getMetrics() {
+        return metrics;
+    }
+
+    public void setMetrics(MetricsConfig metrics) {
+        this.metrics = metrics;
+    }
+
     public String getDefaultDatasourceKey() {
         return defaultDatasourceKey;
     }
@@ -973,6 +999,130 @@ public class MybatisFlexProperties {
 
     }
 
+    /**
+     * 执行指标配置。
+     *
+     * @author michael
+     * @since 2026-10-19
+     */
+    public static class MetricsConfig {
+
+        /**
+         * 是否开启执行指标的采集。
+         */
+        private boolean enable;
+
+        /**
+         * 是否按阶段（SQL 构建、获取连接、执行、结果映射）分别计时，开启后每条 SQL 的开销更大。
+         */
+        private boolean phaseTimingEnable;
+
+        public boolean isEnable() {
+            return enable;
+        }
+
+        public void setEnable(boolean enable) {
+            this.enable = enable;
+        }
+
+        public boolean isPhaseTimingEnable() {
+            return phaseTimingEnable;
+        }
+
+        public void setPhaseTimingEnable(boolean phaseTimingEnable) {
+            this.phaseTimingEnable = phaseTimingEnable;
+        }
+
+    }
+
+    /**
+     * 多数据源初始化配置。
+     *
+     * @author michael
+     * @since 2026-10-19
+     */
+    public static class DatasourceInitConfig {
+
+        /**
+         * 是否延迟创建除默认数据源之外的数据源，开启后连接池会在第一次使用时才创建。
+         */
+        private boolean lazy;
+
+        /**
+         * 创建（或预热）数据源的并发度，默认为 1，即串行创建。
+         */
+        private int parallelism = 1;
+
+        /**
+         * 是否只通过 JDBC URL 识别数据库类型（不获取数据库连接）。
+         */
+        private boolean dbTypeFromUrl;
+
+        /**
+         * 延迟创建时，是否在启动后于后台预热所有数据源。
+         */
+        private boolean warmUp;
+
+        /**
+         * 延迟创建的数据源空闲多久（毫秒）后关闭其连接池，小于等于 0 时不关闭。
+         */
+        private long idleTimeout;
+
+        /**
+         * 检查空闲数据源的间隔（毫秒）。
+         */
+        private long evictInterval = 60000;
+
+        public boolean isLazy() {
+            return lazy;
+        }
+
+        public void setLazy(boolean lazy) {
+            this.lazy = lazy;
+        }
+
+        public int getParallelism() {
+            return parallelism;
+        }
+
+        public void setParallelism(int parallelism) {
+            this.parallelism = parallelism;
+        }
+
+        public boolean isDbTypeFromUrl() {
+            return dbTypeFromUrl;
+        }
+
+        public void setDbTypeFromUrl(boolean dbTypeFromUrl) {
+            this.dbTypeFromUrl = dbTypeFromUrl;
+        }
+
+        public boolean isWarmUp() {
+            return warmUp;
+        }
+
+        public void setWarmUp(boolean warmUp) {
+            this.warmUp = warmUp;
+        }
+
+        public long getIdleTimeout() {
+            return idleTimeout;
+        }
+
+        public void setIdleTimeout(long idleTimeout) {
+            this.idleTimeout = idleTimeout;
+        }
+
+        public long getEvictInterval() {
+            return evictInterval;
+        }
+
+        public void setEvictInterval(long evictInterval) {
+            this.evictInterval = evictInterval;
+        }
+
+    }
+
     /**
      * Seata 配置
      *
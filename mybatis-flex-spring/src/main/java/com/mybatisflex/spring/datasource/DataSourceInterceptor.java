@@ -38,7 +38,7 @@ import java.util.concurrent.ConcurrentHashMap;
 public class DataSourceInterceptor implements MethodInterceptor {
 
     /**
-     * 缓存方法对应的数据源。
+     * 缓存方法对应的 {@link UseDataSource} 注解配置的数据源。
      */
     private final Map<Object, String> dsCache = new ConcurrentHashMap<>();
 
@@ -58,15 +58,16 @@ public class DataSourceInterceptor implements MethodInterceptor {
 
     private String getDataSourceKey(Object target, Method method, Object[] arguments) {
         Object cacheKey = new MethodClassKey(method, target.getClass());
+        // 只缓存注解上配置的原始值，动态取值（例如 SpEL 表达式）需要根据每次调用的参数处理
         String dsKey = this.dsCache.get(cacheKey);
         if (dsKey == null) {
             dsKey = determineDataSourceKey(method, target.getClass());
-            // 对数据源取值进行动态取值处理
-            if (StringUtil.hasText(dsKey)) {
-                dsKey = DataSourceKey.processDataSourceKey(dsKey, target, method, arguments);
-            }
             this.dsCache.put(cacheKey, dsKey);
         }
+        // 对数据源取值进行动态取值处理
+        if (StringUtil.hasText(dsKey)) {
+            dsKey = DataSourceKey.processDataSourceKey(dsKey, target, method, arguments);
+        }
         return dsKey;
     }
 
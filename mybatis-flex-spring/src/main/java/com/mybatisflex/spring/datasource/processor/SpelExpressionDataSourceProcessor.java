@@ -6,12 +6,19 @@ import org.springframework.context.expression.MethodBasedEvaluationContext;
 import org.springframework.core.DefaultParameterNameDiscoverer;
 import org.springframework.core.ParameterNameDiscoverer;
 import org.springframework.expression.BeanResolver;
+import org.springframework.expression.Expression;
 import org.springframework.expression.ExpressionParser;
 import org.springframework.expression.ParserContext;
+import org.springframework.expression.spel.SpelCompilerMode;
+import org.springframework.expression.spel.SpelParserConfiguration;
+import org.springframework.expression.spel.standard.SpelExpression;
 import org.springframework.expression.spel.standard.SpelExpressionParser;
 import org.springframework.expression.spel.support.StandardEvaluationContext;
 
+import java.lang.reflect.Constructor;
 import java.lang.reflect.Method;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * SpEL表达式支持处理器
@@ -25,13 +32,19 @@ public class SpelExpressionDataSourceProcessor implements DataSourceProcessor {
      */
     private static final String DYNAMIC_PREFIX = "#";
     /**
-     * 参数发现器
+     * 参数发现器，缓存每个方法的参数名称
      */
-    private static final ParameterNameDiscoverer NAME_DISCOVERER = new DefaultParameterNameDiscoverer();
+    private static final ParameterNameDiscoverer NAME_DISCOVERER = new CachingParameterNameDiscoverer(new DefaultParameterNameDiscoverer());
     /**
-     * Express语法解析器
+     * Express语法解析器，MIXED 模式下编译后的表达式执行失败时会自动回退为解释执行
      */
-    private static final ExpressionParser PARSER = new SpelExpressionParser();
+    private static final ExpressionParser PARSER = new SpelExpressionParser(
+        new SpelParserConfiguration(SpelCompilerMode.MIXED, SpelExpressionDataSourceProcessor.class.getClassLoader()));
+
+    /**
+     * 已解析的表达式缓存，key 为注解上配置的数据源表达式
+     */
+    private final Map<String, CachedExpression> expressionCache = new ConcurrentHashMap<>();
 
     private BeanResolver beanResolver;
     /**
@@ -63,10 +76,16 @@ public class SpelExpressionDataSourceProcessor implements DataSourceProcessor {
         if (!dataSourceKey.startsWith(DYNAMIC_PREFIX)) return null;
         if (arguments.length == 0) return null;
 
+        CachedExpression expression = expressionCache.get(dataSourceKey);
+        if (expression == null) {
+            expression = expressionCache.computeIfAbsent(dataSourceKey, key -> new CachedExpression(PARSER.parseExpression(key, parserContext)));
+        }
+
+        // 上下文包含本次调用的参数，每次调用都需要重新创建
         RootObject rootObject = new RootObject(method, arguments, mapper);
         StandardEvaluationContext context = new MethodBasedEvaluationContext(rootObject, method, arguments, NAME_DISCOVERER);
         context.setBeanResolver(beanResolver);
-        final Object value = PARSER.parseExpression(dataSourceKey, parserContext).getValue(context);
+        final Object value = expression.getValue(context);
         return value == null ? null : value.toString();
     }
 
@@ -77,6 +96,58 @@ public class SpelExpressionDataSourceProcessor implements DataSourceProcessor {
 
     public void setParserContext(ParserContext parserContext) {
         this.parserContext = parserContext;
+        this.expressionCache.clear();
+    }
+
+    /**
+     * 已解析的表达式，第一次执行成功后尝试编译为字节码，无法编译时保持解释执行。
+     */
+    private static class CachedExpression {
+        private final Expression expression;
+        private volatile boolean compileAttempted;
+
+        CachedExpression(Expression expression) {
+            this.expression = expression;
+        }
+
+        Object getValue(StandardEvaluationContext context) {
+            Object value = expression.getValue(context);
+            if (!compileAttempted) {
+                compileAttempted = true;
+                if (expression instanceof SpelExpression) {
+                    ((SpelExpression) expression).compileExpression();
+                }
+            }
+            return value;
+        }
+    }
+
+    /**
+     * 缓存参数名称的发现器，避免每次调用都重新解析方法参数。
+     */
+    private static class CachingParameterNameDiscoverer implements ParameterNameDiscoverer {
+        private static final String[] NONE = new String[0];
+        private final ParameterNameDiscoverer delegate;
+        private final Map<Method, String[]> methodCache = new ConcurrentHashMap<>();
+
+        CachingParameterNameDiscoverer(ParameterNameDiscoverer delegate) {
+            this.delegate = delegate;
+        }
+
+        @Override
+        public String[] getParameterNames(Method method) {
+            String[] names = methodCache.get(method);
+            if (names == null) {
+                names = delegate.getParameterNames(method);
+                methodCache.put(method, names == null ? NONE : names);
+            }
+            return names == NONE ? null : names;
+        }
+
+        @Override
+        public String[] getParameterNames(Constructor<?> ctor) {
+            return delegate.getParameterNames(ctor);
+        }
     }
 
     public static class RootObject {
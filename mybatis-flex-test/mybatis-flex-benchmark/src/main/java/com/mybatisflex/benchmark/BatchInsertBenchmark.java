@@ -0,0 +1,95 @@
+/*
+ *  Copyright (c) 2022-2025, Mybatis-Flex (fuhai999@gmail.com).
+ *  <p>
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *  <p>
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *  <p>
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package com.mybatisflex.benchmark;
+
+import com.mybatisflex.core.BaseMapper;
+import com.mybatisflex.core.row.Db;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 批量写入：多行 VALUES 的 {@code insertBatch}、通过 {@code FlexBatchExecutor} 执行的 JDBC 批处理，
+ * 以及已存在数据的批量 {@code insertOrUpdate}（upsert）。
+ *
+ * @author michael
+ * @since 2026-10-19
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class BatchInsertBenchmark {
+
+    @Param({BenchDatabase.H2, BenchDatabase.SQLITE})
+    private String database;
+
+    @Param({"1000"})
+    private int batchSize;
+
+    private BenchDatabase benchDatabase;
+    private BenchAccountMapper mapper;
+    private List<BenchAccount> existing;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        benchDatabase = BenchDatabase.start(database);
+        mapper = benchDatabase.getMapper(BenchAccountMapper.class);
+    }
+
+    @Setup(Level.Iteration)
+    public void prepareIteration() {
+        benchDatabase.clear();
+        benchDatabase.insertData(batchSize, 0);
+        existing = mapper.selectAll();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        benchDatabase.close();
+    }
+
+    @Benchmark
+    public int insertBatch() {
+        return mapper.insertBatch(BenchDatabase.newAccounts(batchSize));
+    }
+
+    @Benchmark
+    public int[] executeBatchInsert() {
+        return Db.executeBatch(BenchDatabase.newAccounts(batchSize), batchSize, BenchAccountMapper.class, BaseMapper::insert);
+    }
+
+    @Benchmark
+    public int[] executeBatchUpsert() {
+        return Db.executeBatch(existing, batchSize, BenchAccountMapper.class, BaseMapper::insertOrUpdate);
+    }
+
+}
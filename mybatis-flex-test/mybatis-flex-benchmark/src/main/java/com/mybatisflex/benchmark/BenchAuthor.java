@@ -0,0 +1,65 @@
+/*
+ *  Copyright (c) 2022-2025, Mybatis-Flex (fuhai999@gmail.com).
+ *  <p>
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *  <p>
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *  <p>
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package com.mybatisflex.benchmark;
+
+import com.mybatisflex.annotation.Id;
+import com.mybatisflex.annotation.KeyType;
+import com.mybatisflex.annotation.RelationOneToMany;
+import com.mybatisflex.annotation.Table;
+
+import java.util.List;
+
+/**
+ * 带有一对多关联的用户实体类，与 {@link BenchAccount} 使用同一张表。
+ *
+ * @author michael
+ * @since 2026-10-19
+ */
+@Table("tb_bench_account")
+public class BenchAuthor {
+
+    @Id(keyType = KeyType.Auto)
+    private Long id;
+    private String userName;
+
+    @RelationOneToMany(targetField = "accountId")
+    private List<BenchArticle> articles;
+
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public String getUserName() {
+        return userName;
+    }
+
+    public void setUserName(String userName) {
+        this.userName = userName;
+    }
+
+    public List<BenchArticle> getArticles() {
+        return articles;
+    }
+
+    public void setArticles(List<BenchArticle> articles) {
+        this.articles = articles;
+    }
+
+}
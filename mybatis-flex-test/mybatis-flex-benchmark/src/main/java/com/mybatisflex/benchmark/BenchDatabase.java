@@ -0,0 +1,201 @@
+/*
+ *  Copyright (c) 2022-2025, Mybatis-Flex (fuhai999@gmail.com).
+ *  <p>
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *  <p>
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *  <p>
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package com.mybatisflex.benchmark;
+
+import com.mybatisflex.core.MybatisFlexBootstrap;
+import com.mybatisflex.core.row.Db;
+import org.apache.ibatis.datasource.pooled.PooledDataSource;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+
+/**
+ * 性能测试使用的嵌入式数据库。
+ *
+ * <p>每个 JMH fork 是一个独立的 JVM，因此每个性能测试在 {@code @Setup} 中通过 {@link #start(String)} 创建一个新的数据库即可。
+ * 使用连接池避免把建立连接的开销计入结果。
+ *
+ * @author michael
+ * @since 2026-10-19
+ */
+public class BenchDatabase {
+
+    public static final String H2 = "h2";
+    public static final String SQLITE = "sqlite";
+
+    private final String type;
+    private final PooledDataSource dataSource;
+    private final MybatisFlexBootstrap bootstrap;
+    private final File file;
+
+    private BenchDatabase(String type, PooledDataSource dataSource, File file) {
+        this.type = type;
+        this.dataSource = dataSource;
+        this.file = file;
+        this.bootstrap = new MybatisFlexBootstrap()
+            .setDataSource(dataSource)
+            .addMapper(BenchAccountMapper.class)
+            .addMapper(BenchArticleMapper.class)
+            .addMapper(BenchAuthorMapper.class)
+            .start();
+    }
+
+    /**
+     * 创建数据库和表结构，并启动 MyBatis-Flex。
+     *
+     * @param type {@link #H2} 或者 {@link #SQLITE}
+     * @return 数据库
+     */
+    public static BenchDatabase start(String type) {
+        PooledDataSource dataSource;
+        File file = null;
+        if (H2.equals(type)) {
+            dataSource = new PooledDataSource("org.h2.Driver", "jdbc:h2:mem:bench;DB_CLOSE_DELAY=-1", "sa", "");
+        } else if (SQLITE.equals(type)) {
+            // SQLite 的内存数据库每个连接都是独立的，因此使用临时文件
+            try {
+                file = Files.createTempFile("flex-bench", ".db").toFile();
+            } catch (IOException e) {
+                throw new IllegalStateException(e);
+            }
+            dataSource = new PooledDataSource("org.sqlite.JDBC", "jdbc:sqlite:" + file.getAbsolutePath(), null, null);
+        } else {
+            throw new IllegalArgumentException("Unsupported database: " + type);
+        }
+        dataSource.setPoolMaximumActiveConnections(4);
+        createTables(type, dataSource);
+        return new BenchDatabase(type, dataSource, file);
+    }
+
+    private static void createTables(String type, PooledDataSource dataSource) {
+        String id = H2.equals(type) ? "BIGINT AUTO_INCREMENT PRIMARY KEY" : "INTEGER PRIMARY KEY AUTOINCREMENT";
+        try (Connection connection = dataSource.getConnection(); Statement statement = connection.createStatement()) {
+            statement.execute("DROP TABLE IF EXISTS tb_bench_account");
+            statement.execute("DROP TABLE IF EXISTS tb_bench_article");
+            statement.execute("DROP TABLE IF EXISTS flex_id_segment");
+            statement.execute("CREATE TABLE tb_bench_account (id " + id + ", user_name VARCHAR(100), age INTEGER"
+                + ", status INTEGER, email VARCHAR(100), birthday TIMESTAMP)");
+            statement.execute("CREATE TABLE tb_bench_article (id " + id + ", account_id BIGINT, title VARCHAR(100))");
+            statement.execute("CREATE INDEX idx_bench_article_account ON tb_bench_article (account_id)");
+            statement.execute("CREATE TABLE flex_id_segment (biz_tag VARCHAR(128) NOT NULL PRIMARY KEY, max_id BIGINT NOT NULL)");
+        } catch (SQLException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * 通过 JDBC 批量插入用户数据，每个用户关联 {@code articlesPerAccount} 篇文章。
+     *
+     * @param accounts           用户数量
+     * @param articlesPerAccount 每个用户的文章数量
+     */
+    public void insertData(int accounts, int articlesPerAccount) {
+        try (Connection connection = dataSource.getConnection()) {
+            connection.setAutoCommit(false);
+            try (PreparedStatement account = connection.prepareStatement("INSERT INTO tb_bench_account (id, user_name, age, status, email, birthday) VALUES (?, ?, ?, ?, ?, ?)");
+                 PreparedStatement article = connection.prepareStatement("INSERT INTO tb_bench_article (account_id, title) VALUES (?, ?)")) {
+                Timestamp birthday = new Timestamp(System.currentTimeMillis());
+                for (int i = 1; i <= accounts; i++) {
+                    account.setLong(1, i);
+                    account.setString(2, "user" + i);
+                    account.setInt(3, i % 100);
+                    account.setInt(4, i % 3);
+                    account.setString(5, "user" + i + "@mybatis-flex.com");
+                    account.setTimestamp(6, birthday);
+                    account.addBatch();
+                    for (int j = 0; j < articlesPerAccount; j++) {
+                        article.setLong(1, i);
+                        article.setString(2, "article" + j);
+                        article.addBatch();
+                    }
+                    if (i % 1000 == 0) {
+                        account.executeBatch();
+                        article.executeBatch();
+                    }
+                }
+                account.executeBatch();
+                article.executeBatch();
+            }
+            if (H2.equals(type)) {
+                // 显式指定了主键，H2 的自增序列不会变化
+                try (Statement statement = connection.createStatement()) {
+                    statement.execute("ALTER TABLE tb_bench_account ALTER COLUMN id RESTART WITH " + (accounts + 1));
+                }
+            }
+            connection.commit();
+        } catch (SQLException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * 清空所有数据。
+     */
+    public void clear() {
+        Db.updateBySql("DELETE FROM tb_bench_article");
+        Db.updateBySql("DELETE FROM tb_bench_account");
+    }
+
+    /**
+     * 创建不带主键的用户数据。
+     *
+     * @param count 数量
+     * @return 用户列表
+     */
+    public static List<BenchAccount> newAccounts(int count) {
+        List<BenchAccount> accounts = new ArrayList<>(count);
+        Date birthday = new Date();
+        for (int i = 0; i < count; i++) {
+            BenchAccount account = new BenchAccount();
+            account.setUserName("user" + i);
+            account.setAge(i % 100);
+            account.setStatus(i % 3);
+            account.setEmail("user" + i + "@mybatis-flex.com");
+            account.setBirthday(birthday);
+            accounts.add(account);
+        }
+        return accounts;
+    }
+
+    public <T> T getMapper(Class<T> mapperClass) {
+        return bootstrap.getMapper(mapperClass);
+    }
+
+    public PooledDataSource getDataSource() {
+        return dataSource;
+    }
+
+    public String getType() {
+        return type;
+    }
+
+    public void close() {
+        dataSource.forceCloseAll();
+        if (file != null && !file.delete()) {
+            file.deleteOnExit();
+        }
+    }
+
+}
@@ -0,0 +1,57 @@
+/*
+ *  Copyright (c) 2022-2025, Mybatis-Flex (fuhai999@gmail.com).
+ *  <p>
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *  <p>
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *  <p>
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package com.mybatisflex.benchmark;
+
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.ChainedOptionsBuilder;
+import org.openjdk.jmh.runner.options.CommandLineOptionException;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * 运行性能测试，参数与 JMH 命令行相同。
+ *
+ * <p>与直接运行 {@code benchmarks.jar} 不同，默认开启 GC 分析（{@code -prof gc}，输出每次调用的内存分配量），
+ * 并把结果以 JSON 格式写入 {@code target/jmh-result.json}，可以直接对比不同版本的结果。
+ * 通过 {@code -rf}、{@code -rff} 参数可以修改结果格式和文件。
+ *
+ * <pre>
+ * java -cp target/benchmarks.jar com.mybatisflex.benchmark.BenchmarkRunner ResultMappingBenchmark -p rowCount=1000
+ * </pre>
+ *
+ * @author michael
+ * @since 2026-10-19
+ */
+public class BenchmarkRunner {
+
+    public static void main(String[] args) throws CommandLineOptionException, RunnerException {
+        CommandLineOptions commandLineOptions = new CommandLineOptions(args);
+        ChainedOptionsBuilder builder = new OptionsBuilder()
+            .parent(commandLineOptions)
+            .addProfiler(GCProfiler.class);
+        if (!commandLineOptions.getResultFormat().hasValue()) {
+            builder.resultFormat(ResultFormatType.JSON);
+        }
+        if (!commandLineOptions.getResult().hasValue()) {
+            builder.result("target/jmh-result.json");
+        }
+        new Runner(builder.build()).run();
+    }
+
+}
@@ -0,0 +1,87 @@
+/*
+ *  Copyright (c) 2022-2025, Mybatis-Flex (fuhai999@gmail.com).
+ *  <p>
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *  <p>
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *  <p>
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package com.mybatisflex.benchmark;
+
+import com.mybatisflex.spring.datasource.processor.SpelExpressionDataSourceProcessor;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.expression.MethodBasedEvaluationContext;
+import org.springframework.core.DefaultParameterNameDiscoverer;
+import org.springframework.core.ParameterNameDiscoverer;
+import org.springframework.expression.ExpressionParser;
+import org.springframework.expression.spel.standard.SpelExpressionParser;
+
+import java.lang.reflect.Method;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 对比每次调用都解析 SpEL 表达式与缓存、编译表达式后，数据源路由的单次调用开销。
+ *
+ * <p>{@code parsePerCall} 模拟原有的实现，{@code cachedExpression} 为当前 {@link SpelExpressionDataSourceProcessor} 的实现。
+ *
+ * @author michael
+ * @since 2026-10-19
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class DataSourceRoutingBenchmark {
+
+    private static final String DATA_SOURCE_KEY = "#p0 + '_ds'";
+
+    private final ExpressionParser parser = new SpelExpressionParser();
+    private final ParameterNameDiscoverer nameDiscoverer = new DefaultParameterNameDiscoverer();
+
+    private SpelExpressionDataSourceProcessor processor;
+    private Method method;
+    private Object[] arguments;
+
+    public String selectByTenant(String tenant) {
+        return tenant;
+    }
+
+    @Setup(Level.Trial)
+    public void setup() throws NoSuchMethodException {
+        processor = new SpelExpressionDataSourceProcessor();
+        method = DataSourceRoutingBenchmark.class.getMethod("selectByTenant", String.class);
+        arguments = new Object[]{"tenant1"};
+    }
+
+    @Benchmark
+    public Object parsePerCall() {
+        SpelExpressionDataSourceProcessor.RootObject rootObject = new SpelExpressionDataSourceProcessor.RootObject(method, arguments, this);
+        MethodBasedEvaluationContext context = new MethodBasedEvaluationContext(rootObject, method, arguments, nameDiscoverer);
+        return parser.parseExpression(DATA_SOURCE_KEY).getValue(context);
+    }
+
+    @Benchmark
+    public Object cachedExpression() {
+        return processor.process(DATA_SOURCE_KEY, this, method, arguments);
+    }
+
+}
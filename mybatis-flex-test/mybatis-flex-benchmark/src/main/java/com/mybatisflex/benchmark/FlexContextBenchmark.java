@@ -0,0 +1,72 @@
+/*
+ *  Copyright (c) 2022-2025, Mybatis-Flex (fuhai999@gmail.com).
+ *  <p>
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *  <p>
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *  <p>
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package com.mybatisflex.benchmark;
+
+import com.mybatisflex.core.context.FlexContext;
+import com.mybatisflex.core.datasource.DataSourceKey;
+import com.mybatisflex.core.dialect.DialectFactory;
+import com.mybatisflex.core.logicdelete.LogicDeleteManager;
+import com.mybatisflex.core.mask.MaskManager;
+import com.mybatisflex.core.optimisticlock.OptimisticLockManager;
+import com.mybatisflex.core.tenant.TenantManager;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 执行上下文：一次 Mapper 调用中切换数据源以及读取租户、逻辑删除、乐观锁、数据脱敏、方言等线程级别配置的开销。
+ *
+ * @author michael
+ * @since 2026-10-19
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class FlexContextBenchmark {
+
+    @Benchmark
+    public void mapperCall(Blackhole blackhole) {
+        DataSourceKey.use("ds1");
+        try {
+            blackhole.consume(DataSourceKey.get());
+            blackhole.consume(TenantManager.isIgnoreTenantCondition());
+            blackhole.consume(LogicDeleteManager.getLogicDeleteColumn("is_deleted"));
+            blackhole.consume(OptimisticLockManager.getOptimisticLockColumn("version"));
+            blackhole.consume(MaskManager.isSkipMask());
+            blackhole.consume(DialectFactory.getHintDbType());
+        } finally {
+            DataSourceKey.clear();
+        }
+    }
+
+    @Benchmark
+    public Object captureAndRun() {
+        return FlexContext.capture().callWith(DataSourceKey::get);
+    }
+
+}
@@ -0,0 +1,93 @@
+/*
+ *  Copyright (c) 2022-2025, Mybatis-Flex (fuhai999@gmail.com).
+ *  <p>
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *  <p>
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *  <p>
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package com.mybatisflex.benchmark;
+
+import com.mybatisflex.core.keygen.impl.FlexIDKeyGenerator;
+import com.mybatisflex.core.keygen.impl.SegmentKeyGenerator;
+import com.mybatisflex.core.keygen.impl.SnowFlakeIDKeyGenerator;
+import com.mybatisflex.core.keygen.impl.UUIDKeyGenerator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 主键生成器的单次调用开销，号段模式使用 H2 保存号段。
+ *
+ * <p>雪花算法每毫秒最多生成 4096 个 ID，在多线程压测时的结果参考 {@link SnowFlakeBenchmark}。
+ *
+ * @author michael
+ * @since 2026-10-19
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class KeyGeneratorBenchmark {
+
+    private BenchDatabase benchDatabase;
+    private UUIDKeyGenerator uuid;
+    private FlexIDKeyGenerator flexId;
+    private SnowFlakeIDKeyGenerator snowFlake;
+    private SegmentKeyGenerator segment;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        benchDatabase = BenchDatabase.start(BenchDatabase.H2);
+        uuid = new UUIDKeyGenerator();
+        flexId = new FlexIDKeyGenerator();
+        snowFlake = new SnowFlakeIDKeyGenerator(1, 1);
+        segment = new SegmentKeyGenerator(benchDatabase.getDataSource(), "bench");
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        benchDatabase.close();
+    }
+
+    @Benchmark
+    public Object uuid() {
+        return uuid.generate(null, "id");
+    }
+
+    @Benchmark
+    public Object flexId() {
+        return flexId.generate(null, "id");
+    }
+
+    @Benchmark
+    public long snowFlake() {
+        return snowFlake.nextId();
+    }
+
+    @Benchmark
+    public long segment() {
+        return segment.nextId("bench");
+    }
+
+}
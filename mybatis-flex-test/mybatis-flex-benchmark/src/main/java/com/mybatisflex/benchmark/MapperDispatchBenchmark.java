@@ -0,0 +1,89 @@
+/*
+ *  Copyright (c) 2022-2025, Mybatis-Flex (fuhai999@gmail.com).
+ *  <p>
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *  <p>
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *  <p>
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package com.mybatisflex.benchmark;
+
+import com.mybatisflex.core.FlexGlobalConfig;
+import com.mybatisflex.core.mybatis.FlexConfiguration;
+import com.mybatisflex.core.mybatis.binding.FlexMapperProxy;
+import org.apache.ibatis.session.SqlSession;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.lang.reflect.Proxy;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Mapper 方法的调用开销：对比 JDK 动态代理与 APT 生成的 Mapper 实现类。
+ *
+ * <p>同一个 SqlSession 内重复查询同一条数据会命中一级缓存，因此结果主要体现 Mapper 分发以及 SQL 构建的开销。
+ *
+ * @author michael
+ * @since 2026-10-19
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class MapperDispatchBenchmark {
+
+    @Param({"proxy", "generated"})
+    private String mapperType;
+
+    private BenchDatabase benchDatabase;
+    private SqlSession sqlSession;
+    private BenchAccountMapper mapper;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        benchDatabase = BenchDatabase.start(BenchDatabase.H2);
+        benchDatabase.insertData(10, 0);
+        sqlSession = FlexGlobalConfig.getDefaultConfig().getSqlSessionFactory().openSession(true);
+        if ("proxy".equals(mapperType)) {
+            FlexMapperProxy<BenchAccountMapper> mapperProxy = new FlexMapperProxy<>(sqlSession, BenchAccountMapper.class
+                , new ConcurrentHashMap<>(), (FlexConfiguration) sqlSession.getConfiguration());
+            mapper = (BenchAccountMapper) Proxy.newProxyInstance(BenchAccountMapper.class.getClassLoader()
+                , new Class[]{BenchAccountMapper.class}, mapperProxy);
+        } else {
+            mapper = sqlSession.getMapper(BenchAccountMapper.class);
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        sqlSession.close();
+        benchDatabase.close();
+    }
+
+    @Benchmark
+    public BenchAccount selectOneById() {
+        return mapper.selectOneById(1L);
+    }
+
+}
@@ -0,0 +1,117 @@
+/*
+ *  Copyright (c) 2022-2025, Mybatis-Flex (fuhai999@gmail.com).
+ *  <p>
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *  <p>
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *  <p>
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package com.mybatisflex.benchmark;
+
+import com.mybatisflex.core.datasource.DataSourceKey;
+import com.mybatisflex.core.metrics.DefaultMetricsCollector;
+import com.mybatisflex.core.metrics.MetricsManager;
+import com.mybatisflex.core.query.QueryColumn;
+import com.mybatisflex.core.query.QueryWrapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 执行指标的开销：{@code hooks} 为一条 SQL 所经过的全部埋点（不包含 SQL 执行本身，按阶段计时时埋点更多），
+ * {@code selectById} 对比开启和关闭指标时的主键查询。
+ *
+ * @author michael
+ * @since 2026-10-19
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class MetricsBenchmark {
+
+    private static final String STATEMENT_ID = "com.mybatisflex.benchmark.BenchAccountMapper.selectListByQuery";
+
+    @Param({"false", "true"})
+    private boolean metricsEnable;
+
+    @Param({"false", "true"})
+    private boolean phaseTimingEnable;
+
+    private BenchDatabase benchDatabase;
+    private BenchAccountMapper accountMapper;
+    private QueryWrapper queryWrapper;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        benchDatabase = BenchDatabase.start(BenchDatabase.H2);
+        benchDatabase.insertData(100, 0);
+        accountMapper = benchDatabase.getMapper(BenchAccountMapper.class);
+        queryWrapper = QueryWrapper.create().where(new QueryColumn("id").eq(1));
+        MetricsManager.setMetricsCollector(new DefaultMetricsCollector());
+        MetricsManager.setMetricsEnable(metricsEnable);
+        MetricsManager.setPhaseTimingEnable(phaseTimingEnable);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        MetricsManager.setMetricsEnable(false);
+        MetricsManager.setPhaseTimingEnable(false);
+        DataSourceKey.clear();
+        benchDatabase.close();
+    }
+
+    @Benchmark
+    public boolean hooks() {
+        if (!MetricsManager.isMetricsEnable()) {
+            return false;
+        }
+        if (DataSourceKey.get() == null) {
+            DataSourceKey.use("bench");
+        }
+        boolean phaseTiming = MetricsManager.isPhaseTimingEnable();
+        if (phaseTiming) {
+            MetricsManager.enterInvoke();
+        }
+        MetricsManager.statementCreated();
+        if (phaseTiming) {
+            MetricsManager.connectionAcquired(10);
+        }
+        boolean outermost = MetricsManager.beginStatement();
+        MetricsManager.mappingStarted();
+        MetricsManager.resultsMapped(1);
+        MetricsManager.endStatement(outermost, STATEMENT_ID, -1, true);
+        if (phaseTiming) {
+            MetricsManager.exitInvoke();
+        }
+        return outermost;
+    }
+
+    @Benchmark
+    public List<BenchAccount> selectById() {
+        return accountMapper.selectListByQuery(queryWrapper);
+    }
+
+}
@@ -0,0 +1,95 @@
+/*
+ *  Copyright (c) 2022-2025, Mybatis-Flex (fuhai999@gmail.com).
+ *  <p>
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *  <p>
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *  <p>
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package com.mybatisflex.benchmark;
+
+import com.mybatisflex.core.paginate.Page;
+import com.mybatisflex.core.query.QueryColumn;
+import com.mybatisflex.core.query.QueryTable;
+import com.mybatisflex.core.query.QueryWrapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 分页查询：对比开启和关闭 count 查询优化（去除 left join、order by）时的总耗时。
+ *
+ * @author michael
+ * @since 2026-10-19
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class PaginateBenchmark {
+
+    private static final QueryTable ACCOUNT = new QueryTable("tb_bench_account");
+    private static final QueryTable ARTICLE = new QueryTable("tb_bench_article");
+
+    @Param({BenchDatabase.H2, BenchDatabase.SQLITE})
+    private String database;
+
+    private BenchDatabase benchDatabase;
+    private BenchAccountMapper mapper;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        benchDatabase = BenchDatabase.start(database);
+        benchDatabase.insertData(10_000, 3);
+        mapper = benchDatabase.getMapper(BenchAccountMapper.class);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        benchDatabase.close();
+    }
+
+    private QueryWrapper query() {
+        QueryColumn accountId = new QueryColumn(ACCOUNT, "id");
+        return QueryWrapper.create()
+            .select(new QueryColumn(ACCOUNT, "*"))
+            .from(ACCOUNT)
+            .leftJoin(ARTICLE).on(new QueryColumn(ARTICLE, "account_id").eq(accountId).and(new QueryColumn(ARTICLE, "title").eq("none")))
+            .where(new QueryColumn(ACCOUNT, "age").ge(18))
+            .orderBy(accountId.desc());
+    }
+
+    @Benchmark
+    public Page<BenchAccount> optimizedCount() {
+        return mapper.paginate(new Page<>(10, 20), query());
+    }
+
+    @Benchmark
+    public Page<BenchAccount> rawCount() {
+        Page<BenchAccount> page = new Page<>(10, 20);
+        page.setOptimizeCountQuery(false);
+        return mapper.paginate(page, query());
+    }
+
+}
@@ -0,0 +1,157 @@
+/*
+ *  Copyright (c) 2022-2025, Mybatis-Flex (fuhai999@gmail.com).
+ *  <p>
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *  <p>
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *  <p>
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package com.mybatisflex.benchmark;
+
+import com.mybatisflex.core.row.Row;
+import com.mybatisflex.core.row.RowUtil;
+import com.mybatisflex.core.table.ColumnInfo;
+import com.mybatisflex.core.table.EntityMetaObject;
+import com.mybatisflex.core.table.TableInfo;
+import com.mybatisflex.core.table.TableInfoFactory;
+import com.mybatisflex.core.util.PropertyAccessor;
+import org.apache.ibatis.reflection.DefaultReflectorFactory;
+import org.apache.ibatis.reflection.MetaObject;
+import org.apache.ibatis.reflection.ReflectorFactory;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 对比 {@link MetaObject} 与 {@link PropertyAccessor} 在 insert 参数构建和实体转换上的吞吐量。
+ *
+ * <p>以 {@code metaObject} 开头的方法模拟原有的 {@code EntityMetaObject} 访问方式，其余方法为当前实现。
+ *
+ * @author michael
+ * @since 2026-10-19
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class PropertyAccessBenchmark {
+
+    @Param({"100000"})
+    private int rowCount;
+
+    private final ReflectorFactory reflectorFactory = new DefaultReflectorFactory();
+
+    private TableInfo tableInfo;
+    private List<ColumnInfo> columnInfos;
+    private PropertyAccessor[] accessors;
+    private BenchAccount account;
+    private List<Row> rows;
+    private Object[][] values;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        tableInfo = TableInfoFactory.ofEntityClass(BenchAccount.class);
+        columnInfos = tableInfo.getColumnInfoList();
+        accessors = new PropertyAccessor[columnInfos.size()];
+        for (int i = 0; i < accessors.length; i++) {
+            accessors[i] = PropertyAccessor.of(BenchAccount.class, columnInfos.get(i).getProperty());
+        }
+
+        account = newAccount(1);
+
+        rows = new ArrayList<>(rowCount);
+        values = new Object[rowCount][];
+        for (int i = 0; i < rowCount; i++) {
+            BenchAccount entity = newAccount(i);
+            Row row = new Row();
+            Object[] rowValues = new Object[columnInfos.size()];
+            for (int j = 0; j < rowValues.length; j++) {
+                ColumnInfo columnInfo = columnInfos.get(j);
+                rowValues[j] = accessors[j].get(entity);
+                row.put(columnInfo.getColumn(), rowValues[j]);
+            }
+            rows.add(row);
+            values[i] = rowValues;
+        }
+    }
+
+    private static BenchAccount newAccount(int i) {
+        BenchAccount account = new BenchAccount();
+        account.setId((long) i);
+        account.setUserName("user" + i);
+        account.setAge(i % 100);
+        account.setStatus(i % 3);
+        account.setEmail("user" + i + "@mybatis-flex.com");
+        account.setBirthday(new Date());
+        return account;
+    }
+
+
+    @Benchmark
+    public Object[] metaObjectInsertArgs() {
+        MetaObject metaObject = EntityMetaObject.forObject(account, reflectorFactory);
+        Object[] args = new Object[columnInfos.size()];
+        for (int i = 0; i < args.length; i++) {
+            args[i] = metaObject.getValue(columnInfos.get(i).getProperty());
+        }
+        return args;
+    }
+
+    @Benchmark
+    public Object[] insertArgs() {
+        return tableInfo.buildInsertSqlArgsWithPk(account, false);
+    }
+
+    @Benchmark
+    public void metaObjectMaterialize(Blackhole blackhole) {
+        for (Object[] rowValues : values) {
+            BenchAccount entity = new BenchAccount();
+            MetaObject metaObject = EntityMetaObject.forObject(entity, reflectorFactory);
+            for (int i = 0; i < rowValues.length; i++) {
+                metaObject.setValue(columnInfos.get(i).getProperty(), rowValues[i]);
+            }
+            blackhole.consume(entity);
+        }
+    }
+
+    @Benchmark
+    public void accessorMaterialize(Blackhole blackhole) {
+        for (Object[] rowValues : values) {
+            BenchAccount entity = new BenchAccount();
+            for (int i = 0; i < rowValues.length; i++) {
+                accessors[i].set(entity, rowValues[i]);
+            }
+            blackhole.consume(entity);
+        }
+    }
+
+    @Benchmark
+    public List<BenchAccount> rowToEntityList() {
+        return RowUtil.toEntityList(rows, BenchAccount.class);
+    }
+
+}
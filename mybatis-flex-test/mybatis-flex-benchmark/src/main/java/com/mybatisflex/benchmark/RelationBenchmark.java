@@ -0,0 +1,88 @@
+/*
+ *  Copyright (c) 2022-2025, Mybatis-Flex (fuhai999@gmail.com).
+ *  <p>
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *  <p>
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *  <p>
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package com.mybatisflex.benchmark;
+
+import com.mybatisflex.core.query.QueryWrapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 一对多关联查询：查询 {@code parentCount} 个用户，每个用户关联 {@code fanOut} 篇文章；分别通过 Relations 注解查询以及
+ * join 查询（嵌套结果映射）。
+ *
+ * @author michael
+ * @since 2026-10-19
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class RelationBenchmark {
+
+    @Param({BenchDatabase.H2})
+    private String database;
+
+    @Param({"1000"})
+    private int parentCount;
+
+    @Param({"1", "10", "100"})
+    private int fanOut;
+
+    private BenchDatabase benchDatabase;
+    private BenchAuthorMapper mapper;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        benchDatabase = BenchDatabase.start(database);
+        benchDatabase.insertData(parentCount, fanOut);
+        mapper = benchDatabase.getMapper(BenchAuthorMapper.class);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        benchDatabase.close();
+    }
+
+    @Benchmark
+    public List<BenchAuthor> selectWithRelations() {
+        return mapper.selectListWithRelationsByQuery(QueryWrapper.create());
+    }
+
+    @Benchmark
+    public List<BenchAuthor> selectWithJoin() {
+        return mapper.selectListByQuery(QueryWrapper.create()
+            .select("tb_bench_account.id", "tb_bench_account.user_name", "tb_bench_article.account_id", "tb_bench_article.title")
+            .from("tb_bench_account")
+            .leftJoin("tb_bench_article").on("tb_bench_account.id = tb_bench_article.account_id"));
+    }
+
+}
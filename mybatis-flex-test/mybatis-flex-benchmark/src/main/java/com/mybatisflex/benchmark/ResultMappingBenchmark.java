@@ -0,0 +1,92 @@
+/*
+ *  Copyright (c) 2022-2025, Mybatis-Flex (fuhai999@gmail.com).
+ *  <p>
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *  <p>
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *  <p>
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package com.mybatisflex.benchmark;
+
+import com.mybatisflex.core.FlexGlobalConfig;
+import com.mybatisflex.core.query.QueryWrapper;
+import com.mybatisflex.core.row.Db;
+import com.mybatisflex.core.row.Row;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 查询结果映射：把 {@code rowCount} 行数据映射为实体类或者 {@link Row}。
+ *
+ * <p>{@link Row} 转换为实体类的开销参考 {@link PropertyAccessBenchmark}；{@code flatResultMapping} 对比扁平结果映射与
+ * MetaObject 逐行映射。
+ *
+ * @author michael
+ * @since 2026-10-19
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ResultMappingBenchmark {
+
+    @Param({BenchDatabase.H2, BenchDatabase.SQLITE})
+    private String database;
+
+    @Param({"1000", "100000"})
+    private int rowCount;
+
+    @Param({"true", "false"})
+    private boolean flatResultMapping;
+
+    private BenchDatabase benchDatabase;
+    private BenchAccountMapper mapper;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        FlexGlobalConfig.getDefaultConfig().setFlatResultMappingEnable(flatResultMapping);
+        benchDatabase = BenchDatabase.start(database);
+        benchDatabase.insertData(rowCount, 0);
+        mapper = benchDatabase.getMapper(BenchAccountMapper.class);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        benchDatabase.close();
+        FlexGlobalConfig.getDefaultConfig().setFlatResultMappingEnable(true);
+    }
+
+    @Benchmark
+    public List<BenchAccount> selectEntities() {
+        return mapper.selectListByQuery(QueryWrapper.create());
+    }
+
+    @Benchmark
+    public List<Row> selectRows() {
+        return Db.selectAll("tb_bench_account");
+    }
+
+}
@@ -0,0 +1,107 @@
+/*
+ *  Copyright (c) 2022-2025, Mybatis-Flex (fuhai999@gmail.com).
+ *  <p>
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *  <p>
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *  <p>
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package com.mybatisflex.benchmark;
+
+import com.mybatisflex.core.keygen.impl.SnowFlakeIDKeyGenerator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 对比 synchronized 实现与 CAS 实现的雪花算法 ID 生成器的吞吐量。
+ *
+ * <p>{@code synchronizedNextId} 为原有的实现，{@code casNextId} 为当前 {@link SnowFlakeIDKeyGenerator} 的实现，
+ * {@code casNextIds} 为批量预留 ID 的方式。多线程的对比可以通过 {@code -t 1}、{@code -t 8}、{@code -t 64} 运行。
+ *
+ * @author michael
+ * @since 2026-10-19
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class SnowFlakeBenchmark {
+
+    private static final int BLOCK_SIZE = 100;
+
+    private final SynchronizedSnowFlake synchronizedGenerator = new SynchronizedSnowFlake(1, 1);
+    private final SnowFlakeIDKeyGenerator casGenerator = new SnowFlakeIDKeyGenerator(1, 1);
+
+    @Benchmark
+    public long synchronizedNextId() {
+        return synchronizedGenerator.nextId();
+    }
+
+    @Benchmark
+    public long casNextId() {
+        return casGenerator.nextId();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BLOCK_SIZE)
+    public long[] casNextIds() {
+        return casGenerator.nextIds(BLOCK_SIZE);
+    }
+
+
+    /**
+     * 原有的 synchronized 实现，同一毫秒的序列号用完时自旋等待下一毫秒。
+     */
+    static class SynchronizedSnowFlake {
+
+        private static final long TWEPOCH = 1680411660000L;
+        private static final long SEQUENCE_MASK = ~(-1L << 12);
+
+        private final long nodeBits;
+        private long sequence;
+        private long lastTimeMillis = -1L;
+
+        SynchronizedSnowFlake(long workerId, long dataCenterId) {
+            this.nodeBits = (dataCenterId << 17) | (workerId << 12);
+        }
+
+        synchronized long nextId() {
+            long currentTimeMillis = System.currentTimeMillis();
+            if (currentTimeMillis < lastTimeMillis) {
+                throw new IllegalStateException("Clock moved backwards");
+            }
+            if (currentTimeMillis == lastTimeMillis) {
+                sequence = (sequence + 1) & SEQUENCE_MASK;
+                if (sequence == 0) {
+                    while (currentTimeMillis <= lastTimeMillis) {
+                        currentTimeMillis = System.currentTimeMillis();
+                    }
+                }
+            } else {
+                sequence = 0L;
+            }
+            lastTimeMillis = currentTimeMillis;
+            return ((currentTimeMillis - TWEPOCH) << 22) | nodeBits | sequence;
+        }
+    }
+
+}
@@ -0,0 +1,130 @@
+/*
+ *  Copyright (c) 2022-2025, Mybatis-Flex (fuhai999@gmail.com).
+ *  <p>
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *  <p>
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *  <p>
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package com.mybatisflex.benchmark;
+
+import com.mybatisflex.core.dialect.DbType;
+import com.mybatisflex.core.dialect.DialectFactory;
+import com.mybatisflex.core.dialect.IDialect;
+import com.mybatisflex.core.query.QueryColumn;
+import com.mybatisflex.core.query.QueryTable;
+import com.mybatisflex.core.query.QueryWrapper;
+import com.mybatisflex.core.table.TableInfo;
+import com.mybatisflex.core.table.TableInfoFactory;
+import com.mybatisflex.core.util.MapperUtil;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Arrays;
+import java.util.Date;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * SQL 构建的单次调用开销：QueryWrapper 渲染、分页 count 优化以及 insert 参数构建，不访问数据库。
+ *
+ * @author michael
+ * @since 2026-10-19
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class SqlBuildBenchmark {
+
+    private static final QueryTable ACCOUNT = new QueryTable("tb_bench_account").as("a");
+    private static final QueryTable ARTICLE = new QueryTable("tb_bench_article").as("b");
+    private static final QueryColumn ACCOUNT_ID = new QueryColumn(ACCOUNT, "id");
+    private static final QueryColumn USER_NAME = new QueryColumn(ACCOUNT, "user_name");
+    private static final QueryColumn AGE = new QueryColumn(ACCOUNT, "age");
+    private static final QueryColumn STATUS = new QueryColumn(ACCOUNT, "status");
+    private static final QueryColumn ARTICLE_ACCOUNT_ID = new QueryColumn(ARTICLE, "account_id");
+    private static final QueryColumn TITLE = new QueryColumn(ARTICLE, "title");
+
+    private IDialect dialect;
+    private TableInfo tableInfo;
+    private BenchAccount account;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        DialectFactory.setHintDbType(DbType.MYSQL);
+        dialect = DialectFactory.getDialect();
+        tableInfo = TableInfoFactory.ofEntityClass(BenchAccount.class);
+        account = BenchDatabase.newAccounts(1).get(0);
+        account.setBirthday(new Date());
+    }
+
+    private QueryWrapper simpleQuery() {
+        return QueryWrapper.create()
+            .select(ACCOUNT_ID, USER_NAME, AGE)
+            .from(ACCOUNT)
+            .where(AGE.ge(18))
+            .and(USER_NAME.like("michael"))
+            .and(STATUS.in(Arrays.asList(1, 2, 3)))
+            .orderBy(ACCOUNT_ID.desc())
+            .limit(10);
+    }
+
+    private QueryWrapper joinQuery() {
+        return QueryWrapper.create()
+            .select(ACCOUNT_ID, USER_NAME, TITLE)
+            .from(ACCOUNT)
+            .leftJoin(ARTICLE).on(ARTICLE_ACCOUNT_ID.eq(ACCOUNT_ID))
+            .where(AGE.between(18, 30))
+            .and(TITLE.likeLeft("flex").or(STATUS.eq(1)))
+            .orderBy(ACCOUNT_ID.desc());
+    }
+
+    @Benchmark
+    public String simpleSelect() {
+        return dialect.buildSelectSql(simpleQuery());
+    }
+
+    @Benchmark
+    public String joinSelect() {
+        return dialect.buildSelectSql(joinQuery());
+    }
+
+    @Benchmark
+    public String paginateRawCount() {
+        return dialect.buildSelectSql(MapperUtil.rawCountQueryWrapper(joinQuery()));
+    }
+
+    @Benchmark
+    public String paginateOptimizedCount() {
+        return dialect.buildSelectSql(MapperUtil.optimizeCountQueryWrapper(joinQuery()));
+    }
+
+    @Benchmark
+    public String insertSql() {
+        return dialect.forInsertEntity(tableInfo, account, false);
+    }
+
+    @Benchmark
+    public Object[] insertSqlArgs() {
+        return tableInfo.buildInsertSqlArgs(account, false);
+    }
+
+}
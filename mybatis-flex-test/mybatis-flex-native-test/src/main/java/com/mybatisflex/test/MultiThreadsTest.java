@@ -20,6 +20,8 @@ import com.mybatisflex.core.MybatisFlexBootstrap;
 import com.mybatisflex.core.audit.AuditManager;
 import com.mybatisflex.core.audit.ConsoleMessageCollector;
 import com.mybatisflex.core.audit.MessageCollector;
+import com.mybatisflex.core.context.FlexContext;
+import com.mybatisflex.core.context.ThreadLocalContextCarrier;
 import com.mybatisflex.core.datasource.DataSourceKey;
 import com.mybatisflex.core.row.Db;
 import com.mybatisflex.core.row.Row;
@@ -37,7 +39,7 @@ import java.util.List;
 public class MultiThreadsTest {
 
     public static void main(String[] args) {
-        DataSourceKey.setThreadLocal(new InheritableThreadLocal<>());
+        FlexContext.setCarrier(new ThreadLocalContextCarrier(new InheritableThreadLocal<>()));
 
         DataSource dataSource = new EmbeddedDatabaseBuilder()
             .setType(EmbeddedDatabaseType.H2)
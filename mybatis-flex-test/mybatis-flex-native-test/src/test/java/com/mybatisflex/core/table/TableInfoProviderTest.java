@@ -0,0 +1,133 @@
+/*
+ *  Copyright (c) 2022-2025, Mybatis-Flex (fuhai999@gmail.com).
+ *  <p>
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *  <p>
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *  <p>
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package com.mybatisflex.core.table;
+
+import com.mybatisflex.test.Account;
+import com.mybatisflex.test.Article;
+import com.mybatisflex.test.ColumnMetaEntity;
+import com.mybatisflex.test.Entity04;
+import com.mybatisflex.test.LargeArticle;
+import com.mybatisflex.test.TenantAccount;
+import com.mybatisflex.test.VersionAccount;
+import org.apache.ibatis.type.TypeHandler;
+import org.assertj.core.api.WithAssertions;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * APT 生成的 {@link TableInfoProvider} 与反射解析构建的 {@link TableInfo} 必须一致。
+ */
+public class TableInfoProviderTest implements WithAssertions {
+
+    @Test
+    public void testPrimaryKeys() {
+        assertSameTableInfo(Account.class);
+        assertSameTableInfo(ColumnMetaEntity.class);
+    }
+
+    @Test
+    public void testLogicDelete() {
+        assertSameTableInfo(Article.class);
+    }
+
+    @Test
+    public void testVersion() {
+        assertSameTableInfo(VersionAccount.class);
+    }
+
+    @Test
+    public void testTenant() {
+        assertSameTableInfo(TenantAccount.class);
+    }
+
+    @Test
+    public void testTypeHandler() {
+        assertSameTableInfo(Account.class);
+        assertSameTableInfo(Entity04.class);
+    }
+
+    @Test
+    public void testOnInsertAndOnUpdate() {
+        assertSameTableInfo(ColumnMetaEntity.class);
+    }
+
+    @Test
+    public void testLargeColumn() {
+        assertSameTableInfo(LargeArticle.class);
+    }
+
+    @Test
+    public void testComment() {
+        TableInfo tableInfo = assertSameTableInfo(ColumnMetaEntity.class);
+        // 有 @Column 注解但没有配置注释时为空字符串，没有 @Column 注解时为 null
+        assertThat(getColumnInfo(tableInfo, "userName").getComment()).isEmpty();
+        assertThat(getColumnInfo(tableInfo, "created").getComment()).isEqualTo("创建时间");
+        assertThat(getColumnInfo(tableInfo, "remark").getComment()).isNull();
+    }
+
+    private TableInfo assertSameTableInfo(Class<?> entityClass) {
+        TableInfoProvider tableInfoProvider = TableInfoFactory.getTableInfoProvider(entityClass);
+        assertThat(tableInfoProvider).as("TableInfoProvider of %s", entityClass.getName()).isNotNull();
+
+        TableInfo generated = TableInfoFactory.createTableInfo(entityClass, tableInfoProvider);
+        TableInfo reflected = TableInfoFactory.createTableInfo(entityClass, null);
+        assertThat(describe(generated)).isEqualTo(describe(reflected));
+        return generated;
+    }
+
+    private static ColumnInfo getColumnInfo(TableInfo tableInfo, String property) {
+        for (ColumnInfo columnInfo : tableInfo.getColumnInfoList()) {
+            if (columnInfo.getProperty().equals(property)) {
+                return columnInfo;
+            }
+        }
+        throw new IllegalArgumentException(property);
+    }
+
+    private static Map<String, Object> describe(TableInfo tableInfo) {
+        Map<String, Object> description = new LinkedHashMap<>();
+        description.put("table", tableInfo.getTableNameWithSchema());
+        description.put("comment", tableInfo.getComment());
+        description.put("logicDelete", tableInfo.getLogicDeleteColumn());
+        description.put("version", tableInfo.getVersionColumn());
+        description.put("tenantId", tableInfo.getTenantIdColumn());
+        description.put("onInsert", tableInfo.getOnInsertColumns());
+        description.put("onUpdate", tableInfo.getOnUpdateColumns());
+        description.put("large", Arrays.asList(tableInfo.getLargeColumns()));
+        description.put("defaultQuery", Arrays.asList(tableInfo.getDefaultQueryColumns()));
+        description.put("insertPrimaryKeys", Arrays.asList(tableInfo.getInsertPrimaryKeys()));
+        description.put("propertyColumns", tableInfo.getPropertyColumnMapping());
+        for (IdInfo idInfo : tableInfo.getPrimaryKeyList()) {
+            description.put("id." + idInfo.getProperty(), Arrays.asList(describe(idInfo)
+                , idInfo.getKeyType(), idInfo.getValue(), idInfo.getBefore()));
+        }
+        for (ColumnInfo columnInfo : tableInfo.getColumnInfoList()) {
+            description.put("column." + columnInfo.getProperty(), describe(columnInfo));
+        }
+        return description;
+    }
+
+    private static String describe(ColumnInfo columnInfo) {
+        TypeHandler<?> typeHandler = columnInfo.buildTypeHandler(null);
+        return Arrays.asList(columnInfo.getColumn(), columnInfo.getPropertyType(), columnInfo.getComment()
+            , columnInfo.getAlias() == null ? null : Arrays.asList(columnInfo.getAlias()), columnInfo.getJdbcType()
+            , columnInfo.getMaskType(), columnInfo.isIgnore(), typeHandler == null ? null : typeHandler.getClass()).toString();
+    }
+
+}
@@ -313,6 +313,24 @@ public class AccountNativeTest implements WithAssertions {
     }
 
 
+    @Test
+    public void testLeftJoinWithNestedCollection() {
+        QueryWrapper queryWrapper = QueryWrapper.create()
+            .select(ACCOUNT.ALL_COLUMNS, ARTICLE.ALL_COLUMNS)
+            .from(ACCOUNT)
+            .leftJoin(ARTICLE).on(ACCOUNT.ID.eq(ARTICLE.ACCOUNT_ID))
+            .orderBy(ACCOUNT.ID.asc(), ARTICLE.ID.asc());
+        List<Account> accounts = accountMapper.selectListByQuery(queryWrapper);
+        assertThat(accounts).extracting(Account::getId).containsExactly(1L, 2L);
+        assertThat(accounts.get(0).getArticles())
+            .extracting(Article::getTitle)
+            .containsExactly("标题1", "标题3");
+        assertThat(accounts.get(1).getArticles())
+            .extracting(Article::getTitle)
+            .containsExactly("标题2");
+    }
+
+
     @Test
     public void testSelectAsToDTO() {
         QueryWrapper queryWrapper = QueryWrapper.create();
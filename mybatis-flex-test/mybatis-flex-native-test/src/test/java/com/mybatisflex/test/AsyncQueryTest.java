@@ -0,0 +1,191 @@
+/*
+ *  Copyright (c) 2022-2025, Mybatis-Flex (fuhai999@gmail.com).
+ *  <p>
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *  <p>
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *  <p>
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package com.mybatisflex.test;
+
+import com.mybatisflex.core.BaseMapper;
+import com.mybatisflex.core.MybatisFlexBootstrap;
+import com.mybatisflex.core.async.AsyncQueryManager;
+import com.mybatisflex.core.datasource.DataSourceKey;
+import com.mybatisflex.core.mybatis.Mappers;
+import com.mybatisflex.core.query.QueryWrapper;
+import com.mybatisflex.core.row.Db;
+import com.mybatisflex.core.row.Row;
+import com.mybatisflex.core.service.IService;
+import org.assertj.core.api.WithAssertions;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabase;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseBuilder;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseType;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
+
+import static com.mybatisflex.test.table.AccountTableDef.ACCOUNT;
+
+/**
+ * 异步查询测试。
+ */
+public class AsyncQueryTest implements WithAssertions {
+
+    private static final String DATA_SOURCE_KEY = "ds_async";
+
+    private EmbeddedDatabase dataSource;
+
+    @Before
+    public void init() {
+        this.dataSource = new EmbeddedDatabaseBuilder()
+            .setType(EmbeddedDatabaseType.H2)
+            .addScript("schema.sql")
+            .addScript("data.sql")
+            .setScriptEncoding("UTF-8")
+            .build();
+
+        new MybatisFlexBootstrap()
+            .setDataSource(DATA_SOURCE_KEY, this.dataSource)
+            .addMapper(AccountMapper.class)
+            .start();
+    }
+
+    @After
+    public void destroy() {
+        this.dataSource.shutdown();
+        AsyncQueryManager.setRejectInTransaction(false);
+        AsyncQueryManager.setMaxConcurrency(0);
+    }
+
+    @Test
+    public void testContextPropagation() {
+        Thread caller = Thread.currentThread();
+        CompletableFuture<String> dataSourceKey = DataSourceKey.use(DATA_SOURCE_KEY,
+            () -> AsyncQueryManager.supplyAsync(() -> {
+                assertThat(Thread.currentThread()).isNotSameAs(caller);
+                return DataSourceKey.get();
+            }));
+        assertThat(dataSourceKey.join()).isEqualTo(DATA_SOURCE_KEY);
+        assertThat(DataSourceKey.get()).isNull();
+
+        CompletableFuture<List<Row>> rows = Db.selectListByQueryAsync("tb_account", QueryWrapper.create());
+        CompletableFuture<Long> count = Db.selectCountByQueryAsync("tb_account", QueryWrapper.create());
+        assertThat(rows.join()).hasSize(count.join().intValue());
+    }
+
+    @Test
+    public void testServiceAsync() {
+        AccountMapper accountMapper = Mappers.ofMapperClass(AccountMapper.class);
+        IService<Account> service = new IService<Account>() {
+            @Override
+            public BaseMapper<Account> getMapper() {
+                return accountMapper;
+            }
+        };
+
+        CompletableFuture<Account> account = service.getByIdAsync(1);
+        CompletableFuture<Long> count = service.countAsync(QueryWrapper.create().where(ACCOUNT.ID.ge(1)));
+        CompletableFuture<List<Account>> list = service.listAsync();
+
+        assertThat(account.join().getId()).isEqualTo(1L);
+        assertThat(count.join()).isEqualTo(list.join().size());
+    }
+
+    @Test
+    public void testInTransaction() {
+        Thread caller = Thread.currentThread();
+        AtomicReference<Thread> executor = new AtomicReference<>();
+        Db.tx(() -> {
+            CompletableFuture<List<Row>> rows = AsyncQueryManager.supplyAsync(() -> {
+                executor.set(Thread.currentThread());
+                return Db.selectAll("tb_account");
+            });
+            assertThat(rows).isDone();
+            return true;
+        });
+        assertThat(executor.get()).isSameAs(caller);
+
+        AsyncQueryManager.setRejectInTransaction(true);
+        assertThatThrownBy(() -> Db.tx(() -> Db.selectListByQueryAsync("tb_account", QueryWrapper.create()) != null))
+            .hasStackTraceContaining("Asynchronous query is not allowed in transaction");
+    }
+
+    @Test
+    public void testInSpringTransaction() {
+        Thread caller = Thread.currentThread();
+        TransactionSynchronizationManager.setActualTransactionActive(true);
+        try {
+            CompletableFuture<Thread> executor = AsyncQueryManager.supplyAsync(Thread::currentThread);
+            assertThat(executor).isDone();
+            assertThat(executor.join()).isSameAs(caller);
+        } finally {
+            TransactionSynchronizationManager.setActualTransactionActive(false);
+        }
+    }
+
+    @Test
+    public void testDefaultDataSourceSharesConcurrency() throws Exception {
+        AsyncQueryManager.setMaxConcurrency(1);
+        CountDownLatch latch = new CountDownLatch(1);
+        CompletableFuture<Boolean> first = AsyncQueryManager.supplyAsync(() -> {
+            try {
+                return latch.await(10, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                throw new IllegalStateException(e);
+            }
+        });
+
+        // 显式指定默认数据源时与未指定数据源使用同一个信号量，提交方在获取许可时阻塞
+        CompletableFuture<String> second = CompletableFuture.supplyAsync(() -> DataSourceKey.use(DATA_SOURCE_KEY,
+            () -> AsyncQueryManager.supplyAsync(DataSourceKey::get).join()));
+        Thread.sleep(200);
+        assertThat(second).isNotDone();
+
+        latch.countDown();
+        assertThat(first.get(10, TimeUnit.SECONDS)).isTrue();
+        assertThat(second.get(10, TimeUnit.SECONDS)).isEqualTo(DATA_SOURCE_KEY);
+    }
+
+    @Test
+    public void testResizeWhileRunning() throws Exception {
+        AsyncQueryManager.setMaxConcurrency(2);
+        CountDownLatch latch = new CountDownLatch(1);
+        Supplier<Boolean> blocking = () -> {
+            try {
+                return latch.await(10, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                throw new IllegalStateException(e);
+            }
+        };
+        CompletableFuture<Boolean> first = AsyncQueryManager.supplyAsync(blocking);
+        CompletableFuture<Boolean> second = AsyncQueryManager.supplyAsync(blocking);
+
+        // 调小并发数后，执行中的查询仍然占用许可，新的查询需要等待
+        AsyncQueryManager.setMaxConcurrency(1);
+        CompletableFuture<String> third = CompletableFuture.supplyAsync(() -> AsyncQueryManager.supplyAsync(() -> "third").join());
+        Thread.sleep(200);
+        assertThat(third).isNotDone();
+
+        latch.countDown();
+        assertThat(first.get(10, TimeUnit.SECONDS)).isTrue();
+        assertThat(second.get(10, TimeUnit.SECONDS)).isTrue();
+        assertThat(third.get(10, TimeUnit.SECONDS)).isEqualTo("third");
+    }
+
+}
@@ -0,0 +1,140 @@
+/*
+ *  Copyright (c) 2022-2025, Mybatis-Flex (fuhai999@gmail.com).
+ *  <p>
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *  <p>
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *  <p>
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package com.mybatisflex.test;
+
+import com.mybatisflex.core.MybatisFlexBootstrap;
+import com.mybatisflex.core.query.QueryWrapper;
+import com.mybatisflex.core.row.Db;
+import com.mybatisflex.mapper.LargeArticleMapper;
+import org.assertj.core.api.WithAssertions;
+import org.h2.api.Trigger;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabase;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseBuilder;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseType;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+/**
+ * 根据多个主键查询和删除测试，主键数量超过参数上限时会被自动切分为多条 SQL。
+ */
+public class BatchByIdsTest implements WithAssertions {
+
+    private EmbeddedDatabase dataSource;
+    private MybatisFlexBootstrap bootstrap;
+
+    @Before
+    public void init() {
+        this.dataSource = new EmbeddedDatabaseBuilder()
+            .setType(EmbeddedDatabaseType.H2)
+            .addScript("schema.sql")
+            .addScript("data.sql")
+            .setScriptEncoding("UTF-8")
+            .build();
+
+        this.bootstrap = new MybatisFlexBootstrap()
+            .setDataSource(this.dataSource)
+            .addMapper(LargeArticleMapper.class)
+            .start();
+    }
+
+    @After
+    public void destroy() {
+        this.dataSource.shutdown();
+    }
+
+    @Test
+    public void testSelectAndDeleteByIds() {
+        LargeArticleMapper mapper = bootstrap.getMapper(LargeArticleMapper.class);
+        // tb_article 没有主键约束，自增的 id 会与初始化数据重复
+        Db.deleteBySql("DELETE FROM tb_article");
+        mapper.bulkLoad(IntStream.range(0, 2500).mapToObj(i -> {
+            LargeArticle article = new LargeArticle();
+            article.setTitle("ids title " + i);
+            return article;
+        }));
+
+        List<Long> ids = mapper.selectListByQuery(QueryWrapper.create().where("title like ?", "ids title%"))
+            .stream().map(LargeArticle::getId).collect(Collectors.toList());
+        assertThat(ids).hasSize(2500);
+
+        assertThat(mapper.selectListByIds(ids)).hasSize(2500);
+        assertThat(mapper.selectListByIds(ids.subList(0, 1))).hasSize(1);
+
+        assertThat(mapper.deleteBatchByIds(ids.subList(0, 400))).isEqualTo(400);
+        assertThat(Db.deleteBatchByIds("tb_article", "id", ids.subList(400, 2500))).isEqualTo(2100);
+        assertThat(mapper.selectCountByQuery(QueryWrapper.create().where("title like ?", "ids title%"))).isZero();
+    }
+
+    @Test
+    public void testDistinctIds() {
+        LargeArticleMapper mapper = bootstrap.getMapper(LargeArticleMapper.class);
+        List<Long> ids = loadArticles(mapper, 1500);
+
+        // 重复的主键超过参数上限，去重后只查询一次
+        List<Long> duplicateIds = new ArrayList<>(ids);
+        duplicateIds.addAll(ids);
+        assertThat(mapper.selectListByIds(duplicateIds)).hasSize(1500);
+        assertThat(mapper.deleteBatchByIds(duplicateIds)).isEqualTo(1500);
+    }
+
+    @Test
+    public void testDeleteByIdsAtomic() {
+        LargeArticleMapper mapper = bootstrap.getMapper(LargeArticleMapper.class);
+        List<Long> ids = loadArticles(mapper, 2500);
+
+        // 最后一条数据删除失败时，已经执行的删除 SQL 也需要回滚
+        Db.updateBySql("CREATE TRIGGER fail_on_delete BEFORE DELETE ON tb_article FOR EACH ROW CALL '"
+            + FailOnDeleteTrigger.class.getName() + "'");
+        try {
+            assertThatThrownBy(() -> mapper.deleteBatchByIds(ids)).hasMessageContaining("ids title 2499");
+        } finally {
+            Db.updateBySql("DROP TRIGGER fail_on_delete");
+        }
+        assertThat(mapper.selectCountByQuery(QueryWrapper.create().where("title like ?", "ids title%"))).isEqualTo(2500);
+    }
+
+    private static List<Long> loadArticles(LargeArticleMapper mapper, int count) {
+        // tb_article 没有主键约束，自增的 id 会与初始化数据重复
+        Db.deleteBySql("DELETE FROM tb_article");
+        mapper.bulkLoad(IntStream.range(0, count).mapToObj(i -> {
+            LargeArticle article = new LargeArticle();
+            article.setTitle("ids title " + i);
+            return article;
+        }));
+        return mapper.selectListByQuery(QueryWrapper.create().where("title like ?", "ids title%"))
+            .stream().map(LargeArticle::getId).collect(Collectors.toList());
+    }
+
+
+    public static class FailOnDeleteTrigger implements Trigger {
+
+        @Override
+        public void fire(Connection conn, Object[] oldRow, Object[] newRow) throws SQLException {
+            if ("ids title 2499".equals(oldRow[2])) {
+                throw new SQLException("Can not delete ids title 2499");
+            }
+        }
+    }
+
+}
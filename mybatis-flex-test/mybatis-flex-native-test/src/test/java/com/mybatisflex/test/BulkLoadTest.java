@@ -0,0 +1,95 @@
+/*
+ *  Copyright (c) 2022-2025, Mybatis-Flex (fuhai999@gmail.com).
+ *  <p>
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *  <p>
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *  <p>
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package com.mybatisflex.test;
+
+import com.mybatisflex.core.MybatisFlexBootstrap;
+import com.mybatisflex.core.query.QueryWrapper;
+import com.mybatisflex.core.row.Db;
+import com.mybatisflex.core.row.Row;
+import com.mybatisflex.mapper.LargeArticleMapper;
+import org.assertj.core.api.WithAssertions;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabase;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseBuilder;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseType;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.IntStream;
+
+/**
+ * 批量导入测试，H2 使用按参数数量上限切分的多行 INSERT。
+ */
+public class BulkLoadTest implements WithAssertions {
+
+    private EmbeddedDatabase dataSource;
+    private MybatisFlexBootstrap bootstrap;
+
+    @Before
+    public void init() {
+        this.dataSource = new EmbeddedDatabaseBuilder()
+            .setType(EmbeddedDatabaseType.H2)
+            .addScript("schema.sql")
+            .addScript("data.sql")
+            .setScriptEncoding("UTF-8")
+            .build();
+
+        this.bootstrap = new MybatisFlexBootstrap()
+            .setDataSource(this.dataSource)
+            .addMapper(LargeArticleMapper.class)
+            .start();
+    }
+
+    @After
+    public void destroy() {
+        this.dataSource.shutdown();
+    }
+
+    @Test
+    public void testBulkLoadEntities() {
+        LargeArticleMapper mapper = bootstrap.getMapper(LargeArticleMapper.class);
+        long before = mapper.selectCountByQuery(QueryWrapper.create());
+
+        // 超过单条 SQL 的参数上限，会被切分为多条 INSERT
+        long loaded = mapper.bulkLoad(IntStream.range(0, 2500).mapToObj(i -> {
+            LargeArticle article = new LargeArticle();
+            article.setTitle("bulk title " + i);
+            article.setContent(i % 2 == 0 ? null : "bulk content " + i);
+            return article;
+        }));
+
+        assertThat(loaded).isEqualTo(2500);
+        assertThat(mapper.selectCountByQuery(QueryWrapper.create())).isEqualTo(before + 2500);
+        assertThat(mapper.selectCountByQuery(QueryWrapper.create().where("content = ?", "bulk content 2499"))).isEqualTo(1);
+    }
+
+    @Test
+    public void testBulkLoadRows() {
+        List<Row> rows = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            Row row = new Row();
+            row.set("title", "row title " + i);
+            row.set("content", "row content " + i);
+            rows.add(row);
+        }
+
+        assertThat(Db.bulkLoad("tb_article", rows)).isEqualTo(3);
+        assertThat(Db.selectCount("select count(*) from tb_article where title like ?", "row title%")).isEqualTo(3);
+    }
+
+}
@@ -0,0 +1,180 @@
+/*
+ *  Copyright (c) 2022-2025, Mybatis-Flex (fuhai999@gmail.com).
+ *  <p>
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *  <p>
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *  <p>
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package com.mybatisflex.test;
+
+import com.mybatisflex.core.MybatisFlexBootstrap;
+import com.mybatisflex.core.cache.EntityCacheManager;
+import com.mybatisflex.core.cache.LocalEntityCache;
+import com.mybatisflex.core.datasource.DataSourceKey;
+import com.mybatisflex.core.logicdelete.LogicDeleteManager;
+import com.mybatisflex.core.query.QueryWrapper;
+import com.mybatisflex.core.row.Db;
+import com.mybatisflex.core.update.UpdateChain;
+import com.mybatisflex.mapper.CacheAccountMapper;
+import org.apache.ibatis.logging.stdout.StdOutImpl;
+import org.assertj.core.api.WithAssertions;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabase;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseBuilder;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseType;
+
+import java.util.Arrays;
+import java.util.List;
+
+import static com.mybatisflex.test.table.AccountTableDef.ACCOUNT;
+
+/**
+ * 实体缓存测试，通过 JDBC 直接修改数据库来判断是否命中了缓存。
+ */
+public class EntityCacheTest implements WithAssertions {
+
+    private static final String DATA_SOURCE_KEY = "ds2";
+
+    private CacheAccountMapper accountMapper;
+    private AccountMapper listenerAccountMapper;
+    private EmbeddedDatabase dataSource;
+    private JdbcTemplate jdbcTemplate;
+
+    @Before
+    public void init() {
+        EntityCacheManager.setEntityCache(new LocalEntityCache());
+        EntityCacheManager.setQueryCacheEnable(true);
+        EntityCacheManager.addCacheableEntity(CacheAccount.class, Account.class);
+
+        this.dataSource = new EmbeddedDatabaseBuilder()
+            .setType(EmbeddedDatabaseType.H2)
+            .addScript("schema.sql")
+            .addScript("data.sql")
+            .setScriptEncoding("UTF-8")
+            .build();
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+
+        MybatisFlexBootstrap bootstrap = new MybatisFlexBootstrap()
+            .setDataSource(DATA_SOURCE_KEY, this.dataSource)
+            .setLogImpl(StdOutImpl.class)
+            .addMapper(CacheAccountMapper.class)
+            .addMapper(AccountMapper.class)
+            .start();
+
+        DataSourceKey.use(DATA_SOURCE_KEY);
+        accountMapper = bootstrap.getMapper(CacheAccountMapper.class);
+        listenerAccountMapper = bootstrap.getMapper(AccountMapper.class);
+    }
+
+    @After
+    public void destroy() {
+        this.dataSource.shutdown();
+        DataSourceKey.clear();
+        EntityCacheManager.removeCacheableEntity(CacheAccount.class, Account.class);
+        EntityCacheManager.setQueryCacheEnable(false);
+        EntityCacheManager.setEntityCache(null);
+    }
+
+    @Test
+    public void testSelectOneById() {
+        CacheAccount account = accountMapper.selectOneById(1);
+        assertThat(account.getAge()).isEqualTo(18);
+
+        jdbcTemplate.update("UPDATE tb_account SET age = 99 WHERE id = 1");
+
+        CacheAccount cached = accountMapper.selectOneById(1);
+        assertThat(cached).isNotSameAs(account);
+        assertThat(cached.getAge()).isEqualTo(18);
+
+        // 通过 BaseMapper 修改后清除缓存
+        CacheAccount update = new CacheAccount();
+        update.setId(1L);
+        update.setAge(20);
+        accountMapper.update(update);
+        assertThat(accountMapper.selectOneById(1).getAge()).isEqualTo(20);
+    }
+
+    @Test
+    public void testSelectListByIds() {
+        accountMapper.selectOneById(1);
+        jdbcTemplate.update("UPDATE tb_account SET age = 99");
+
+        List<CacheAccount> accounts = accountMapper.selectListByIds(Arrays.asList(1, 2));
+        assertThat(accounts).extracting(CacheAccount::getAge).containsExactly(18, 99);
+    }
+
+    @Test
+    public void testInvalidateByUpdateChainAndDb() {
+        accountMapper.selectOneById(1);
+
+        UpdateChain.of(accountMapper)
+            .set(CacheAccount::getAge, 30)
+            .where(CacheAccount::getId).eq(1)
+            .update();
+        assertThat(accountMapper.selectOneById(1).getAge()).isEqualTo(30);
+
+        Db.updateBySql("UPDATE tb_account SET age = 31 WHERE id = 1");
+        assertThat(accountMapper.selectOneById(1).getAge()).isEqualTo(31);
+    }
+
+    @Test
+    public void testQueryCache() {
+        QueryWrapper query = QueryWrapper.create().where(ACCOUNT.AGE.ge(18)).orderBy(ACCOUNT.ID.asc());
+        assertThat(accountMapper.selectListByQuery(query)).extracting(CacheAccount::getAge).containsExactly(18, 19);
+
+        jdbcTemplate.update("UPDATE tb_account SET age = 40");
+        query = QueryWrapper.create().where(ACCOUNT.AGE.ge(18)).orderBy(ACCOUNT.ID.asc());
+        assertThat(accountMapper.selectListByQuery(query)).extracting(CacheAccount::getAge).containsExactly(18, 19);
+
+        accountMapper.deleteById(2);
+        query = QueryWrapper.create().where(ACCOUNT.AGE.ge(18)).orderBy(ACCOUNT.ID.asc());
+        assertThat(accountMapper.selectListByQuery(query)).extracting(CacheAccount::getAge).containsExactly(40);
+    }
+
+    @Test
+    public void testMutableValueIsCopied() {
+        CacheAccount account = accountMapper.selectOneById(1);
+        long birthday = account.getBirthday().getTime();
+
+        // 修改查询到的实体的可变属性，不能影响缓存
+        account.getBirthday().setTime(0);
+        CacheAccount cached = accountMapper.selectOneById(1);
+        assertThat(cached.getBirthday().getTime()).isEqualTo(birthday);
+
+        cached.getBirthday().setTime(0);
+        assertThat(accountMapper.selectOneById(1).getBirthday().getTime()).isEqualTo(birthday);
+    }
+
+    @Test
+    public void testSkipLogicDelete() {
+        jdbcTemplate.update("UPDATE tb_account SET is_delete = 1 WHERE id = 1");
+
+        CacheAccount deleted = LogicDeleteManager.execWithoutLogicDelete(() -> accountMapper.selectOneById(1));
+        assertThat(deleted).isNotNull();
+
+        // 跳过逻辑删除时缓存的数据，不能被正常的查询读取
+        assertThat(accountMapper.selectOneById(1)).isNull();
+        assertThat(accountMapper.selectListByIds(Arrays.asList(1, 2))).extracting(CacheAccount::getId).containsExactly(2L);
+    }
+
+    @Test
+    public void testSetListenerEntityIsNotCached() {
+        assertThat(listenerAccountMapper.selectOneById(1).getAge()).isEqualTo(18);
+
+        jdbcTemplate.update("UPDATE tb_account SET age = 99 WHERE id = 1");
+        assertThat(listenerAccountMapper.selectOneById(1).getAge()).isEqualTo(99);
+    }
+
+}
@@ -0,0 +1,112 @@
+/*
+ *  Copyright (c) 2022-2025, Mybatis-Flex (fuhai999@gmail.com).
+ *  <p>
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *  <p>
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *  <p>
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package com.mybatisflex.test;
+
+import com.mybatisflex.core.FlexGlobalConfig;
+import com.mybatisflex.core.MybatisFlexBootstrap;
+import com.mybatisflex.core.datasource.DataSourceKey;
+import com.mybatisflex.core.query.QueryWrapper;
+import org.apache.ibatis.logging.stdout.StdOutImpl;
+import org.assertj.core.api.WithAssertions;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabase;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseBuilder;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseType;
+
+import java.util.List;
+import java.util.function.Supplier;
+
+import static com.mybatisflex.test.table.ArticleTableDef.ARTICLE;
+
+/**
+ * 扁平结果映射测试：与 MetaObject 逐行映射的结果一致。
+ */
+public class FlatResultMappingTest implements WithAssertions {
+
+    private static final String DATA_SOURCE_KEY = "ds_flat";
+
+    private AccountMapper accountMapper;
+    private EmbeddedDatabase dataSource;
+
+    @Before
+    public void init() {
+        this.dataSource = new EmbeddedDatabaseBuilder()
+            .setType(EmbeddedDatabaseType.H2)
+            .addScript("schema.sql")
+            .addScript("data.sql")
+            .setScriptEncoding("UTF-8")
+            .build();
+
+        MybatisFlexBootstrap bootstrap = new MybatisFlexBootstrap()
+            .setDataSource(DATA_SOURCE_KEY, this.dataSource)
+            .setLogImpl(StdOutImpl.class)
+            .addMapper(AccountMapper.class)
+            .start();
+
+        DataSourceKey.use(DATA_SOURCE_KEY);
+        accountMapper = bootstrap.getMapper(AccountMapper.class);
+    }
+
+    @After
+    public void destroy() {
+        FlexGlobalConfig.getDefaultConfig().setFlatResultMappingEnable(true);
+        this.dataSource.shutdown();
+        DataSourceKey.clear();
+    }
+
+    @Test
+    public void testSameAsMetaObjectMapping() {
+        assertSameResult(() -> accountMapper.selectListByQueryAs(QueryWrapper.create()
+            .from(ARTICLE), Article.class));
+        assertSameResult(() -> accountMapper.selectListByQueryAs(QueryWrapper.create()
+            .select(ARTICLE.ID, ARTICLE.TITLE)
+            .from(ARTICLE), Article.class));
+        // 别名列以及不存在的属性
+        assertSameResult(() -> accountMapper.selectListByQueryAs(QueryWrapper.create()
+            .select(ARTICLE.ID, ARTICLE.CONTENT.as("title"), ARTICLE.ACCOUNT_ID.as("unknown_column"))
+            .from(ARTICLE), Article.class));
+        // 含有嵌套集合的实体使用原有的映射逻辑
+        assertSameResult(() -> accountMapper.selectAll());
+    }
+
+    @Test
+    public void testLayoutChange() {
+        List<Article> all = accountMapper.selectListByQueryAs(QueryWrapper.create().from(ARTICLE), Article.class);
+        List<Article> ids = accountMapper.selectListByQueryAs(QueryWrapper.create().select(ARTICLE.ID).from(ARTICLE), Article.class);
+
+        assertThat(ids).hasSameSizeAs(all);
+        assertThat(ids).allSatisfy(article -> {
+            assertThat(article.getId()).isNotNull();
+            assertThat(article.getTitle()).isNull();
+        });
+        assertThat(accountMapper.selectListByQueryAs(QueryWrapper.create().from(ARTICLE), Article.class).toString())
+            .isEqualTo(all.toString());
+    }
+
+    private <T> void assertSameResult(Supplier<List<T>> query) {
+        FlexGlobalConfig.getDefaultConfig().setFlatResultMappingEnable(true);
+        List<T> flat = query.get();
+        FlexGlobalConfig.getDefaultConfig().setFlatResultMappingEnable(false);
+        List<T> origin = query.get();
+        FlexGlobalConfig.getDefaultConfig().setFlatResultMappingEnable(true);
+
+        assertThat(flat).isNotEmpty();
+        assertThat(flat.toString()).isEqualTo(origin.toString());
+    }
+
+}
@@ -0,0 +1,88 @@
+/*
+ *  Copyright (c) 2022-2025, Mybatis-Flex (fuhai999@gmail.com).
+ *  <p>
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *  <p>
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *  <p>
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package com.mybatisflex.test;
+
+import com.mybatisflex.core.FlexGlobalConfig;
+import com.mybatisflex.core.MybatisFlexBootstrap;
+import com.mybatisflex.core.datasource.DataSourceKey;
+import com.mybatisflex.core.mybatis.binding.AbstractFlexMapper;
+import com.mybatisflex.core.mybatis.binding.FlexMapperProxyFactory;
+import com.mybatisflex.core.query.QueryWrapper;
+import com.mybatisflex.core.util.ClassUtil;
+import org.apache.ibatis.session.SqlSession;
+import org.assertj.core.api.WithAssertions;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabase;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseBuilder;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseType;
+
+import static com.mybatisflex.test.table.AccountTableDef.ACCOUNT;
+
+/**
+ * APT 生成的 Mapper 实现类测试。
+ */
+public class GeneratedMapperTest implements WithAssertions {
+
+    private static final String DATA_SOURCE_KEY = "ds_generated";
+
+    private EmbeddedDatabase dataSource;
+
+    @Before
+    public void init() {
+        this.dataSource = new EmbeddedDatabaseBuilder()
+            .setType(EmbeddedDatabaseType.H2)
+            .addScript("schema.sql")
+            .addScript("data.sql")
+            .setScriptEncoding("UTF-8")
+            .build();
+
+        new MybatisFlexBootstrap()
+            .setDataSource(DATA_SOURCE_KEY, this.dataSource)
+            .addMapper(AccountMapper.class)
+            .start();
+
+        DataSourceKey.use(DATA_SOURCE_KEY);
+    }
+
+    @After
+    public void destroy() {
+        this.dataSource.shutdown();
+        DataSourceKey.clear();
+    }
+
+    @Test
+    public void testGeneratedMapper() {
+        assertThat(FlexMapperProxyFactory.getGeneratedMapperClass(AccountMapper.class)).isNotNull();
+
+        try (SqlSession sqlSession = FlexGlobalConfig.getDefaultConfig().getSqlSessionFactory().openSession(true)) {
+            AccountMapper accountMapper = sqlSession.getMapper(AccountMapper.class);
+            assertThat(accountMapper).isInstanceOf(AbstractFlexMapper.class);
+            assertThat(ClassUtil.getUsefulClass(accountMapper.getClass())).isEqualTo(AccountMapper.class);
+
+            // 抽象方法
+            Account account = accountMapper.selectOneByQuery(QueryWrapper.create().where(ACCOUNT.ID.eq(1)));
+            assertThat(account).isNotNull();
+            // default 方法
+            assertThat(accountMapper.selectOneById(1).getId()).isEqualTo(account.getId());
+            assertThat(accountMapper.selectCountByQuery(QueryWrapper.create())).isEqualTo(accountMapper.selectAll().size());
+            assertThat(accountMapper.selectListByQueryAs(QueryWrapper.create().where(ACCOUNT.ID.eq(1)), Account.class))
+                .hasSize(1);
+        }
+    }
+
+}
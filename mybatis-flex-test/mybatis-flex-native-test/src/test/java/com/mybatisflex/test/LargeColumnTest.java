@@ -0,0 +1,81 @@
+/*
+ *  Copyright (c) 2022-2025, Mybatis-Flex (fuhai999@gmail.com).
+ *  <p>
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *  <p>
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *  <p>
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package com.mybatisflex.test;
+
+import com.mybatisflex.core.MybatisFlexBootstrap;
+import com.mybatisflex.core.mybatis.Mappers;
+import com.mybatisflex.core.query.QueryWrapper;
+import com.mybatisflex.mapper.LargeArticleMapper;
+import org.assertj.core.api.WithAssertions;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabase;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseBuilder;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseType;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 大字段批量加载测试。
+ */
+public class LargeColumnTest implements WithAssertions {
+
+    private EmbeddedDatabase dataSource;
+    private MybatisFlexBootstrap bootstrap;
+
+    @Before
+    public void init() {
+        this.dataSource = new EmbeddedDatabaseBuilder()
+            .setType(EmbeddedDatabaseType.H2)
+            .addScript("schema.sql")
+            .addScript("data.sql")
+            .setScriptEncoding("UTF-8")
+            .build();
+
+        this.bootstrap = new MybatisFlexBootstrap()
+            .setDataSource(this.dataSource)
+            .addMapper(LargeArticleMapper.class)
+            .start();
+    }
+
+    @After
+    public void destroy() {
+        this.dataSource.shutdown();
+    }
+
+    @Test
+    public void testLoadLargeColumns() {
+        LargeArticleMapper mapper = bootstrap.getMapper(LargeArticleMapper.class);
+        List<LargeArticle> articles = mapper.selectListByQuery(QueryWrapper.create());
+        assertThat(articles).isNotEmpty();
+        assertThat(articles).allSatisfy(article -> assertThat(article.getContent()).isNull());
+
+        // 同一个实体重复出现时也会被回填
+        List<LargeArticle> withDuplicate = new ArrayList<>(articles);
+        withDuplicate.add(articles.get(0));
+        withDuplicate.add(null);
+        Mappers.loadLargeColumns(mapper, withDuplicate);
+
+        for (LargeArticle article : articles) {
+            LargeArticle full = mapper.selectOneByQuery(QueryWrapper.create()
+                .select("*").where("id = ?", article.getId()));
+            assertThat(article.getContent()).isNotNull().isEqualTo(full.getContent());
+        }
+    }
+
+}
@@ -0,0 +1,200 @@
+/*
+ *  Copyright (c) 2022-2025, Mybatis-Flex (fuhai999@gmail.com).
+ *  <p>
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *  <p>
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *  <p>
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package com.mybatisflex.test;
+
+import com.mybatisflex.core.MybatisFlexBootstrap;
+import com.mybatisflex.core.datasource.DataSourceKey;
+import com.mybatisflex.core.metrics.DefaultMetricsCollector;
+import com.mybatisflex.core.metrics.DetectionScope;
+import com.mybatisflex.core.metrics.MetricsManager;
+import com.mybatisflex.core.metrics.MetricsSnapshot;
+import com.mybatisflex.core.metrics.QueryDetector;
+import com.mybatisflex.core.metrics.QueryIssue;
+import com.mybatisflex.core.metrics.QueryIssueReporter;
+import com.mybatisflex.core.metrics.StatementMetrics;
+import com.mybatisflex.core.query.QueryWrapper;
+import com.mybatisflex.core.row.Db;
+import com.mybatisflex.core.update.UpdateChain;
+import org.apache.ibatis.logging.stdout.StdOutImpl;
+import org.assertj.core.api.WithAssertions;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabase;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseBuilder;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseType;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static com.mybatisflex.test.table.AccountTableDef.ACCOUNT;
+
+/**
+ * 执行指标以及慢查询、N+1 查询检测测试。
+ */
+public class MetricsTest implements WithAssertions {
+
+    private static final String DATA_SOURCE_KEY = "ds_metrics";
+
+    private AccountMapper accountMapper;
+    private EmbeddedDatabase dataSource;
+    private DefaultMetricsCollector collector;
+
+    @Before
+    public void init() {
+        this.dataSource = new EmbeddedDatabaseBuilder()
+            .setType(EmbeddedDatabaseType.H2)
+            .addScript("schema.sql")
+            .addScript("data.sql")
+            .setScriptEncoding("UTF-8")
+            .build();
+
+        MybatisFlexBootstrap bootstrap = new MybatisFlexBootstrap()
+            .setDataSource(DATA_SOURCE_KEY, this.dataSource)
+            .setLogImpl(StdOutImpl.class)
+            .addMapper(AccountMapper.class)
+            .start();
+
+        DataSourceKey.use(DATA_SOURCE_KEY);
+        accountMapper = bootstrap.getMapper(AccountMapper.class);
+
+        collector = new DefaultMetricsCollector();
+        MetricsManager.setMetricsCollector(collector);
+        MetricsManager.setMetricsEnable(true);
+    }
+
+    @After
+    public void destroy() {
+        MetricsManager.setMetricsEnable(false);
+        MetricsManager.setPhaseTimingEnable(false);
+        MetricsManager.setMetricsCollector(new DefaultMetricsCollector());
+        this.dataSource.shutdown();
+        DataSourceKey.clear();
+    }
+
+    @Test
+    public void testStatementMetrics() {
+        MetricsManager.setPhaseTimingEnable(true);
+        for (int i = 0; i < 3; i++) {
+            List<Account> accounts = accountMapper.selectListByQuery(QueryWrapper.create().where(ACCOUNT.ID.ge(1)));
+            assertThat(accounts).hasSize(2);
+        }
+        UpdateChain.of(Account.class).set(Account::getAge, 20).where(Account::getId).eq(1).update();
+
+        MetricsSnapshot select = find(StatementMetrics.Kind.STATEMENT, AccountMapper.class.getName() + ".selectListByQuery");
+        assertThat(select.getCount()).isEqualTo(3);
+        assertThat(select.getRows()).isEqualTo(6);
+        assertThat(select.getDataSourceKey()).isEqualTo(DATA_SOURCE_KEY);
+        assertThat(select.getBuildNanos()).isPositive();
+        assertThat(select.getMappingNanos()).isPositive();
+        assertThat(select.getTotalNanos()).isEqualTo(select.getBuildNanos() + select.getAcquireNanos()
+            + select.getExecuteNanos() + select.getMappingNanos());
+        assertThat(select.getP50Nanos()).isPositive().isLessThanOrEqualTo(select.getP99Nanos());
+        assertThat(select.getP99Nanos()).isLessThanOrEqualTo(select.getMaxNanos());
+
+        MetricsSnapshot update = find(StatementMetrics.Kind.STATEMENT, AccountMapper.class.getName() + ".updateByQuery");
+        assertThat(update.getCount()).isEqualTo(1);
+        assertThat(update.getRows()).isEqualTo(1);
+    }
+
+    @Test
+    public void testWithoutPhaseTiming() {
+        accountMapper.selectListByQuery(QueryWrapper.create().where(ACCOUNT.ID.ge(1)));
+
+        MetricsSnapshot select = find(StatementMetrics.Kind.STATEMENT, AccountMapper.class.getName() + ".selectListByQuery");
+        assertThat(select.getCount()).isEqualTo(1);
+        assertThat(select.getRows()).isEqualTo(2);
+        assertThat(select.getBuildNanos()).isZero();
+        assertThat(select.getAcquireNanos()).isZero();
+        assertThat(select.getMappingNanos()).isZero();
+        assertThat(select.getExecuteNanos()).isPositive().isEqualTo(select.getTotalNanos());
+    }
+
+    @Test
+    public void testErrorMetrics() {
+        accountMapper.selectListByQuery(QueryWrapper.create().where(ACCOUNT.ID.ge(1)));
+        assertThatThrownBy(() -> accountMapper.selectListByQuery(QueryWrapper.create().where("not_exists_column = 1")))
+            .isInstanceOf(Exception.class);
+
+        String name = AccountMapper.class.getName() + ".selectListByQuery";
+        assertThat(find(StatementMetrics.Kind.STATEMENT, name, true).getCount()).isEqualTo(1);
+        MetricsSnapshot error = find(StatementMetrics.Kind.STATEMENT, name, false);
+        assertThat(error.getCount()).isEqualTo(1);
+        assertThat(error.getRows()).isZero();
+    }
+
+    @Test
+    public void testBatchMetrics() {
+        Db.executeBatch(Arrays.asList(1L, 2L), AccountMapper.class, (mapper, id) -> {
+            Account account = new Account();
+            account.setId(id);
+            account.setAge(30);
+            mapper.update(account);
+        });
+
+        MetricsSnapshot batch = find(StatementMetrics.Kind.BATCH, AccountMapper.class.getName() + ".update");
+        assertThat(batch.getCount()).isEqualTo(1);
+        assertThat(batch.getRows()).isEqualTo(2);
+    }
+
+    @Test
+    public void testDisabled() {
+        MetricsManager.setMetricsEnable(false);
+        accountMapper.selectOneById(1);
+        assertThat(collector.getSnapshot()).isEmpty();
+    }
+
+    @Test
+    public void testQueryDetector() {
+        QueryDetector.setDetectorEnable(true);
+        List<QueryIssue> reported = new ArrayList<>();
+        QueryIssueReporter reporter = QueryDetector.getIssueReporter();
+        QueryDetector.setIssueReporter(reported::addAll);
+        try (DetectionScope scope = QueryDetector.open()) {
+            for (int i = 0; i < 12; i++) {
+                accountMapper.selectOneById(i % 2 + 1);
+            }
+            accountMapper.selectListByQuery(QueryWrapper.create().where(ACCOUNT.ID.in(1, 2)));
+            accountMapper.selectListByQuery(QueryWrapper.create().where(ACCOUNT.ID.in(1, 2, 3)));
+            assertThat(scope.getStatementCount()).isEqualTo(14);
+        } finally {
+            QueryDetector.setDetectorEnable(false);
+            QueryDetector.setIssueReporter(reporter);
+        }
+
+        assertThat(reported).hasSize(1);
+        QueryIssue issue = reported.get(0);
+        assertThat(issue.getType()).isEqualTo(QueryIssue.Type.N_PLUS_ONE);
+        assertThat(issue.getStatementId()).isEqualTo(AccountMapper.class.getName() + ".selectOneById");
+        assertThat(issue.getCount()).isEqualTo(12);
+        assertThat(issue.getStackTrace()[0].getClassName()).isEqualTo(MetricsTest.class.getName());
+    }
+
+    private MetricsSnapshot find(StatementMetrics.Kind kind, String name) {
+        return find(kind, name, true);
+    }
+
+    private MetricsSnapshot find(StatementMetrics.Kind kind, String name, boolean success) {
+        List<MetricsSnapshot> snapshots = collector.getSnapshot().stream()
+            .filter(snapshot -> snapshot.getKind() == kind && snapshot.getName().equals(name) && snapshot.isSuccess() == success)
+            .collect(Collectors.toList());
+        assertThat(snapshots).as(kind + " " + name + " in " + collector.getSnapshot()).hasSize(1);
+        return snapshots.get(0);
+    }
+
+}
@@ -0,0 +1,144 @@
+/*
+ *  Copyright (c) 2022-2025, Mybatis-Flex (fuhai999@gmail.com).
+ *  <p>
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *  <p>
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *  <p>
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package com.mybatisflex.test;
+
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.mybatisflex.core.FlexGlobalConfig;
+import com.mybatisflex.core.MybatisFlexBootstrap;
+import com.mybatisflex.core.datasource.DataSourceKey;
+import com.mybatisflex.core.query.QueryWrapper;
+import com.mybatisflex.core.row.Db;
+import com.mybatisflex.test.relation.mapper.BookMapper;
+import com.mybatisflex.test.relation.onetoone.Book;
+import lombok.SneakyThrows;
+import net.javacrumbs.jsonunit.assertj.JsonAssertions;
+import org.apache.commons.io.FileUtils;
+import org.apache.ibatis.session.Configuration;
+import org.apache.ibatis.session.SqlSessionFactory;
+import org.assertj.core.api.WithAssertions;
+import org.junit.After;
+import org.junit.AfterClass;
+import org.junit.Before;
+import org.junit.BeforeClass;
+import org.junit.Test;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabase;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseBuilder;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseType;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * 流式查询关联数据测试，使用独立的 {@link MybatisFlexBootstrap}，不受其他测试注册的 Mapper 影响。
+ */
+public class RelationStreamTest implements WithAssertions {
+
+    private static final String DATA_SOURCE_KEY = "relation-stream";
+    private static final JsonMapper JSON_MAPPER = JsonMapper.builder().build();
+
+    private static BookMapper bookMapper;
+    private static EmbeddedDatabase dataSource;
+    private static SqlSessionFactory defaultSqlSessionFactory;
+    private static Configuration defaultConfiguration;
+
+    @BeforeClass
+    public static void init() {
+        // 新的环境会成为默认环境，测试结束后恢复，避免影响其他测试
+        defaultSqlSessionFactory = FlexGlobalConfig.getDefaultConfig().getSqlSessionFactory();
+        defaultConfiguration = FlexGlobalConfig.getDefaultConfig().getConfiguration();
+
+        dataSource = new EmbeddedDatabaseBuilder()
+            .setType(EmbeddedDatabaseType.H2)
+            .generateUniqueName(true)
+            .addScript("relation/onetoone/schema.sql")
+            .addScript("relation/onetoone/data.sql").setScriptEncoding("UTF-8")
+            .build();
+
+        // 使用独立的环境，避免复用其他测试缓存的 Mapper
+        MybatisFlexBootstrap bootstrap = new MybatisFlexBootstrap()
+            .setEnvironmentId(DATA_SOURCE_KEY)
+            .setDataSource(DATA_SOURCE_KEY, dataSource)
+            .addMapper(BookMapper.class)
+            .start();
+
+        bookMapper = bootstrap.getMapper(BookMapper.class);
+    }
+
+    @AfterClass
+    public static void destroy() {
+        dataSource.shutdown();
+        if (defaultConfiguration != null) {
+            FlexGlobalConfig.getDefaultConfig().setSqlSessionFactory(defaultSqlSessionFactory);
+            FlexGlobalConfig.getDefaultConfig().setConfiguration(defaultConfiguration);
+        }
+    }
+
+    @Before
+    public void useDataSource() {
+        DataSourceKey.use(DATA_SOURCE_KEY);
+    }
+
+    @After
+    public void clearDataSource() {
+        DataSourceKey.clear();
+    }
+
+    @Test
+    public void testStreamWithRelations() {
+        // 窗口大小为 4，6 条数据分两批查询关联数据
+        try (Stream<Book> stream = bookMapper.streamWithRelations(QueryWrapper.create(), 4)) {
+            List<Book> books = stream.collect(Collectors.toList());
+            assertThat(books).hasSize(6);
+            assertRelationResult(books, "relation/result/book-relation-result.json");
+        }
+    }
+
+    @Test
+    public void testStreamWithRelationsInTransaction() {
+        // 事务中游标与关联查询共用事务连接
+        List<Book> books = new ArrayList<>();
+        Db.tx(() -> {
+            try (Stream<Book> stream = bookMapper.streamWithRelations(QueryWrapper.create(), 4)) {
+                stream.forEach(books::add);
+            }
+            return true;
+        });
+        assertThat(books).hasSize(6);
+        assertRelationResult(books, "relation/result/book-relation-result.json");
+    }
+
+    private void assertRelationResult(Object object, String classPath) {
+        String resultJson = writeObject2String(object);
+        String expectJson = getFileAsString(classPath);
+        JsonAssertions.assertThatJson(resultJson).isEqualTo(expectJson);
+    }
+
+    @SneakyThrows
+    private String writeObject2String(Object object) {
+        return JSON_MAPPER.writeValueAsString(object);
+    }
+
+    @SneakyThrows
+    private String getFileAsString(String classPath) {
+        ClassPathResource resource = new ClassPathResource(classPath);
+        return FileUtils.readFileToString(resource.getFile(), StandardCharsets.UTF_8);
+    }
+
+}
@@ -0,0 +1,136 @@
+/*
+ *  Copyright (c) 2022-2025, Mybatis-Flex (fuhai999@gmail.com).
+ *  <p>
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *  <p>
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *  <p>
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package com.mybatisflex.test;
+
+import com.mybatisflex.core.datasource.DataSourceKey;
+import com.mybatisflex.core.datasource.FlexDataSource;
+import com.mybatisflex.core.keygen.impl.SegmentKeyGenerator;
+import com.mybatisflex.core.transaction.TransactionalManager;
+import org.assertj.core.api.WithAssertions;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabase;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseBuilder;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseType;
+
+import java.util.stream.LongStream;
+
+/**
+ * 号段模式主键生成器测试。
+ */
+public class SegmentKeyGeneratorTest implements WithAssertions {
+
+    private EmbeddedDatabase dataSource;
+    private JdbcTemplate jdbcTemplate;
+
+    @Before
+    public void init() {
+        this.dataSource = new EmbeddedDatabaseBuilder()
+            .setType(EmbeddedDatabaseType.H2)
+            .generateUniqueName(true)
+            .build();
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+        jdbcTemplate.execute("CREATE TABLE flex_id_segment (biz_tag VARCHAR(128) NOT NULL PRIMARY KEY, max_id BIGINT NOT NULL)");
+        jdbcTemplate.execute("CREATE SEQUENCE seq_order START WITH 1 INCREMENT BY 100");
+    }
+
+    @After
+    public void destroy() {
+        this.dataSource.shutdown();
+    }
+
+    @Test
+    public void testTable() {
+        SegmentKeyGenerator generator = new SegmentKeyGenerator(dataSource, "tb_account");
+        generator.setStep(100);
+
+        long first = generator.nextId("tb_account");
+        assertThat(first).isEqualTo(1L);
+
+        long[] ids = generator.nextIds("tb_account", 10_000);
+        assertThat(LongStream.of(ids).distinct().count()).isEqualTo(10_000);
+        assertThat(ids[0]).isEqualTo(2L);
+        assertThat(ids[ids.length - 1]).isEqualTo(10_001L);
+
+        Long maxId = jdbcTemplate.queryForObject("SELECT max_id FROM flex_id_segment WHERE biz_tag = 'tb_account'", Long.class);
+        // 每 100 个 ID 申请一次，外加可能已经预申请的下一个号段
+        assertThat(maxId).isBetween(10_100L, 10_200L);
+    }
+
+    @Test
+    public void testSequence() {
+        SegmentKeyGenerator generator = new SegmentKeyGenerator(dataSource, "order");
+        generator.setStep(100);
+        generator.setSequenceSql("SELECT NEXT VALUE FOR seq_%s");
+
+        long[] ids = generator.nextIds("order", 250);
+        assertThat(ids[0]).isEqualTo(1L);
+        assertThat(ids[249]).isEqualTo(250L);
+        assertThat(generator.nextId("order")).isEqualTo(251L);
+    }
+
+    @Test
+    public void testRoutedDataSource() {
+        EmbeddedDatabase dataSource2 = new EmbeddedDatabaseBuilder()
+            .setType(EmbeddedDatabaseType.H2)
+            .generateUniqueName(true)
+            .build();
+        try {
+            JdbcTemplate jdbcTemplate2 = new JdbcTemplate(dataSource2);
+            jdbcTemplate2.execute("CREATE TABLE flex_id_segment (biz_tag VARCHAR(128) NOT NULL PRIMARY KEY, max_id BIGINT NOT NULL)");
+
+            FlexDataSource flexDataSource = new FlexDataSource("ds1", dataSource);
+            flexDataSource.addDataSource("ds2", dataSource2);
+
+            SegmentKeyGenerator generator = new SegmentKeyGenerator(flexDataSource, "tb_account");
+            generator.setStep(100);
+
+            assertThat(generator.nextId("tb_account")).isEqualTo(1L);
+            assertThat(DataSourceKey.use("ds2", () -> generator.nextId("tb_account"))).isEqualTo(1L);
+            assertThat(generator.nextId("tb_account")).isEqualTo(2L);
+
+            assertThat(jdbcTemplate.queryForObject("SELECT max_id FROM flex_id_segment WHERE biz_tag = 'tb_account'", Long.class))
+                .isGreaterThanOrEqualTo(100L);
+            assertThat(jdbcTemplate2.queryForObject("SELECT max_id FROM flex_id_segment WHERE biz_tag = 'tb_account'", Long.class))
+                .isGreaterThanOrEqualTo(100L);
+        } finally {
+            dataSource2.shutdown();
+        }
+    }
+
+    @Test
+    public void testNotJoinTransaction() throws Exception {
+        FlexDataSource flexDataSource = new FlexDataSource("ds1", dataSource);
+        SegmentKeyGenerator generator = new SegmentKeyGenerator(flexDataSource, "tb_account");
+        generator.setStep(100);
+
+        String xid = TransactionalManager.startTransactional();
+        try {
+            // 事务中的连接
+            flexDataSource.getConnection();
+            assertThat(generator.nextId("tb_account")).isEqualTo(1L);
+        } finally {
+            TransactionalManager.rollback(xid);
+        }
+
+        // 业务事务回滚后，号段仍然已经被申请，不会重复分配
+        Long maxId = jdbcTemplate.queryForObject("SELECT max_id FROM flex_id_segment WHERE biz_tag = 'tb_account'", Long.class);
+        assertThat(maxId).isGreaterThanOrEqualTo(100L);
+    }
+
+}
@@ -0,0 +1,135 @@
+/*
+ *  Copyright (c) 2022-2025, Mybatis-Flex (fuhai999@gmail.com).
+ *  <p>
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *  <p>
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *  <p>
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package com.mybatisflex.test;
+
+import com.mybatisflex.core.MybatisFlexBootstrap;
+import com.mybatisflex.core.datasource.DataSourceKey;
+import com.mybatisflex.core.mybatis.SessionCursor;
+import com.mybatisflex.core.query.QueryWrapper;
+import com.mybatisflex.core.row.Db;
+import com.mybatisflex.core.row.Row;
+import org.apache.ibatis.logging.stdout.StdOutImpl;
+import org.assertj.core.api.WithAssertions;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabase;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseBuilder;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseType;
+
+import java.util.Iterator;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static com.mybatisflex.test.table.AccountTableDef.ACCOUNT;
+
+/**
+ * 游标和流式查询测试。
+ */
+public class StreamQueryTest implements WithAssertions {
+
+    private static final String DATA_SOURCE_KEY = "ds_stream";
+
+    private AccountMapper accountMapper;
+    private EmbeddedDatabase dataSource;
+
+    @Before
+    public void init() {
+        this.dataSource = new EmbeddedDatabaseBuilder()
+            .setType(EmbeddedDatabaseType.H2)
+            .addScript("schema.sql")
+            .addScript("data.sql")
+            .setScriptEncoding("UTF-8")
+            .build();
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+        for (int i = 3; i <= 100; i++) {
+            jdbcTemplate.update("INSERT INTO tb_account(id, user_name, age, sex, is_delete) VALUES (?, ?, ?, 0, 0)", i, "user" + i, i);
+        }
+
+        MybatisFlexBootstrap bootstrap = new MybatisFlexBootstrap()
+            .setDataSource(DATA_SOURCE_KEY, this.dataSource)
+            .setLogImpl(StdOutImpl.class)
+            .addMapper(AccountMapper.class)
+            .start();
+
+        DataSourceKey.use(DATA_SOURCE_KEY);
+        accountMapper = bootstrap.getMapper(AccountMapper.class);
+    }
+
+    @After
+    public void destroy() {
+        this.dataSource.shutdown();
+        DataSourceKey.clear();
+    }
+
+    @Test
+    public void testDbStream() {
+        QueryWrapper queryWrapper = QueryWrapper.create().from(ACCOUNT).orderBy(ACCOUNT.ID.asc());
+        try (Stream<Row> stream = Db.stream(queryWrapper)) {
+            List<Long> ids = stream.map(row -> row.getLong("ID")).collect(Collectors.toList());
+            assertThat(ids).hasSize(100);
+            assertThat(ids.get(99)).isEqualTo(100L);
+        }
+
+        try (Stream<Row> stream = Db.streamBySql("SELECT * FROM tb_account WHERE age > ?", 50)) {
+            assertThat(stream.count()).isEqualTo(50);
+        }
+    }
+
+    @Test
+    public void testCursorClose() throws Exception {
+        SessionCursor<Row> cursor = Db.selectCursorByQuery("tb_account", QueryWrapper.create());
+        Iterator<Row> iterator = cursor.iterator();
+        assertThat(iterator.next()).isNotNull();
+        assertThat(cursor.isOpen()).isTrue();
+        cursor.close();
+        assertThat(cursor.isOpen()).isFalse();
+
+        // 读取完毕后自动关闭
+        cursor = Db.selectCursorBySql("SELECT * FROM tb_account");
+        int count = 0;
+        for (Row ignored : cursor) {
+            count++;
+        }
+        assertThat(count).isEqualTo(100);
+        assertThat(cursor.isOpen()).isFalse();
+    }
+
+    @Test
+    public void testMapperStream() {
+        QueryWrapper queryWrapper = QueryWrapper.create().where(ACCOUNT.AGE.ge(90)).orderBy(ACCOUNT.ID.asc());
+        try (Stream<Account> stream = accountMapper.stream(queryWrapper)) {
+            List<Account> accounts = stream.collect(Collectors.toList());
+            assertThat(accounts).hasSize(11);
+            assertThat(accounts.get(0).getAge()).isEqualTo(90);
+        }
+
+        // 提前结束，关闭 Stream 时释放连接
+        try (Stream<Account> stream = accountMapper.stream(QueryWrapper.create())) {
+            assertThat(stream.limit(3).count()).isEqualTo(3);
+        }
+
+        QueryWrapper dtoQuery = QueryWrapper.create().select(ACCOUNT.ID, ACCOUNT.AGE).where(ACCOUNT.AGE.ge(90));
+        try (Stream<AccountDTO> stream = accountMapper.streamAs(dtoQuery, AccountDTO.class)) {
+            List<String> expected = accountMapper.selectListByQueryAs(dtoQuery, AccountDTO.class)
+                .stream().map(AccountDTO::toString).collect(Collectors.toList());
+            assertThat(stream.map(AccountDTO::toString).collect(Collectors.toList())).hasSize(11).isEqualTo(expected);
+        }
+    }
+
+}
@@ -0,0 +1,191 @@
+/*
+ *  Copyright (c) 2022-2025, Mybatis-Flex (fuhai999@gmail.com).
+ *  <p>
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *  <p>
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *  <p>
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package com.mybatisflex.test;
+
+import com.mybatisflex.core.MybatisFlexBootstrap;
+import com.mybatisflex.core.audit.AuditManager;
+import com.mybatisflex.core.audit.AuditMessage;
+import com.mybatisflex.core.audit.ConsoleMessageCollector;
+import com.mybatisflex.core.dialect.DbType;
+import com.mybatisflex.core.dialect.DialectFactory;
+import com.mybatisflex.core.optimisticlock.OptimisticLockException;
+import com.mybatisflex.mapper.VersionAccountMapper;
+import org.assertj.core.api.WithAssertions;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabase;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseBuilder;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseType;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * 根据主键批量更新测试。
+ */
+public class UpdateBatchByIdTest implements WithAssertions {
+
+    private EmbeddedDatabase dataSource;
+    private MybatisFlexBootstrap bootstrap;
+
+    @Before
+    public void init() {
+        // 标识符统一为小写，PostgreSQL 方言使用双引号包裹的小写表名和列名
+        this.dataSource = new EmbeddedDatabaseBuilder()
+            .setType(EmbeddedDatabaseType.H2)
+            .setName("update_batch;DATABASE_TO_LOWER=TRUE")
+            .addScript("schema_optimisticlock.sql")
+            .addScript("data_optimisticlock.sql")
+            .setScriptEncoding("UTF-8")
+            .build();
+
+        this.bootstrap = new MybatisFlexBootstrap()
+            .setDataSource(this.dataSource)
+            .addMapper(VersionAccountMapper.class)
+            .start();
+
+        AuditManager.setAuditEnable(true);
+        AuditManager.setMessageCollector(new ConsoleMessageCollector());
+    }
+
+    @After
+    public void destroy() {
+        DialectFactory.clearHintDbType();
+        AuditManager.setAuditEnable(false);
+        this.dataSource.shutdown();
+    }
+
+    @Test
+    public void testUpdateBatchById() {
+        VersionAccountMapper mapper = bootstrap.getMapper(VersionAccountMapper.class);
+        VersionAccount first = mapper.selectOneById(1);
+        VersionAccount second = mapper.selectOneById(2);
+
+        first.setUserName("batch 1");
+        first.setAge(30);
+        // 忽略 null 值时，second 的 userName 保持原值
+        second.setUserName(null);
+        second.setAge(40);
+
+        assertThat(mapper.updateBatchById(Arrays.asList(first, second))).isEqualTo(2);
+
+        VersionAccount updatedFirst = mapper.selectOneById(1);
+        VersionAccount updatedSecond = mapper.selectOneById(2);
+        assertThat(updatedFirst.getUserName()).isEqualTo("batch 1");
+        assertThat(updatedFirst.getAge()).isEqualTo(30);
+        assertThat(updatedFirst.getVersion()).isEqualTo(first.getVersion() + 1);
+        assertThat(updatedSecond.getUserName()).isEqualTo("王麻子叔叔");
+        assertThat(updatedSecond.getAge()).isEqualTo(40);
+        assertThat(updatedSecond.getVersion()).isEqualTo(second.getVersion() + 1);
+    }
+
+    @Test
+    public void testOptimisticLockFailure() {
+        VersionAccountMapper mapper = bootstrap.getMapper(VersionAccountMapper.class);
+        VersionAccount first = mapper.selectOneById(1);
+        VersionAccount second = mapper.selectOneById(2);
+
+        // second 的版本号已经过期
+        second.setAge(50);
+        mapper.updateBatchById(Collections.singletonList(second));
+
+        first.setAge(60);
+        second.setAge(70);
+        assertThatThrownBy(() -> mapper.updateBatchById(Arrays.asList(first, second)))
+            .isInstanceOf(OptimisticLockException.class)
+            .satisfies(e -> {
+                OptimisticLockException exception = (OptimisticLockException) e;
+                assertThat(exception.getIds()).containsExactly(2L);
+                assertThat(exception.getUpdatedRows()).isEqualTo(1);
+            });
+
+        assertThat(mapper.selectOneById(1).getAge()).isEqualTo(60);
+        assertThat(mapper.selectOneById(2).getAge()).isEqualTo(50);
+    }
+
+    @Test
+    public void testConcurrentVersionUpdate() {
+        VersionAccountMapper mapper = bootstrap.getMapper(VersionAccountMapper.class);
+        VersionAccount first = mapper.selectOneById(1);
+        VersionAccount second = mapper.selectOneById(2);
+
+        // 查询版本号之后、批量更新之前，其他事务把 second 的版本号加 1
+        AuditManager.setMessageCollector(message -> {
+            if (message.getQuery().startsWith("SELECT `id`, `version`")) {
+                try (Connection connection = dataSource.getConnection();
+                     Statement statement = connection.createStatement()) {
+                    statement.executeUpdate("UPDATE tb_account SET age = 80, version = version + 1 WHERE id = 2");
+                } catch (SQLException e) {
+                    throw new IllegalStateException(e);
+                }
+                AuditManager.setMessageCollector(new ConsoleMessageCollector());
+            }
+        });
+
+        first.setAge(60);
+        second.setAge(70);
+        assertThatThrownBy(() -> mapper.updateBatchById(Arrays.asList(first, second)))
+            .isInstanceOf(OptimisticLockException.class)
+            .satisfies(e -> {
+                OptimisticLockException exception = (OptimisticLockException) e;
+                // 无法区分同一批中哪些数据被其他事务修改，整批报告为失败
+                assertThat(exception.getIds()).containsExactly(1L, 2L);
+                assertThat(exception.getUpdatedRows()).isEqualTo(1);
+            });
+
+        assertThat(mapper.selectOneById(1).getAge()).isEqualTo(60);
+        VersionAccount updatedSecond = mapper.selectOneById(2);
+        assertThat(updatedSecond.getAge()).isEqualTo(80);
+        assertThat(updatedSecond.getVersion()).isEqualTo(second.getVersion() + 1);
+    }
+
+    @Test
+    public void testUpdateBatchByIdWithPostgreSQLDialect() {
+        VersionAccountMapper mapper = bootstrap.getMapper(VersionAccountMapper.class);
+        VersionAccount first = mapper.selectOneById(1);
+        VersionAccount second = mapper.selectOneById(2);
+
+        List<AuditMessage> messages = new ArrayList<>();
+        AuditManager.setMessageCollector(messages::add);
+        DialectFactory.setHintDbType(DbType.POSTGRE_SQL);
+
+        // 日期以及 null 参数在 PostgreSQL 的 VALUES 列表中会被推断为 text，因此使用 CASE ... ELSE 字段 END 的方式更新
+        Timestamp birthday = Timestamp.valueOf("2022-02-02 10:00:00");
+        first.setBirthday(birthday);
+        second.setBirthday(null);
+        assertThat(mapper.updateBatchById(Arrays.asList(first, second), false)).isEqualTo(2);
+
+        assertThat(messages).anySatisfy(message -> assertThat(message.getQuery())
+            .startsWith("UPDATE \"tb_account\" SET \"user_name\" = CASE \"id\" WHEN ? THEN ? WHEN ? THEN ? ELSE \"user_name\" END")
+            .contains("\"birthday\" = CASE \"id\" WHEN ? THEN ? WHEN ? THEN ? ELSE \"birthday\" END"));
+        // 乐观锁的检查只查询主键和版本号
+        assertThat(messages).anySatisfy(message -> assertThat(message.getQuery())
+            .isEqualTo("SELECT \"id\", \"version\" FROM \"tb_account\" WHERE ( \"id\" IN (?, ?) ) AND \"is_delete\" = ?"));
+
+        DialectFactory.clearHintDbType();
+        assertThat(mapper.selectOneById(1).getBirthday()).isEqualTo(birthday);
+        assertThat(mapper.selectOneById(2).getBirthday()).isNull();
+        assertThat(mapper.selectOneById(2).getVersion()).isEqualTo(second.getVersion() + 1);
+    }
+
+}
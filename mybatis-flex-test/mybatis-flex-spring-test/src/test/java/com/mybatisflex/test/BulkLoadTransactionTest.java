@@ -0,0 +1,118 @@
+/*
+ *  Copyright (c) 2022-2025, Mybatis-Flex (fuhai999@gmail.com).
+ *  <p>
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *  <p>
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *  <p>
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package com.mybatisflex.test;
+
+import com.mybatisflex.core.datasource.FlexDataSource;
+import com.mybatisflex.core.mybatis.FlexConfiguration;
+import com.mybatisflex.core.query.QueryWrapper;
+import com.mybatisflex.spring.FlexSqlSessionFactoryBean;
+import com.mybatisflex.test.mapper.AccountMapper;
+import com.mybatisflex.test.model.Account;
+import com.mybatisflex.test.model.EnumTypeHandler;
+import org.apache.ibatis.session.SqlSessionFactory;
+import org.assertj.core.api.WithAssertions;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mybatis.spring.SqlSessionTemplate;
+import org.mybatis.spring.transaction.SpringManagedTransactionFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseBuilder;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseType;
+import org.springframework.test.context.ContextConfiguration;
+import org.springframework.test.context.junit4.SpringJUnit4ClassRunner;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 使用 Spring 的 {@link DataSourceTransactionManager} 管理事务时，批量导入加入当前事务。
+ */
+@RunWith(SpringJUnit4ClassRunner.class)
+@ContextConfiguration(classes = BulkLoadTransactionTest.TransactionConfig.class)
+public class BulkLoadTransactionTest implements WithAssertions {
+
+    @Autowired
+    AccountMapper accountMapper;
+
+    @Autowired
+    TransactionTemplate transactionTemplate;
+
+    @Test
+    public void testRollbackWithSpringTransaction() {
+        long before = accountMapper.selectCountByQuery(QueryWrapper.create());
+
+        transactionTemplate.execute(status -> {
+            List<Account> accounts = new ArrayList<>();
+            for (long id = 100; id < 103; id++) {
+                Account account = new Account();
+                account.setId(id);
+                account.setUserName("bulk " + id);
+                accounts.add(account);
+            }
+            assertThat(accountMapper.bulkLoad(accounts)).isEqualTo(3);
+            assertThat(accountMapper.selectCountByQuery(QueryWrapper.create())).isEqualTo(before + 3);
+            status.setRollbackOnly();
+            return null;
+        });
+
+        assertThat(accountMapper.selectCountByQuery(QueryWrapper.create())).isEqualTo(before);
+    }
+
+
+    @Configuration
+    static class TransactionConfig {
+
+        @Bean
+        public FlexDataSource dataSource() {
+            return new FlexDataSource("bulkLoad", new EmbeddedDatabaseBuilder()
+                .setType(EmbeddedDatabaseType.H2)
+                .generateUniqueName(true)
+                .addScript("schema.sql")
+                .addScript("data.sql").setScriptEncoding("UTF-8")
+                .build());
+        }
+
+        @Bean
+        public SqlSessionFactory sqlSessionFactory(FlexDataSource dataSource) throws Exception {
+            FlexSqlSessionFactoryBean factoryBean = new FlexSqlSessionFactoryBean();
+            factoryBean.setDataSource(dataSource);
+            factoryBean.setEnvironment("bulkLoadTransaction");
+            // 使用 Spring 管理的事务，而非 FlexTransactionManager
+            factoryBean.setTransactionFactory(new SpringManagedTransactionFactory());
+            FlexConfiguration configuration = new FlexConfiguration();
+            configuration.setDefaultEnumTypeHandler(EnumTypeHandler.class);
+            factoryBean.setConfiguration(configuration);
+            SqlSessionFactory sqlSessionFactory = factoryBean.getObject();
+            sqlSessionFactory.getConfiguration().addMapper(AccountMapper.class);
+            return sqlSessionFactory;
+        }
+
+        @Bean
+        public AccountMapper accountMapper(SqlSessionFactory sqlSessionFactory) {
+            return new SqlSessionTemplate(sqlSessionFactory).getMapper(AccountMapper.class);
+        }
+
+        @Bean
+        public TransactionTemplate transactionTemplate(FlexDataSource dataSource) {
+            return new TransactionTemplate(new DataSourceTransactionManager(dataSource));
+        }
+    }
+
+}
@@ -0,0 +1,105 @@
+/*
+ *  Copyright (c) 2022-2025, Mybatis-Flex (fuhai999@gmail.com).
+ *  <p>
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *  <p>
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *  <p>
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package com.mybatisflex.test;
+
+import com.mybatisflex.annotation.UseDataSource;
+import com.mybatisflex.core.datasource.DataSourceKey;
+import com.mybatisflex.core.datasource.DataSourceManager;
+import com.mybatisflex.core.datasource.processor.DataSourceProcessor;
+import com.mybatisflex.spring.datasource.DataSourceInterceptor;
+import com.mybatisflex.spring.datasource.processor.SpelExpressionDataSourceProcessor;
+import org.aopalliance.intercept.MethodInvocation;
+import org.assertj.core.api.WithAssertions;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.lang.reflect.AccessibleObject;
+import java.lang.reflect.Method;
+
+/**
+ * 通过 SpEL 表达式动态切换数据源。
+ */
+public class DataSourceInterceptorTest implements WithAssertions {
+
+    private DataSourceProcessor originalProcessor;
+
+    @Before
+    public void setUp() {
+        originalProcessor = DataSourceManager.getDataSourceProcessor();
+        DataSourceManager.setDataSourceProcessor(new SpelExpressionDataSourceProcessor());
+    }
+
+    @After
+    public void tearDown() {
+        DataSourceManager.setDataSourceProcessor(originalProcessor);
+    }
+
+    @Test
+    public void testRouteByArguments() throws Throwable {
+        DataSourceInterceptor interceptor = new DataSourceInterceptor();
+        RoutingService service = new RoutingService();
+        Method method = RoutingService.class.getMethod("route", String.class);
+
+        // 同一个方法的多次调用，根据每次调用的参数计算数据源
+        assertThat(interceptor.invoke(invocation(service, method, "ds1"))).isEqualTo("ds1");
+        assertThat(interceptor.invoke(invocation(service, method, "ds2"))).isEqualTo("ds2");
+        assertThat(interceptor.invoke(invocation(service, method, "ds1"))).isEqualTo("ds1");
+        assertThat(DataSourceKey.get()).isNull();
+    }
+
+    private static MethodInvocation invocation(Object target, Method method, Object... arguments) {
+        return new MethodInvocation() {
+
+            @Override
+            public Method getMethod() {
+                return method;
+            }
+
+            @Override
+            public Object[] getArguments() {
+                return arguments;
+            }
+
+            @Override
+            public Object proceed() {
+                // 返回执行时生效的数据源
+                return DataSourceKey.get();
+            }
+
+            @Override
+            public Object getThis() {
+                return target;
+            }
+
+            @Override
+            public AccessibleObject getStaticPart() {
+                return method;
+            }
+
+        };
+    }
+
+    public static class RoutingService {
+
+        @UseDataSource("#p0")
+        public String route(String dataSource) {
+            return dataSource;
+        }
+
+    }
+
+}
@@ -0,0 +1,141 @@
+/*
+ *  Copyright (c) 2022-2025, Mybatis-Flex (fuhai999@gmail.com).
+ *  <p>
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *  <p>
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *  <p>
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package com.mybatisflex.test;
+
+import com.mybatisflex.core.cache.EntityCacheManager;
+import com.mybatisflex.core.cache.LocalEntityCache;
+import com.mybatisflex.core.datasource.FlexDataSource;
+import com.mybatisflex.core.mybatis.FlexConfiguration;
+import com.mybatisflex.spring.FlexSqlSessionFactoryBean;
+import com.mybatisflex.test.mapper.TbClassMapper;
+import com.mybatisflex.test.model.TbClass;
+import org.apache.ibatis.session.SqlSessionFactory;
+import org.assertj.core.api.WithAssertions;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mybatis.spring.SqlSessionTemplate;
+import org.mybatis.spring.transaction.SpringManagedTransactionFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseBuilder;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseType;
+import org.springframework.test.context.ContextConfiguration;
+import org.springframework.test.context.junit4.SpringJUnit4ClassRunner;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * 使用 Spring 的 {@link DataSourceTransactionManager} 管理事务时，实体缓存在事务提交后再次清除。
+ */
+@RunWith(SpringJUnit4ClassRunner.class)
+@ContextConfiguration(classes = EntityCacheTransactionTest.TransactionConfig.class)
+public class EntityCacheTransactionTest implements WithAssertions {
+
+    @Autowired
+    TbClassMapper tbClassMapper;
+
+    @Autowired
+    TransactionTemplate transactionTemplate;
+
+    @Before
+    public void init() {
+        EntityCacheManager.setEntityCache(new LocalEntityCache());
+        EntityCacheManager.addCacheableEntity(TbClass.class);
+    }
+
+    @After
+    public void destroy() {
+        EntityCacheManager.removeCacheableEntity(TbClass.class);
+        EntityCacheManager.setEntityCache(null);
+    }
+
+    @Test
+    public void testInvalidateAfterCommit() {
+        assertThat(tbClassMapper.selectOneById(1).getClassName()).isEqualTo("class111");
+
+        AtomicReference<String> readInTransaction = new AtomicReference<>();
+        transactionTemplate.execute(status -> {
+            TbClass tbClass = new TbClass();
+            tbClass.setId(1L);
+            tbClass.setClassName("class222");
+            tbClassMapper.update(tbClass);
+
+            // SqlSession 在提交之前关闭，此时其他线程读取到旧数据并写入缓存
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void beforeCompletion() {
+                    Thread thread = new Thread(() -> readInTransaction.set(tbClassMapper.selectOneById(1).getClassName()));
+                    thread.start();
+                    try {
+                        thread.join();
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                }
+            });
+            return null;
+        });
+
+        assertThat(readInTransaction.get()).isEqualTo("class111");
+        assertThat(tbClassMapper.selectOneById(1).getClassName()).isEqualTo("class222");
+    }
+
+
+    @Configuration
+    static class TransactionConfig {
+
+        @Bean
+        public FlexDataSource dataSource() {
+            return new FlexDataSource("entityCache", new EmbeddedDatabaseBuilder()
+                .setType(EmbeddedDatabaseType.H2)
+                .generateUniqueName(true)
+                .addScript("schema.sql")
+                .addScript("data.sql").setScriptEncoding("UTF-8")
+                .build());
+        }
+
+        @Bean
+        public SqlSessionFactory sqlSessionFactory(FlexDataSource dataSource) throws Exception {
+            FlexSqlSessionFactoryBean factoryBean = new FlexSqlSessionFactoryBean();
+            factoryBean.setDataSource(dataSource);
+            factoryBean.setEnvironment("entityCacheTransaction");
+            // 使用 Spring 管理的事务，而非 FlexTransactionManager
+            factoryBean.setTransactionFactory(new SpringManagedTransactionFactory());
+            factoryBean.setConfiguration(new FlexConfiguration());
+            SqlSessionFactory sqlSessionFactory = factoryBean.getObject();
+            sqlSessionFactory.getConfiguration().addMapper(TbClassMapper.class);
+            return sqlSessionFactory;
+        }
+
+        @Bean
+        public TbClassMapper tbClassMapper(SqlSessionFactory sqlSessionFactory) {
+            return new SqlSessionTemplate(sqlSessionFactory).getMapper(TbClassMapper.class);
+        }
+
+        @Bean
+        public TransactionTemplate transactionTemplate(FlexDataSource dataSource) {
+            return new TransactionTemplate(new DataSourceTransactionManager(dataSource));
+        }
+    }
+
+}